@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalFile;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
+
+/**
+ * State filter compiled into lookup tables indexed by the resource state ordinal and change mask.
+ * 
+ * Only the filters which decisions depend on the state and change mask alone are compiled: the standard ones registered here and their
+ * {@link IStateFilter.OrStateFilter} and {@link IStateFilter.AndStateFilter} combinations. For any other filter, as well as for the
+ * resources with tree conflicts, the compiled filter delegates to the original one.
+ */
+public class CompiledStateFilter implements IStateFilter {
+	protected static final int MASK_BITS = 0x1FF;
+
+	protected static final int TABLE_SIZE = StateMaskUtility.STATES_COUNT * (CompiledStateFilter.MASK_BITS + 1);
+
+	protected static final int ACCEPT = 0x01;
+
+	protected static final int TREE_CONFLICT_AWARE = 0x02;
+
+	protected static final int RECURSION = 0x04;
+
+	protected static final Map<IStateFilter, Integer> COMPILABLE = new ConcurrentHashMap<>();
+
+	protected static final Map<IStateFilter, CompiledStateFilter> COMPILED = new ConcurrentHashMap<>();
+
+	protected static final Map<IStateFilter, CompiledStateFilter> COMPILED_COMPOSITES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	static {
+		IStateFilter[] accept = { IStateFilter.SF_INTERNAL_INVALID, IStateFilter.SF_LOCKED, IStateFilter.SF_SWITCHED,
+				IStateFilter.SF_UNVERSIONED_EXTERNAL, IStateFilter.SF_LINKED, IStateFilter.SF_ALL,
+				IStateFilter.SF_NOTEXISTS, IStateFilter.SF_OBSTRUCTED, IStateFilter.SF_REPLACED,
+				IStateFilter.SF_PREREPLACED, IStateFilter.SF_PREREPLACEDREPLACED, IStateFilter.SF_UNVERSIONED,
+				IStateFilter.SF_ADDED, IStateFilter.SF_NOTMODIFIED, IStateFilter.SF_MODIFIED,
+				IStateFilter.SF_CONFLICTING, IStateFilter.SF_DELETED, IStateFilter.SF_MISSING,
+				IStateFilter.SF_COMMITABLE };
+		// these filters check tree conflicts of the local resources
+		IStateFilter[] acceptTreeConflictAware = { IStateFilter.SF_VERSIONED, IStateFilter.SF_NOTONREPOSITORY,
+				IStateFilter.SF_ONREPOSITORY, IStateFilter.SF_DATA_CONFLICTING, IStateFilter.SF_TREE_CONFLICTING };
+		IStateFilter[] recursion = { IStateFilter.SF_INTERNAL_INVALID, IStateFilter.SF_SWITCHED,
+				IStateFilter.SF_LINKED, IStateFilter.SF_ALL, IStateFilter.SF_NOTEXISTS, IStateFilter.SF_OBSTRUCTED,
+				IStateFilter.SF_IGNORED, IStateFilter.SF_IGNORED_NOT_FORBIDDEN, IStateFilter.SF_UNVERSIONED,
+				IStateFilter.SF_NOTONREPOSITORY, IStateFilter.SF_NOTMODIFIED };
+		for (IStateFilter filter : accept) {
+			CompiledStateFilter.COMPILABLE.merge(filter, CompiledStateFilter.ACCEPT, (a, b) -> a | b);
+		}
+		for (IStateFilter filter : acceptTreeConflictAware) {
+			CompiledStateFilter.COMPILABLE.merge(filter,
+					CompiledStateFilter.ACCEPT | CompiledStateFilter.TREE_CONFLICT_AWARE, (a, b) -> a | b);
+		}
+		for (IStateFilter filter : recursion) {
+			CompiledStateFilter.COMPILABLE.merge(filter, CompiledStateFilter.RECURSION, (a, b) -> a | b);
+		}
+	}
+
+	protected final IStateFilter filter;
+
+	protected final long[] accepted;
+
+	protected final long[] recursionAllowed;
+
+	protected final boolean treeConflictAware;
+
+	/**
+	 * Returns the compiled version of the filter. The compiled versions of the standard filters and of the composite ones are cached.
+	 * 
+	 * @param filter
+	 *            the filter to compile
+	 * @return the compiled filter, which delegates to the original one if it can't be compiled
+	 */
+	public static CompiledStateFilter compile(IStateFilter filter) {
+		if (filter instanceof CompiledStateFilter) {
+			return (CompiledStateFilter) filter;
+		}
+		CompiledStateFilter retVal = CompiledStateFilter.COMPILED.get(filter);
+		if (retVal != null) {
+			return retVal;
+		}
+		if (CompiledStateFilter.isComposite(filter)) {
+			retVal = CompiledStateFilter.COMPILED_COMPOSITES.get(filter);
+			if (retVal == null) {
+				CompiledStateFilter.COMPILED_COMPOSITES.put(filter, retVal = new CompiledStateFilter(filter));
+			}
+			return retVal;
+		}
+		retVal = new CompiledStateFilter(filter);
+		if (CompiledStateFilter.COMPILABLE.containsKey(filter)) {
+			CompiledStateFilter.COMPILED.put(filter, retVal);
+		}
+		return retVal;
+	}
+
+	protected CompiledStateFilter(IStateFilter filter) {
+		this.filter = filter;
+		if (CompiledStateFilter.isComposite(filter)) {
+			boolean isOr = filter.getClass() == IStateFilter.OrStateFilter.class;
+			IStateFilter[] filters = ((CompositeStateFilter) filter).filters;
+			long[] accepted = filters.length > 0 ? new long[CompiledStateFilter.TABLE_SIZE / 64] : null;
+			long[] recursionAllowed = filters.length > 0 ? new long[CompiledStateFilter.TABLE_SIZE / 64] : null;
+			boolean treeConflictAware = false;
+			for (int i = 0; i < filters.length; i++) {
+				CompiledStateFilter compiled = CompiledStateFilter.compile(filters[i]);
+				accepted = CompiledStateFilter.combine(accepted, compiled.accepted, isOr, i == 0);
+				recursionAllowed = CompiledStateFilter.combine(recursionAllowed, compiled.recursionAllowed, isOr,
+						i == 0);
+				treeConflictAware |= compiled.treeConflictAware;
+			}
+			this.accepted = accepted;
+			this.recursionAllowed = recursionAllowed;
+			this.treeConflictAware = treeConflictAware;
+		} else {
+			int flags = CompiledStateFilter.COMPILABLE.getOrDefault(filter, 0);
+			accepted = (flags & CompiledStateFilter.ACCEPT) != 0 ? compileTable(false) : null;
+			recursionAllowed = (flags & CompiledStateFilter.RECURSION) != 0 ? compileTable(true) : null;
+			treeConflictAware = (flags & CompiledStateFilter.TREE_CONFLICT_AWARE) != 0;
+		}
+	}
+
+	public IStateFilter getFilter() {
+		return filter;
+	}
+
+	@Override
+	public boolean accept(ILocalResource resource) {
+		int index = accepted == null ? -1 : CompiledStateFilter.getIndex(resource.getStatus(), resource.getChangeMask());
+		if (index < 0 || treeConflictAware && resource.hasTreeConflict()) {
+			return filter.accept(resource);
+		}
+		return CompiledStateFilter.isSet(accepted, index);
+	}
+
+	@Override
+	public boolean accept(IResource resource, String state, int mask) {
+		int index = accepted == null ? -1 : CompiledStateFilter.getIndex(state, mask);
+		if (index < 0 || treeConflictAware
+				&& (resource == null || SVNRemoteStorage.instance().asLocalResource(resource).hasTreeConflict())) {
+			return filter.accept(resource, state, mask);
+		}
+		return CompiledStateFilter.isSet(accepted, index);
+	}
+
+	/**
+	 * Checks the resource with the specified state and mask, which could differ from the ones of the local resource. The tree conflict
+	 * is taken from the local resource, so the storage is not asked for it.
+	 * 
+	 * @param local
+	 *            the local resource
+	 * @param state
+	 *            the state to check
+	 * @param mask
+	 *            the change mask to check
+	 * @return <code>true</code> if the resource is accepted, <code>false</code> otherwise
+	 */
+	public boolean accept(ILocalResource local, String state, int mask) {
+		int index = accepted == null ? -1 : CompiledStateFilter.getIndex(state, mask);
+		if (index < 0 || treeConflictAware && local.hasTreeConflict()) {
+			return filter.accept(local.getResource(), state, mask);
+		}
+		return CompiledStateFilter.isSet(accepted, index);
+	}
+
+	@Override
+	public boolean allowsRecursion(ILocalResource resource) {
+		int index = recursionAllowed == null
+				? -1
+				: CompiledStateFilter.getIndex(resource.getStatus(), resource.getChangeMask());
+		return index < 0 ? filter.allowsRecursion(resource) : CompiledStateFilter.isSet(recursionAllowed, index);
+	}
+
+	@Override
+	public boolean allowsRecursion(IResource resource, String state, int mask) {
+		int index = recursionAllowed == null ? -1 : CompiledStateFilter.getIndex(state, mask);
+		return index < 0
+				? filter.allowsRecursion(resource, state, mask)
+				: CompiledStateFilter.isSet(recursionAllowed, index);
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledStateFilter [" + filter + ", accept: " + (accepted != null) + ", recursion: " //$NON-NLS-1$ //$NON-NLS-2$
+				+ (recursionAllowed != null) + "]"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Evaluates the filter for all the states and masks using the local resources made for that
+	 */
+	protected long[] compileTable(boolean recursion) {
+		long[] retVal = new long[CompiledStateFilter.TABLE_SIZE / 64];
+		for (int ordinal = 0; ordinal < StateMaskUtility.STATES_COUNT; ordinal++) {
+			String state = StateMaskUtility.getState(ordinal);
+			for (int mask = 0; mask <= CompiledStateFilter.MASK_BITS; mask++) {
+				ILocalResource local = new SVNLocalFile(null, SVNRevision.INVALID_REVISION_NUMBER,
+						SVNRevision.INVALID_REVISION_NUMBER, state, IStateFilter.ST_NORMAL, mask, null, -1, null);
+				if (recursion ? filter.allowsRecursion(local) : filter.accept(local)) {
+					int index = CompiledStateFilter.getIndex(state, mask);
+					retVal[index >>> 6] |= 1L << index;
+				}
+			}
+		}
+		return retVal;
+	}
+
+	protected static boolean isComposite(IStateFilter filter) {
+		return filter.getClass() == IStateFilter.OrStateFilter.class
+				|| filter.getClass() == IStateFilter.AndStateFilter.class;
+	}
+
+	protected static long[] combine(long[] table, long[] other, boolean isOr, boolean isFirst) {
+		if (table == null || other == null) {
+			return null;
+		}
+		for (int i = 0; i < table.length; i++) {
+			table[i] = isFirst ? other[i] : isOr ? table[i] | other[i] : table[i] & other[i];
+		}
+		return table;
+	}
+
+	protected static int getIndex(String state, int mask) {
+		int ordinal = StateMaskUtility.getStateOrdinal(state);
+		// the filters compare the states by identity, so the equal ones are left to them
+		if (ordinal < 0 || StateMaskUtility.getState(ordinal) != state
+				|| (mask & ~CompiledStateFilter.MASK_BITS) != 0) {
+			return -1;
+		}
+		return ordinal * (CompiledStateFilter.MASK_BITS + 1) + mask;
+	}
+
+	protected static boolean isSet(long[] table, int index) {
+		return (table[index >>> 6] & 1L << index) != 0;
+	}
+
+}
@@ -70,6 +70,11 @@ public class ResourceChangeListener implements IResourceChangeListener, ISavePar
 			return depth == d.depth;
 		}
 
+		@Override
+		public Object getMergeKey() {
+			return depth;
+		}
+
 		@Override
 		public ResourceChange merge(ResourceChange d) {
 			IResource[] arr = new IResource[resources.length + d.resources.length];
@@ -229,6 +234,9 @@ public class ResourceChangeListener implements IResourceChangeListener, ISavePar
 	@Override
 	public void saving(ISaveContext context) throws CoreException {
 		context.needDelta();
+		if (context.getKind() == ISaveContext.FULL_SAVE) {
+			SVNRemoteStorage.instance().saveLocalResourcesSnapshot();
+		}
 	}
 
 }
@@ -886,6 +886,14 @@ public class SVNMessages extends BaseMessages {
 
 	public static String Operation_Upgrade_Id;
 
+	public static String Operation_WarmUpConnectors;
+
+	public static String Operation_WarmUpConnectors_Id;
+
+	public static String Operation_EvictConnectors;
+
+	public static String Operation_EvictConnectors_Id;
+
 	public static String Progress_Done;
 
 	public static String Progress_Running;
@@ -44,6 +44,7 @@ import org.eclipse.team.svn.core.operation.AbstractActionOperation;
 import org.eclipse.team.svn.core.operation.LoggedOperation;
 import org.eclipse.team.svn.core.operation.file.SVNFileStorage;
 import org.eclipse.team.svn.core.resource.ISVNStorage;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalResourceSnapshot;
 import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.synchronize.UpdateSubscriber;
 import org.eclipse.team.svn.core.utility.FileUtility;
@@ -140,18 +141,31 @@ public class SVNTeamPlugin extends Plugin {
 		.doTaskScheduledDefault(new AbstractActionOperation("Remove Temporary Files", SVNMessages.class) {
 			@Override
 			protected void runImpl(IProgressMonitor monitor) throws Exception {
-				SVNTeamPlugin.instance().getStateLocation().toFile().listFiles((FileFilter) pathname -> {
-					String name = pathname.getName();
-					if (!name.equals(SVNRemoteStorage.STATE_INFO_FILE_NAME)
-							&& !name.equals(SVNFileStorage.STATE_INFO_FILE_NAME)) {
-						FileUtility.deleteRecursive(pathname);
-					}
-					return false;
-				});
+				SVNTeamPlugin.removeTemporaryFiles(SVNTeamPlugin.instance().getStateLocation().toFile());
 			}
 		});
 	}
 
+	/**
+	 * Removes everything from the state location except the repositories information and the persistent caches
+	 * 
+	 * @param stateLocation
+	 *            the state location folder
+	 */
+	public static void removeTemporaryFiles(File stateLocation) {
+		stateLocation.listFiles((FileFilter) pathname -> {
+			String name = pathname.getName();
+			if (!name.equals(SVNRemoteStorage.STATE_INFO_FILE_NAME)
+					&& !name.equals(SVNFileStorage.STATE_INFO_FILE_NAME)
+					&& !name.equals(SVNLocalResourceSnapshot.SNAPSHOT_FOLDER_NAME)
+					&& !name.equals(SVNRemoteStorage.LOG_CACHE_FOLDER_NAME)
+					&& !name.equals(SVNRemoteStorage.CONTENT_CACHE_FOLDER_NAME)) {
+				FileUtility.deleteRecursive(pathname);
+			}
+			return false;
+		});
+	}
+
 	public IEclipsePreferences getPreferences() {
 		return InstanceScope.INSTANCE.getNode(getBundle().getSymbolicName());
 	}
@@ -79,6 +79,12 @@ public abstract class AbstractOptionProvider implements IOptionProvider {
 		return value instanceof String ? (String) value : null;
 	}
 
+	@Override
+	public int getInt(String key, int defaultValue) {
+		Object value = get(key);
+		return value instanceof Integer ? ((Integer) value).intValue() : defaultValue;
+	}
+
 	@Override
 	public Object get(String key) {
 		if (IOptionProvider.SVN_CONNECTOR_ID.equals(key)) {
@@ -105,6 +111,30 @@ public abstract class AbstractOptionProvider implements IOptionProvider {
 		if (IOptionProvider.AUTOMATIC_PROJECT_SHARE_ENABLED.equals(key)) {
 			return isAutomaticProjectShareEnabled();
 		}
+		if (IOptionProvider.CONNECTOR_POOL_MIN_IDLE.equals(key)) {
+			return getConnectorPoolMinIdle();
+		}
+		if (IOptionProvider.CONNECTOR_POOL_MAX_SIZE.equals(key)) {
+			return getConnectorPoolMaxSize();
+		}
+		if (IOptionProvider.CONNECTOR_POOL_IDLE_TIMEOUT.equals(key)) {
+			return getConnectorPoolIdleTimeout();
+		}
+		if (IOptionProvider.CONNECTOR_POOL_WAIT_TIMEOUT.equals(key)) {
+			return getConnectorPoolWaitTimeout();
+		}
+		if (IOptionProvider.WORKING_COPY_OPERATIONS_PARALLELISM.equals(key)) {
+			return getWorkingCopyOperationsParallelism();
+		}
+		if (IOptionProvider.LOG_CACHE_ENABLED.equals(key)) {
+			return isLogCacheEnabled();
+		}
+		if (IOptionProvider.LOG_CACHE_SIZE.equals(key)) {
+			return getLogCacheSize();
+		}
+		if (IOptionProvider.CONTENT_CACHE_SIZE.equals(key)) {
+			return getContentCacheSize();
+		}
 		return null;
 	}
 
@@ -143,4 +173,36 @@ public abstract class AbstractOptionProvider implements IOptionProvider {
 	protected boolean isCommitDerivedEnabled() {
 		return false;
 	}
+
+	protected int getConnectorPoolMinIdle() {
+		return 1;
+	}
+
+	protected int getConnectorPoolMaxSize() {
+		return 0;
+	}
+
+	protected int getConnectorPoolIdleTimeout() {
+		return 5 * 60 * 1000;
+	}
+
+	protected int getConnectorPoolWaitTimeout() {
+		return 30 * 1000;
+	}
+
+	protected int getWorkingCopyOperationsParallelism() {
+		return 1;
+	}
+
+	protected boolean isLogCacheEnabled() {
+		return true;
+	}
+
+	protected int getLogCacheSize() {
+		return 256;
+	}
+
+	protected int getContentCacheSize() {
+		return 100;
+	}
 }
@@ -71,6 +71,47 @@ public interface IOptionProvider {
 	 */
 	String COMMIT_DERIVED_ENABLED = "commitDerivedEnabled"; //$NON-NLS-1$
 
+	/**
+	 * The number of idle SVN connectors kept per repository location, {@link Integer}
+	 */
+	String CONNECTOR_POOL_MIN_IDLE = "connectorPoolMinIdle"; //$NON-NLS-1$
+
+	/**
+	 * The maximum number of SVN connectors used simultaneously per repository location, zero or less means unbounded, {@link Integer}
+	 */
+	String CONNECTOR_POOL_MAX_SIZE = "connectorPoolMaxSize"; //$NON-NLS-1$
+
+	/**
+	 * The time in milliseconds an idle SVN connector is kept before it is disposed, {@link Integer}
+	 */
+	String CONNECTOR_POOL_IDLE_TIMEOUT = "connectorPoolIdleTimeout"; //$NON-NLS-1$
+
+	/**
+	 * The time in milliseconds to wait for a free SVN connector when the pool is exhausted, {@link Integer}
+	 */
+	String CONNECTOR_POOL_WAIT_TIMEOUT = "connectorPoolWaitTimeout"; //$NON-NLS-1$
+
+	/**
+	 * The maximum number of working copies updated or committed simultaneously, {@link Integer}
+	 */
+	String WORKING_COPY_OPERATIONS_PARALLELISM = "workingCopyOperationsParallelism"; //$NON-NLS-1$
+
+	/**
+	 * <code>true</code> if revision logs should be cached on disk, <code>false<code> or <code>null</code> otherwise
+	 */
+	String LOG_CACHE_ENABLED = "logCacheEnabled"; //$NON-NLS-1$
+
+	/**
+	 * The maximum size in megabytes of the revision log data cached on disk for each repository, <code>0</code> for no limit,
+	 * {@link Integer}
+	 */
+	String LOG_CACHE_SIZE = "logCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * The maximum size in megabytes of the repository file contents cached on disk, <code>0</code> disables the cache, {@link Integer}
+	 */
+	String CONTENT_CACHE_SIZE = "contentCacheSize"; //$NON-NLS-1$
+
 	IOptionProvider DEFAULT = new AbstractOptionProvider() {
 		@Override
 		public String getId() {
@@ -164,6 +205,19 @@ public interface IOptionProvider {
 	 */
 	String getString(String key);
 
+	/**
+	 * Returns the integer value of the option. If the value is not an integer returns the default one;
+	 * 
+	 * @param key
+	 *            the option's name
+	 * @param defaultValue
+	 *            the value to return if the option is not set
+	 * @return
+	 */
+	default int getInt(String key, int defaultValue) {
+		return defaultValue;
+	}
+
 	/**
 	 * Returns the specified option value
 	 * 
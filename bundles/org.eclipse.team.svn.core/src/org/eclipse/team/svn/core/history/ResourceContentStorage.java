@@ -63,7 +63,8 @@ public class ResourceContentStorage implements IEncodedStorage {
 			composite.add(new AbstractActionOperation("Operation_DetectCharset", SVNMessages.class) { //$NON-NLS-1$
 				@Override
 				protected void runImpl(IProgressMonitor monitor) throws Exception {
-					ResourceContentStorage.this.detectCharset(op.getContent());
+					ResourceContentStorage.this.detectCharset(
+							op.getContent(AbstractGetFileContentOperation.CONTENT_DESCRIPTION_LIMIT));
 				}
 			}, new IActionOperation[] { op });
 			if (monitor == null) {
@@ -14,6 +14,14 @@
 
 package org.eclipse.team.svn.core.operation;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -26,6 +34,7 @@ import org.eclipse.team.svn.core.SVNTeamPlugin;
 import org.eclipse.team.svn.core.connector.SVNConnectorCancelException;
 import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
 import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+import org.eclipse.team.svn.core.utility.ThreadSafeProgressMonitor;
 
 /**
  * Abstract IActionOperation implementation provides default implementation of the status processing and console support
@@ -45,6 +54,8 @@ public abstract class AbstractActionOperation implements IActionOperation {
 
 	protected Class<? extends NLS> messagesClass;
 
+	private final ThreadLocal<BufferedConsoleStream> stepConsoleStream = new ThreadLocal<>();
+
 	public AbstractActionOperation(String operationName, Class<? extends NLS> messagesClass) {
 		isExecuted = false;
 		this.messagesClass = messagesClass;
@@ -59,7 +70,8 @@ public abstract class AbstractActionOperation implements IActionOperation {
 
 	@Override
 	public IConsoleStream getConsoleStream() {
-		return consoleStream;
+		IConsoleStream stream = stepConsoleStream.get();
+		return stream != null ? stream : consoleStream;
 	}
 
 	@Override
@@ -146,20 +158,23 @@ public abstract class AbstractActionOperation implements IActionOperation {
 	protected abstract void runImpl(IProgressMonitor monitor) throws Exception;
 
 	protected void writeCancelledToConsole() {
-		if (consoleStream != null) {
-			consoleStream.markCancelled();
+		IConsoleStream stream = getConsoleStream();
+		if (stream != null) {
+			stream.markCancelled();
 		}
 	}
 
 	protected void writeToConsole(int severity, String data) {
-		if (consoleStream != null) {
-			consoleStream.write(severity, data);
+		IConsoleStream stream = getConsoleStream();
+		if (stream != null) {
+			stream.write(severity, data);
 		}
 	}
 
 	protected void complexWriteToConsole(Runnable runnable) {
-		if (consoleStream != null) {
-			consoleStream.doComplexWrite(runnable);
+		IConsoleStream stream = getConsoleStream();
+		if (stream != null) {
+			stream.doComplexWrite(runnable);
 		}
 	}
 
@@ -176,6 +191,69 @@ public abstract class AbstractActionOperation implements IActionOperation {
 		}
 	}
 
+	/**
+	 * Runs independent steps, up to the specified number of steps at the same time. Console output of each step is written at once when
+	 * the step is completed. Steps should not access the operation state without synchronization and should not modify workspace
+	 * resources, since they are not performed in the operation thread.
+	 * 
+	 * @param steps
+	 *            the steps to run
+	 * @param monitor
+	 *            the operation progress monitor
+	 * @param maxParallelism
+	 *            the maximum number of simultaneously running steps, steps are performed sequentially if it is less than 2
+	 */
+	protected void protectSteps(List<IUnprotectedOperation> steps, IProgressMonitor monitor, int maxParallelism) {
+		int threads = Math.min(maxParallelism, steps.size());
+		if (threads < 2) {
+			for (Iterator<IUnprotectedOperation> it = steps.iterator(); it.hasNext() && !monitor.isCanceled();) {
+				this.protectStep(it.next(), monitor, steps.size());
+			}
+			return;
+		}
+		final IProgressMonitor sharedMonitor = new ThreadSafeProgressMonitor(monitor);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>(steps.size());
+			for (IUnprotectedOperation step : steps) {
+				futures.add(executor.submit(() -> {
+					if (sharedMonitor.isCanceled()) {
+						return;
+					}
+					BufferedConsoleStream buffer = new BufferedConsoleStream();
+					stepConsoleStream.set(buffer);
+					try {
+						this.protectStep(step, sharedMonitor, steps.size());
+					} finally {
+						stepConsoleStream.remove();
+						buffer.flush(consoleStream);
+					}
+				}));
+			}
+			boolean interrupted = false;
+			for (Future<?> future : futures) {
+				for (;;) {
+					try {
+						future.get();
+						break;
+					} catch (InterruptedException ex) {
+						// steps should release their resources, so wait for them anyway
+						interrupted = true;
+						sharedMonitor.setCanceled(true);
+					} catch (ExecutionException ex) {
+						this.reportStatus(IStatus.ERROR, null, ex.getCause());
+						break;
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	protected void reportWarning(String message, Throwable t) {
 		this.reportStatus(IStatus.WARNING, message, t);
 	}
@@ -211,7 +289,9 @@ public abstract class AbstractActionOperation implements IActionOperation {
 
 	protected void reportStatus(IStatus st) {
 		if (st.getSeverity() != IStatus.OK) {
-			status.merge(st);
+			synchronized (status) {
+				status.merge(st);
+			}
 		}
 	}
 
@@ -16,10 +16,13 @@ package org.eclipse.team.svn.core.operation;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -33,6 +36,16 @@ import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
  * @author Alexander Gurov
  */
 public abstract class AbstractGetFileContentOperation extends AbstractActionOperation {
+	/**
+	 * The number of leading content bytes which is enough to detect the content type and charset
+	 */
+	public static final int CONTENT_DESCRIPTION_LIMIT = 64 * 1024;
+
+	/**
+	 * The maximum number of bytes transferred into the content at once
+	 */
+	protected static final long TRANSFER_BLOCK_SIZE = 1024 * 1024;
+
 	protected File tmpFile;
 
 	public AbstractGetFileContentOperation(String getOperationType) {
@@ -50,14 +63,99 @@ public abstract class AbstractGetFileContentOperation extends AbstractActionOper
 					new AbstractActionOperation("Operation_GetFileContent_CreateStream", SVNMessages.class) { //$NON-NLS-1$
 						@Override
 						protected void runImpl(IProgressMonitor monitor) throws Exception {
-							retVal[0] = new FileInputStream(tmpFile);
+							retVal[0] = Channels.newInputStream(AbstractGetFileContentOperation.this.openContentChannel());
+						}
+					}, new NullProgressMonitor());
+		}
+		return retVal[0];
+	}
+
+	/**
+	 * Returns the leading part of the content, which could be used in order to detect the content type or charset without reading the
+	 * whole content
+	 * 
+	 * @param limit
+	 *            the maximum number of bytes returned
+	 * @return the content part
+	 */
+	public InputStream getContent(int limit) {
+		final InputStream[] retVal = { new ByteArrayInputStream(new byte[0]) };
+		if (tmpFile != null && tmpFile.exists()) {
+			ProgressMonitorUtility.doTaskExternal(
+					new AbstractActionOperation("Operation_GetFileContent_CreateStream", SVNMessages.class) { //$NON-NLS-1$
+						@Override
+						protected void runImpl(IProgressMonitor monitor) throws Exception {
+							ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(limit, tmpFile.length()));
+							try (FileChannel channel = AbstractGetFileContentOperation.this.openContentChannel()) {
+								while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+								}
+							}
+							retVal[0] = new ByteArrayInputStream(buffer.array(), 0, buffer.position());
 						}
 					}, new NullProgressMonitor());
 		}
 		return retVal[0];
 	}
 
+	public long getContentLength() {
+		return tmpFile != null && tmpFile.exists() ? tmpFile.length() : 0;
+	}
+
+	/**
+	 * Opens a read-only channel to the content, so the content could be processed by parts without loading it into memory
+	 * 
+	 * @return the channel or <code>null</code> if there is no content
+	 * @throws IOException
+	 *             if the content could not be opened
+	 */
+	public FileChannel openContentChannel() throws IOException {
+		return tmpFile != null && tmpFile.exists() ? FileChannel.open(tmpFile.toPath(), StandardOpenOption.READ) : null;
+	}
+
+	/**
+	 * Maps the content region into memory. The mapped view is backed by the file system cache instead of the Java heap. Some platforms
+	 * do not allow the file to be modified while the view is reachable, so it should be used for the read-only contents only.
+	 * 
+	 * @param position
+	 *            the region start
+	 * @param length
+	 *            the maximum region length
+	 * @return the read-only view of the region, which is empty if there is no content at the position
+	 * @throws IOException
+	 *             if the content could not be mapped
+	 */
+	public ByteBuffer mapContent(long position, int length) throws IOException {
+		try (FileChannel channel = openContentChannel()) {
+			if (channel == null || position >= channel.size()) {
+				return ByteBuffer.allocate(0).asReadOnlyBuffer();
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(length, channel.size() - position));
+		}
+	}
+
 	public void setContent(final byte[] data) {
+		setContent(new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * Replaces the content with the data read from the stream. The data is written as it is read, so it is never kept in memory as a
+	 * whole. The stream is not closed.
+	 * 
+	 * @param data
+	 *            the new content
+	 */
+	public void setContent(final InputStream data) {
+		setContent(Channels.newChannel(data));
+	}
+
+	/**
+	 * Replaces the content with the data read from the channel. If the channel is a file one, the data is transferred by the file system
+	 * without being copied to the Java heap. The channel is not closed.
+	 * 
+	 * @param data
+	 *            the new content
+	 */
+	public void setContent(final ReadableByteChannel data) {
 		ProgressMonitorUtility
 				.doTaskExternal(new AbstractActionOperation("Operation_GetFileContent_SetContent", SVNMessages.class) { //$NON-NLS-1$
 					@Override
@@ -69,13 +167,12 @@ public abstract class AbstractGetFileContentOperation extends AbstractActionOper
 						if (parent != null && !parent.exists()) {
 							parent.mkdirs();
 						}
-						FileOutputStream stream = new FileOutputStream(tmpFile);
-						try {
-							stream.write(data);
-						} finally {
-							try {
-								stream.close();
-							} catch (Exception ex) {
+						try (FileChannel channel = FileChannel.open(tmpFile.toPath(), StandardOpenOption.WRITE,
+								StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+							long position = 0;
+							for (long count; (count = channel.transferFrom(data, position,
+									AbstractGetFileContentOperation.TRANSFER_BLOCK_SIZE)) > 0;) {
+								position += count;
 							}
 						}
 					}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.operation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Console stream which keeps the output until it is flushed into another stream at once. Allows to avoid mixing of the output of
+ * operation steps which are performed simultaneously.
+ */
+public class BufferedConsoleStream implements IConsoleStream {
+	protected List<Entry> entries;
+
+	protected boolean cancelled;
+
+	public BufferedConsoleStream() {
+		entries = new ArrayList<>();
+	}
+
+	@Override
+	public void markStart(String data) {
+		// do nothing
+	}
+
+	@Override
+	public synchronized void write(int severity, String data) {
+		entries.add(new Entry(severity, data));
+	}
+
+	@Override
+	public void markEnd() {
+		// do nothing
+	}
+
+	@Override
+	public synchronized void markCancelled() {
+		cancelled = true;
+	}
+
+	@Override
+	public synchronized void doComplexWrite(Runnable runnable) {
+		runnable.run();
+	}
+
+	/**
+	 * Writes all the buffered output into the specified stream and clears the buffer
+	 *
+	 * @param stream
+	 *            the target stream
+	 */
+	public synchronized void flush(final IConsoleStream stream) {
+		if (stream != null && (!entries.isEmpty() || cancelled)) {
+			final List<Entry> toWrite = new ArrayList<>(entries);
+			final boolean markCancelled = cancelled;
+			stream.doComplexWrite(() -> {
+				for (Entry entry : toWrite) {
+					stream.write(entry.severity, entry.data);
+				}
+				if (markCancelled) {
+					stream.markCancelled();
+				}
+			});
+		}
+		entries.clear();
+		cancelled = false;
+	}
+
+	protected static class Entry {
+		public final int severity;
+
+		public final String data;
+
+		public Entry(int severity, String data) {
+			this.severity = severity;
+			this.data = data;
+		}
+	}
+
+}
@@ -15,8 +15,14 @@
 package org.eclipse.team.svn.core.operation;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -24,6 +30,7 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+import org.eclipse.team.svn.core.utility.ThreadSafeProgressMonitor;
 
 /**
  * Composite operation provide way to combine different operations
@@ -37,6 +44,8 @@ public class CompositeOperation extends AbstractActionOperation implements ICons
 
 	protected int totalWeight;
 
+	protected int maxParallelism;
+
 	public CompositeOperation(String operationName, Class<? extends NLS> messagesClass) {
 		this(operationName, messagesClass, false);
 	}
@@ -46,6 +55,26 @@ public class CompositeOperation extends AbstractActionOperation implements ICons
 		operations = new ArrayList<>();
 		this.checkWarnings = checkWarnings;
 		totalWeight = 0;
+		maxParallelism = 1;
+	}
+
+	/**
+	 * Allows to run operations which do not depend on each other simultaneously. When enabled an operation is started as soon as all the
+	 * operations it depends on, and all the previously added operations with conflicting scheduling rules, are completed. Operations with
+	 * scheduling rules are always performed in the composite operation thread, one by one. Operations without scheduling rule are
+	 * performed in parallel, so they should not modify workspace resources and should not rely on the order of addition when there is no
+	 * explicit dependency.
+	 * 
+	 * @param maxParallelism
+	 *            the maximum number of simultaneously running operations, operations are performed sequentially in the order of addition
+	 *            if it is less than 2
+	 */
+	public void setMaxParallelism(int maxParallelism) {
+		this.maxParallelism = maxParallelism;
+	}
+
+	public int getMaxParallelism() {
+		return maxParallelism;
 	}
 
 	public boolean isEmpty() {
@@ -87,26 +116,149 @@ public class CompositeOperation extends AbstractActionOperation implements ICons
 
 	@Override
 	protected void runImpl(IProgressMonitor monitor) throws Exception {
+		if (maxParallelism > 1 && operations.size() > 1) {
+			runParallel(monitor);
+			return;
+		}
 		for (Iterator<Pair> it = operations.iterator(); it.hasNext() && !monitor.isCanceled();) {
 			Pair pair = it.next();
+			if (!isDependencyFailed(pair)) {
+				ProgressMonitorUtility.doTask(pair.operation, monitor, totalWeight,
+						pair.operation.getOperationWeight());
+				this.reportStatus(pair.operation.getStatus());
+			}
+		}
+	}
+
+	protected void runParallel(IProgressMonitor monitor) throws Exception {
+		final IProgressMonitor sharedMonitor = new ThreadSafeProgressMonitor(monitor);
+		final BlockingQueue<Pair> completed = new LinkedBlockingQueue<>();
+		Map<IActionOperation, Integer> order = new IdentityHashMap<>();
+		for (Pair pair : operations) {
+			order.putIfAbsent(pair.operation, order.size());
+		}
+		List<Pair> pending = new ArrayList<>(operations);
+		List<Pair> unfinished = new ArrayList<>(operations);
+		int running = 0;
+		boolean interrupted = false;
+		ExecutorService executor = Executors.newFixedThreadPool(maxParallelism);
+		try {
+			while (!pending.isEmpty() || running > 0) {
+				for (Pair pair = completed.poll(); pair != null; pair = completed.poll()) {
+					running--;
+					unfinished.remove(pair);
+					this.reportStatus(pair.operation.getStatus());
+				}
 
-			boolean errorFound = false;
+				Pair current = null;
+				if (!sharedMonitor.isCanceled()) {
+					for (Iterator<Pair> it = pending.iterator(); it.hasNext() && current == null;) {
+						final Pair pair = it.next();
+						if (!isReady(pair, unfinished, order)) {
+							continue;
+						}
+						it.remove();
+						if (isDependencyFailed(pair)) {
+							unfinished.remove(pair);
+							continue;
+						}
+						if (pair.operation.getSchedulingRule() == null) {
+							running++;
+							executor.execute(() -> {
+								try {
+									runBuffered(pair, sharedMonitor);
+								} finally {
+									completed.add(pair);
+								}
+							});
+						} else {
+							// the scheduling rule is owned by this thread
+							current = pair;
+						}
+					}
+				} else {
+					unfinished.removeAll(pending);
+					pending.clear();
+				}
+
+				if (current != null) {
+					ProgressMonitorUtility.doTask(current.operation, sharedMonitor, totalWeight,
+							current.operation.getOperationWeight());
+					unfinished.remove(current);
+					this.reportStatus(current.operation.getStatus());
+				} else if (running > 0) {
+					try {
+						Pair pair = completed.take();
+						running--;
+						unfinished.remove(pair);
+						this.reportStatus(pair.operation.getStatus());
+					} catch (InterruptedException ex) {
+						// running operations should release their resources, so wait for them anyway
+						interrupted = true;
+						sharedMonitor.setCanceled(true);
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	protected void runBuffered(Pair pair, IProgressMonitor monitor) {
+		BufferedConsoleStream buffer = new BufferedConsoleStream();
+		pair.operation.setConsoleStream(buffer);
+		try {
+			ProgressMonitorUtility.doTask(pair.operation, monitor, totalWeight, pair.operation.getOperationWeight());
+		} finally {
+			pair.operation.setConsoleStream(this);
+			buffer.flush(this);
+		}
+	}
+
+	/*
+	 * The operation is ready when all the previously added operations it depends on are completed, as well as all the previously added
+	 * operations with conflicting scheduling rules. Dependencies on operations added later are checked as is, like in the sequential mode.
+	 */
+	protected boolean isReady(Pair pair, List<Pair> unfinished, Map<IActionOperation, Integer> order) {
+		int index = order.get(pair.operation);
+		ISchedulingRule rule = pair.operation.getSchedulingRule();
+		for (Pair other : unfinished) {
+			if (other == pair) {
+				continue;
+			}
+			Integer otherIndex = order.get(other.operation);
+			if (otherIndex >= index) {
+				continue;
+			}
+			ISchedulingRule otherRule = other.operation.getSchedulingRule();
+			if (rule != null && otherRule != null && rule.isConflicting(otherRule)) {
+				return false;
+			}
 			if (pair.dependsOnOperation != null) {
 				for (IActionOperation element : pair.dependsOnOperation) {
-					if (element.getStatus().getSeverity() == IStatus.ERROR
-							|| checkWarnings && element.getStatus().getSeverity() == IStatus.WARNING
-							|| element.getExecutionState() == IActionOperation.NOTEXECUTED) {
-						errorFound = true;
-						break;
+					if (element == other.operation) {
+						return false;
 					}
 				}
 			}
-			if (!errorFound) {
-				ProgressMonitorUtility.doTask(pair.operation, monitor, totalWeight,
-						pair.operation.getOperationWeight());
-				this.reportStatus(pair.operation.getStatus());
+		}
+		return true;
+	}
+
+	protected boolean isDependencyFailed(Pair pair) {
+		if (pair.dependsOnOperation != null) {
+			for (IActionOperation element : pair.dependsOnOperation) {
+				if (element.getStatus().getSeverity() == IStatus.ERROR
+						|| checkWarnings && element.getStatus().getSeverity() == IStatus.WARNING
+						|| element.getExecutionState() == IActionOperation.NOTEXECUTED) {
+					return true;
+				}
 			}
 		}
+		return false;
 	}
 
 	protected class Pair {
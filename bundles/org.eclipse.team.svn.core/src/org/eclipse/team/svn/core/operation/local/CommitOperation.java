@@ -15,10 +15,12 @@
 package org.eclipse.team.svn.core.operation.local;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
@@ -32,9 +34,11 @@ import org.eclipse.team.svn.core.connector.SVNErrorCodes;
 import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
 import org.eclipse.team.svn.core.extension.factory.ISVNConnectorFactory;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
 import org.eclipse.team.svn.core.operation.IConsoleStream;
 import org.eclipse.team.svn.core.operation.IPostCommitErrorsProvider;
 import org.eclipse.team.svn.core.operation.IRevisionProvider;
+import org.eclipse.team.svn.core.operation.IUnprotectedOperation;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRemoteStorage;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
@@ -56,11 +60,9 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 
 	protected String message;
 
-	protected ArrayList<RevisionPair> revisionsPairs;
+	protected List<RevisionPair> revisionsPairs;
 
-	protected ArrayList<SVNCommitStatus> postCommitErrors;
-
-	protected String[] paths;
+	protected List<SVNCommitStatus> postCommitErrors;
 
 	public CommitOperation(IResource[] resources, String message, boolean recursive, boolean keepLocks) {
 		this(resources, message, SVNDepth.infinityOrEmpty(recursive),
@@ -88,8 +90,8 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 
 	@Override
 	protected void runImpl(IProgressMonitor monitor) throws Exception {
-		revisionsPairs = new ArrayList<>();
-		postCommitErrors = new ArrayList<>();
+		revisionsPairs = Collections.synchronizedList(new ArrayList<>());
+		postCommitErrors = Collections.synchronizedList(new ArrayList<>());
 		IResource[] resources = operableData();
 
 		defineInitialResourceSet(resources);
@@ -100,29 +102,34 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 			FileUtility.reorder(resources, true);
 		}
 
+		// commits into different repositories or from different working copies are independent, so they could be performed simultaneously
+		List<IUnprotectedOperation> steps = new ArrayList<>();
 		if ((CoreExtensionsManager.instance().getSVNConnectorFactory().getSupportedFeatures()
 				& ISVNConnectorFactory.OptionalFeatures.ATOMIC_X_COMMIT) != 0) {
-			Map proxy2Resources = SVNUtility.splitRepositoryLocations(resources);
-			for (Iterator it = proxy2Resources.entrySet().iterator(); it.hasNext() && !monitor.isCanceled();) {
-				Map.Entry entry = (Map.Entry) it.next();
+			Map<?, ?> proxy2Resources = SVNUtility.splitRepositoryLocations(resources);
+			for (Map.Entry<?, ?> entry : proxy2Resources.entrySet()) {
 				IRepositoryLocation location = (IRepositoryLocation) entry.getKey();
-				performCommit(location, (List) entry.getValue(), monitor, proxy2Resources.size());
+				List<IResource> wcResources = Arrays.asList(((List<?>) entry.getValue()).toArray(new IResource[0]));
+				steps.add(monitor1 -> performCommit(location, wcResources, monitor1));
 			}
 		} else {
-			Map project2Resources = SVNUtility.splitWorkingCopies(resources);
+			Map<IProject, List<IResource>> project2Resources = SVNUtility.splitWorkingCopies(resources);
 			IRemoteStorage storage = SVNRemoteStorage.instance();
-			for (Iterator it = project2Resources.entrySet().iterator(); it.hasNext() && !monitor.isCanceled();) {
-				Map.Entry entry = (Map.Entry) it.next();
-
-				IRepositoryLocation location = storage.getRepositoryLocation((IResource) entry.getKey());
-				performCommit(location, (List) entry.getValue(), monitor, project2Resources.size());
+			for (Map.Entry<IProject, List<IResource>> entry : project2Resources.entrySet()) {
+				IRepositoryLocation location = storage.getRepositoryLocation(entry.getKey());
+				List<IResource> wcResources = entry.getValue();
+				steps.add(monitor1 -> performCommit(location, wcResources, monitor1));
 			}
 		}
+		this.protectSteps(steps, monitor, CoreExtensionsManager.instance()
+				.getOptionProvider()
+				.getInt(IOptionProvider.WORKING_COPY_OPERATIONS_PARALLELISM, 1));
 	}
 
-	protected void performCommit(final IRepositoryLocation location, List resources, final IProgressMonitor monitor,
-			int total) {
-		paths = FileUtility.asPathArray((IResource[]) resources.toArray(new IResource[0]));
+	protected void performCommit(final IRepositoryLocation location, List<IResource> resources,
+			final IProgressMonitor monitor) throws Exception {
+		// the paths are kept per step, since the steps could be performed simultaneously
+		final String[] paths = FileUtility.asPathArray(resources.toArray(new IResource[resources.size()]));
 
 		complexWriteToConsole(() -> {
 			CommitOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD,
@@ -138,11 +145,19 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 					+ FileUtility.getUsernameParam(location.getUsername()) + "\n"); //$NON-NLS-1$
 		});
 
-		final ISVNConnector proxy = location.acquireSVNProxy();
-		this.protectStep(monitor1 -> {
-			SVNProgressMonitor svnMonitor = new SVNProgressMonitor(CommitOperation.this, monitor1, null);
-			proxy.commit(
-					paths, message, null, depth, options, null, svnMonitor);
+		// the conflicts are processed by the step itself, since only the step knows the paths it failed to commit
+		try {
+			commit(location, paths, monitor);
+		} catch (SVNConnectorUnresolvedConflictException ex) {
+			processUnresolvedConflict(ex, paths);
+		}
+	}
+
+	protected void commit(IRepositoryLocation location, String[] paths, IProgressMonitor monitor) throws Exception {
+		ISVNConnector proxy = location.acquireSVNProxy();
+		try {
+			SVNProgressMonitor svnMonitor = new SVNProgressMonitor(CommitOperation.this, monitor, null);
+			proxy.commit(paths, message, null, depth, options, null, svnMonitor);
 			SVNCommitStatus status = svnMonitor.getCommitStatuses().isEmpty()
 					? null
 					: svnMonitor.getCommitStatuses().iterator().next();
@@ -155,8 +170,9 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 			if (svnMonitor.getPostCommitErrors() != null) {
 				postCommitErrors.addAll(svnMonitor.getPostCommitErrors());
 			}
-		}, monitor, total);
-		location.releaseSVNProxy(proxy);
+		} finally {
+			location.releaseSVNProxy(proxy);
+		}
 	}
 
 	@Override
@@ -174,29 +190,39 @@ public class CommitOperation extends AbstractConflictDetectionOperation
 	@Override
 	public void reportStatus(int severity, String message, Throwable t) {
 		if (t instanceof SVNConnectorUnresolvedConflictException) {
-			setUnresolvedConflict(true);
+			// the commit steps process their conflicts themselves, the failed paths of any other conflict are not known
+			processUnresolvedConflict((SVNConnectorUnresolvedConflictException) t, new String[0]);
+		} else {
+			super.reportStatus(severity, message, t);
+		}
+	}
 
-			StringBuilder messageBuf = new StringBuilder();
-			if (t.getMessage() != null && t.getMessage().length() > 0) {
-				messageBuf.append(t.getMessage());
-			}
-			SVNConnectorUnresolvedConflictException ex = (SVNConnectorUnresolvedConflictException) t;
-			if (ex.getErrorId() == SVNErrorCodes.fsConflict) {
-				messageBuf.append(messageBuf.toString().endsWith("\n") ? "\n" : "\n\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				messageBuf.append(SVNMessages.CommitOperation_3);
-			}
-			setConflictMessage(messageBuf.toString());
-			for (String path : paths) {
-				for (IResource res : getProcessed()) {
-					if (FileUtility.getResourcePath(res).equals(new Path(path))) {
-						removeProcessed(res);
-						addUnprocessed(res);
-						break;
-					}
+	/**
+	 * Marks the operation as having a conflict and moves the resources of the failed paths to the unprocessed ones
+	 * 
+	 * @param paths
+	 *            the paths of the commit which failed
+	 */
+	protected synchronized void processUnresolvedConflict(SVNConnectorUnresolvedConflictException ex, String[] paths) {
+		setUnresolvedConflict(true);
+
+		StringBuilder messageBuf = new StringBuilder();
+		if (ex.getMessage() != null && ex.getMessage().length() > 0) {
+			messageBuf.append(ex.getMessage());
+		}
+		if (ex.getErrorId() == SVNErrorCodes.fsConflict) {
+			messageBuf.append(messageBuf.toString().endsWith("\n") ? "\n" : "\n\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			messageBuf.append(SVNMessages.CommitOperation_3);
+		}
+		setConflictMessage(messageBuf.toString());
+		for (String path : paths) {
+			for (IResource res : getProcessed()) {
+				if (FileUtility.getResourcePath(res).equals(new Path(path))) {
+					removeProcessed(res);
+					addUnprocessed(res);
+					break;
 				}
 			}
-		} else {
-			super.reportStatus(severity, message, t);
 		}
 	}
 
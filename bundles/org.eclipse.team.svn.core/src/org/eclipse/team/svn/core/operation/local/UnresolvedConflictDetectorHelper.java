@@ -21,7 +21,7 @@ import java.util.Set;
 import org.eclipse.core.resources.IResource;
 
 /**
- * Used by operations from different hierarchies
+ * Used by operations from different hierarchies. Thread-safe, since operations could process working copies in parallel
  * 
  * @author Igor Burilo
  */
@@ -36,31 +36,31 @@ public class UnresolvedConflictDetectorHelper implements IUnresolvedConflictDete
 	protected String conflictMessage;
 
 	@Override
-	public void setUnresolvedConflict(boolean hasUnresolvedConflict) {
+	public synchronized void setUnresolvedConflict(boolean hasUnresolvedConflict) {
 		this.hasUnresolvedConflict = hasUnresolvedConflict;
 	}
 
 	@Override
-	public boolean hasUnresolvedConflicts() {
+	public synchronized boolean hasUnresolvedConflicts() {
 		return hasUnresolvedConflict;
 	}
 
 	@Override
-	public String getMessage() {
+	public synchronized String getMessage() {
 		return conflictMessage;
 	}
 
 	@Override
-	public IResource[] getUnprocessed() {
+	public synchronized IResource[] getUnprocessed() {
 		return unprocessed == null ? new IResource[0] : unprocessed.toArray(new IResource[unprocessed.size()]);
 	}
 
 	@Override
-	public IResource[] getProcessed() {
+	public synchronized IResource[] getProcessed() {
 		return processed == null ? new IResource[0] : processed.toArray(new IResource[processed.size()]);
 	}
 
-	protected void defineInitialResourceSet(IResource[] resources) {
+	protected synchronized void defineInitialResourceSet(IResource[] resources) {
 		hasUnresolvedConflict = false;
 		unprocessed = new HashSet<>();
 		processed = new HashSet<>();
@@ -68,18 +68,18 @@ public class UnresolvedConflictDetectorHelper implements IUnresolvedConflictDete
 	}
 
 	@Override
-	public void addUnprocessed(IResource unprocessed) {
+	public synchronized void addUnprocessed(IResource unprocessed) {
 		this.unprocessed.add(unprocessed);
 	}
 
 	@Override
-	public void setConflictMessage(String message) {
+	public synchronized void setConflictMessage(String message) {
 		conflictMessage = message;
 
 	}
 
 	@Override
-	public void removeProcessed(IResource resource) {
+	public synchronized void removeProcessed(IResource resource) {
 		unprocessed.remove(resource);
 	}
 }
@@ -14,7 +14,7 @@
 
 package org.eclipse.team.svn.core.operation.local;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -28,8 +28,11 @@ import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.connector.ISVNConnector;
 import org.eclipse.team.svn.core.connector.SVNDepth;
 import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
 import org.eclipse.team.svn.core.operation.IActionOperation;
 import org.eclipse.team.svn.core.operation.IConsoleStream;
+import org.eclipse.team.svn.core.operation.IUnprotectedOperation;
 import org.eclipse.team.svn.core.operation.SVNConflictDetectionProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRemoteStorage;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
@@ -113,11 +116,11 @@ public class UpdateOperation extends AbstractConflictDetectionOperation implemen
 		defineInitialResourceSet(resources);
 
 		IRemoteStorage storage = SVNRemoteStorage.instance();
-		Map wc2Resources = SVNUtility.splitWorkingCopies(resources);
-		for (Iterator it = wc2Resources.entrySet().iterator(); it.hasNext() && !monitor.isCanceled();) {
-			Map.Entry entry = (Map.Entry) it.next();
-			final IRepositoryLocation location = storage.getRepositoryLocation((IProject) entry.getKey());
-			IResource[] wcResources = (IResource[]) ((List) entry.getValue()).toArray(new IResource[0]);
+		Map<IProject, List<IResource>> wc2Resources = SVNUtility.splitWorkingCopies(resources);
+		List<IUnprotectedOperation> steps = new ArrayList<>();
+		for (Map.Entry<IProject, List<IResource>> entry : wc2Resources.entrySet()) {
+			final IRepositoryLocation location = storage.getRepositoryLocation(entry.getKey());
+			IResource[] wcResources = entry.getValue().toArray(new IResource[0]);
 			if (depth == SVNDepth.INFINITY || depth == SVNDepth.UNKNOWN) {
 				wcResources = FileUtility.shrinkChildNodes(wcResources);
 			} else {
@@ -133,24 +136,31 @@ public class UpdateOperation extends AbstractConflictDetectionOperation implemen
 				paths[0] = newPath;
 			}
 
-			complexWriteToConsole(() -> {
-				UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD,
-						"svn update" + ISVNConnector.Options.asCommandLine(options)); //$NON-NLS-1$
-				for (int i = 0; i < paths.length && !monitor.isCanceled(); i++) {
-					UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD, " \"" + paths[i] + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+			// working copies are independent, so they could be updated simultaneously
+			steps.add(monitor1 -> {
+				complexWriteToConsole(() -> {
+					UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD,
+							"svn update" + ISVNConnector.Options.asCommandLine(options)); //$NON-NLS-1$
+					for (int i = 0; i < paths.length && !monitor1.isCanceled(); i++) {
+						UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD, " \"" + paths[i] + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD, " -r " + selectedRevision //$NON-NLS-1$
+							+ SVNUtility.getDepthArg(depth, options)
+							+ FileUtility.getUsernameParam(location.getUsername()) + "\n"); //$NON-NLS-1$
+				});
+
+				ISVNConnector proxy = location.acquireSVNProxy();
+				try {
+					proxy.update(paths, selectedRevision, depth, options,
+							new ConflictDetectionProgressMonitor(UpdateOperation.this, monitor1, null));
+				} finally {
+					location.releaseSVNProxy(proxy);
 				}
-				UpdateOperation.this.writeToConsole(IConsoleStream.LEVEL_CMD, " -r " + selectedRevision //$NON-NLS-1$
-						+ SVNUtility.getDepthArg(depth, options)
-						+ FileUtility.getUsernameParam(location.getUsername()) + "\n"); //$NON-NLS-1$
 			});
-
-			final ISVNConnector proxy = location.acquireSVNProxy();
-			this.protectStep(monitor1 -> proxy.update(
-					paths, selectedRevision, depth, options,
-					new ConflictDetectionProgressMonitor(UpdateOperation.this, monitor1, null)), monitor, wc2Resources.size());
-
-			location.releaseSVNProxy(proxy);
 		}
+		this.protectSteps(steps, monitor, CoreExtensionsManager.instance()
+				.getOptionProvider()
+				.getInt(IOptionProvider.WORKING_COPY_OPERATIONS_PARALLELISM, 1));
 	}
 
 	protected class ConflictDetectionProgressMonitor extends SVNConflictDetectionProgressMonitor {
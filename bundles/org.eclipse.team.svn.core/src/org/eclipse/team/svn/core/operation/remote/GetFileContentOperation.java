@@ -14,6 +14,7 @@
 
 package org.eclipse.team.svn.core.operation.remote;
 
+import java.io.File;
 import java.io.FileOutputStream;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -24,6 +25,8 @@ import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
 import org.eclipse.team.svn.core.resource.IRepositoryResourceProvider;
+import org.eclipse.team.svn.core.svnstorage.SVNContentCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 
 /**
@@ -52,6 +55,17 @@ public class GetFileContentOperation extends AbstractGetFileContentOperation {
 			resource = provider.getRepositoryResources()[0];
 		}
 
+		SVNContentCache cache = SVNRemoteStorage.instance().getContentCache();
+		String key = cache == null ? null : cache.getKey(resource);
+		if (key != null) {
+			File cached = createTempFile();
+			if (cache.get(key, cached)) {
+				tmpFile = cached;
+				return;
+			}
+			cached.delete();
+		}
+
 		String url = resource.getUrl();
 		IRepositoryLocation location = resource.getRepositoryLocation();
 		ISVNConnector proxy = location.acquireSVNProxy();
@@ -74,6 +88,9 @@ public class GetFileContentOperation extends AbstractGetFileContentOperation {
 				}
 			}
 		}
+		if (key != null && !monitor.isCanceled()) {
+			cache.put(key, tmpFile);
+		}
 	}
 
 	@Override
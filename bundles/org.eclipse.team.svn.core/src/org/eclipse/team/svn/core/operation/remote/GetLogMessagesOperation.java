@@ -18,6 +18,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.team.svn.core.BaseMessages;
 import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
 import org.eclipse.team.svn.core.connector.ISVNConnector.Options;
 import org.eclipse.team.svn.core.connector.SVNConnectorException;
 import org.eclipse.team.svn.core.connector.SVNErrorCodes;
@@ -26,6 +27,8 @@ import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 
 /**
@@ -46,6 +49,8 @@ public class GetLogMessagesOperation extends AbstractRepositoryOperation {
 
 	protected long options;
 
+	protected ISVNLogEntryCallback listener;
+
 	public GetLogMessagesOperation(IRepositoryResource resource) {
 		this(resource, false);
 	}
@@ -109,6 +114,16 @@ public class GetLogMessagesOperation extends AbstractRepositoryOperation {
 		endRevision = revision;
 	}
 
+	/**
+	 * Sets the listener which receives log entries while they are fetched, so the caller has no need to wait for the whole answer
+	 * 
+	 * @param listener
+	 *            the listener; it is called with the top-level entries only, merged revisions are already attached to them
+	 */
+	public void setLogEntryListener(ISVNLogEntryCallback listener) {
+		this.listener = listener;
+	}
+
 	@Override
 	protected void runImpl(IProgressMonitor monitor) throws Exception {
 		IRepositoryResource resource = operableData()[0];
@@ -120,9 +135,7 @@ public class GetLogMessagesOperation extends AbstractRepositoryOperation {
 		try {
 //			this.writeToConsole(IConsoleStream.LEVEL_CMD, "svn log " + SVNUtility.encodeURL(this.resource.getUrl()) + (this.limit != 0 ? (" --limit " + this.limit) : "") + (this.stopOnCopy ? " --stop-on-copy" : "") + " -r " + this.selectedRevision + ":0 --username \"" + location.getUsername() + "\"\n");
 			try {
-				msg = SVNUtility.logEntries(proxy, SVNUtility.getEntryReference(resource), startRevision, endRevision,
-						options, ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, limit,
-						new SVNProgressMonitor(this, monitor, null));
+				msg = queryLogEntries(proxy, resource, options, monitor);
 			} catch (SVNConnectorException ex) {
 				/*
 				 * If SVN server doesn't support merged revisions, then we re-call without this option
@@ -130,9 +143,7 @@ public class GetLogMessagesOperation extends AbstractRepositoryOperation {
 				if (isRetryIfMergeInfoNotSupported && ex.getErrorId() == SVNErrorCodes.unsupportedFeature
 						&& (options & Options.INCLUDE_MERGED_REVISIONS) != 0) {
 					options &= ~Options.INCLUDE_MERGED_REVISIONS;
-					msg = SVNUtility.logEntries(proxy, SVNUtility.getEntryReference(resource), startRevision,
-							endRevision, options, ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, limit,
-							new SVNProgressMonitor(this, monitor, null));
+					msg = queryLogEntries(proxy, resource, options, monitor);
 				} else {
 					throw ex;
 				}
@@ -142,6 +153,28 @@ public class GetLogMessagesOperation extends AbstractRepositoryOperation {
 		}
 	}
 
+	/**
+	 * Returns log entries using the log cache if it could answer the query with the specified options
+	 */
+	protected SVNLogEntry[] queryLogEntries(ISVNConnector proxy, IRepositoryResource resource, long options,
+			IProgressMonitor monitor) throws SVNConnectorException {
+		SVNLogCache cache = SVNRemoteStorage.instance().getLogCache();
+		if (cache != null && cache.isCacheable(resource, startRevision, endRevision, options)) {
+			return cache.getLogEntries(resource, startRevision, endRevision, options, limit,
+					(start, end, fetchOptions, fetchLimit, fetchListener) -> this.fetchLogEntries(proxy, resource, start,
+							end, fetchOptions, fetchLimit, fetchListener, monitor),
+					listener);
+		}
+		return fetchLogEntries(proxy, resource, startRevision, endRevision, options, limit, listener, monitor);
+	}
+
+	protected SVNLogEntry[] fetchLogEntries(ISVNConnector proxy, IRepositoryResource resource, SVNRevision start,
+			SVNRevision end, long options, long limit, ISVNLogEntryCallback listener, IProgressMonitor monitor)
+			throws SVNConnectorException {
+		return SVNUtility.logEntries(proxy, resource, start, end, options,
+				ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, limit, listener, new SVNProgressMonitor(this, monitor, null));
+	}
+
 	public SVNLogEntry[] getMessages() {
 		return msg;
 	}
@@ -14,9 +14,18 @@
 
 package org.eclipse.team.svn.core.operation.remote;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.team.svn.core.BaseMessages;
@@ -26,22 +35,41 @@ import org.eclipse.team.svn.core.connector.ISVNConnector;
 import org.eclipse.team.svn.core.connector.ISVNConnector.Options;
 import org.eclipse.team.svn.core.connector.SVNAnnotationData;
 import org.eclipse.team.svn.core.connector.SVNConnectorException;
+import org.eclipse.team.svn.core.connector.SVNDepth;
+import org.eclipse.team.svn.core.connector.SVNEntryInfo;
+import org.eclipse.team.svn.core.connector.SVNEntryReference;
+import org.eclipse.team.svn.core.connector.SVNEntryRevisionReference;
 import org.eclipse.team.svn.core.connector.SVNErrorCodes;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNLogPath;
+import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.connector.SVNRevisionRange;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNAnnotationCache;
+import org.eclipse.team.svn.core.svnstorage.SVNAnnotationCache.Annotation;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 
 /**
  * Resource annotation operation implementation
  * 
+ * Results are cached in {@link SVNAnnotationCache} if it is enabled. When there is a cached result for an older revision, it is brought
+ * up to date by replaying differences of the revisions committed after it, so only these revisions are requested from the repository.
+ * Log entries of the annotated revisions are cached together with the result, see {@link #getLogEntries()}.
+ * 
  * @author Alexander Gurov
  */
 public class GetResourceAnnotationOperation extends AbstractRepositoryOperation {
+	protected static final Pattern HUNK_HEADER = Pattern.compile("^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@"); //$NON-NLS-1$
+
 	protected SVNAnnotationData[] annotatedLines;
 
-	protected byte[] content;
+	protected String[] lines;
+
+	protected SVNLogEntry[] logEntries;
 
 	protected long options;
 
@@ -49,6 +77,10 @@ public class GetResourceAnnotationOperation extends AbstractRepositoryOperation
 
 	protected boolean isRetryIfMergeInfoNotSupported;
 
+	protected String charset;
+
+	protected long lastChangedRevision = SVNRevision.INVALID_REVISION_NUMBER;
+
 	public GetResourceAnnotationOperation(IRepositoryResource resource, SVNRevisionRange revisions) {
 		this(resource, revisions, ISVNConnector.Options.IGNORE_MIME_TYPE);
 	}
@@ -72,6 +104,27 @@ public class GetResourceAnnotationOperation extends AbstractRepositoryOperation
 		this.isRetryIfMergeInfoNotSupported = isRetryIfMergeInfoNotSupported;
 	}
 
+	/**
+	 * Sets the charset of the file content, which is used in order to compare the revision differences with the annotated lines
+	 * 
+	 * @param charset
+	 *            the charset name or <code>null</code> for the default one
+	 */
+	public void setCharset(String charset) {
+		this.charset = charset;
+	}
+
+	/**
+	 * Sets the revision the file was last changed in up to the end revision of the range, if the caller knows it already (for example
+	 * from the working copy). It allows to use the cached result without requesting the revision from the repository.
+	 * 
+	 * @param lastChangedRevision
+	 *            the last changed revision or {@link SVNRevision#INVALID_REVISION_NUMBER} if it is unknown
+	 */
+	public void setLastChangedRevision(long lastChangedRevision) {
+		this.lastChangedRevision = lastChangedRevision;
+	}
+
 	public IRepositoryResource getRepositoryResource() {
 		return operableData()[0];
 	}
@@ -80,53 +133,368 @@ public class GetResourceAnnotationOperation extends AbstractRepositoryOperation
 		return annotatedLines;
 	}
 
+	/**
+	 * Returns the annotated content. Since the whole content is copied into the returned array, {@link #getContentStream()} should be
+	 * preferred for large files.
+	 * 
+	 * @return the content or <code>null</code> if the operation is not completed
+	 */
 	public byte[] getContent() {
-		return content;
+		if (lines == null) {
+			return null;
+		}
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (InputStream content = getContentStream()) {
+			content.transferTo(stream);
+		} catch (IOException ex) {
+			// the in-memory streams do not throw
+		}
+		return stream.toByteArray();
+	}
+
+	/**
+	 * Returns the annotated content as a stream, which encodes the annotated lines in the file charset as they are read. The lines are
+	 * reported without their ends, so they are separated by the LF ones.
+	 * 
+	 * @return the content stream, which is empty if the operation is not completed
+	 */
+	public InputStream getContentStream() {
+		final String[] lines = this.lines == null ? new String[0] : this.lines;
+		final Charset charset = getCharset();
+		return new SequenceInputStream(new Enumeration<InputStream>() {
+			protected int idx;
+
+			@Override
+			public boolean hasMoreElements() {
+				return idx < lines.length;
+			}
+
+			@Override
+			public InputStream nextElement() {
+				String line = idx > 0 ? "\n" + lines[idx] : lines[idx]; //$NON-NLS-1$
+				idx++;
+				return new ByteArrayInputStream(line.getBytes(charset));
+			}
+		});
+	}
+
+	/**
+	 * Returns log entries of the revisions the annotated lines belong to
+	 * 
+	 * @return the log entries or <code>null</code> if they are not fetched, since the annotation cache is disabled
+	 */
+	public SVNLogEntry[] getLogEntries() {
+		return logEntries;
 	}
 
 	@Override
 	protected void runImpl(IProgressMonitor monitor) throws Exception {
-		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
-		final ArrayList<SVNAnnotationData> lines = new ArrayList<>();
 		IRepositoryResource resource = operableData()[0];
 		IRepositoryLocation location = resource.getRepositoryLocation();
 		ISVNConnector proxy = location.acquireSVNProxy();
 		try {
 //			this.writeToConsole(IConsoleStream.LEVEL_CMD, "svn blame " + url + "@" + resource.getPegRevision() + " -r 0:" + resource.getSelectedRevision() + " --username \"" + location.getUsername() + "\"\n");
-
-			ISVNAnnotationCallback callback = (line, data) -> {
-				lines.add(data);
-				try {
-					stream.write((line + "\n").getBytes()); //$NON-NLS-1$
-				} catch (IOException e) {
-					throw new RuntimeException(e);
+			SVNAnnotationCache cache = SVNRemoteStorage.instance().getAnnotationCache();
+			SVNRevision peg = resource.getPegRevision();
+			if (cache == null || !cache.isEnabled()) {
+				// the log entries are needed in order to cache the result only
+				setResult(annotate(proxy, resource, revisions.to, false, monitor));
+				return;
+			}
+			if (revisions.from.getKind() != SVNRevision.Kind.NUMBER || peg != null
+					&& peg.getKind() != SVNRevision.Kind.NUMBER && peg.getKind() != SVNRevision.Kind.HEAD) {
+				setResult(annotate(proxy, resource, revisions.to, true, monitor));
+				return;
+			}
+			String baseKey = SVNAnnotationCache.getBaseKey(resource.getUrl(),
+					peg == null || peg.getKind() == SVNRevision.Kind.HEAD
+							? SVNRevision.INVALID_REVISION_NUMBER
+							: ((SVNRevision.Number) peg).getNumber(),
+					((SVNRevision.Number) revisions.from).getNumber(), options);
+			// the result is the same for any revision up to the next change of the file, so it is cached for the last changed one
+			Annotation result = null;
+			long to = lastChangedRevision;
+			if (to == SVNRevision.INVALID_REVISION_NUMBER && revisions.to.getKind() == SVNRevision.Kind.NUMBER) {
+				// the revisions selected in the history are the changed ones usually
+				result = cache.get(baseKey, ((SVNRevision.Number) revisions.to).getNumber());
+				if (result != null) {
+					to = result.to;
+				}
+			}
+			if (to == SVNRevision.INVALID_REVISION_NUMBER) {
+				to = getLastChangedRevision(proxy, resource, monitor);
+			}
+			if (to == SVNRevision.INVALID_REVISION_NUMBER || ((SVNRevision.Number) revisions.from).getNumber() > to) {
+				// the reversed ranges are not cached
+				setResult(annotate(proxy, resource, revisions.to, true, monitor));
+				return;
+			}
+			if (result == null) {
+				result = cache.get(baseKey, to);
+			}
+			if (result == null) {
+				// merge information could not be restored from differences
+				Annotation previous = (options & Options.INCLUDE_MERGED_REVISIONS) == 0
+						? cache.getPrevious(baseKey, to)
+						: null;
+				if (previous != null) {
+					result = extend(proxy, resource, previous, to, monitor);
+				}
+				if (result == null) {
+					result = annotate(proxy, resource, SVNRevision.fromNumber(to), true, monitor);
 				}
-			};
+				cache.put(baseKey, result);
+			}
+			setResult(result);
+		} finally {
+			location.releaseSVNProxy(proxy);
+		}
+	}
+
+	protected void setResult(Annotation result) {
+		lines = result.lines;
+		annotatedLines = result.data.clone();
+		logEntries = result.logEntries == null ? null : result.logEntries.clone();
+	}
 
-			try {
-				proxy.annotate(
-						SVNUtility.getEntryReference(resource), new SVNRevisionRange(revisions.from, revisions.to),
+	protected Annotation annotate(ISVNConnector proxy, IRepositoryResource resource, SVNRevision to,
+			boolean fetchLog, IProgressMonitor monitor) throws SVNConnectorException {
+		final ArrayList<String> lines = new ArrayList<>();
+		final ArrayList<SVNAnnotationData> data = new ArrayList<>();
+		ISVNAnnotationCallback callback = (line, lineData) -> {
+			lines.add(line);
+			data.add(lineData);
+		};
+
+		try {
+			proxy.annotate(SVNUtility.getEntryReference(resource), new SVNRevisionRange(revisions.from, to), options,
+					ISVNConnector.DiffOptions.NONE, callback, new SVNProgressMonitor(this, monitor, null));
+		} catch (SVNConnectorException ex) {
+			/*
+			 * If SVN server doesn't support merged revisions, then we re-call without this option
+			 */
+			if (isRetryIfMergeInfoNotSupported && ex.getErrorId() == SVNErrorCodes.unsupportedFeature
+					&& (options & Options.INCLUDE_MERGED_REVISIONS) != 0) {
+				options &= ~Options.INCLUDE_MERGED_REVISIONS;
+				lines.clear();
+				data.clear();
+				proxy.annotate(SVNUtility.getEntryReference(resource), new SVNRevisionRange(revisions.from, to),
 						options, ISVNConnector.DiffOptions.NONE, callback, new SVNProgressMonitor(this, monitor, null));
-			} catch (SVNConnectorException ex) {
-				/*
-				 * If SVN server doesn't support merged revisions, then we re-call without this option
-				 */
-				if (isRetryIfMergeInfoNotSupported && ex.getErrorId() == SVNErrorCodes.unsupportedFeature
-						&& (options & Options.INCLUDE_MERGED_REVISIONS) != 0) {
-					options &= ~Options.INCLUDE_MERGED_REVISIONS;
-					proxy.annotate(
-							SVNUtility.getEntryReference(resource), new SVNRevisionRange(revisions.from, revisions.to),
-							options, ISVNConnector.DiffOptions.NONE, callback,
-							new SVNProgressMonitor(this, monitor, null));
+			} else {
+				throw ex;
+			}
+		}
+
+		SVNLogEntry[] log = null;
+		if (fetchLog) {
+			long from = SVNRevision.INVALID_REVISION_NUMBER, last = SVNRevision.INVALID_REVISION_NUMBER;
+			for (SVNAnnotationData lineData : data) {
+				if (lineData.revision != SVNRevision.INVALID_REVISION_NUMBER) {
+					if (from == SVNRevision.INVALID_REVISION_NUMBER || from > lineData.revision) {
+						from = lineData.revision;
+					}
+					last = Math.max(last, lineData.revision);
+				}
+			}
+			log = last == SVNRevision.INVALID_REVISION_NUMBER
+					? new SVNLogEntry[0]
+					: fetchLog(proxy, resource, SVNRevision.fromNumber(last), SVNRevision.fromNumber(from), false,
+							monitor);
+		}
+		return new Annotation(resource.getUrl(),
+				to.getKind() == SVNRevision.Kind.NUMBER
+						? ((SVNRevision.Number) to).getNumber()
+						: SVNRevision.INVALID_REVISION_NUMBER,
+				lines.toArray(new String[lines.size()]), data.toArray(new SVNAnnotationData[data.size()]), log);
+	}
+
+	/**
+	 * Brings the cached annotation up to the specified revision applying differences of the newer revisions
+	 * 
+	 * @return the updated annotation or <code>null</code> if the differences could not be applied
+	 */
+	protected Annotation extend(ISVNConnector proxy, IRepositoryResource resource, Annotation previous, long to,
+			IProgressMonitor monitor) throws SVNConnectorException {
+		SVNLogEntry[] newer = fetchLog(proxy, resource, SVNRevision.fromNumber(to),
+				SVNRevision.fromNumber(previous.to + 1), true, monitor);
+		IRepositoryLocation location = resource.getRepositoryLocation();
+		String path = SVNUtility.decodeURL(resource.getUrl())
+				.substring(SVNUtility.decodeURL(location.getRepositoryRootUrl()).length());
+		for (SVNLogEntry entry : newer) {
+			if (isReplaced(entry, path)) {
+				// older lines do not belong to the file anymore
+				return null;
+			}
+		}
+
+		List<String> lines = new ArrayList<>(Arrays.asList(previous.lines));
+		List<SVNAnnotationData> data = new ArrayList<>(Arrays.asList(previous.data));
+		SVNEntryReference reference = SVNUtility.getEntryReference(resource);
+		for (int i = newer.length - 1; i >= 0; i--) {
+			SVNLogEntry entry = newer[i];
+			ByteArrayOutputStream diff = new ByteArrayOutputStream();
+			proxy.diff(reference,
+					new SVNRevisionRange(SVNRevision.fromNumber(entry.revision - 1),
+							SVNRevision.fromNumber(entry.revision)),
+					null, diff, SVNDepth.EMPTY, Options.FORCE | Options.IGNORE_PROPERTY_CHANGES, null,
+					ISVNConnector.DiffOptions.NONE, new SVNProgressMonitor(this, monitor, null));
+			if (!applyDifference(diff.toString(getCharset()), entry, lines, data)) {
+				return null;
+			}
+		}
+
+		long firstLine = previous.data.length > 0 ? previous.data[0].lineNum : 0;
+		SVNAnnotationData[] result = new SVNAnnotationData[data.size()];
+		for (int i = 0; i < result.length; i++) {
+			SVNAnnotationData current = data.get(i);
+			result[i] = current.lineNum == firstLine + i
+					? current
+					: new SVNAnnotationData(firstLine + i, current.hasLocalChange, current.revision, current.date,
+							current.author, current.mergedRevision, current.mergedDate, current.mergedAuthor,
+							current.mergedPath);
+		}
+		SVNLogEntry[] log = new SVNLogEntry[newer.length + previous.logEntries.length];
+		System.arraycopy(newer, 0, log, 0, newer.length);
+		System.arraycopy(previous.logEntries, 0, log, newer.length, previous.logEntries.length);
+		return new Annotation(previous.url, to, lines.toArray(new String[lines.size()]), result, log);
+	}
+
+	/**
+	 * Applies the unified diff of the revision to the annotated lines. Added lines are attributed to the revision.
+	 * 
+	 * @return <code>false</code> if the diff does not correspond to the lines, including the case when its context or removed lines
+	 *         differ from the annotated ones
+	 */
+	protected boolean applyDifference(String diff, SVNLogEntry entry, List<String> lines,
+			List<SVNAnnotationData> data) {
+		List<String> newLines = new ArrayList<>(lines.size());
+		List<SVNAnnotationData> newData = new ArrayList<>(data.size());
+		int pos = 0, oldLeft = 0, newLeft = 0;
+		for (String line : diff.split("\n", -1)) { //$NON-NLS-1$
+			if (oldLeft > 0 || newLeft > 0) {
+				if (line.startsWith("\\")) { //$NON-NLS-1$
+					// "No newline at end of file" marker
+					continue;
+				}
+				char kind = line.length() == 0 ? ' ' : line.charAt(0);
+				if (kind == '+') {
+					if (newLeft-- == 0) {
+						return false;
+					}
+					newLines.add(GetResourceAnnotationOperation.trimLine(line.substring(1)));
+					newData.add(new SVNAnnotationData(0, false, entry.revision, entry.date, entry.author,
+							SVNRevision.INVALID_REVISION_NUMBER, 0, null, null));
+				} else if (kind == ' ' || kind == '-') {
+					if (oldLeft-- == 0 || pos >= lines.size() || kind == ' ' && newLeft-- == 0
+							|| !GetResourceAnnotationOperation.trimLine(line.substring(Math.min(1, line.length())))
+									.equals(lines.get(pos))) {
+						return false;
+					}
+					if (kind == ' ') {
+						newLines.add(lines.get(pos));
+						newData.add(data.get(pos));
+					}
+					pos++;
 				} else {
-					throw ex;
+					return false;
+				}
+			} else if (line.startsWith("@@ ")) { //$NON-NLS-1$
+				Matcher matcher = GetResourceAnnotationOperation.HUNK_HEADER.matcher(line);
+				if (!matcher.find()) {
+					return false;
+				}
+				int oldStart = Integer.parseInt(matcher.group(1));
+				int oldLength = matcher.group(2) == null ? 1 : Integer.parseInt(matcher.group(2));
+				int newLength = matcher.group(4) == null ? 1 : Integer.parseInt(matcher.group(4));
+				// an empty old range points to the line the new lines are inserted after
+				int hunkStart = oldLength == 0 ? oldStart : oldStart - 1;
+				if (hunkStart < pos || hunkStart > lines.size()) {
+					return false;
 				}
+				newLines.addAll(lines.subList(pos, hunkStart));
+				newData.addAll(data.subList(pos, hunkStart));
+				pos = hunkStart;
+				oldLeft = oldLength;
+				newLeft = newLength;
+			} else if (line.startsWith("Cannot display:")) { //$NON-NLS-1$
+				// binary content
+				return false;
 			}
-		} finally {
-			location.releaseSVNProxy(proxy);
 		}
-		annotatedLines = lines.toArray(new SVNAnnotationData[lines.size()]);
-		content = stream.toByteArray();
+		if (oldLeft > 0 || newLeft > 0) {
+			return false;
+		}
+		newLines.addAll(lines.subList(pos, lines.size()));
+		newData.addAll(data.subList(pos, data.size()));
+		lines.clear();
+		lines.addAll(newLines);
+		data.clear();
+		data.addAll(newData);
+		return true;
+	}
+
+	protected Charset getCharset() {
+		try {
+			return charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+		} catch (IllegalArgumentException ex) {
+			// unknown charset, the lines will not match if the default one is wrong
+			return Charset.defaultCharset();
+		}
+	}
+
+	/**
+	 * Removes the carriage return left from the CRLF line end
+	 */
+	protected static String trimLine(String line) {
+		return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line; //$NON-NLS-1$
+	}
+
+	protected boolean isReplaced(SVNLogEntry entry, String path) {
+		if (entry.changedPaths != null) {
+			for (SVNLogPath changed : entry.changedPaths) {
+				if ((changed.action == SVNLogPath.ChangeType.ADDED || changed.action == SVNLogPath.ChangeType.REPLACED)
+						&& (path.equals(changed.path) || path.startsWith(changed.path + "/"))) { //$NON-NLS-1$
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	protected long getLastChangedRevision(ISVNConnector proxy, IRepositoryResource resource,
+			IProgressMonitor monitor) {
+		if (revisions.to.getKind() != SVNRevision.Kind.NUMBER && revisions.to.getKind() != SVNRevision.Kind.HEAD) {
+			return SVNRevision.INVALID_REVISION_NUMBER;
+		}
+		try {
+			SVNEntryInfo[] info = SVNUtility.info(proxy,
+					new SVNEntryRevisionReference(SVNUtility.encodeURL(resource.getUrl()), resource.getPegRevision(),
+							revisions.to),
+					SVNDepth.EMPTY, new SVNProgressMonitor(this, monitor, null));
+			return info != null && info.length > 0 ? info[0].lastChangedRevision : SVNRevision.INVALID_REVISION_NUMBER;
+		} catch (SVNConnectorException ex) {
+			// annotate without cache, it will report the problem if there is any
+			return SVNRevision.INVALID_REVISION_NUMBER;
+		}
+	}
+
+	/**
+	 * Fetches log entries through the log cache if it is possible
+	 */
+	protected SVNLogEntry[] fetchLog(ISVNConnector proxy, IRepositoryResource resource, SVNRevision start,
+			SVNRevision end, boolean discoverPaths, IProgressMonitor monitor) throws SVNConnectorException {
+		SVNEntryReference reference = SVNUtility.getEntryReference(resource);
+		SVNLogCache cache = SVNRemoteStorage.instance().getLogCache();
+		if (cache != null && cache.isCacheable(resource, start, end, Options.DISCOVER_PATHS)) {
+			return cache.getLogEntries(resource, start, end, Options.DISCOVER_PATHS, 0,
+					(fetchStart, fetchEnd, fetchOptions, fetchLimit, listener) -> SVNUtility.logEntries(proxy,
+							reference, fetchStart, fetchEnd, fetchOptions, ISVNConnector.DEFAULT_LOG_ENTRY_PROPS,
+							fetchLimit, listener, new SVNProgressMonitor(this, monitor, null)),
+					null);
+		}
+		return SVNUtility.logEntries(proxy, reference, start, end,
+				discoverPaths ? Options.DISCOVER_PATHS : Options.NONE, ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, 0,
+				new SVNProgressMonitor(this, monitor, null));
 	}
 
 	@Override
@@ -18,12 +18,15 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.connector.ISVNConnector;
 import org.eclipse.team.svn.core.connector.SVNEntryRevisionReference;
+import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.connector.SVNRevision.Kind;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.resource.IRepositoryFile;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
 import org.eclipse.team.svn.core.resource.IRepositoryResourceProvider;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 
@@ -55,10 +58,25 @@ public class LocateResourceURLInHistoryOperation extends AbstractRepositoryOpera
 		converted = new IRepositoryResource[resources.length];
 		System.arraycopy(resources, 0, converted, 0, resources.length);
 
+		// resolve everything the log cache knows about in one pass, so only the rest requires the server calls
+		boolean[] resolved = new boolean[resources.length];
+		SVNLogCache cache = SVNRemoteStorage.instance().getLogCache();
+		if (cache != null) {
+			for (int i = 0; i < resources.length; i++) {
+				if (converted[i].getSelectedRevision().getKind() == Kind.NUMBER) {
+					IRepositoryResource local = this.processEntryLocally(converted[i], cache);
+					if (local != null) {
+						converted[i] = local;
+						resolved[i] = true;
+					}
+				}
+			}
+		}
+
 		for (int i = 0; i < resources.length && !monitor.isCanceled(); i++) {
 			final int idx = i;
 			ProgressMonitorUtility.setTaskInfo(monitor, this, resources[i].getUrl());
-			if (converted[i].getSelectedRevision().getKind() == Kind.NUMBER) {
+			if (!resolved[i] && converted[i].getSelectedRevision().getKind() == Kind.NUMBER) {
 				this.protectStep(monitor1 -> converted[idx] = LocateResourceURLInHistoryOperation.this.processEntry(converted[idx], monitor1), monitor, resources.length);
 			}
 		}
@@ -81,4 +99,30 @@ public class LocateResourceURLInHistoryOperation extends AbstractRepositoryOpera
 		}
 	}
 
+	/**
+	 * Resolves the resource URL using the cached log only
+	 * 
+	 * @return the resolved resource or <code>null</code> if the server should be asked
+	 */
+	protected IRepositoryResource processEntryLocally(IRepositoryResource current, SVNLogCache cache) {
+		SVNRevision peg = current.getPegRevision();
+		SVNRevision selected = current.getSelectedRevision();
+		if (peg == null || selected.equals(peg)) {
+			return null;
+		}
+		long revision = ((SVNRevision.Number) selected).getNumber();
+		String path = cache.getPathInRevision(current, revision);
+		if (path == null) {
+			return null;
+		}
+		IRepositoryLocation location = current.getRepositoryLocation();
+		String url = SVNUtility.decodeURL(location.getRepositoryRootUrl()) + ("/".equals(path) ? "" : path); //$NON-NLS-1$ //$NON-NLS-2$
+		IRepositoryResource retVal = current instanceof IRepositoryFile
+				? (IRepositoryResource) location.asRepositoryFile(url, false)
+				: location.asRepositoryContainer(url, false);
+		retVal.setPegRevision(selected);
+		retVal.setSelectedRevision(selected);
+		return retVal;
+	}
+
 }
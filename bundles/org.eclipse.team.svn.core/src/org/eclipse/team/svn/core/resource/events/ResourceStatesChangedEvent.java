@@ -17,6 +17,7 @@ package org.eclipse.team.svn.core.resource.events;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.core.resources.IContainer;
@@ -149,6 +150,11 @@ public class ResourceStatesChangedEvent implements IQueuedElement<ResourceStates
 		return depth == e.depth && type == e.type;
 	}
 
+	@Override
+	public Object getMergeKey() {
+		return List.of(depth, type);
+	}
+
 	@Override
 	public ResourceStatesChangedEvent merge(ResourceStatesChangedEvent event) {
 		IResource[] arr = new IResource[resources.length + event.resources.length];
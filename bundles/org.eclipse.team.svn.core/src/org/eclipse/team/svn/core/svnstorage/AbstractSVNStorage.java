@@ -294,11 +294,24 @@ public abstract class AbstractSVNStorage implements ISVNStorage {
 		if (!tmp.contains(location)) {
 			tmp.add(location);
 			repositories = tmp.toArray(new IRepositoryLocation[tmp.size()]);
+			warmUp(location);
 		}
 		fireRepositoriesStateChanged(
 				new RepositoriesStateChangedEvent(location, RepositoriesStateChangedEvent.ADDED));
 	}
 
+	/**
+	 * Creates the idle connectors of the location in advance, so the first operation doesn't wait for the connector creation
+	 *
+	 * @param location
+	 *            the loaded location
+	 */
+	protected void warmUp(IRepositoryLocation location) {
+		if (location instanceof SVNRepositoryLocation) {
+			((SVNRepositoryLocation) location).getProxyPool().scheduleWarmUp();
+		}
+	}
+
 	@Override
 	public synchronized void removeRepositoryLocation(IRepositoryLocation location) {
 		List<IRepositoryLocation> tmp = new ArrayList<>(Arrays.asList(repositories));
@@ -550,6 +563,9 @@ public abstract class AbstractSVNStorage implements ISVNStorage {
 				LoggedOperation.reportError(SVNMessages.getErrorString("Error_LoadLocations"), ex); //$NON-NLS-1$
 			}
 		}
+		for (IRepositoryLocation location : repositories) {
+			warmUp(location);
+		}
 	}
 
 	protected void saveLocations() throws Exception {
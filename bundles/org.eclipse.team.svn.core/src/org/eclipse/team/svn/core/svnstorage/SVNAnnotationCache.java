@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.team.svn.core.connector.SVNAnnotationData;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.svnstorage.events.IRevisionPropertyChangeListener;
+import org.eclipse.team.svn.core.svnstorage.events.RevisonPropertyChangeEvent;
+
+/**
+ * In-memory cache of the annotation (blame) results. Results are kept per URL, peg revision, revision range and options, the least
+ * recently used ones are dropped when the total number of the cached lines exceeds the limit.
+ * 
+ * Results are stored for the last revision the file was changed in, so a cached result for the range ending with an older revision
+ * could be extended to the newer one instead of annotating the whole range again.
+ */
+public class SVNAnnotationCache implements IRevisionPropertyChangeListener {
+	protected static final int MAX_LINES = 500000;
+
+	/**
+	 * Cached annotation result
+	 */
+	public static class Annotation {
+		public final String url;
+
+		public final long to;
+
+		public final String[] lines;
+
+		public final SVNAnnotationData[] data;
+
+		public final SVNLogEntry[] logEntries;
+
+		public Annotation(String url, long to, String[] lines, SVNAnnotationData[] data, SVNLogEntry[] logEntries) {
+			this.url = url;
+			this.to = to;
+			this.lines = lines;
+			this.data = data;
+			this.logEntries = logEntries;
+		}
+	}
+
+	protected final Map<String, Annotation> entries;
+
+	protected int lineCount;
+
+	public SVNAnnotationCache() {
+		entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * The cached results are extended with the revision log, so they are cached only if the revision log caching is enabled
+	 */
+	public boolean isEnabled() {
+		return CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.LOG_CACHE_ENABLED);
+	}
+
+	/**
+	 * Makes the key for the annotation results of the same file, peg revision, start revision and options
+	 */
+	public static String getBaseKey(String url, long peg, long from, long options) {
+		return url + "@" + peg + ":" + from + ":" + options; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	public synchronized Annotation get(String baseKey, long to) {
+		return entries.get(baseKey + "-" + to); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the cached annotation with the same base key and the latest end revision which is older than the specified one
+	 */
+	public synchronized Annotation getPrevious(String baseKey, long to) {
+		Annotation retVal = null;
+		String prefix = baseKey + "-"; //$NON-NLS-1$
+		for (Map.Entry<String, Annotation> entry : entries.entrySet()) {
+			Annotation current = entry.getValue();
+			if (current.to < to && (retVal == null || current.to > retVal.to) && entry.getKey().startsWith(prefix)) {
+				retVal = current;
+			}
+		}
+		return retVal;
+	}
+
+	public synchronized void put(String baseKey, Annotation annotation) {
+		if (annotation.lines.length > SVNAnnotationCache.MAX_LINES) {
+			return;
+		}
+		Annotation old = entries.put(baseKey + "-" + annotation.to, annotation); //$NON-NLS-1$
+		if (old != null) {
+			lineCount -= old.lines.length;
+		}
+		lineCount += annotation.lines.length;
+		for (Iterator<Annotation> it = entries.values().iterator(); lineCount > SVNAnnotationCache.MAX_LINES
+				&& it.hasNext();) {
+			lineCount -= it.next().lines.length;
+			it.remove();
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		lineCount = 0;
+	}
+
+	/**
+	 * Drops results for the repository, since authors, dates and comments of the annotated revisions could be changed
+	 */
+	@Override
+	public synchronized void revisionPropertyChanged(RevisonPropertyChangeEvent event) {
+		if (event.getLocation() == null) {
+			return;
+		}
+		String root = event.getLocation().getRepositoryRootUrl();
+		for (Iterator<Annotation> it = entries.values().iterator(); it.hasNext();) {
+			Annotation current = it.next();
+			if (current.url.startsWith(root)) {
+				lineCount -= current.lines.length;
+				it.remove();
+			}
+		}
+	}
+
+}
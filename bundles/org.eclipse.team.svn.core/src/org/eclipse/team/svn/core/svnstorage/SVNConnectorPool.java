@@ -0,0 +1,614 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.team.svn.core.SVNMessages;
+import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.operation.AbstractActionOperation;
+import org.eclipse.team.svn.core.operation.ActivityCancelledException;
+import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+
+/**
+ * The pool of SVN connectors of a repository location.
+ *
+ * The same thread always gets the same connector while it holds one (nested calls are reference counted), but a connector could be
+ * returned to the pool from any thread. The pool isn't bounded by default. When the maximum size is set and the pool is exhausted
+ * borrowers wait for a free connector up to the configured timeout, after that an additional connector is created in order to not block
+ * the operation, it is disposed as soon as it is returned. Connectors which stay idle longer than the idle timeout are disposed by a
+ * background sweep, keeping the minimum idle count.
+ *
+ * The pool also serializes the very first connector usage after (re)configuration, so credentials are asked only once for a location.
+ * Connectors created in advance, before the location is configured, are configured when borrowed.
+ */
+public class SVNConnectorPool {
+
+	public interface IConnectorFactory {
+		/**
+		 * Creates a new connector. Called while the pool is locked, so it should not perform any repository access.
+		 */
+		ISVNConnector newInstance();
+
+		/**
+		 * Configures a newly created connector. Called when the pool is not locked.
+		 */
+		void configure(ISVNConnector proxy);
+	}
+
+	public interface IConnectorVisitor {
+		void visit(ISVNConnector proxy);
+	}
+
+	protected static final int STATE_NOT_CONFIGURED = 0;
+
+	protected static final int STATE_CONFIGURING = 1;
+
+	protected static final int STATE_CONFIGURED = 2;
+
+	protected final IConnectorFactory factory;
+
+	protected final ReentrantLock lock;
+
+	protected final Condition changed;
+
+	protected final ArrayDeque<IdleConnector> idle;
+
+	protected final Map<ISVNConnector, Holder> borrowed;
+
+	protected final Map<Thread, Holder> thread2Holder;
+
+	protected int generation;
+
+	protected int pending;
+
+	protected int configurationState;
+
+	protected boolean warmUpScheduled;
+
+	protected boolean evictionScheduled;
+
+	protected long borrowCount;
+
+	protected long borrowWaitTime;
+
+	protected long maxBorrowWaitTime;
+
+	protected long creationCount;
+
+	protected long evictionCount;
+
+	protected long overflowCount;
+
+	public SVNConnectorPool(IConnectorFactory factory) {
+		this.factory = factory;
+		lock = new ReentrantLock(true);
+		changed = lock.newCondition();
+		idle = new ArrayDeque<>();
+		borrowed = new IdentityHashMap<>();
+		thread2Holder = new HashMap<>();
+	}
+
+	public ISVNConnector borrow() {
+		long start = System.nanoTime();
+		ISVNConnector retVal = null;
+		boolean configure = false;
+		List<ISVNConnector> toDispose = new ArrayList<>();
+		lock.lock();
+		try {
+			// make the method reenterable: the same thread must use the same proxy. Access from call-backs must be controlled by programmer
+			Thread current = Thread.currentThread();
+			Holder holder = thread2Holder.get(current);
+			if (holder != null) {
+				holder.referenceCounter++;
+				return holder.proxy;
+			}
+
+			if (configurationState == SVNConnectorPool.STATE_CONFIGURING) {
+				while (configurationState == SVNConnectorPool.STATE_CONFIGURING) {
+					changed.awaitUninterruptibly();
+				}
+				if (configurationState != SVNConnectorPool.STATE_CONFIGURED) {
+					throw new ActivityCancelledException(SVNMessages.getErrorString("Error_AuthenticationCancelled")); //$NON-NLS-1$
+				}
+			} else if (configurationState == SVNConnectorPool.STATE_NOT_CONFIGURED) {
+				configurationState = SVNConnectorPool.STATE_CONFIGURING;
+			}
+
+			toDispose.addAll(evictExpired());
+
+			boolean overflow = false;
+			if (idle.isEmpty()) {
+				long timeout = TimeUnit.MILLISECONDS.toNanos(getWaitTimeout());
+				while (idle.isEmpty() && borrowed.size() + pending >= getMaxSize()) {
+					if (timeout <= 0) {
+						overflow = true;
+						break;
+					}
+					try {
+						timeout = changed.awaitNanos(timeout);
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						overflow = true;
+						break;
+					}
+				}
+			}
+
+			if (!idle.isEmpty()) {
+				IdleConnector connector = idle.removeLast();
+				retVal = connector.proxy;
+				configure = !connector.configured;
+			} else {
+				retVal = factory.newInstance();
+				configure = true;
+				creationCount++;
+			}
+			if (overflow) {
+				overflowCount++;
+			}
+			holder = new Holder(retVal, current, generation, overflow);
+			borrowed.put(retVal, holder);
+			thread2Holder.put(current, holder);
+
+			long waited = System.nanoTime() - start;
+			borrowCount++;
+			borrowWaitTime += waited;
+			maxBorrowWaitTime = Math.max(maxBorrowWaitTime, waited);
+		} catch (RuntimeException e) {
+			resetConfigurationStateImpl();
+			throw e;
+		} catch (Throwable e) {
+			resetConfigurationStateImpl();
+			throw new RuntimeException(e);
+		} finally {
+			lock.unlock();
+			disposeAll(toDispose);
+		}
+		if (configure) { // configure a new proxy later in order to avoid recursive deadlocks when there is a misconfiguration of some sort
+			factory.configure(retVal);
+		}
+		return retVal;
+	}
+
+	public void release(ISVNConnector proxy) {
+		List<ISVNConnector> toDispose = new ArrayList<>();
+		boolean warmUp = false;
+		long evictionDelay = -1;
+		lock.lock();
+		try {
+			Holder holder = borrowed.get(proxy);
+			if (holder == null) {
+				// the proxy was not borrowed from this pool
+				toDispose.add(proxy);
+				return;
+			}
+			if (--holder.referenceCounter > 0) {
+				return;
+			}
+			borrowed.remove(proxy);
+			if (thread2Holder.get(holder.owner) == holder) {
+				thread2Holder.remove(holder.owner);
+			}
+
+			if (holder.overflow || holder.generation != generation || idle.size() >= getMaxSize()) {
+				toDispose.add(proxy);
+				evictionCount++;
+			} else {
+				idle.addLast(new IdleConnector(proxy, true));
+			}
+
+			if (configurationState == SVNConnectorPool.STATE_CONFIGURING) {
+				configurationState = SVNConnectorPool.STATE_CONFIGURED;
+				warmUp = true;
+			}
+			toDispose.addAll(evictExpired());
+			if (!evictionScheduled && idle.size() > getMinIdle()) {
+				evictionScheduled = true;
+				evictionDelay = getIdleTimeout();
+			}
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+			disposeAll(toDispose);
+		}
+		if (evictionDelay >= 0) {
+			scheduleEviction(evictionDelay);
+		}
+		if (warmUp) {
+			scheduleWarmUp();
+		}
+	}
+
+	/**
+	 * Schedules the pool warm up. Is called when the location is loaded and once the connectors are configured successfully for the first
+	 * time. Only one warm up is scheduled at a time.
+	 */
+	public void scheduleWarmUp() {
+		lock.lock();
+		try {
+			if (warmUpScheduled) {
+				return;
+			}
+			warmUpScheduled = true;
+		} finally {
+			lock.unlock();
+		}
+		ProgressMonitorUtility.doTaskScheduledDefault(
+				new AbstractActionOperation("Operation_WarmUpConnectors", SVNMessages.class) { //$NON-NLS-1$
+					@Override
+					protected void runImpl(IProgressMonitor monitor) throws Exception {
+						try {
+							warmUp();
+						} finally {
+							lock.lock();
+							try {
+								warmUpScheduled = false;
+							} finally {
+								lock.unlock();
+							}
+						}
+					}
+				}, true);
+	}
+
+	/**
+	 * Creates connectors up to the minimum idle count. Connectors are configured only when the location was configured successfully
+	 * already, so no credentials are requested from the user while warming up.
+	 */
+	public void warmUp() {
+		int required;
+		int currentGeneration;
+		boolean configure;
+		lock.lock();
+		try {
+			required = Math.min(getMinIdle(), getMaxSize() - borrowed.size() - pending) - idle.size();
+			if (required <= 0) {
+				return;
+			}
+			pending += required;
+			currentGeneration = generation;
+			configure = configurationState == SVNConnectorPool.STATE_CONFIGURED;
+		} finally {
+			lock.unlock();
+		}
+		List<ISVNConnector> created = new ArrayList<>();
+		List<ISVNConnector> toDispose = new ArrayList<>();
+		try {
+			for (int i = 0; i < required; i++) {
+				ISVNConnector proxy = factory.newInstance();
+				created.add(proxy);
+				if (configure) {
+					factory.configure(proxy);
+				}
+			}
+		} finally {
+			lock.lock();
+			try {
+				pending -= required;
+				creationCount += created.size();
+				// the configured connectors are outdated if the location was reconfigured meanwhile
+				if (configure && currentGeneration != generation) {
+					toDispose.addAll(created);
+					evictionCount += created.size();
+				} else {
+					for (ISVNConnector proxy : created) {
+						idle.addLast(new IdleConnector(proxy, configure));
+					}
+				}
+				changed.signalAll();
+			} finally {
+				lock.unlock();
+				disposeAll(toDispose);
+			}
+		}
+	}
+
+	/**
+	 * Disposes the connectors which stay idle longer than the idle timeout. Is rescheduled until only the minimum idle count is left.
+	 */
+	public void evictIdle() {
+		List<ISVNConnector> toDispose;
+		long evictionDelay = -1;
+		lock.lock();
+		try {
+			toDispose = evictExpired();
+			if (idle.size() > getMinIdle()) {
+				// the oldest connectors are at the head of the queue
+				evictionDelay = Math.max(0, idle.getFirst().since + getIdleTimeout() - System.currentTimeMillis());
+			} else {
+				evictionScheduled = false;
+			}
+		} finally {
+			lock.unlock();
+		}
+		disposeAll(toDispose);
+		if (evictionDelay >= 0) {
+			scheduleEviction(evictionDelay);
+		}
+	}
+
+	/**
+	 * Resets the configuration state, so the next borrower will be the only one who works with the repository until its connector is
+	 * returned.
+	 */
+	public void resetConfigurationState() {
+		lock.lock();
+		try {
+			resetConfigurationStateImpl();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Visits all the idle connectors while the pool is locked. Connectors which are in use right now will be disposed when returned.
+	 *
+	 * @param visitor
+	 *            the connector visitor
+	 */
+	public void reconfigure(IConnectorVisitor visitor) {
+		lock.lock();
+		try {
+			for (IdleConnector connector : idle) {
+				visitor.visit(connector.proxy);
+			}
+			generation++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Runs the runnable while the pool is locked
+	 */
+	public void runLocked(Runnable runnable) {
+		lock.lock();
+		try {
+			runnable.run();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Disposes all the idle connectors. Connectors which are in use right now will be disposed when returned.
+	 */
+	public void clear() {
+		List<ISVNConnector> toDispose = new ArrayList<>();
+		lock.lock();
+		try {
+			for (IdleConnector connector : idle) {
+				toDispose.add(connector.proxy);
+			}
+			idle.clear();
+			generation++;
+		} finally {
+			lock.unlock();
+			disposeAll(toDispose);
+		}
+	}
+
+	public int getIdleCount() {
+		lock.lock();
+		try {
+			return idle.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getActiveCount() {
+		lock.lock();
+		try {
+			return borrowed.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getBorrowCount() {
+		lock.lock();
+		try {
+			return borrowCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return average time in milliseconds spent in waiting for a connector
+	 */
+	public double getAverageBorrowLatency() {
+		lock.lock();
+		try {
+			return borrowCount == 0 ? 0 : (double) borrowWaitTime / borrowCount / 1000000;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return maximum time in milliseconds spent in waiting for a connector
+	 */
+	public long getMaxBorrowLatency() {
+		lock.lock();
+		try {
+			return TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitTime);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getCreationCount() {
+		lock.lock();
+		try {
+			return creationCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getEvictionCount() {
+		lock.lock();
+		try {
+			return evictionCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return number of connectors created in addition to the maximum pool size because of the wait timeout
+	 */
+	public long getOverflowCount() {
+		lock.lock();
+		try {
+			return overflowCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		lock.lock();
+		try {
+			return "SVNConnectorPool [idle: " + idle.size() + ", active: " + borrowed.size() + ", borrowed: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ borrowCount + ", created: " + creationCount + ", evicted: " + evictionCount + ", overflow: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ overflowCount + ", max wait: " + TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitTime) + " ms]"; //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	protected void resetConfigurationStateImpl() {
+		configurationState = SVNConnectorPool.STATE_NOT_CONFIGURED;
+		changed.signalAll();
+	}
+
+	/*
+	 * Removes idle connectors which weren't used for too long, keeping the minimum idle count. Should be called while the pool is locked, and
+	 * the returned connectors should be disposed after the pool is unlocked.
+	 */
+	protected List<ISVNConnector> evictExpired() {
+		List<ISVNConnector> retVal = new ArrayList<>();
+		long expiration = System.currentTimeMillis() - getIdleTimeout();
+		int minIdle = getMinIdle();
+		// the oldest connectors are at the head of the queue
+		for (Iterator<IdleConnector> it = idle.iterator(); it.hasNext() && idle.size() > minIdle;) {
+			IdleConnector connector = it.next();
+			if (connector.since >= expiration) {
+				break;
+			}
+			it.remove();
+			retVal.add(connector.proxy);
+			evictionCount++;
+		}
+		return retVal;
+	}
+
+	protected void scheduleEviction(long delay) {
+		Job job = new Job(SVNMessages.Operation_EvictConnectors) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				evictIdle();
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule(delay);
+	}
+
+	protected void disposeAll(List<ISVNConnector> proxies) {
+		for (ISVNConnector proxy : proxies) {
+			// The function code is sensitive to exceptions. So, disallow error reporting in that case.
+			try {
+				proxy.dispose();
+			} catch (Throwable ex) {
+			}
+		}
+	}
+
+	protected int getMinIdle() {
+		return Math.max(0, getOption(IOptionProvider.CONNECTOR_POOL_MIN_IDLE, 1));
+	}
+
+	protected int getMaxSize() {
+		int maxSize = getOption(IOptionProvider.CONNECTOR_POOL_MAX_SIZE, 0);
+		return maxSize <= 0 ? Integer.MAX_VALUE : maxSize;
+	}
+
+	protected long getIdleTimeout() {
+		return Math.max(0, getOption(IOptionProvider.CONNECTOR_POOL_IDLE_TIMEOUT, 5 * 60 * 1000));
+	}
+
+	protected long getWaitTimeout() {
+		return Math.max(0, getOption(IOptionProvider.CONNECTOR_POOL_WAIT_TIMEOUT, 30 * 1000));
+	}
+
+	protected int getOption(String key, int defaultValue) {
+		return CoreExtensionsManager.instance().getOptionProvider().getInt(key, defaultValue);
+	}
+
+	protected static class IdleConnector {
+		public final ISVNConnector proxy;
+
+		public final boolean configured;
+
+		public final long since;
+
+		public IdleConnector(ISVNConnector proxy, boolean configured) {
+			this.proxy = proxy;
+			this.configured = configured;
+			since = System.currentTimeMillis();
+		}
+	}
+
+	protected static class Holder {
+		public final ISVNConnector proxy;
+
+		public final Thread owner;
+
+		public final int generation;
+
+		public final boolean overflow;
+
+		public int referenceCounter;
+
+		public Holder(ISVNConnector proxy, Thread owner, int generation, boolean overflow) {
+			this.proxy = proxy;
+			this.owner = owner;
+			this.generation = generation;
+			this.overflow = overflow;
+			referenceCounter = 1;
+		}
+	}
+
+}
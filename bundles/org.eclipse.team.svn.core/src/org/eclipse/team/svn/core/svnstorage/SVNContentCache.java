@@ -0,0 +1,454 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.operation.LoggedOperation;
+import org.eclipse.team.svn.core.resource.IRepositoryLocation;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.utility.SVNUtility;
+
+/**
+ * Persistent cache of the repository file contents.
+ * 
+ * Contents are stored once per distinct content under the name of its SHA-1 digest, while the index maps the repository UUID, the file
+ * path and the revision to the digest. Only the contents addressed by revision numbers are cached, since they never change. The least
+ * recently used entries are evicted when the total size of the stored contents exceeds the configured limit.
+ * 
+ * Changes of the index are appended to the index file as they are made, so the stored contents survive an abnormal termination. The
+ * index file is rewritten when it is loaded or disposed and when it grows much longer than the index itself.
+ */
+public class SVNContentCache {
+	protected static final int INDEX_VERSION = 2;
+
+	protected static final String INDEX_FILE_NAME = "contents.index"; //$NON-NLS-1$
+
+	protected static final String TEMPORARY_FILE_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	protected static final int BUFFER_SIZE = 8192;
+
+	protected static final int MIN_OUTDATED_RECORDS = 1024;
+
+	protected static class Entry {
+		public final String digest;
+
+		public final long size;
+
+		public Entry(String digest, long size) {
+			this.digest = digest;
+			this.size = size;
+		}
+	}
+
+	protected final File folder;
+
+	protected final LinkedHashMap<String, Entry> entries;
+
+	protected final Map<String, Integer> references;
+
+	protected long size;
+
+	protected long hitCount;
+
+	protected long missCount;
+
+	protected long evictionCount;
+
+	protected boolean loaded;
+
+	protected int recordCount;
+
+	public SVNContentCache(File folder) {
+		this.folder = folder;
+		entries = new LinkedHashMap<>(256, 0.75f, true);
+		references = new HashMap<>();
+	}
+
+	public boolean isEnabled() {
+		return getMaxSize() > 0;
+	}
+
+	/**
+	 * @return the maximum total size of the stored contents in bytes
+	 */
+	public long getMaxSize() {
+		return CoreExtensionsManager.instance().getOptionProvider().getInt(IOptionProvider.CONTENT_CACHE_SIZE, 0)
+				* 1024L * 1024L;
+	}
+
+	/**
+	 * Returns the key the resource content is cached with
+	 * 
+	 * @param resource
+	 *            the repository file
+	 * @return the key or <code>null</code> if the content couldn't be cached
+	 */
+	public String getKey(IRepositoryResource resource) {
+		if (!isEnabled()) {
+			return null;
+		}
+		SVNRevision selected = resource.getSelectedRevision();
+		SVNRevision peg = resource.getPegRevision();
+		if (selected == null || selected.getKind() != SVNRevision.Kind.NUMBER || peg == null
+				|| peg.getKind() != SVNRevision.Kind.NUMBER) {
+			return null;
+		}
+		IRepositoryLocation location = resource.getRepositoryLocation();
+		String uuid = location.getRepositoryUUID();
+		if (uuid == null) {
+			return null;
+		}
+		String url = SVNUtility.decodeURL(resource.getUrl());
+		String root = SVNUtility.decodeURL(location.getRepositoryRootUrl());
+		String path = url.startsWith(root) ? url.substring(root.length()) : url;
+		String key = uuid + ":" + path + "@" + peg; //$NON-NLS-1$ //$NON-NLS-2$
+		return selected.equals(peg) ? key : key + " -r " + selected; //$NON-NLS-1$
+	}
+
+	/**
+	 * Copies the cached content into the target file. The content is copied outside of the cache lock: a content file is named after
+	 * its digest, so even if it is replaced concurrently, the new file has the same content, and if it is deleted, the copied size
+	 * does not match.
+	 * 
+	 * @param key
+	 *            the content key
+	 * @param target
+	 *            the file to write the content to
+	 * @return <code>true</code> if the content is found in the cache, <code>false</code> otherwise
+	 */
+	public boolean get(String key, File target) {
+		Entry entry;
+		synchronized (this) {
+			load();
+			entry = entries.get(key);
+			if (entry == null) {
+				missCount++;
+				return false;
+			}
+		}
+		File content = new File(folder, entry.digest);
+		boolean found = false;
+		try {
+			if (content.length() == entry.size) {
+				copy(content, target, null);
+				found = target.length() == entry.size;
+			}
+		} catch (IOException ex) {
+			if (content.exists()) {
+				LoggedOperation.reportError(this.getClass().getName(), ex);
+			}
+		}
+		synchronized (this) {
+			if (found) {
+				hitCount++;
+			} else {
+				if (entries.get(key) == entry) {
+					remove(key);
+				}
+				missCount++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Stores the content fetched from the repository
+	 * 
+	 * @param key
+	 *            the content key
+	 * @param source
+	 *            the file containing the content
+	 */
+	public void put(String key, File source) {
+		if (!source.exists()) {
+			return;
+		}
+		synchronized (this) {
+			load();
+		}
+		File tmp = null;
+		try {
+			folder.mkdirs();
+			tmp = File.createTempFile("content", SVNContentCache.TEMPORARY_FILE_EXTENSION, folder); //$NON-NLS-1$
+			String digest = copy(source, tmp, MessageDigest.getInstance("SHA-1")); //$NON-NLS-1$
+			long length = tmp.length();
+			synchronized (this) {
+				load();
+				remove(key);
+				File content = new File(folder, digest);
+				if (!references.containsKey(digest)) {
+					if (content.exists() && !content.delete() || !tmp.renameTo(content)) {
+						return;
+					}
+					size += length;
+				}
+				Entry entry = new Entry(digest, length);
+				entries.put(key, entry);
+				references.merge(digest, 1, Integer::sum);
+				append(key, entry);
+				evict(getMaxSize());
+			}
+		} catch (Exception ex) {
+			LoggedOperation.reportError(this.getClass().getName(), ex);
+		} finally {
+			if (tmp != null && tmp.exists()) {
+				tmp.delete();
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		references.clear();
+		size = 0;
+		loaded = true;
+		recordCount = 0;
+		File[] files = folder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Saves the cache index, so the stored contents could be reused on the next workspace startup
+	 */
+	public synchronized void dispose() {
+		if (!loaded) {
+			return;
+		}
+		evict(getMaxSize());
+		save();
+	}
+
+	/**
+	 * @return number of the contents found in the cache
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return number of the contents which had to be fetched from the repository
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return number of the entries evicted in order to keep the cache size within the limit
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return total size of the stored contents in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	public synchronized void resetStatistics() {
+		hitCount = missCount = evictionCount = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "SVNContentCache [entries: " + entries.size() + ", contents: " + references.size() + ", size: " + size //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " bytes, hits: " + hitCount + ", misses: " + missCount + ", evicted: " + evictionCount + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	protected void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		File index = new File(folder, SVNContentCache.INDEX_FILE_NAME);
+		if (index.exists()) {
+			try (DataInputStream stream = new DataInputStream(
+					new BufferedInputStream(new FileInputStream(index)))) {
+				if (stream.readInt() == SVNContentCache.INDEX_VERSION) {
+					while (true) {
+						String key = stream.readUTF();
+						// the records are replayed, so the recently changed entries come last
+						entries.remove(key);
+						if (stream.readBoolean()) {
+							entries.put(key, new Entry(stream.readUTF(), stream.readLong()));
+						}
+					}
+				}
+			} catch (EOFException ex) {
+				// the end of the index or the record which was being appended on termination
+			} catch (IOException ex) {
+				entries.clear();
+			}
+		}
+		for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+			Entry entry = it.next();
+			if (new File(folder, entry.digest).length() != entry.size) {
+				it.remove();
+			} else if (references.merge(entry.digest, 1, Integer::sum) == 1) {
+				size += entry.size;
+			}
+		}
+		File[] files = folder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (!references.containsKey(file.getName())
+						&& !SVNContentCache.INDEX_FILE_NAME.equals(file.getName())) {
+					file.delete();
+				}
+			}
+		}
+		save();
+	}
+
+	/**
+	 * Rewrites the index file, so it contains only the records of the current entries
+	 */
+	protected void save() {
+		File index = new File(folder, SVNContentCache.INDEX_FILE_NAME);
+		recordCount = entries.size();
+		if (entries.isEmpty()) {
+			index.delete();
+			return;
+		}
+		File tmp = new File(folder, SVNContentCache.INDEX_FILE_NAME + SVNContentCache.TEMPORARY_FILE_EXTENSION);
+		folder.mkdirs();
+		try {
+			try (DataOutputStream stream = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				stream.writeInt(SVNContentCache.INDEX_VERSION);
+				for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+					write(stream, entry.getKey(), entry.getValue());
+				}
+			}
+			Files.move(tmp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			tmp.delete();
+			LoggedOperation.reportError(this.getClass().getName(), ex);
+		}
+	}
+
+	/**
+	 * Appends the record of the entry change to the index file
+	 * 
+	 * @param key
+	 *            the content key
+	 * @param entry
+	 *            the new entry or <code>null</code> if the entry is removed
+	 */
+	protected void append(String key, Entry entry) {
+		if (++recordCount > entries.size() * 2 + SVNContentCache.MIN_OUTDATED_RECORDS) {
+			save();
+			return;
+		}
+		File index = new File(folder, SVNContentCache.INDEX_FILE_NAME);
+		boolean exists = index.length() > 0;
+		folder.mkdirs();
+		try (DataOutputStream stream = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(index, true)))) {
+			if (!exists) {
+				stream.writeInt(SVNContentCache.INDEX_VERSION);
+			}
+			write(stream, key, entry);
+		} catch (IOException ex) {
+			LoggedOperation.reportError(this.getClass().getName(), ex);
+		}
+	}
+
+	protected static void write(DataOutputStream stream, String key, Entry entry) throws IOException {
+		stream.writeUTF(key);
+		stream.writeBoolean(entry != null);
+		if (entry != null) {
+			stream.writeUTF(entry.digest);
+			stream.writeLong(entry.size);
+		}
+	}
+
+	protected void evict(long maxSize) {
+		for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator(); size > maxSize && it.hasNext();) {
+			Map.Entry<String, Entry> entry = it.next();
+			it.remove();
+			release(entry.getValue());
+			append(entry.getKey(), null);
+			evictionCount++;
+		}
+	}
+
+	protected void remove(String key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			release(entry);
+			append(key, null);
+		}
+	}
+
+	protected void release(Entry entry) {
+		if (references.merge(entry.digest, -1, Integer::sum) <= 0) {
+			references.remove(entry.digest);
+			new File(folder, entry.digest).delete();
+			size -= entry.size;
+		}
+	}
+
+	protected static String copy(File source, File target, MessageDigest digest) throws IOException {
+		File parent = target.getParentFile();
+		if (parent != null && !parent.exists()) {
+			parent.mkdirs();
+		}
+		try (InputStream input = new FileInputStream(source); OutputStream output = new FileOutputStream(target)) {
+			byte[] buffer = new byte[SVNContentCache.BUFFER_SIZE];
+			int len;
+			while ((len = input.read(buffer)) > 0) {
+				output.write(buffer, 0, len);
+				if (digest != null) {
+					digest.update(buffer, 0, len);
+				}
+			}
+		}
+		if (digest == null) {
+			return null;
+		}
+		StringBuilder retVal = new StringBuilder();
+		for (byte b : digest.digest()) {
+			retVal.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return retVal.toString();
+	}
+
+}
@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
+
+/**
+ * Local resources states cache used by {@link SVNRemoteStorage}.
+ *
+ * Lookups are not blocking at all, while cache modifications (loading and refreshing of the states) are serialized per project, so
+ * different projects could be processed in parallel.
+ *
+ * Also the aggregated states of the cached containers subtrees (see {@link StateMaskUtility}) are kept. They are computed on demand and
+ * dropped for the container and its parents each time the container children change.
+ *
+ * The heap used by the cache is estimated per project (see {@link #getHeapUsage()}) assuming a 64-bit JVM with compressed references.
+ */
+public class SVNLocalResourceCache {
+	protected static final int OBJECT_HEADER_SIZE = 12;
+
+	protected static final int REFERENCE_SIZE = 4;
+
+	protected static final int MAP_SIZE = 64;
+
+	protected static final int MAP_NODE_SIZE = 32;
+
+	protected static final int LOCAL_RESOURCE_SIZE = 64;
+
+	protected static final int RESOURCE_HANDLE_SIZE = 24;
+
+	protected static final int PATH_SIZE = 32;
+
+	protected static final int STRING_SIZE = 24;
+
+	protected static final int TREE_CONFLICT_SIZE = 256;
+
+	/**
+	 * Estimated heap usage of the cached states of a project
+	 */
+	public static class HeapUsage {
+		public final int containers;
+
+		public final int resources;
+
+		public final long bytes;
+
+		public HeapUsage(int containers, int resources, long bytes) {
+			this.containers = containers;
+			this.resources = resources;
+			this.bytes = bytes;
+		}
+
+		@Override
+		public String toString() {
+			return "HeapUsage [containers: " + containers + ", resources: " + resources + ", bytes: " + bytes + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	protected final Map<IResource, Map<IResource, ILocalResource>> entries;
+
+	protected final Map<IResource, ReentrantLock> locks;
+
+	protected final AtomicLong lockCount;
+
+	protected final AtomicLong contendedLockCount;
+
+	protected final AtomicLong lockWaitTime;
+
+	protected final Map<IResource, Long> rollUps;
+
+	protected final AtomicLong modificationCount;
+
+	public SVNLocalResourceCache() {
+		entries = new ConcurrentHashMap<>(500);
+		locks = new ConcurrentHashMap<>();
+		rollUps = new ConcurrentHashMap<>();
+		modificationCount = new AtomicLong();
+		lockCount = new AtomicLong();
+		contendedLockCount = new AtomicLong();
+		lockWaitTime = new AtomicLong();
+	}
+
+	public ILocalResource get(IResource resource) {
+		IResource parent = resource.getParent();
+		if (parent == null) {
+			return null;
+		}
+		Map<IResource, ILocalResource> children = entries.get(parent);
+		return children != null ? children.get(resource) : null;
+	}
+
+	/**
+	 * Returns the handle of the resource made from the cached handle of its parent, if there is one. Such a handle shares the path
+	 * segments with the parent's one, while the handles made from the status paths have their own copies of all the segments, which
+	 * take most of the heap used by the cache for the deep trees.
+	 *
+	 * @param resource
+	 *            the resource
+	 * @return the handle sharing the path segments or the resource itself
+	 */
+	public IResource getSharedHandle(IResource resource) {
+		IResource parent = resource.getParent();
+		if (parent == null || parent.getType() == IResource.ROOT || resource.getType() == IResource.PROJECT) {
+			return resource;
+		}
+		ILocalResource parentLocal = get(parent);
+		if (parentLocal == null || !(parentLocal.getResource() instanceof IContainer)) {
+			return resource;
+		}
+		IContainer container = (IContainer) parentLocal.getResource();
+		IPath path = resource.getFullPath();
+		if (container.getFullPath().lastSegment() == path.segment(path.segmentCount() - 2)) {
+			return resource;
+		}
+		IPath name = path.removeFirstSegments(path.segmentCount() - 1);
+		return resource.getType() == IResource.FILE ? container.getFile(name) : container.getFolder(name);
+	}
+
+	public void put(ILocalResource local) {
+		IResource parent = local.getResource().getParent();
+		entries.computeIfAbsent(parent, key -> new ConcurrentHashMap<>()).put(local.getResource(), local);
+		invalidateRollUps(parent);
+	}
+
+	/**
+	 * Returns cached children of the container
+	 *
+	 * @param container
+	 *            the container
+	 * @return the children map or <code>null</code> if the container's children aren't cached yet
+	 */
+	public Map<IResource, ILocalResource> getChildren(IResource container) {
+		return entries.get(container);
+	}
+
+	/**
+	 * Marks the container as the one with all its children cached, even if it has none of them
+	 *
+	 * @param container
+	 *            the container
+	 */
+	public void markLoaded(IResource container) {
+		entries.computeIfAbsent(container, key -> new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Returns all the cached containers of the project, including the project itself
+	 *
+	 * @param project
+	 *            the project
+	 * @return the cached containers
+	 */
+	public List<IResource> getContainers(IProject project) {
+		List<IResource> retVal = new ArrayList<>();
+		for (IResource container : entries.keySet()) {
+			if (project.equals(container.getProject())) {
+				retVal.add(container);
+			}
+		}
+		return retVal;
+	}
+
+	public boolean isLoaded(IResource container) {
+		return entries.containsKey(container);
+	}
+
+	public void remove(IResource container) {
+		entries.remove(container);
+		invalidateRollUps(container);
+	}
+
+	public void clear() {
+		synchronized (rollUps) {
+			modificationCount.incrementAndGet();
+			entries.clear();
+			rollUps.clear();
+		}
+	}
+
+	/**
+	 * Returns the aggregated states of all the cached descendants of the container
+	 *
+	 * @param container
+	 *            the container
+	 * @return the roll-up or {@link StateMaskUtility#UNKNOWN_ROLL_UP} if the container's children aren't cached yet
+	 */
+	public long getRollUp(IResource container) {
+		Long retVal = rollUps.get(container);
+		if (retVal != null) {
+			return retVal;
+		}
+		long count = modificationCount.get();
+		Map<IResource, ILocalResource> children = entries.get(container);
+		if (children == null) {
+			return StateMaskUtility.UNKNOWN_ROLL_UP;
+		}
+		long rollUp = 0;
+		for (ILocalResource child : children.values()) {
+			int mask = StateMaskUtility.getMask(child);
+			rollUp |= mask & 0xFFFFFFFFL;
+			if (child.getResource().getType() != IResource.FILE) {
+				// the containers which children aren't cached yet are kept separately
+				rollUp |= entries.containsKey(child.getResource())
+						? getRollUp(child.getResource())
+						: (long) mask << 32;
+			}
+		}
+		synchronized (rollUps) {
+			// the children could be changed while the roll-up was computed
+			if (count == modificationCount.get()) {
+				rollUps.put(container, rollUp);
+			}
+		}
+		return rollUp;
+	}
+
+	protected void invalidateRollUps(IResource container) {
+		synchronized (rollUps) {
+			modificationCount.incrementAndGet();
+			// if the container has no roll-up, then the parents' ones do not depend on its children
+			IResource current = container;
+			while (current != null && rollUps.remove(current) != null) {
+				current = current.getParent();
+			}
+		}
+	}
+
+	/**
+	 * Estimates the heap used by the cached states of each project
+	 *
+	 * @return the heap usage per project
+	 */
+	public Map<IProject, HeapUsage> getHeapUsage() {
+		Map<IProject, long[]> totals = new HashMap<>();
+		for (Map.Entry<IResource, Map<IResource, ILocalResource>> entry : entries.entrySet()) {
+			IResource container = entry.getKey();
+			IProject project = container.getProject();
+			if (project == null) {
+				continue;
+			}
+			Map<IResource, ILocalResource> children = entry.getValue();
+			long[] total = totals.computeIfAbsent(project, key -> new long[3]);
+			total[0]++;
+			total[1] += children.size();
+			total[2] += SVNLocalResourceCache.MAP_NODE_SIZE + SVNLocalResourceCache.MAP_SIZE
+					+ SVNLocalResourceCache.getArraySize(SVNLocalResourceCache.getTableSize(children.size()))
+					// the key is made from the child handle, so its path segments are counted with the container state
+					+ SVNLocalResourceCache.RESOURCE_HANDLE_SIZE + SVNLocalResourceCache.PATH_SIZE
+					+ SVNLocalResourceCache.getArraySize(container.getFullPath().segmentCount());
+			ILocalResource containerLocal = get(container);
+			IPath containerPath = containerLocal != null ? containerLocal.getResource().getFullPath() : null;
+			for (ILocalResource local : children.values()) {
+				total[2] += SVNLocalResourceCache.MAP_NODE_SIZE + SVNLocalResourceCache.LOCAL_RESOURCE_SIZE
+						+ SVNLocalResourceCache.getHandleSize(local.getResource(), containerPath);
+				if (local.getTreeConflictDescriptor() != null) {
+					total[2] += SVNLocalResourceCache.TREE_CONFLICT_SIZE;
+				}
+			}
+		}
+		Map<IProject, HeapUsage> retVal = new HashMap<>();
+		for (Map.Entry<IProject, long[]> entry : totals.entrySet()) {
+			long[] total = entry.getValue();
+			retVal.put(entry.getKey(), new HeapUsage((int) total[0], (int) total[1], total[2]));
+		}
+		return retVal;
+	}
+
+	/**
+	 * Estimates the size of the resource handle, counting only the path segments which aren't shared with the parent path
+	 */
+	protected static long getHandleSize(IResource resource, IPath parentPath) {
+		IPath path = resource.getFullPath();
+		int count = path.segmentCount();
+		long retVal = SVNLocalResourceCache.RESOURCE_HANDLE_SIZE + SVNLocalResourceCache.PATH_SIZE
+				+ SVNLocalResourceCache.getArraySize(count);
+		boolean isShared = parentPath != null && count > 1
+				&& parentPath.lastSegment() == path.segment(count - 2);
+		for (int i = isShared ? count - 1 : 0; i < count; i++) {
+			retVal += SVNLocalResourceCache.STRING_SIZE
+					+ SVNLocalResourceCache.align(SVNLocalResourceCache.OBJECT_HEADER_SIZE + 4 + path.segment(i).length());
+		}
+		return retVal;
+	}
+
+	protected static int getTableSize(int size) {
+		int retVal = 16;
+		while (retVal * 3 / 4 < size) {
+			retVal <<= 1;
+		}
+		return retVal;
+	}
+
+	protected static long getArraySize(int length) {
+		return SVNLocalResourceCache
+				.align(SVNLocalResourceCache.OBJECT_HEADER_SIZE + 4 + length * SVNLocalResourceCache.REFERENCE_SIZE);
+	}
+
+	protected static long align(long size) {
+		return size + 7 & ~7L;
+	}
+
+	/**
+	 * Acquires the modification lock for the project the resource belongs to. The lock is reentrant.
+	 *
+	 * @param resource
+	 *            the resource
+	 */
+	public void lock(IResource resource) {
+		ReentrantLock lock = getLock(resource);
+		lockCount.incrementAndGet();
+		if (!lock.tryLock()) {
+			long start = System.nanoTime();
+			lock.lock();
+			contendedLockCount.incrementAndGet();
+			lockWaitTime.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	public void unlock(IResource resource) {
+		getLock(resource).unlock();
+	}
+
+	/**
+	 * @return total number of the modification lock acquisitions
+	 */
+	public long getLockCount() {
+		return lockCount.get();
+	}
+
+	/**
+	 * @return number of the modification lock acquisitions which had to wait for another thread
+	 */
+	public long getContendedLockCount() {
+		return contendedLockCount.get();
+	}
+
+	/**
+	 * @return total time in milliseconds threads spent waiting for the modification locks
+	 */
+	public long getLockWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(lockWaitTime.get());
+	}
+
+	public void resetStatistics() {
+		lockCount.set(0);
+		contendedLockCount.set(0);
+		lockWaitTime.set(0);
+	}
+
+	protected ReentrantLock getLock(IResource resource) {
+		IProject project = resource.getProject();
+		return locks.computeIfAbsent(project != null ? project : resource, key -> new ReentrantLock());
+	}
+
+	@Override
+	public String toString() {
+		return "SVNLocalResourceCache [containers: " + entries.size() + ", roll-ups: " + rollUps.size() + ", locks: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getLockCount() + ", contended: " + getContendedLockCount() + ", waited: " + getLockWaitTime() + " ms]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.utility.FileUtility;
+import org.eclipse.team.svn.core.utility.SVNUtility;
+
+/**
+ * Persistent snapshot of the local resources states cache. Allows to skip the initial status fetch for the working copies which weren't
+ * changed since the last workspace save.
+ *
+ * The snapshot is stored per project and is validated against the wc.db timestamps of the project and of the nested working copies, the
+ * folders timestamps (added or removed children) and the files timestamps (local modifications).
+ */
+public class SVNLocalResourceSnapshot {
+
+	public static final String SNAPSHOT_FOLDER_NAME = "localStatusCache"; //$NON-NLS-1$
+
+	protected static final String SNAPSHOT_FILE_EXTENSION = ".cache"; //$NON-NLS-1$
+
+	protected static final int FORMAT_VERSION = 1;
+
+	protected static final String[] STATUSES = { IStateFilter.ST_NOTEXISTS, IStateFilter.ST_INTERNAL_INVALID,
+			IStateFilter.ST_IGNORED, IStateFilter.ST_NEW, IStateFilter.ST_ADDED, IStateFilter.ST_NORMAL,
+			IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING, IStateFilter.ST_DELETED, IStateFilter.ST_MISSING,
+			IStateFilter.ST_OBSTRUCTED, IStateFilter.ST_PREREPLACED, IStateFilter.ST_REPLACED,
+			IStateFilter.ST_LINKED };
+
+	protected final File location;
+
+	protected final Set<IProject> checkedProjects;
+
+	public SVNLocalResourceSnapshot(File location) {
+		this.location = new File(location, SVNLocalResourceSnapshot.SNAPSHOT_FOLDER_NAME);
+		checkedProjects = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Writes cached states of the project into the snapshot. Projects with tree conflicts aren't saved since conflict descriptors should be
+	 * always fresh, as well as projects with states the snapshot format doesn't know.
+	 *
+	 * @param project
+	 *            the project to save
+	 * @param cache
+	 *            the local resources cache
+	 * @param switchedToUrls
+	 *            the switched resources URLs
+	 * @throws IOException
+	 */
+	public void save(IProject project, SVNLocalResourceCache cache, Map<IPath, String> switchedToUrls)
+			throws IOException {
+		File target = getSnapshotFile(project);
+		IPath projectLocation = project.getLocation();
+		ILocalResource projectLocal = cache.get(project);
+		File projectWCDB = projectLocation == null ? null : FileUtility.findWCDB(projectLocation.toFile());
+		if (projectLocal == null || projectWCDB == null || !isStorable(projectLocal)) {
+			target.delete();
+			return;
+		}
+		List<IResource> containers = cache.getContainers(project);
+		for (IResource container : containers) {
+			Map<IResource, ILocalResource> children = cache.getChildren(container);
+			if (children != null) {
+				for (ILocalResource local : children.values()) {
+					if (local.getTreeConflictDescriptor() != null || !isStorable(local)) {
+						target.delete();
+						return;
+					}
+				}
+			}
+		}
+
+		location.mkdirs();
+		File tmp = new File(location, project.getName() + ".new"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(SVNLocalResourceSnapshot.FORMAT_VERSION);
+			out.writeUTF(projectWCDB.getAbsolutePath());
+			out.writeLong(projectWCDB.lastModified());
+
+			// nested working copies (externals) have their own wc.db
+			List<IResource> wcRoots = new ArrayList<>();
+			for (IResource container : containers) {
+				File wcDB = getWCDB(container);
+				if (wcDB != null && wcDB.exists() && !wcDB.equals(projectWCDB)) {
+					wcRoots.add(container);
+				}
+			}
+			out.writeInt(wcRoots.size());
+			for (IResource root : wcRoots) {
+				out.writeUTF(root.getProjectRelativePath().toString());
+				out.writeLong(getWCDB(root).lastModified());
+			}
+
+			List<Map.Entry<IPath, String>> switched = new ArrayList<>();
+			for (Map.Entry<IPath, String> entry : switchedToUrls.entrySet()) {
+				if (project.getFullPath().isPrefixOf(entry.getKey())) {
+					switched.add(entry);
+				}
+			}
+			out.writeInt(switched.size());
+			for (Map.Entry<IPath, String> entry : switched) {
+				out.writeUTF(entry.getKey().removeFirstSegments(1).toString());
+				out.writeUTF(entry.getValue());
+			}
+
+			writeEntry(out, projectLocal);
+
+			out.writeInt(containers.size());
+			for (IResource container : containers) {
+				Map<IResource, ILocalResource> children = cache.getChildren(container);
+				List<ILocalResource> locals = children == null ? new ArrayList<>() : new ArrayList<>(children.values());
+				out.writeUTF(container.getProjectRelativePath().toString());
+				out.writeLong(getTimestamp(container));
+				out.writeInt(locals.size());
+				for (ILocalResource local : locals) {
+					writeEntry(out, local);
+				}
+			}
+		}
+		target.delete();
+		if (!tmp.renameTo(target)) {
+			tmp.delete();
+		}
+	}
+
+	/**
+	 * Fills the cache with the project states stored in the snapshot. The snapshot is read only once per project and session, so the method
+	 * should be called each time before the project states are loaded. The snapshot is removed once read, so the states aren't
+	 * reused after an abnormal IDE termination.
+	 *
+	 * @param project
+	 *            the project to restore
+	 * @param cache
+	 *            the local resources cache
+	 * @param switchedToUrls
+	 *            the switched resources URLs
+	 * @return <code>true</code> if some states were restored
+	 */
+	public boolean restore(IProject project, SVNLocalResourceCache cache, Map<IPath, String> switchedToUrls) {
+		if (!checkedProjects.add(project)) {
+			return false;
+		}
+		File source = getSnapshotFile(project);
+		if (!source.exists()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(source)))) {
+			if (in.readInt() != SVNLocalResourceSnapshot.FORMAT_VERSION) {
+				return false;
+			}
+			IPath projectLocation = project.getLocation();
+			File projectWCDB = projectLocation == null ? null : FileUtility.findWCDB(projectLocation.toFile());
+			if (projectWCDB == null || !projectWCDB.getAbsolutePath().equals(in.readUTF())
+					|| projectWCDB.lastModified() != in.readLong()) {
+				return false;
+			}
+			List<IPath> staleRoots = new ArrayList<>();
+			for (int i = 0, n = in.readInt(); i < n; i++) {
+				IPath root = new Path(in.readUTF());
+				File wcDB = getWCDB(project.getFolder(root));
+				if (wcDB == null || wcDB.lastModified() != in.readLong()) {
+					staleRoots.add(root);
+				}
+			}
+
+			for (int i = 0, n = in.readInt(); i < n; i++) {
+				IPath path = new Path(in.readUTF());
+				String url = in.readUTF();
+				if (!isStale(path, staleRoots)) {
+					switchedToUrls.put(project.getFullPath().append(path), url);
+				}
+			}
+
+			cache.put(readEntry(in, project.getParent()).local);
+
+			boolean restored = false;
+			for (int i = 0, n = in.readInt(); i < n; i++) {
+				IPath path = new Path(in.readUTF());
+				IContainer container = path.isEmpty() ? project : project.getFolder(path);
+				boolean valid = !isStale(path, staleRoots) && getTimestamp(container) == in.readLong();
+				List<ILocalResource> locals = new ArrayList<>();
+				for (int j = 0, m = in.readInt(); j < m; j++) {
+					Entry entry = readEntry(in, container);
+					if (valid && entry.local.getResource().getType() == IResource.FILE
+							&& getTimestamp(entry.local.getResource()) != entry.timestamp) {
+						// modified outside of the IDE after the snapshot was made
+						valid = false;
+					}
+					locals.add(entry.local);
+				}
+				if (valid) {
+					cache.markLoaded(container);
+					for (ILocalResource local : locals) {
+						cache.put(local);
+					}
+					restored = true;
+				}
+			}
+			return restored;
+		} catch (IOException ex) {
+			// the snapshot is corrupted, so statuses will be fetched from the working copy
+			return false;
+		} finally {
+			source.delete();
+		}
+	}
+
+	/**
+	 * Drops the project snapshot without reading it, so the refreshed states aren't overridden by the stored ones later.
+	 *
+	 * @param project
+	 *            the project which states are refreshed
+	 */
+	public void discard(IProject project) {
+		if (checkedProjects.add(project)) {
+			getSnapshotFile(project).delete();
+		}
+	}
+
+	/**
+	 * Removes all the stored snapshots
+	 */
+	public void clear() {
+		File[] files = location.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	protected void writeEntry(DataOutputStream out, ILocalResource local) throws IOException {
+		IResource resource = local.getResource();
+		out.writeBoolean(resource.getType() != IResource.FILE);
+		out.writeUTF(resource.getName());
+		out.writeLong(local.getRevision());
+		out.writeLong(local.getBaseRevision());
+		out.writeByte(getStatusIndex(local.getTextStatus()));
+		out.writeByte(getStatusIndex(local.getPropStatus()));
+		out.writeInt(local.getChangeMask());
+		String author = local.getAuthor();
+		out.writeBoolean(author != null);
+		if (author != null) {
+			out.writeUTF(author);
+		}
+		out.writeLong(local.getLastCommitDate());
+		out.writeLong(resource.getType() == IResource.FILE ? getTimestamp(resource) : 0);
+	}
+
+	protected Entry readEntry(DataInputStream in, IContainer parent) throws IOException {
+		boolean isContainer = in.readBoolean();
+		String name = in.readUTF();
+		long revision = in.readLong();
+		long baseRevision = in.readLong();
+		String textStatus = SVNLocalResourceSnapshot.STATUSES[in.readByte()];
+		String propStatus = SVNLocalResourceSnapshot.STATUSES[in.readByte()];
+		int changeMask = in.readInt();
+		String author = in.readBoolean() ? in.readUTF() : null;
+		long lastCommitDate = in.readLong();
+		long timestamp = in.readLong();
+		ILocalResource local;
+		if (parent.getType() == IResource.ROOT) {
+			local = new SVNLocalFolder(((IWorkspaceRoot) parent).getProject(name), revision, baseRevision, textStatus,
+					propStatus, changeMask, author, lastCommitDate, null);
+		} else if (isContainer) {
+			local = new SVNLocalFolder(parent.getFolder(new Path(name)), revision, baseRevision, textStatus,
+					propStatus, changeMask, author, lastCommitDate, null);
+		} else {
+			local = new SVNLocalFile(parent.getFile(new Path(name)), revision, baseRevision, textStatus, propStatus,
+					changeMask, author, lastCommitDate, null);
+		}
+		return new Entry(local, timestamp);
+	}
+
+	protected boolean isStorable(ILocalResource local) {
+		return getStatusIndex(local.getTextStatus()) != -1 && getStatusIndex(local.getPropStatus()) != -1;
+	}
+
+	protected int getStatusIndex(String status) {
+		for (int i = 0; i < SVNLocalResourceSnapshot.STATUSES.length; i++) {
+			if (SVNLocalResourceSnapshot.STATUSES[i].equals(status)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	protected boolean isStale(IPath path, List<IPath> staleRoots) {
+		for (IPath root : staleRoots) {
+			if (root.isPrefixOf(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	protected File getWCDB(IResource container) {
+		IPath path = container.getLocation();
+		return path == null ? null : new File(path.toFile(), SVNUtility.getSVNFolderName() + "/wc.db"); //$NON-NLS-1$
+	}
+
+	protected long getTimestamp(IResource resource) {
+		IPath path = resource.getLocation();
+		return path == null ? 0 : path.toFile().lastModified();
+	}
+
+	protected File getSnapshotFile(IProject project) {
+		return new File(location, project.getName() + SVNLocalResourceSnapshot.SNAPSHOT_FILE_EXTENSION);
+	}
+
+	protected static class Entry {
+		public final ILocalResource local;
+
+		public final long timestamp;
+
+		public Entry(ILocalResource local, long timestamp) {
+			this.local = local;
+			this.timestamp = timestamp;
+		}
+	}
+
+}
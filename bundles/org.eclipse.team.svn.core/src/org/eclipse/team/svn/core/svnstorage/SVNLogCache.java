@@ -0,0 +1,1476 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
+import org.eclipse.team.svn.core.connector.SVNConnectorException;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNLogPath;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.operation.LoggedOperation;
+import org.eclipse.team.svn.core.resource.IRepositoryLocation;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.events.IRevisionPropertyChangeListener;
+import org.eclipse.team.svn.core.svnstorage.events.RevisonPropertyChangeEvent;
+import org.eclipse.team.svn.core.utility.SVNUtility;
+
+/**
+ * Persistent revision log cache. There is one store per repository UUID.
+ * 
+ * Revision data (author, date, message and changed paths if they were requested) is appended to the store data file once, since revisions
+ * are immutable. Revision properties are the exception, so the revisions which revision properties were changed are dropped from the
+ * store and fetched again when they are needed. Records which are dropped or superseded by the ones with changed paths are removed from
+ * the data file when they take more than a half of it. When the data file grows over the size limit (see {@link #getMaxSize()}), the
+ * least recently used histories are dropped together with the records which are not referenced by the other histories.
+ * 
+ * For each queried resource the store keeps the list of its history revisions together with the revision range this list is known to be
+ * complete for. Queries are answered from this list, and only the revisions which are outside of the known range are requested from the
+ * server. Histories which include merged revisions keep the merged revisions of each revision as well. The store is locked only while
+ * its data is read or updated, the server is asked for the missing revisions while the store is not locked.
+ * 
+ * The store also indexes copy operations found in the cached changed paths and the merged revisions of each path, so the path a resource
+ * had in an older revision, branch origins and merge state could be answered locally, see
+ * {@link #getPathInRevision(IRepositoryResource, long)}, {@link #getCopyHistory(IRepositoryResource)},
+ * {@link #getMergedRevisions(IRepositoryResource, String)} and {@link #getEligibleRevisions(IRepositoryResource, IRepositoryResource)}.
+ */
+public class SVNLogCache implements IRevisionPropertyChangeListener {
+	/**
+	 * Requests log entries from the server for the queried resource
+	 */
+	public interface ILogFetcher {
+		SVNLogEntry[] fetch(SVNRevision start, SVNRevision end, long options, long limit,
+				ISVNLogEntryCallback listener) throws SVNConnectorException;
+	}
+
+	/**
+	 * Copy operation which created a path
+	 */
+	public static class CopyEdge {
+		public final String path;
+
+		public final long revision;
+
+		public final String sourcePath;
+
+		public final long sourceRevision;
+
+		public CopyEdge(String path, long revision, String sourcePath, long sourceRevision) {
+			this.path = path;
+			this.revision = revision;
+			this.sourcePath = sourcePath;
+			this.sourceRevision = sourceRevision;
+		}
+
+		@Override
+		public String toString() {
+			return path + "@" + revision + " <- " + sourcePath + "@" + sourceRevision; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	protected static final int INDEX_VERSION = 4;
+
+	protected static final String MERGED_KEY_SUFFIX = ":merged"; //$NON-NLS-1$
+
+	protected static final int MAX_COPY_CHAIN = 100;
+
+	protected static final int MAX_MERGE_DEPTH = 100;
+
+	protected static final String DATA_FILE_EXTENSION = ".data"; //$NON-NLS-1$
+
+	protected static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
+	protected static final int MAX_DECODED_ENTRIES = 2000;
+
+	protected static final int MAX_HISTORIES = 2000;
+
+	protected static final int READ_BUFFER_SIZE = 4096;
+
+	protected static final int SCAN_BUFFER_SIZE = 65536;
+
+	protected static final long MIN_GARBAGE_SIZE = 1024 * 1024;
+
+	/**
+	 * The part of the size limit in percents the store is shrunk to, so it is not shrunk again on each save
+	 */
+	protected static final int EVICTION_TARGET = 75;
+
+	protected final File folder;
+
+	protected final Map<String, RevisionStore> stores;
+
+	public SVNLogCache(File folder) {
+		this.folder = folder;
+		stores = new HashMap<>();
+	}
+
+	public boolean isEnabled() {
+		return CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.LOG_CACHE_ENABLED);
+	}
+
+	/**
+	 * @return the maximum size of the data file of each repository in bytes
+	 */
+	public long getMaxSize() {
+		long retVal = CoreExtensionsManager.instance().getOptionProvider().getInt(IOptionProvider.LOG_CACHE_SIZE, 0);
+		return retVal > 0 ? retVal * 1024L * 1024L : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Checks if the log query could be answered by the cache. Only descending revision ranges are cached.
+	 */
+	public boolean isCacheable(IRepositoryResource resource, SVNRevision start, SVNRevision end, long options) {
+		if (!isEnabled() || (options & ~(ISVNConnector.Options.DISCOVER_PATHS | ISVNConnector.Options.STOP_ON_COPY
+				| ISVNConnector.Options.INCLUDE_MERGED_REVISIONS)) != 0) {
+			return false;
+		}
+		SVNRevision peg = resource.getPegRevision();
+		if (peg != null && peg.getKind() != SVNRevision.Kind.HEAD && peg.getKind() != SVNRevision.Kind.NUMBER
+				|| end == null || end.getKind() != SVNRevision.Kind.NUMBER) {
+			return false;
+		}
+		if (start.getKind() == SVNRevision.Kind.NUMBER) {
+			return ((SVNRevision.Number) start).getNumber() >= ((SVNRevision.Number) end).getNumber();
+		}
+		return start.getKind() == SVNRevision.Kind.HEAD;
+	}
+
+	/**
+	 * Returns log entries of the resource, going to the server only for the revisions which are not cached yet.
+	 * 
+	 * @param resource
+	 *            the resource
+	 * @param start
+	 *            the start revision, HEAD or a number
+	 * @param end
+	 *            the end revision, a number not greater than the start one
+	 * @param options
+	 *            the log options
+	 * @param limit
+	 *            the maximum number of the entries or <code>0</code> for all of them
+	 * @param fetcher
+	 *            the server log requests provider
+	 * @param listener
+	 *            receives the returned entries in order, as soon as they are available, could be <code>null</code>
+	 * @return the log entries
+	 */
+	public SVNLogEntry[] getLogEntries(IRepositoryResource resource, SVNRevision start, SVNRevision end, long options,
+			long limit, ILogFetcher fetcher, ISVNLogEntryCallback listener) throws SVNConnectorException {
+		IRepositoryLocation location = resource.getRepositoryLocation();
+		String uuid = location.getRepositoryUUID();
+		if (uuid == null) {
+			return fetcher.fetch(start, end, options, limit, listener);
+		}
+		String path = SVNLogCache.getRepositoryPath(resource);
+		SVNRevision peg = resource.getPegRevision();
+		String key = path + "@" //$NON-NLS-1$
+				+ (peg == null || peg.getKind() == SVNRevision.Kind.HEAD ? "HEAD" : String.valueOf(((SVNRevision.Number) peg).getNumber())) //$NON-NLS-1$
+				+ ((options & ISVNConnector.Options.STOP_ON_COPY) != 0 ? ":stop" : "") //$NON-NLS-1$ //$NON-NLS-2$
+				+ ((options & ISVNConnector.Options.INCLUDE_MERGED_REVISIONS) != 0 ? SVNLogCache.MERGED_KEY_SUFFIX : ""); //$NON-NLS-1$
+		// the store is locked by the query itself, so the other queries are not blocked while the server is asked
+		return getStore(uuid).query(key, path, start, ((SVNRevision.Number) end).getNumber(), options, limit, fetcher,
+				listener);
+	}
+
+	/**
+	 * Returns the repository path the resource had in the specified revision, following its renames and copies. The path is resolved
+	 * using the cached history of the resource, which should be known to be complete between the revisions.
+	 * 
+	 * @param resource
+	 *            the resource with a numeric peg revision
+	 * @param revision
+	 *            the revision to find the path for, not greater than the peg one
+	 * @return the repository path, like <code>/trunk/src</code>, or <code>null</code> if the cached data is not enough to answer
+	 */
+	public String getPathInRevision(IRepositoryResource resource, long revision) {
+		SVNRevision peg = resource.getPegRevision();
+		String uuid = resource.getRepositoryLocation().getRepositoryUUID();
+		if (uuid == null || !isEnabled() || peg == null || peg.getKind() != SVNRevision.Kind.NUMBER
+				|| ((SVNRevision.Number) peg).getNumber() < revision) {
+			return null;
+		}
+		RevisionStore store = getStore(uuid);
+		synchronized (store) {
+			return store.getPathInRevision(SVNLogCache.getRepositoryPath(resource),
+					((SVNRevision.Number) peg).getNumber(), revision);
+		}
+	}
+
+	/**
+	 * Returns the copy operations the resource originates from, the nearest one first. Only the copies found in the cached revisions are
+	 * known, so the result could be incomplete if older revisions of the origins were never fetched.
+	 * 
+	 * @param resource
+	 *            the resource, usually a branch or a tag
+	 * @return the copy operations
+	 */
+	public CopyEdge[] getCopyHistory(IRepositoryResource resource) {
+		String uuid = resource.getRepositoryLocation().getRepositoryUUID();
+		if (uuid == null || !isEnabled()) {
+			return new CopyEdge[0];
+		}
+		SVNRevision peg = resource.getPegRevision();
+		long revision = peg != null && peg.getKind() == SVNRevision.Kind.NUMBER
+				? ((SVNRevision.Number) peg).getNumber()
+				: Long.MAX_VALUE;
+		RevisionStore store = getStore(uuid);
+		synchronized (store) {
+			return store.getCopyHistory(SVNLogCache.getRepositoryPath(resource), revision);
+		}
+	}
+
+	/**
+	 * Returns the revisions merged into the resource, as they are known from its cached merge-aware log entries
+	 * 
+	 * @param target
+	 *            the resource revisions are merged into
+	 * @param sourcePath
+	 *            the repository path, like <code>/trunk</code>, the merged revisions should change, or <code>null</code> for all the
+	 *            merged revisions
+	 * @return the merged revisions in descending order
+	 */
+	public long[] getMergedRevisions(IRepositoryResource target, String sourcePath) {
+		String uuid = target.getRepositoryLocation().getRepositoryUUID();
+		if (uuid == null || !isEnabled()) {
+			return new long[0];
+		}
+		RevisionStore store = getStore(uuid);
+		synchronized (store) {
+			return store.getMergedRevisions(SVNLogCache.getRepositoryPath(target), sourcePath);
+		}
+	}
+
+	/**
+	 * Returns the source revisions which are made after the target was copied from the source and which are not merged into the target
+	 * yet
+	 * 
+	 * @param source
+	 *            the merge source, like trunk
+	 * @param target
+	 *            the merge target, like a branch copied from the trunk
+	 * @return the eligible revisions in descending order or <code>null</code> if the cached data is not enough to answer
+	 */
+	public long[] getEligibleRevisions(IRepositoryResource source, IRepositoryResource target) {
+		String uuid = target.getRepositoryLocation().getRepositoryUUID();
+		if (uuid == null || !isEnabled() || !uuid.equals(source.getRepositoryLocation().getRepositoryUUID())) {
+			return null;
+		}
+		String sourcePath = SVNLogCache.getRepositoryPath(source);
+		long branchPoint = SVNRevision.INVALID_REVISION_NUMBER;
+		for (CopyEdge edge : getCopyHistory(target)) {
+			if (edge.sourcePath.equals(sourcePath)) {
+				branchPoint = edge.sourceRevision;
+				break;
+			}
+		}
+		if (branchPoint == SVNRevision.INVALID_REVISION_NUMBER) {
+			return null;
+		}
+		RevisionStore store = getStore(uuid);
+		synchronized (store) {
+			return store.getEligibleRevisions(sourcePath, branchPoint,
+					store.getMergedRevisions(SVNLogCache.getRepositoryPath(target), null));
+		}
+	}
+
+	/**
+	 * Adds the merged revisions of the entries received from the server to the index, so the merge state of the resource is known even
+	 * if its log query was not answered by the cache
+	 * 
+	 * @param target
+	 *            the resource the log was fetched for
+	 * @param entries
+	 *            the log entries with the merged revisions attached
+	 */
+	public void putMergedRevisions(IRepositoryResource target, SVNLogEntry[] entries) {
+		String uuid = target.getRepositoryLocation().getRepositoryUUID();
+		if (uuid == null || !isEnabled()) {
+			return;
+		}
+		RevisionStore store = getStore(uuid);
+		synchronized (store) {
+			store.putMerged(SVNLogCache.getRepositoryPath(target), null, entries);
+		}
+	}
+
+	@Override
+	public void revisionPropertyChanged(RevisonPropertyChangeEvent event) {
+		SVNRevision revision = event.getRevision();
+		if (revision == null || revision.getKind() != SVNRevision.Kind.NUMBER || event.getLocation() == null) {
+			return;
+		}
+		String uuid = event.getLocation().getRepositoryUUID();
+		if (uuid != null) {
+			RevisionStore store = getStore(uuid);
+			synchronized (store) {
+				store.invalidate(((SVNRevision.Number) revision).getNumber());
+			}
+		}
+	}
+
+	/**
+	 * Saves indexes of all the opened stores
+	 */
+	public synchronized void save() {
+		for (RevisionStore store : stores.values()) {
+			synchronized (store) {
+				store.save();
+			}
+		}
+	}
+
+	public synchronized void dispose() {
+		for (RevisionStore store : stores.values()) {
+			synchronized (store) {
+				store.save();
+				store.close();
+			}
+		}
+		stores.clear();
+	}
+
+	/**
+	 * Removes all the cached data
+	 */
+	public synchronized void clear() {
+		for (RevisionStore store : stores.values()) {
+			synchronized (store) {
+				store.close();
+			}
+		}
+		stores.clear();
+		File[] files = folder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	protected static String getRepositoryPath(IRepositoryResource resource) {
+		String path = SVNUtility.decodeURL(resource.getUrl())
+				.substring(SVNUtility.decodeURL(resource.getRepositoryLocation().getRepositoryRootUrl()).length());
+		return path.length() == 0 ? "/" : path; //$NON-NLS-1$
+	}
+
+	protected synchronized RevisionStore getStore(String uuid) {
+		RevisionStore store = stores.get(uuid);
+		if (store == null) {
+			folder.mkdirs();
+			stores.put(uuid, store = new RevisionStore(new File(folder, uuid + DATA_FILE_EXTENSION),
+					new File(folder, uuid + INDEX_FILE_EXTENSION), this::getMaxSize));
+			store.load();
+		}
+		return store;
+	}
+
+	/**
+	 * History of a resource: its revisions in descending order, which are known to be all its revisions between the bottom and top ones
+	 */
+	protected static class PathHistory {
+		public long[] revisions = new long[16];
+
+		public int size;
+
+		public long top;
+
+		public long bottom;
+
+		/**
+		 * Is changed each time the history is reset, so the concurrent queries do not mix up different histories
+		 */
+		public int generation;
+
+		/**
+		 * Merged revisions by the revision they are merged in, for the merge-aware histories only
+		 */
+		public Map<Long, long[]> merged;
+
+		public long lowest() {
+			return revisions[size - 1];
+		}
+
+		public void add(long revision) {
+			int idx = search(revision);
+			if (idx >= 0) {
+				return;
+			}
+			idx = -idx - 1;
+			if (size == revisions.length) {
+				revisions = Arrays.copyOf(revisions, size * 2);
+			}
+			System.arraycopy(revisions, idx, revisions, idx + 1, size - idx);
+			revisions[idx] = revision;
+			size++;
+		}
+
+		/**
+		 * Binary search in the descending array
+		 */
+		public int search(long revision) {
+			int low = 0;
+			int high = size - 1;
+			while (low <= high) {
+				int mid = low + high >>> 1;
+				long value = revisions[mid];
+				if (value > revision) {
+					low = mid + 1;
+				} else if (value < revision) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+			return -(low + 1);
+		}
+	}
+
+	/**
+	 * Decoded data file record
+	 */
+	protected static class Record {
+		public final SVNLogEntry entry;
+
+		public final long length;
+
+		public Record(SVNLogEntry entry, long length) {
+			this.entry = entry;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * Counts the bytes read, so the record offsets could be restored while the data file is scanned
+	 */
+	protected static class CountingInputStream extends FilterInputStream {
+		public long count;
+
+		public CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int retVal = super.read();
+			if (retVal >= 0) {
+				count++;
+			}
+			return retVal;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int retVal = super.read(b, off, len);
+			if (retVal > 0) {
+				count += retVal;
+			}
+			return retVal;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long retVal = super.skip(n);
+			count += retVal;
+			return retVal;
+		}
+	}
+
+	protected static class RevisionStore {
+		protected final File dataFile;
+
+		protected final File indexFile;
+
+		protected final LongSupplier maxSize;
+
+		protected RandomAccessFile data;
+
+		/**
+		 * Record offset plus one by revision, zero for the missing revisions. The offset is negative if the record has no changed paths.
+		 */
+		protected long[] offsets;
+
+		/**
+		 * Size of the records in the data file which are not referenced anymore
+		 */
+		protected long garbage;
+
+		protected final LinkedHashMap<Long, SVNLogEntry> decoded;
+
+		protected final LinkedHashMap<String, PathHistory> histories;
+
+		/**
+		 * Copy operations by the path they created, in ascending revision order
+		 */
+		protected final Map<String, List<CopyEdge>> copies;
+
+		/**
+		 * Merged revisions by the revision they are merged in, by the path they are merged into
+		 */
+		protected final Map<String, Map<Long, long[]>> merges;
+
+		protected boolean dirty;
+
+		public RevisionStore(File dataFile, File indexFile, LongSupplier maxSize) {
+			this.dataFile = dataFile;
+			this.indexFile = indexFile;
+			this.maxSize = maxSize;
+			offsets = new long[0];
+			decoded = new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, SVNLogEntry> eldest) {
+					return size() > MAX_DECODED_ENTRIES;
+				}
+			};
+			histories = new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, PathHistory> eldest) {
+					return size() > MAX_HISTORIES;
+				}
+			};
+			copies = new HashMap<>();
+			merges = new HashMap<>();
+		}
+
+		public SVNLogEntry[] query(String key, String path, SVNRevision start, long end, long options, long limit,
+				ILogFetcher fetcher, ISVNLogEntryCallback listener) throws SVNConnectorException {
+			boolean isHead = start.getKind() == SVNRevision.Kind.HEAD;
+			long startNum = isHead ? Long.MAX_VALUE : ((SVNRevision.Number) start).getNumber();
+			PathHistory history;
+			long top;
+			int generation;
+			synchronized (this) {
+				history = histories.get(key);
+				if (history != null && startNum < history.bottom) {
+					history = null;
+				}
+				top = history == null ? 0 : history.top;
+				generation = history == null ? 0 : history.generation;
+			}
+			if (history == null) {
+				// the server answer is the result as is, so it could be reported while it is received
+				SVNLogEntry[] entries = fetcher.fetch(start, SVNRevision.fromNumber(end), options, limit, listener);
+				synchronized (this) {
+					put(entries);
+					if (!histories.containsKey(key) && entries.length > 0) {
+						history = new PathHistory();
+						if (key.endsWith(SVNLogCache.MERGED_KEY_SUFFIX)) {
+							history.merged = new HashMap<>();
+						}
+						for (SVNLogEntry entry : entries) {
+							history.add(entry.revision);
+						}
+						putMerged(path, history, entries);
+						history.top = isHead ? entries[0].revision : startNum;
+						history.bottom = limit > 0 && entries.length >= limit ? history.lowest() : end;
+						histories.put(key, history);
+						dirty = true;
+					}
+				}
+				return entries;
+			}
+
+			if (isHead || startNum > top) {
+				// fetch revisions which are newer than the known ones, changed paths are required in order to detect replacement
+				SVNLogEntry[] newer = fetcher.fetch(start, SVNRevision.fromNumber(top),
+						options | ISVNConnector.Options.DISCOVER_PATHS, 0, null);
+				synchronized (this) {
+					put(newer);
+					// skip the answer if the history was reset by a concurrent query
+					if (history.generation == generation) {
+						for (int i = newer.length - 1; i >= 0; i--) {
+							SVNLogEntry entry = newer[i];
+							if (entry.revision > top) {
+								if (isReplaced(entry, path)) {
+									// the resource was replaced, so its older history is not the same anymore
+									history.size = 0;
+									history.bottom = entry.revision;
+									history.generation++;
+								}
+								history.add(entry.revision);
+							}
+						}
+						putMerged(path, history, newer);
+						long newTop = isHead ? newer.length > 0 ? newer[0].revision : top : startNum;
+						history.top = Math.max(history.top, newTop);
+						dirty = true;
+					}
+				}
+			}
+
+			List<SVNLogEntry> retVal = collect(history, startNum, end, limit, options, fetcher);
+			long from;
+			long bottom;
+			synchronized (this) {
+				from = history.size > 0 ? history.lowest() : SVNRevision.INVALID_REVISION_NUMBER;
+				bottom = history.bottom;
+				generation = history.generation;
+			}
+			if ((limit == 0 || retVal.size() < limit) && bottom > end && from != SVNRevision.INVALID_REVISION_NUMBER) {
+				// fetch revisions which are older than the known ones
+				long count = limit > 0 ? limit - retVal.size() + 1 : 0;
+				SVNLogEntry[] older = fetcher.fetch(SVNRevision.fromNumber(from), SVNRevision.fromNumber(end),
+						options, count, null);
+				synchronized (this) {
+					put(older);
+					if (history.generation == generation) {
+						for (SVNLogEntry entry : older) {
+							history.add(entry.revision);
+						}
+						putMerged(path, history, older);
+						history.bottom = Math.min(history.bottom,
+								count == 0 || older.length < count ? end : older[older.length - 1].revision);
+						dirty = true;
+					}
+				}
+				retVal = collect(history, startNum, end, limit, options, fetcher);
+			}
+			if (listener != null) {
+				for (SVNLogEntry entry : retVal) {
+					listener.next(entry);
+				}
+			}
+			return retVal.toArray(new SVNLogEntry[retVal.size()]);
+		}
+
+		public void invalidate(long revision) {
+			decoded.remove(revision);
+			if (revision >= 0 && revision < offsets.length && offsets[(int) revision] != 0) {
+				release(offsets[(int) revision]);
+				offsets[(int) revision] = 0;
+				dirty = true;
+				save();
+			}
+		}
+
+		/**
+		 * Collects the history entries, the ones which are not stored or have no required changed paths are requested from the server
+		 */
+		protected List<SVNLogEntry> collect(PathHistory history, long start, long end, long limit, long options,
+				ILogFetcher fetcher) throws SVNConnectorException {
+			boolean withPaths = (options & ISVNConnector.Options.DISCOVER_PATHS) != 0;
+			List<Long> missing = new ArrayList<>();
+			List<SVNLogEntry> retVal;
+			synchronized (this) {
+				retVal = collect(history, start, end, limit, withPaths, missing);
+			}
+			if (!missing.isEmpty()) {
+				// dropped because of the revision properties change or stored without the changed paths
+				SVNLogEntry[] entries = fetcher.fetch(SVNRevision.fromNumber(missing.get(0)),
+						SVNRevision.fromNumber(missing.get(missing.size() - 1)), options, 0, null);
+				synchronized (this) {
+					put(entries);
+					retVal = collect(history, start, end, limit, withPaths, null);
+				}
+			}
+			return retVal;
+		}
+
+		/**
+		 * Collects the stored history entries in descending order
+		 * 
+		 * @param missing
+		 *            receives the revisions which are not stored, or <code>null</code> if they should be skipped
+		 */
+		protected List<SVNLogEntry> collect(PathHistory history, long start, long end, long limit, boolean withPaths,
+				List<Long> missing) {
+			List<SVNLogEntry> retVal = new ArrayList<>();
+			int idx = history.search(start);
+			for (int i = idx >= 0 ? idx : -idx - 1; i < history.size
+					&& (limit == 0 || retVal.size() + (missing == null ? 0 : missing.size()) < limit); i++) {
+				long revision = history.revisions[i];
+				if (revision < end) {
+					break;
+				}
+				SVNLogEntry entry = get(revision, withPaths);
+				if (entry != null) {
+					// the stored entries are never handed out, since the callers could attach merged revisions to them
+					retVal.add(history.merged != null
+							? withMerged(history, entry, 0)
+							: RevisionStore.copy(entry, false));
+				} else if (missing != null) {
+					missing.add(revision);
+				}
+			}
+			return retVal;
+		}
+
+		/**
+		 * Indexes the merged revisions of the entries, both in the merge-aware history and in the merged revisions of the path
+		 * 
+		 * @param history
+		 *            the history the entries belong to, or <code>null</code> if they are indexed by the path only
+		 */
+		protected void putMerged(String path, PathHistory history, SVNLogEntry[] entries) {
+			if (entries == null) {
+				return;
+			}
+			for (SVNLogEntry entry : entries) {
+				SVNLogEntry[] children = entry.getChildren();
+				if (children != null && children.length > 0) {
+					long[] revisions = new long[children.length];
+					for (int i = 0; i < children.length; i++) {
+						revisions[i] = children[i].revision;
+					}
+					if (history != null && history.merged != null) {
+						history.merged.put(entry.revision, revisions);
+					}
+					long[] previous = merges.computeIfAbsent(path, key -> new HashMap<>()).put(entry.revision, revisions);
+					if (!Arrays.equals(previous, revisions)) {
+						dirty = true;
+					}
+					putMerged(path, history, children);
+				}
+			}
+		}
+
+		/**
+		 * Restores the merged revisions tree of the entry
+		 */
+		protected SVNLogEntry withMerged(PathHistory history, SVNLogEntry entry, int depth) {
+			long[] revisions = history.merged.get(entry.revision);
+			if (revisions == null || depth > SVNLogCache.MAX_MERGE_DEPTH) {
+				return RevisionStore.copy(entry, false);
+			}
+			SVNLogEntry retVal = RevisionStore.copy(entry, true);
+			for (long revision : revisions) {
+				// the merged revisions which were dropped because of the revision properties change are skipped
+				SVNLogEntry child = get(revision, false);
+				if (child != null) {
+					retVal.add(withMerged(history, child, depth + 1));
+				}
+			}
+			return retVal;
+		}
+
+		public String getPathInRevision(String path, long peg, long revision) {
+			// the resource revisions are found in the history of the resource itself or in the history of the same path in HEAD
+			String[] keys = { path + "@" + peg, path + "@" + peg + SVNLogCache.MERGED_KEY_SUFFIX, path + "@HEAD", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					path + "@HEAD" + SVNLogCache.MERGED_KEY_SUFFIX }; //$NON-NLS-1$
+			PathHistory history = null;
+			for (int i = 0; i < keys.length && history == null; i++) {
+				PathHistory candidate = histories.get(keys[i]);
+				// the history should be complete between the revisions and the resource should exist in the revision
+				if (candidate != null && candidate.size > 0 && candidate.top >= peg && candidate.bottom <= revision
+						&& candidate.lowest() <= revision) {
+					// the path could belong to another resource in HEAD if it was copied over after the peg revision
+					if (i < 2 || findCopy(path, peg, candidate.top) == null) {
+						history = candidate;
+					}
+				}
+			}
+			if (history == null) {
+				return null;
+			}
+			for (int i = 0; i < SVNLogCache.MAX_COPY_CHAIN; i++) {
+				CopyEdge edge = findCopy(path, revision, peg);
+				if (edge == null) {
+					return path;
+				}
+				if (edge.sourceRevision < revision) {
+					// there is no resource in between of the copy source and the copy revisions
+					return null;
+				}
+				path = edge.sourcePath + path.substring(edge.path.length());
+				peg = edge.sourceRevision;
+			}
+			return null;
+		}
+
+		public CopyEdge[] getCopyHistory(String path, long revision) {
+			List<CopyEdge> retVal = new ArrayList<>();
+			while (retVal.size() < SVNLogCache.MAX_COPY_CHAIN) {
+				CopyEdge nearest = findCopy(path, SVNRevision.INVALID_REVISION_NUMBER, revision);
+				if (nearest == null) {
+					break;
+				}
+				retVal.add(nearest);
+				path = nearest.sourcePath + path.substring(nearest.path.length());
+				revision = nearest.sourceRevision;
+			}
+			return retVal.toArray(new CopyEdge[retVal.size()]);
+		}
+
+		public long[] getMergedRevisions(String path, String sourcePath) {
+			Map<Long, long[]> merged = merges.get(path);
+			if (merged == null) {
+				return new long[0];
+			}
+			Set<Long> revisions = new HashSet<>();
+			for (long[] children : merged.values()) {
+				for (long revision : children) {
+					revisions.add(revision);
+				}
+			}
+			long[] retVal = new long[revisions.size()];
+			int size = 0;
+			for (long revision : revisions) {
+				SVNLogEntry entry = sourcePath == null ? null : get(revision, true);
+				if (entry == null || RevisionStore.isChanged(entry, sourcePath)) {
+					retVal[size++] = revision;
+				}
+			}
+			return RevisionStore.descending(retVal, size);
+		}
+
+		public long[] getEligibleRevisions(String sourcePath, long branchPoint, long[] merged) {
+			PathHistory history = histories.get(sourcePath + "@HEAD"); //$NON-NLS-1$
+			if (history == null) {
+				history = histories.get(sourcePath + "@HEAD" + SVNLogCache.MERGED_KEY_SUFFIX); //$NON-NLS-1$
+			}
+			if (history == null || history.bottom > branchPoint + 1) {
+				return null;
+			}
+			Set<Long> excluded = new HashSet<>();
+			for (long revision : merged) {
+				excluded.add(revision);
+			}
+			long[] retVal = new long[history.size];
+			int size = 0;
+			for (int i = 0; i < history.size && history.revisions[i] > branchPoint; i++) {
+				if (!excluded.contains(history.revisions[i])) {
+					retVal[size++] = history.revisions[i];
+				}
+			}
+			return Arrays.copyOf(retVal, size);
+		}
+
+		/**
+		 * Returns the latest copy operation which created the path or one of its parents in the revision range
+		 * 
+		 * @param path
+		 *            the path
+		 * @param from
+		 *            the range start, exclusive
+		 * @param to
+		 *            the range end, inclusive
+		 * @return the copy operation or <code>null</code> if there is no such an operation
+		 */
+		protected CopyEdge findCopy(String path, long from, long to) {
+			CopyEdge nearest = null;
+			for (String parent = path; parent != null; parent = RevisionStore.getParentPath(parent)) {
+				List<CopyEdge> edges = copies.get(parent);
+				if (edges != null) {
+					for (int i = edges.size() - 1; i >= 0; i--) {
+						CopyEdge edge = edges.get(i);
+						if (edge.revision <= to) {
+							if (edge.revision > from && (nearest == null || edge.revision > nearest.revision)) {
+								nearest = edge;
+							}
+							break;
+						}
+					}
+				}
+			}
+			return nearest;
+		}
+
+		protected void addCopies(SVNLogEntry entry) {
+			for (SVNLogPath changed : entry.changedPaths) {
+				if (changed.copiedFromPath != null && changed.copiedFromRevision >= 0) {
+					List<CopyEdge> edges = copies.computeIfAbsent(changed.path, key -> new ArrayList<>(1));
+					int idx = edges.size();
+					while (idx > 0 && edges.get(idx - 1).revision > entry.revision) {
+						idx--;
+					}
+					if (idx == 0 || edges.get(idx - 1).revision != entry.revision) {
+						edges.add(idx, new CopyEdge(changed.path, entry.revision, changed.copiedFromPath,
+								changed.copiedFromRevision));
+					}
+				}
+			}
+		}
+
+		protected static boolean isChanged(SVNLogEntry entry, String path) {
+			if (entry.changedPaths != null) {
+				for (SVNLogPath changed : entry.changedPaths) {
+					if (changed.path.equals(path) || changed.path.startsWith(path.endsWith("/") ? path : path + "/")) { //$NON-NLS-1$ //$NON-NLS-2$
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		protected static long[] descending(long[] values, int size) {
+			long[] retVal = Arrays.copyOf(values, size);
+			Arrays.sort(retVal);
+			for (int i = 0, j = size - 1; i < j; i++, j--) {
+				long tmp = retVal[i];
+				retVal[i] = retVal[j];
+				retVal[j] = tmp;
+			}
+			return retVal;
+		}
+
+		protected static String getParentPath(String path) {
+			int idx = path.lastIndexOf('/');
+			return idx > 0 ? path.substring(0, idx) : idx == 0 && path.length() > 1 ? "/" : null; //$NON-NLS-1$
+		}
+
+		protected boolean isReplaced(SVNLogEntry entry, String path) {
+			if (entry.changedPaths != null) {
+				for (SVNLogPath changed : entry.changedPaths) {
+					if (path.equals(changed.path) && (changed.action == SVNLogPath.ChangeType.ADDED
+							|| changed.action == SVNLogPath.ChangeType.REPLACED)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the stored entry
+		 * 
+		 * @param withPaths
+		 *            if <code>true</code> the entries which were stored without changed paths are treated as missing
+		 */
+		protected SVNLogEntry get(long revision, boolean withPaths) {
+			long offset = revision >= 0 && revision < offsets.length ? offsets[(int) revision] : 0;
+			if (offset == 0 || withPaths && offset < 0) {
+				return null;
+			}
+			SVNLogEntry entry = decoded.get(revision);
+			if (entry == null) {
+				try {
+					entry = readRecord(Math.abs(offset) - 1).entry;
+					decoded.put(revision, entry);
+				} catch (IOException ex) {
+					LoggedOperation.reportError(this.getClass().getName(), ex);
+					offsets[(int) revision] = 0;
+					dirty = true;
+				}
+			}
+			return entry;
+		}
+
+		protected void put(SVNLogEntry[] entries) {
+			if (entries == null) {
+				return;
+			}
+			for (SVNLogEntry entry : entries) {
+				// merged revisions are stored as well, they are the same as the ones fetched directly
+				put(entry.getChildren());
+				if (entry.revision < 0 || entry.revision > Integer.MAX_VALUE - 1) {
+					continue;
+				}
+				int revision = (int) entry.revision;
+				long existing = revision < offsets.length ? offsets[revision] : 0;
+				// the stored entry is replaced only if the new one has changed paths and the stored one has not
+				if (existing > 0 || existing < 0 && entry.changedPaths == null) {
+					continue;
+				}
+				try {
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					RevisionStore.writeEntry(new DataOutputStream(bytes), entry);
+					RandomAccessFile file = getData();
+					long offset = file.length();
+					file.seek(offset);
+					file.write(bytes.toByteArray());
+					if (existing != 0) {
+						release(existing);
+					}
+					if (revision >= offsets.length) {
+						offsets = Arrays.copyOf(offsets, Math.max(revision + 1, offsets.length * 2));
+					}
+					offsets[revision] = entry.changedPaths == null ? -(offset + 1) : offset + 1;
+					// the merged revisions are kept in the histories, not in the fetched entries
+					decoded.put(entry.revision, RevisionStore.copy(entry, false));
+					if (entry.changedPaths != null) {
+						addCopies(entry);
+					}
+					dirty = true;
+				} catch (IOException ex) {
+					LoggedOperation.reportError(this.getClass().getName(), ex);
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Counts the record which is not referenced anymore, so the data file could be compacted later
+		 */
+		protected void release(long offset) {
+			try {
+				garbage += readRecord(Math.abs(offset) - 1).length;
+			} catch (IOException ex) {
+				// the record is broken, so it could not be counted
+			}
+		}
+
+		/**
+		 * Reads the record with a buffer, since unbuffered random access file reads go to the disk for each value
+		 */
+		protected Record readRecord(long position) throws IOException {
+			RandomAccessFile file = getData();
+			long available = file.length() - position;
+			for (int size = READ_BUFFER_SIZE;; size *= 2) {
+				byte[] buffer = new byte[(int) Math.min(size, available)];
+				file.seek(position);
+				file.readFully(buffer);
+				ByteArrayInputStream in = new ByteArrayInputStream(buffer);
+				try {
+					SVNLogEntry entry = RevisionStore.readEntry(new DataInputStream(in));
+					return new Record(entry, buffer.length - in.available());
+				} catch (EOFException ex) {
+					if (buffer.length == available) {
+						throw ex;
+					}
+				}
+			}
+		}
+
+		protected RandomAccessFile getData() throws IOException {
+			if (data == null) {
+				data = new RandomAccessFile(dataFile, "rw"); //$NON-NLS-1$
+			}
+			return data;
+		}
+
+		public void close() {
+			closeData();
+			decoded.clear();
+		}
+
+		protected void closeData() {
+			if (data != null) {
+				try {
+					data.close();
+				} catch (IOException ex) {
+					// uninterested
+				}
+				data = null;
+			}
+		}
+
+		public void load() {
+			if (!dataFile.exists()) {
+				indexFile.delete();
+				return;
+			}
+			long indexedLength = 0;
+			if (indexFile.exists()) {
+				try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(new FileInputStream(indexFile)))) {
+					if (in.readInt() != INDEX_VERSION) {
+						throw new IOException("Unsupported log cache index version"); //$NON-NLS-1$
+					}
+					indexedLength = in.readLong();
+					garbage = in.readLong();
+					int length = in.readInt();
+					offsets = new long[length];
+					for (int count = in.readInt(); count > 0; count--) {
+						int revision = in.readInt();
+						offsets[revision] = in.readLong();
+					}
+					for (int count = in.readInt(); count > 0; count--) {
+						String key = in.readUTF();
+						PathHistory history = new PathHistory();
+						history.top = in.readLong();
+						history.bottom = in.readLong();
+						history.size = in.readInt();
+						history.revisions = new long[Math.max(16, history.size)];
+						for (int i = 0; i < history.size; i++) {
+							history.revisions[i] = in.readLong();
+						}
+						int mergedCount = in.readInt();
+						if (mergedCount >= 0) {
+							history.merged = new HashMap<>();
+							for (; mergedCount > 0; mergedCount--) {
+								long revision = in.readLong();
+								long[] merged = new long[in.readInt()];
+								for (int i = 0; i < merged.length; i++) {
+									merged[i] = in.readLong();
+								}
+								history.merged.put(revision, merged);
+							}
+						}
+						histories.put(key, history);
+					}
+					for (int count = in.readInt(); count > 0; count--) {
+						CopyEdge edge = new CopyEdge(in.readUTF(), in.readLong(), in.readUTF(), in.readLong());
+						copies.computeIfAbsent(edge.path, k -> new ArrayList<>(1)).add(edge);
+					}
+					for (int count = in.readInt(); count > 0; count--) {
+						Map<Long, long[]> merged = merges.computeIfAbsent(in.readUTF(), k -> new HashMap<>());
+						for (int mergedCount = in.readInt(); mergedCount > 0; mergedCount--) {
+							long revision = in.readLong();
+							long[] children = new long[in.readInt()];
+							for (int i = 0; i < children.length; i++) {
+								children[i] = in.readLong();
+							}
+							merged.put(revision, children);
+						}
+					}
+				} catch (IOException | RuntimeException ex) {
+					// the index will be rebuilt from the data file
+					indexedLength = 0;
+					garbage = 0;
+					offsets = new long[0];
+					histories.clear();
+					copies.clear();
+					merges.clear();
+				}
+			}
+			try {
+				if (getData().length() > indexedLength) {
+					scan(indexedLength);
+					dirty = true;
+				}
+			} catch (IOException ex) {
+				LoggedOperation.reportError(this.getClass().getName(), ex);
+			}
+		}
+
+		/**
+		 * Restores offsets of the records which were appended after the index was saved
+		 */
+		protected void scan(long from) throws IOException {
+			long offset = from;
+			long length = getData().length();
+			try (FileInputStream file = new FileInputStream(dataFile)) {
+				file.getChannel().position(from);
+				CountingInputStream counter = new CountingInputStream(
+						new BufferedInputStream(file, SCAN_BUFFER_SIZE));
+				DataInputStream in = new DataInputStream(counter);
+				while (offset < length) {
+					SVNLogEntry entry = RevisionStore.readEntry(in);
+					int revision = (int) entry.revision;
+					if (revision >= offsets.length) {
+						offsets = Arrays.copyOf(offsets, Math.max(revision + 1, offsets.length * 2));
+					}
+					// records are appended only if they supersede the stored ones
+					if (offsets[revision] != 0) {
+						release(offsets[revision]);
+					}
+					if (entry.changedPaths != null && offsets[revision] <= 0) {
+						addCopies(entry);
+					}
+					offsets[revision] = entry.changedPaths == null ? -(offset + 1) : offset + 1;
+					offset = from + counter.count;
+				}
+			} catch (EOFException | RuntimeException ex) {
+				// the last record was not written completely
+				getData().setLength(offset);
+			}
+		}
+
+		public void save() {
+			if (!dirty || data == null && !dataFile.exists()) {
+				return;
+			}
+			try {
+				long length = getData().length();
+				if (garbage > SVNLogCache.MIN_GARBAGE_SIZE && garbage > length / 2) {
+					compact();
+					length = getData().length();
+				}
+				long limit = maxSize.getAsLong();
+				if (length > limit) {
+					// the dropped data is refilled on demand
+					evict(limit * SVNLogCache.EVICTION_TARGET / 100);
+				}
+			} catch (IOException ex) {
+				LoggedOperation.reportError(this.getClass().getName(), ex);
+			}
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+				out.writeInt(INDEX_VERSION);
+				out.writeLong(getData().length());
+				out.writeLong(garbage);
+				out.writeInt(offsets.length);
+				int count = 0;
+				for (long offset : offsets) {
+					if (offset != 0) {
+						count++;
+					}
+				}
+				out.writeInt(count);
+				for (int i = 0; i < offsets.length; i++) {
+					if (offsets[i] != 0) {
+						out.writeInt(i);
+						out.writeLong(offsets[i]);
+					}
+				}
+				out.writeInt(histories.size());
+				for (Map.Entry<String, PathHistory> entry : histories.entrySet()) {
+					PathHistory history = entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeLong(history.top);
+					out.writeLong(history.bottom);
+					out.writeInt(history.size);
+					for (int i = 0; i < history.size; i++) {
+						out.writeLong(history.revisions[i]);
+					}
+					out.writeInt(history.merged == null ? -1 : history.merged.size());
+					if (history.merged != null) {
+						for (Map.Entry<Long, long[]> merged : history.merged.entrySet()) {
+							out.writeLong(merged.getKey());
+							out.writeInt(merged.getValue().length);
+							for (long revision : merged.getValue()) {
+								out.writeLong(revision);
+							}
+						}
+					}
+				}
+				int edgesCount = 0;
+				for (List<CopyEdge> edges : copies.values()) {
+					edgesCount += edges.size();
+				}
+				out.writeInt(edgesCount);
+				for (List<CopyEdge> edges : copies.values()) {
+					for (CopyEdge edge : edges) {
+						out.writeUTF(edge.path);
+						out.writeLong(edge.revision);
+						out.writeUTF(edge.sourcePath);
+						out.writeLong(edge.sourceRevision);
+					}
+				}
+				out.writeInt(merges.size());
+				for (Map.Entry<String, Map<Long, long[]>> entry : merges.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().size());
+					for (Map.Entry<Long, long[]> merged : entry.getValue().entrySet()) {
+						out.writeLong(merged.getKey());
+						out.writeInt(merged.getValue().length);
+						for (long revision : merged.getValue()) {
+							out.writeLong(revision);
+						}
+					}
+				}
+				dirty = false;
+			} catch (IOException ex) {
+				LoggedOperation.reportError(this.getClass().getName(), ex);
+			}
+		}
+
+		/**
+		 * Rewrites the data file without the records which are not referenced anymore
+		 */
+		protected void compact() throws IOException {
+			File compactedFile = new File(dataFile.getPath() + ".tmp"); //$NON-NLS-1$
+			long[] compacted = new long[offsets.length];
+			try (BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(compactedFile))) {
+				long position = 0;
+				for (int i = 0; i < offsets.length; i++) {
+					if (offsets[i] != 0) {
+						SVNLogEntry entry = readRecord(Math.abs(offsets[i]) - 1).entry;
+						ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+						RevisionStore.writeEntry(new DataOutputStream(bytes), entry);
+						bytes.writeTo(out);
+						compacted[i] = offsets[i] > 0 ? position + 1 : -(position + 1);
+						position += bytes.size();
+					}
+				}
+			}
+			closeData();
+			Files.move(compactedFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			offsets = compacted;
+			garbage = 0;
+		}
+
+		/**
+		 * Keeps the most recently used histories, which records fit into the target size, and drops the other ones together with the
+		 * records they reference. The history which does not fit completely is truncated to its newest revisions.
+		 */
+		protected void evict(long target) throws IOException {
+			// the record sizes are the distances between the record offsets, the garbage in between is counted as well
+			long[] positions = new long[offsets.length];
+			int count = 0;
+			for (long offset : offsets) {
+				if (offset != 0) {
+					positions[count++] = Math.abs(offset) - 1;
+				}
+			}
+			positions = Arrays.copyOf(positions, count);
+			Arrays.sort(positions);
+			long length = getData().length();
+
+			BitSet kept = new BitSet(offsets.length);
+			long size = 0;
+			boolean isFull = false;
+			List<Map.Entry<String, PathHistory>> entries = new ArrayList<>(histories.entrySet());
+			// the access order map starts with the least recently used history
+			for (int i = entries.size() - 1; i >= 0; i--) {
+				PathHistory history = entries.get(i).getValue();
+				int keptCount = 0;
+				for (; !isFull && keptCount < history.size; keptCount++) {
+					List<Long> revisions = new ArrayList<>();
+					collectRecords(history, history.revisions[keptCount], revisions, 0);
+					long recordsSize = 0;
+					for (long revision : revisions) {
+						recordsSize += kept.get((int) revision) ? 0 : getRecordSize(revision, positions, length);
+					}
+					if (size + recordsSize > target) {
+						isFull = true;
+						break;
+					}
+					size += recordsSize;
+					for (long revision : revisions) {
+						kept.set((int) revision);
+					}
+				}
+				if (keptCount == 0) {
+					histories.remove(entries.get(i).getKey());
+				} else if (keptCount < history.size) {
+					history.size = keptCount;
+					history.bottom = history.lowest();
+					history.generation++;
+					if (history.merged != null) {
+						history.merged.keySet().removeIf(revision -> revision < history.bottom);
+					}
+				}
+			}
+			for (int i = 0; i < offsets.length; i++) {
+				if (offsets[i] != 0 && !kept.get(i)) {
+					offsets[i] = 0;
+				}
+			}
+			decoded.clear();
+			// the copy operations are kept, since they are valid regardless of the records
+			compact();
+			dirty = true;
+		}
+
+		/**
+		 * Collects the stored revision together with its stored merged revisions
+		 */
+		protected void collectRecords(PathHistory history, long revision, List<Long> revisions, int depth) {
+			if (revision < 0 || revision >= offsets.length || offsets[(int) revision] == 0) {
+				return;
+			}
+			revisions.add(revision);
+			long[] merged = history.merged != null ? history.merged.get(revision) : null;
+			if (merged != null && depth < SVNLogCache.MAX_MERGE_DEPTH) {
+				for (long child : merged) {
+					collectRecords(history, child, revisions, depth + 1);
+				}
+			}
+		}
+
+		protected long getRecordSize(long revision, long[] positions, long length) {
+			int idx = Arrays.binarySearch(positions, Math.abs(offsets[(int) revision]) - 1);
+			return (idx + 1 < positions.length ? positions[idx + 1] : length) - positions[idx];
+		}
+
+		protected static SVNLogEntry copy(SVNLogEntry entry, boolean hasChildren) {
+			return new SVNLogEntry(entry.revision, entry.date, entry.author, entry.message, entry.changedPaths,
+					hasChildren);
+		}
+
+		protected static void writeEntry(DataOutput out, SVNLogEntry entry) throws IOException {
+			out.writeLong(entry.revision);
+			out.writeLong(entry.date);
+			RevisionStore.writeString(out, entry.author);
+			RevisionStore.writeString(out, entry.message);
+			if (entry.changedPaths == null) {
+				out.writeInt(-1);
+				return;
+			}
+			out.writeInt(entry.changedPaths.length);
+			for (SVNLogPath path : entry.changedPaths) {
+				RevisionStore.writeString(out, path.path);
+				out.writeChar(path.action.id);
+				RevisionStore.writeString(out, path.copiedFromPath);
+				out.writeLong(path.copiedFromRevision);
+				out.writeByte(RevisionStore.fromBoolean(path.textWasModified));
+				out.writeByte(RevisionStore.fromBoolean(path.propertiesWereModified));
+			}
+		}
+
+		protected static SVNLogEntry readEntry(DataInput in) throws IOException {
+			long revision = in.readLong();
+			long date = in.readLong();
+			String author = RevisionStore.readString(in);
+			String message = RevisionStore.readString(in);
+			int count = in.readInt();
+			SVNLogPath[] paths = count < 0 ? null : new SVNLogPath[count];
+			for (int i = 0; i < count; i++) {
+				String path = RevisionStore.readString(in);
+				SVNLogPath.ChangeType action = SVNLogPath.ChangeType.fromId(in.readChar());
+				String copiedFromPath = RevisionStore.readString(in);
+				long copiedFromRevision = in.readLong();
+				Boolean text = RevisionStore.toBoolean(in.readByte());
+				Boolean props = RevisionStore.toBoolean(in.readByte());
+				paths[i] = new SVNLogPath(path, action, copiedFromPath, copiedFromRevision, text, props);
+			}
+			return new SVNLogEntry(revision, date, author, message, paths, false);
+		}
+
+		protected static void writeString(DataOutput out, String value) throws IOException {
+			if (value == null) {
+				out.writeInt(-1);
+			} else {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+
+		protected static String readString(DataInput in) throws IOException {
+			int length = in.readInt();
+			if (length < 0) {
+				return null;
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		protected static int fromBoolean(Boolean value) {
+			return value == null ? 2 : value ? 1 : 0;
+		}
+
+		protected static Boolean toBoolean(byte value) {
+			return value == 2 ? null : Boolean.valueOf(value == 1);
+		}
+	}
+
+}
@@ -28,9 +28,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filesystem.URIUtil;
-import org.eclipse.core.internal.preferences.Base64;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -49,7 +49,6 @@ import org.eclipse.team.svn.core.connector.ISVNConnector;
 import org.eclipse.team.svn.core.connector.ISVNProgressMonitor;
 import org.eclipse.team.svn.core.connector.SVNChangeStatus;
 import org.eclipse.team.svn.core.connector.SVNConflictDescriptor;
-import org.eclipse.team.svn.core.connector.SVNConflictVersion;
 import org.eclipse.team.svn.core.connector.SVNConnectorException;
 import org.eclipse.team.svn.core.connector.SVNDepth;
 import org.eclipse.team.svn.core.connector.SVNEntry;
@@ -62,6 +61,7 @@ import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
 import org.eclipse.team.svn.core.extension.options.IIgnoreRecommendations;
 import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.operation.LoggedOperation;
 import org.eclipse.team.svn.core.operation.SVNNullProgressMonitor;
 import org.eclipse.team.svn.core.operation.UnreportableException;
 import org.eclipse.team.svn.core.resource.IChangeStateProvider;
@@ -71,6 +71,7 @@ import org.eclipse.team.svn.core.resource.IRemoteStorage;
 import org.eclipse.team.svn.core.resource.IRepositoryLocation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
 import org.eclipse.team.svn.core.resource.IResourceChange;
+import org.eclipse.team.svn.core.resource.ISVNStorage;
 import org.eclipse.team.svn.core.resource.events.IResourceStatesListener;
 import org.eclipse.team.svn.core.resource.events.ResourceStatesChangedEvent;
 import org.eclipse.team.svn.core.utility.AsynchronousActiveQueue;
@@ -78,6 +79,7 @@ import org.eclipse.team.svn.core.utility.FileUtility;
 import org.eclipse.team.svn.core.utility.IQueuedElement;
 import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
 import org.eclipse.team.svn.core.utility.SVNUtility;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
 
 /**
  * SVN based representation of IRemoteStorage
@@ -113,11 +115,27 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 	 */
 	public static final String STATE_INFO_FILE_NAME = ".svnRepositories"; //$NON-NLS-1$
 
+	/**
+	 * The name of the folder the revision log cache is stored in
+	 */
+	public static final String LOG_CACHE_FOLDER_NAME = ".svnLogCache"; //$NON-NLS-1$
+
+	/**
+	 * The name of the folder the repository file contents cache is stored in
+	 */
+	public static final String CONTENT_CACHE_FOLDER_NAME = ".svnContentCache"; //$NON-NLS-1$
+
 	private static SVNRemoteStorage instance = new SVNRemoteStorage();
 
-	protected Map localResources;
+	protected SVNLocalResourceCache localResources;
+
+	protected SVNStatusLoadPlanner loadPlanner;
+
+	protected SVNLocalResourceSnapshot localResourcesSnapshot;
+
+	protected SVNResourceChangeSerializer resourceChangeSerializer;
 
-	protected Map switchedToUrls;
+	protected Map<IPath, String> switchedToUrls;
 
 	protected Map externalsLocations;
 
@@ -127,38 +145,75 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 
 	protected AsynchronousActiveQueue<ResourceStatesChangedEvent> eventQueue;
 
-	protected long lastMonitorTime;
+	protected WorkingCopyChangeMonitor changeMonitor;
 
-	protected Map<IResource, File> changeMonitorMap;
+	protected SVNLogCache logCache;
 
-	protected int suggestedLoadDepth = IResource.DEPTH_INFINITE;
+	protected SVNAnnotationCache annotationCache;
+
+	protected SVNContentCache contentCache;
+
+	protected volatile int suggestedLoadDepth = IResource.DEPTH_INFINITE;
 
 	public void resetExternalChangesMonitor() {
-		lastMonitorTime = System.currentTimeMillis();
+		changeMonitor.reset();
 	}
 
 	public void checkForExternalChanges() {
-		long lastMonitorTime = this.lastMonitorTime;
-		ArrayList<IResource> changed = new ArrayList<>();
-		for (Object item : changeMonitorMap.entrySet().toArray()) {
-			Map.Entry<IResource, File> entry = (Map.Entry<IResource, File>) item;
-			if (entry.getValue().lastModified() > lastMonitorTime) {
-				changed.add(entry.getKey());
-			}
-		}
-		if (changed.size() > 0) {
-			IResource[] resources = changed.toArray(new IResource[changed.size()]);
+		IResource[] resources = changeMonitor.getChangedRoots();
+		if (resources.length > 0) {
 			SVNRemoteStorage.instance().refreshLocalResources(resources, IResource.DEPTH_INFINITE);
 			fireResourceStatesChangedEvent(new ResourceStatesChangedEvent(resources, IResource.DEPTH_INFINITE,
 					ResourceStatesChangedEvent.CHANGED_NODES));
 		}
-		resetExternalChangesMonitor();
+	}
+
+	/**
+	 * Returns the external changes monitor. Could be used in order to get its state.
+	 * 
+	 * @return the external changes monitor
+	 */
+	public WorkingCopyChangeMonitor getExternalChangesMonitor() {
+		return changeMonitor;
 	}
 
 	public static SVNRemoteStorage instance() {
 		return SVNRemoteStorage.instance;
 	}
 
+	/**
+	 * Returns the local resources states cache. Could be used in order to get its usage statistics.
+	 * 
+	 * @return the local resources states cache
+	 */
+	public SVNLocalResourceCache getLocalResourcesCache() {
+		return localResources;
+	}
+
+	/**
+	 * Returns the local statuses load planner. Could be used in order to get the status calls statistics.
+	 * 
+	 * @return the local statuses load planner
+	 */
+	public SVNStatusLoadPlanner getStatusLoadPlanner() {
+		return loadPlanner;
+	}
+
+	/**
+	 * Checks if the container subtree could contain resources accepted by the filter. The check relies on the aggregated states of the
+	 * cached resources only, so it is conservative: <code>true</code> is returned each time the cached data is not enough to answer.
+	 * 
+	 * @param container
+	 *            the container which descendants are checked
+	 * @param filter
+	 *            the filter
+	 * @return <code>false</code> if there are definitely no accepted descendants, <code>true</code> otherwise
+	 */
+	public boolean canContainAccepted(IResource container, IStateFilter filter) {
+		return !StateMaskUtility.isRegistered(filter)
+				|| StateMaskUtility.mayAccept(filter, localResources.getRollUp(container));
+	}
+
 	@Override
 	public void addResourceStatesListener(Class eventClass, IResourceStatesListener listener) {
 		synchronized (resourceStateListeners) {
@@ -205,6 +260,92 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 		preferences.put(AbstractSVNStorage.IPREF_REPO_NODE_NAME, SVNRemoteStorage.PREF_REPOSITORIES_NODE);
 		preferences.put(AbstractSVNStorage.IPREF_AUTH_NODE_NAME, SVNRemoteStorage.PREF_MIGRATE_FROM_AUTH_DB_NODE);
 		super.initialize(preferences);
+		IPath stateLocation = (IPath) preferences.get(ISVNStorage.PREF_STATE_INFO_LOCATION);
+		localResourcesSnapshot = new SVNLocalResourceSnapshot(stateLocation.toFile());
+		logCache = new SVNLogCache(stateLocation.append(SVNRemoteStorage.LOG_CACHE_FOLDER_NAME).toFile());
+		addRevisionPropertyChangeListener(logCache);
+		annotationCache = new SVNAnnotationCache();
+		addRevisionPropertyChangeListener(annotationCache);
+		contentCache = new SVNContentCache(stateLocation.append(SVNRemoteStorage.CONTENT_CACHE_FOLDER_NAME).toFile());
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		changeMonitor.dispose();
+		if (logCache != null) {
+			removeRevisionPropertyChangeListener(logCache);
+			logCache.dispose();
+		}
+		if (annotationCache != null) {
+			removeRevisionPropertyChangeListener(annotationCache);
+			annotationCache.clear();
+		}
+		if (contentCache != null) {
+			contentCache.dispose();
+		}
+	}
+
+	/**
+	 * Returns the persistent revision log cache
+	 * 
+	 * @return the log cache or <code>null</code> if the storage is not initialized yet
+	 */
+	public SVNLogCache getLogCache() {
+		return logCache;
+	}
+
+	/**
+	 * Returns the annotation results cache
+	 * 
+	 * @return the annotation cache or <code>null</code> if the storage is not initialized yet
+	 */
+	public SVNAnnotationCache getAnnotationCache() {
+		return annotationCache;
+	}
+
+	/**
+	 * Returns the repository file contents cache. Could be used in order to get its usage statistics.
+	 * 
+	 * @return the contents cache or <code>null</code> if the storage is not initialized yet
+	 */
+	public SVNContentCache getContentCache() {
+		return contentCache;
+	}
+
+	/**
+	 * Saves the local resources states cache, so it could be reused on the next workspace startup for the working copies which weren't
+	 * changed in the meantime.
+	 */
+	public void saveLocalResourcesSnapshot() {
+		if (localResourcesSnapshot == null) {
+			return;
+		}
+		if (!CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.SVN_CACHE_ENABLED)) {
+			localResourcesSnapshot.clear();
+			return;
+		}
+		for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			if (!project.isAccessible()
+					|| RepositoryProvider.getProvider(project, SVNTeamPlugin.NATURE_ID) == null) {
+				continue;
+			}
+			localResources.lock(project);
+			try {
+				localResourcesSnapshot.save(project, localResources, switchedToUrls);
+			} catch (IOException ex) {
+				LoggedOperation.reportError(this.getClass().getName(), ex);
+			} finally {
+				localResources.unlock(project);
+			}
+		}
+	}
+
+	protected boolean restoreLocalResourcesSnapshot(IResource resource) {
+		IProject project = resource.getProject();
+		return localResourcesSnapshot != null && project != null
+				&& CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.SVN_CACHE_ENABLED)
+				&& localResourcesSnapshot.restore(project, localResources, switchedToUrls);
 	}
 
 	@Override
@@ -263,169 +404,57 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 
 	@Override
 	public byte[] resourceChangeAsBytes(IResourceChange resource) {
-		if (resource == null) {
-			return null;
-		}
-		int kind = resource.getPegRevision().getKind().id;
-		String originatorData = null;
-		if (resource.getOriginator() != null) {
-			byte[] data = repositoryResourceAsBytes(resource.getOriginator());
-			originatorData = new String(Base64.encode(data));
-		}
-		long lastCommitDate = resource.getLastCommitDate();
-		String comment = resource.getComment();
-		String retVal = /*0*/ String.valueOf(resource instanceof ILocalFolder) + ";" + //$NON-NLS-1$
-		/*1*/ new String(Base64.encode(FileUtility.getWorkingCopyPath(resource.getResource()).getBytes())) + ";" + //$NON-NLS-1$
-		/*2*/ resource.getRevision() + ";" + //$NON-NLS-1$
-		/*3*/ resource.getTextStatus() + ";" + //$NON-NLS-1$
-		/*4*/ resource.getAuthor() + ";" + //$NON-NLS-1$
-		/*5*/ (lastCommitDate == 0 ? "null" : String.valueOf(lastCommitDate)) + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-		/*6*/ String.valueOf(kind) + ";" + //$NON-NLS-1$
-		/*7*/ (kind == SVNRevision.Kind.NUMBER.id
-				? String.valueOf(((SVNRevision.Number) resource.getPegRevision()).getNumber())
-				: String.valueOf(kind)) + ";" + //$NON-NLS-1$
-		/*8*/ (originatorData != null ? originatorData : "null") + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-		/*9*/ (comment == null ? "null" : new String(Base64.encode(comment.getBytes()))) + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-		/*10*/ resource.getChangeMask() + ";" + //$NON-NLS-1$
-				getTreeConflictDescriptorAsString(resource.getTreeConflictDescriptor()) + ";" +
-				/*22*/ resource.getPropStatus();
-		return retVal.getBytes();
-	}
-
-	protected String getTreeConflictDescriptorAsString(SVNConflictDescriptor conflictDescriptor) {
-		String retVal = /*11*/ (conflictDescriptor == null ? "null" : String.valueOf(conflictDescriptor.action.id)) //$NON-NLS-1$
-				+ ";" + //$NON-NLS-1$
-				/*12*/ (conflictDescriptor == null ? "null" : String.valueOf(conflictDescriptor.reason.id)) + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-				/*13*/ (conflictDescriptor == null ? "null" : String.valueOf(conflictDescriptor.operation.id)) + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-				getSVNConflictVersionAsString(
-						conflictDescriptor == null ? null : conflictDescriptor.srcLeftVersion)
-				+ ";" + //$NON-NLS-1$
-				getSVNConflictVersionAsString(
-						conflictDescriptor == null ? null : conflictDescriptor.srcRightVersion);
-		return retVal;
-	}
-
-	protected String getSVNConflictVersionAsString(SVNConflictVersion conflictVersion) {
-		String retVal = /*14 or 18*/ (conflictVersion == null ? "null" : String.valueOf(conflictVersion.nodeKind.id)) //$NON-NLS-1$
-				+ ";" + //$NON-NLS-1$
-				/*15 or 19*/ (conflictVersion == null
-						? "null" //$NON-NLS-1$
-						: new String(Base64.encode(conflictVersion.pathInRepos.getBytes())))
-				+ ";" + //$NON-NLS-1$
-				/*16 or 20*/ (conflictVersion == null ? "null" : String.valueOf(conflictVersion.pegRevision)) + ";" + //$NON-NLS-1$ //$NON-NLS-2$
-				/*17 or 21*/ (conflictVersion == null
-						? "null" //$NON-NLS-1$
-						: new String(Base64.encode(conflictVersion.reposURL.getBytes())));
-		return retVal;
+		return resourceChangeSerializer.toBytes(resource);
 	}
 
 	@Override
 	public IResourceChange resourceChangeFromBytes(byte[] bytes) {
-		if (bytes == null) {
-			return null;
-		}
-		String[] data = new String(bytes).split(";"); //$NON-NLS-1$
-		boolean isFolder = "true".equals(data[0]); //$NON-NLS-1$
-		String name = new String(Base64.decode(data[1].getBytes()));
-		long revision = Long.parseLong(data[2]);
-		String textStatus = deserializeStatus(data[3]);
-		String author = "null".equals(data[4]) ? null : data[4]; //$NON-NLS-1$
-		long lastCommitDate = "null".equals(data[5]) ? 0 : Long.parseLong(data[5]); //$NON-NLS-1$
-		int revisionKind = Integer.parseInt(data[6]);
-		SVNRevision pegRevision = null;
-		if (revisionKind == SVNRevision.Kind.NUMBER.id) {
-			long pegNum = Long.parseLong(data[7]);
-			pegRevision = pegNum == revision || revision == SVNRevision.INVALID_REVISION_NUMBER
-					? null
-					: SVNRevision.fromNumber(pegNum);
-		} else {
-			pegRevision = SVNRevision.fromKind(SVNRevision.Kind.fromId(revisionKind));
-		}
-		String comment = "null".equals(data[9]) ? null : new String(Base64.decode(data[9].getBytes())); //$NON-NLS-1$
-		int changeMask = "null".equals(data[10]) ? ILocalResource.NO_MODIFICATION : Integer.parseInt(data[10]); //$NON-NLS-1$
-		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-
-		String propStatus = IStateFilter.ST_NORMAL;
-		if (data.length >= 23) {
-			propStatus = deserializeStatus(data[22]);
-		} else //set statuses for backward compatibility code
-		if ((changeMask & ILocalResource.PROP_MODIFIED) != 0) {
-			propStatus = IStateFilter.ST_MODIFIED;
-			if ((changeMask & ILocalResource.TEXT_MODIFIED) == 0) {
-				textStatus = IStateFilter.ST_NORMAL;
-			}
-		}
-
-		SVNConflictDescriptor treeConflict = getTreeConflictDescriptorFromString(name, data);
-		IResourceChange change = isFolder
-				? (IResourceChange) new SVNFolderChange(root.getContainerForLocation(new Path(name)), revision,
-						textStatus, propStatus, changeMask, author, lastCommitDate, treeConflict, pegRevision, comment)
-				: new SVNFileChange(root.getFileForLocation(new Path(name)), revision, textStatus, propStatus,
-						changeMask, author, lastCommitDate, treeConflict, pegRevision, comment);
-
-		if (!"null".equals(data[8])) { //$NON-NLS-1$
-			byte[] originatorData = Base64.decode(data[8].getBytes());
-			change.setOriginator(this.repositoryResourceFromBytes(originatorData));
-		}
-
-		return change;
-	}
-
-	protected SVNConflictDescriptor getTreeConflictDescriptorFromString(String path, String[] data) {
-		SVNConflictDescriptor conflictDescriptor = null;
-		if (data.length >= 23 && !"null".equals(data[11])) { //$NON-NLS-1$
-			SVNConflictDescriptor.Action action = "null".equals(data[11]) //$NON-NLS-1$
-					? SVNConflictDescriptor.Action.MODIFY
-					: SVNConflictDescriptor.Action.fromId(Integer.parseInt(data[11]));
-			SVNConflictDescriptor.Reason reason = "null".equals(data[12]) //$NON-NLS-1$
-					? SVNConflictDescriptor.Reason.MODIFIED
-					: SVNConflictDescriptor.Reason.fromId(Integer.parseInt(data[12]));
-			SVNConflictDescriptor.Operation operation = "null".equals(data[13]) //$NON-NLS-1$
-					? SVNConflictDescriptor.Operation.NONE
-					: SVNConflictDescriptor.Operation.fromId(Integer.parseInt(data[13]));
-			conflictDescriptor = new SVNConflictDescriptor(path, action, reason, operation,
-					getSVNConflictVersionFromString(data, true), getSVNConflictVersionFromString(data, false));
-		}
-		return conflictDescriptor;
+		return resourceChangeSerializer.fromBytes(bytes);
 	}
 
-	protected SVNConflictVersion getSVNConflictVersionFromString(String[] data, boolean isLeft) {
-		int indexShift = isLeft ? 0 : 4;
-		SVNEntry.Kind nodeKind = SVNEntry.Kind
-				.fromId("null".equals(data[14 + indexShift]) ? 0 : Integer.parseInt(data[14 + indexShift])); //$NON-NLS-1$
-		String pathInRepos = "null".equals(data[15 + indexShift]) //$NON-NLS-1$
-				? null
-				: new String(Base64.decode(data[15 + indexShift].getBytes()));
-		long pegRevision = "null".equals(data[16 + indexShift]) ? 0 : Long.parseLong(data[16 + indexShift]); //$NON-NLS-1$
-		String reposUrl = "null".equals(data[17 + indexShift]) //$NON-NLS-1$
-				? null
-				: new String(Base64.decode(data[17 + indexShift].getBytes()));
-		return new SVNConflictVersion(reposUrl, pegRevision, pathInRepos, nodeKind);
+	/**
+	 * Unlike {@link #resourceChangeFromBytes(byte[])}, which returns the shared change instances, creates a new change which could be
+	 * modified by the caller
+	 *
+	 * @param bytes
+	 *            the encoded change
+	 * @return the new change instance
+	 */
+	public IResourceChange newResourceChangeFromBytes(byte[] bytes) {
+		return resourceChangeSerializer.newFromBytes(bytes);
 	}
 
-	public synchronized IResource[] getRegisteredChildren(IContainer container) throws Exception {
+	public IResource[] getRegisteredChildren(IContainer container) throws Exception {
 		// for null and workspace root members shouldn't be provided
 		if (container == null || container.getProject() == null) {
 			return null;
 		}
 		IResource[] members = FileUtility.resourceMembers(container, false);
 
-		Map map = (Map) localResources.get(container);
+		Map<IResource, ILocalResource> map = localResources.getChildren(container);
 		if (map == null) {
-			loadLocalResourcesSubTree(container, IResource.DEPTH_ONE);
-			map = (Map) localResources.get(container);
+			localResources.lock(container);
+			try {
+				map = localResources.getChildren(container);
+				if (map == null) {
+					loadLocalResourcesSubTree(container, IResource.DEPTH_ONE);
+					map = localResources.getChildren(container);
+				}
+			} finally {
+				localResources.unlock(container);
+			}
 		}
-		Set retVal = null;
+		Set<IResource> retVal = null;
 		if (map != null) {
-			retVal = new HashSet(Arrays.asList(members));
-			for (Object local : map.values()) {
-				if (((ILocalResource) local).getStatus() != IStateFilter.ST_NOTEXISTS) {
-					retVal.add(((ILocalResource) local).getResource());
+			retVal = new HashSet<>(Arrays.asList(members));
+			for (ILocalResource local : map.values()) {
+				if (local.getStatus() != IStateFilter.ST_NOTEXISTS) {
+					retVal.add(local.getResource());
 				}
 			}
 		}
 
-		return retVal == null ? members : (IResource[]) retVal.toArray(new IResource[retVal.size()]);
+		return retVal == null ? members : retVal.toArray(new IResource[retVal.size()]);
 	}
 
 	@Override
@@ -447,20 +476,11 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 	}
 
 	protected ILocalResource getCachedResource(IResource resource) {
-		Map map = (Map) localResources.get(resource.getParent());
-		if (map != null) {
-			return (ILocalResource) map.get(resource);
-		}
-		return null;
+		return localResources.get(resource);
 	}
 
 	protected void setCachedResource(ILocalResource local) {
-		IResource parent = local.getResource().getParent();
-		Map map = (Map) localResources.get(parent);
-		if (map == null) {
-			localResources.put(parent, map = new HashMap());
-		}
-		map.put(local.getResource(), local);
+		localResources.put(local);
 	}
 
 	@Override
@@ -484,44 +504,104 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 		if (resource == null || resource.getProject() == null || !resource.getProject().isAccessible()) {
 			return wrapUnexistingResource(resource, IStateFilter.ST_INTERNAL_INVALID, 0);
 		}
-		synchronized (this) {
-			ILocalResource local = getCachedResource(resource);
+		ILocalResource local = getCachedResource(resource);
+		if (local != null) {
+			return local;
+		}
+		SVNStatusLoadPlanner.Request request = loadPlanner.register(resource, depth);
+		localResources.lock(resource);
+		try {
+			local = getCachedResource(resource);
 			if (local == null) {
-				try {
-					local = loadLocalResourcesSubTree(resource, depth);
-				} catch (RuntimeException ex) {
-					throw ex;
-				} catch (SVNConnectorException ex) {
-					return wrapUnexistingResource(resource, IStateFilter.ST_INTERNAL_INVALID, 0);
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
+				loadCoveringRequest(request);
+				local = getCachedResource(resource);
+			}
+			if (local == null) {
+				local = loadLocalResourcesSubTree(resource, depth);
 			}
 			return local;
+		} catch (RuntimeException ex) {
+			throw ex;
+		} catch (SVNConnectorException ex) {
+			return wrapUnexistingResource(resource, IStateFilter.ST_INTERNAL_INVALID, 0);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		} finally {
+			loadPlanner.unregister(request);
+			localResources.unlock(resource);
+		}
+	}
+
+	/**
+	 * Loads the statuses for the request together with the requests of the other threads waiting for the same working copy, so they
+	 * find their resources in the cache once the working copy is released
+	 */
+	protected void loadCoveringRequest(SVNStatusLoadPlanner.Request request) throws Exception {
+		if (!CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.SVN_CACHE_ENABLED)) {
+			return;
+		}
+		SVNStatusLoadPlanner.Request plan = loadPlanner.plan(request, resource -> getCachedResource(resource) != null);
+		if (plan != null) {
+			loadLocalResourcesSubTree(plan.resource, plan.depth);
+		}
+	}
+
+	/**
+	 * Loads the whole subtree of the folder with a single status call if its children aren't cached yet and the statuses are loaded
+	 * recursively. Otherwise the background prefetch would load the subtree level by level, with a status call per folder. When the
+	 * statuses are loaded level by level, the project lock is released between the levels, so the other threads are not blocked for
+	 * the time of the whole subtree load.
+	 */
+	protected void prefetchSubtree(IResource folder) {
+		if (suggestedLoadDepth != IResource.DEPTH_INFINITE || localResources.isLoaded(folder)
+				|| !CoreExtensionsManager.instance().getOptionProvider().is(IOptionProvider.SVN_CACHE_ENABLED)) {
+			return;
+		}
+		localResources.lock(folder);
+		try {
+			if (!localResources.isLoaded(folder)) {
+				loadLocalResourcesSubTree(folder, IResource.DEPTH_INFINITE);
+			}
+		} catch (RuntimeException ex) {
+			throw ex;
+		} catch (SVNConnectorException ex) {
+			// the children will be loaded while they are listed
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		} finally {
+			localResources.unlock(folder);
 		}
 	}
 
 	@Override
-	public synchronized void refreshLocalResources(IResource[] resources, int depth) {
+	public void refreshLocalResources(IResource[] resources, int depth) {
 		suggestedLoadDepth = IResource.DEPTH_ONE;
 		if (depth == IResource.DEPTH_INFINITE) {
 			resources = FileUtility.shrinkChildNodes(resources);
 			suggestedLoadDepth = IResource.DEPTH_INFINITE;
 		}
 		for (IResource element : resources) {
-			refreshLocalResourceImpl(element, depth);
-			localResources.remove(element.getParent());
+			localResources.lock(element);
+			try {
+				// the stored states should be invalidated too
+				if (localResourcesSnapshot != null && element.getProject() != null) {
+					localResourcesSnapshot.discard(element.getProject());
+				}
+				refreshLocalResourceImpl(element, depth);
+				localResources.remove(element.getParent());
+			} finally {
+				localResources.unlock(element);
+			}
 		}
 	}
 
 	@Override
 	public ILocalResource asLocalResource(IProject project, String url, int kind) {
 		synchronized (switchedToUrls) {
-			for (Iterator it = switchedToUrls.entrySet().iterator(); it.hasNext();) {
-				Map.Entry entry = (Map.Entry) it.next();
-				String cachedUrl = (String) entry.getValue();
+			for (Map.Entry<IPath, String> entry : switchedToUrls.entrySet()) {
+				String cachedUrl = entry.getValue();
 				if (SVNUtility.createPathForSVNUrl(cachedUrl).isPrefixOf(SVNUtility.createPathForSVNUrl(url))) {
-					IPath target = ((IPath) entry.getKey()).append(url.substring(cachedUrl.length()))
+					IPath target = entry.getKey().append(url.substring(cachedUrl.length()))
 							.removeFirstSegments(1);
 					return this.asLocalResource(
 							kind == IResource.FOLDER ? (IResource) project.getFolder(target) : project.getFile(target));
@@ -552,13 +632,13 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 
 		IRepositoryLocation location = baseResource.getRepositoryLocation();
 
-		String url = (String) switchedToUrls.get(resource.getFullPath());
+		String url = switchedToUrls.get(resource.getFullPath());
 		if (url == null) {
 			ILocalResource parent = getFirstExistingParentLocal(resource);
 			if (parent != null && (parent.getChangeMask() & ILocalResource.IS_SWITCHED) != 0) {
 				IPath parentPath = parent.getResource().getFullPath();
 				if (switchedToUrls.containsKey(parentPath)) {
-					url = (String) switchedToUrls.get(parentPath) + "/" //$NON-NLS-1$
+					url = switchedToUrls.get(parentPath) + "/" //$NON-NLS-1$
 							+ resource.getFullPath().removeFirstSegments(parentPath.segmentCount()).toString();
 				}
 			}
@@ -707,11 +787,10 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 				}
 			}
 			if (depth != IResource.DEPTH_ZERO) {
-				Map map = (Map) localResources.get(resource);
+				Map<IResource, ILocalResource> map = localResources.getChildren(resource);
 				if (map != null) {
-					for (Iterator it = map.keySet().iterator(); it.hasNext();) {
-						refreshLocalResourceImpl((IResource) it.next(),
-								depth == IResource.DEPTH_ONE ? IResource.DEPTH_ZERO : depth);
+					for (IResource child : map.keySet()) {
+						refreshLocalResourceImpl(child, depth == IResource.DEPTH_ONE ? IResource.DEPTH_ZERO : depth);
 					}
 				}
 			}
@@ -732,6 +811,11 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 				.is(IOptionProvider.SVN_CACHE_ENABLED);
 		if (!isCacheEnabled) {
 			localResources.clear();
+		} else if (restoreLocalResourcesSnapshot(resource)) {
+			ILocalResource local = getCachedResource(resource);
+			if (local != null) {
+				return local;
+			}
 		}
 		depth = isCacheEnabled ? depth : IResource.DEPTH_ZERO;
 
@@ -887,9 +971,9 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 		SVNChangeStatus[][] loadTargets = new SVNChangeStatus[1][];
 		ILocalResource retVal = fillCache(statuses, desiredUrl, resource, subPathStart, requestedPath, loadTargets);
 
-		if (statuses.length == 1 && !localResources.containsKey(target)) {
+		if (statuses.length == 1) {
 			// the caching is done for the folder if it is empty
-			localResources.put(target, new HashMap());
+			localResources.markLoaded(target);
 		}
 
 		statuses = loadTargets[0];
@@ -912,6 +996,7 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 	protected SVNChangeStatus[] getStatuses(String path, SVNDepth depth) throws Exception {
 		ISVNConnector proxy = CoreExtensionsManager.instance().getSVNConnectorFactory().createConnector();
 		try {
+			loadPlanner.statusCalled();
 			SVNChangeStatus[] statuses = SVNUtility.status(proxy, path, depth,
 					ISVNConnector.Options.INCLUDE_UNCHANGED | ISVNConnector.Options.INCLUDE_IGNORED,
 					new SVNNullProgressMonitor());
@@ -1060,6 +1145,7 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 								proxy = CoreExtensionsManager.instance().getSVNConnectorFactory().createConnector();
 							}
 							try {
+								loadPlanner.statusCalled();
 								SVNChangeStatus[] tStats = SVNUtility.status(proxy,
 										FileUtility.getWorkingCopyPath(tRes.getParent()), SVNDepth.IMMEDIATES,
 										ISVNConnector.Options.INCLUDE_UNCHANGED, new SVNNullProgressMonitor());
@@ -1273,6 +1359,7 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 			date = -1;
 		}
 
+		current = localResources.getSharedHandle(current);
 		local = current instanceof IContainer
 				? (SVNLocalResource) new SVNLocalFolder(current, revision, baseRevision, textStatus, propStatus,
 						changeMask, author, date, treeConflictDescriptor)
@@ -1281,10 +1368,10 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 
 		setCachedResource(local);
 
-		if (current.getType() == IResource.PROJECT && !changeMonitorMap.containsKey(current)) {
+		if (current.getType() == IResource.PROJECT && !changeMonitor.isRegistered(current)) {
 			File wcDB = FileUtility.findWCDB(FileUtility.getResourcePath(current).toFile());
 			if (wcDB != null) {
-				changeMonitorMap.put(current, wcDB);
+				changeMonitor.register(current, wcDB);
 			}
 		}
 
@@ -1468,6 +1555,11 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 			return target.equals(d.target);
 		}
 
+		@Override
+		public Object getMergeKey() {
+			return target;
+		}
+
 		@Override
 		public SvnChange merge(SvnChange d) {
 			SVNChangeStatus[] result = new SVNChangeStatus[st.length + d.st.length];
@@ -1489,8 +1581,10 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 	}
 
 	private SVNRemoteStorage() {
-		localResources = new HashMap(500);
-		switchedToUrls = Collections.synchronizedMap(new LinkedHashMap());
+		localResources = new SVNLocalResourceCache();
+		loadPlanner = new SVNStatusLoadPlanner();
+		resourceChangeSerializer = new SVNResourceChangeSerializer(this);
+		switchedToUrls = Collections.synchronizedMap(new LinkedHashMap<>());
 		externalsLocations = new HashMap();
 		resourceStateListeners = new HashMap<>();
 		fetchQueue = new AsynchronousActiveQueue<>("Operation_UpdateSVNCache",
@@ -1509,6 +1603,7 @@ public class SVNRemoteStorage extends AbstractSVNStorage implements IRemoteStora
 								ProgressMonitorUtility.setTaskInfo(monitor, op, folder.getFullPath().toString());
 								ILocalFolder local = (ILocalFolder) SVNRemoteStorage.this.asLocalResource(folder);
 								if (!IStateFilter.SF_INTERNAL_INVALID.accept(local)) {
+									SVNRemoteStorage.this.prefetchSubtree(folder);
 									local.getChildren();
 								}
 							}
@@ -1529,8 +1624,7 @@ for (int i = 0; i < listeners.length && !monitor.isCanceled(); i++) {
 				listeners[i].resourcesStateChanged(event);
 }
 }, true);
-		lastMonitorTime = System.currentTimeMillis();
-		changeMonitorMap = new HashMap<>();
+		changeMonitor = new WorkingCopyChangeMonitor();
 	}
 
 	private static final IStateFilter SF_NONSVN = new IStateFilter.AbstractStateFilter() {
@@ -21,8 +21,6 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,7 +43,6 @@ import org.eclipse.team.svn.core.connector.ssl.SSLServerCertificateInfo;
 import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
 import org.eclipse.team.svn.core.extension.options.IOptionProvider;
 import org.eclipse.team.svn.core.operation.AbstractActionOperation;
-import org.eclipse.team.svn.core.operation.ActivityCancelledException;
 import org.eclipse.team.svn.core.operation.LoggedOperation;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.operation.UnreportableException;
@@ -71,8 +68,6 @@ import org.eclipse.team.svn.core.utility.SVNUtility;
  */
 public class SVNRepositoryLocation extends SVNRepositoryBase
 		implements IRepositoryLocation, ISSHSettingsStateListener, ISSLSettingsStateListener, Serializable {
-	private static final int PROXY_CACHE_SIZE = 5;
-
 	private static final long serialVersionUID = -5820937379741639580L;
 
 	public static final int DEFAULT_CONNECTION = 0;
@@ -114,11 +109,7 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 	private SSHSettings sshSettings;
 
-	private transient List<ISVNConnector> proxyCache;
-
-	private transient HashSet<ISVNConnector> usedProxies;
-
-	private transient HashMap<Thread, ProxyHolder> thread2Proxy;
+	private transient SVNConnectorPool proxyPool;
 
 	private transient IRevisionLink[] revisionLinks;
 
@@ -126,8 +117,6 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 	protected transient ISVNCredentialsPrompt.Answer trustSite;
 
-	protected transient int proxyConfigurationState;
-
 	protected boolean authorNameEnabled;
 
 	protected String authorName;
@@ -141,8 +130,6 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 	private transient Integer lazyInitLock = 0;
 
-	private transient Integer proxyManagerLock = 0;
-
 	private transient Integer repositoryRootLock = 0;
 
 	private transient Integer authInitLock = 0;
@@ -678,56 +665,7 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 	@Override
 	public ISVNConnector acquireSVNProxy() {
-		ISVNConnector retVal = null;
-		boolean isNew = false;
-		synchronized (proxyManagerLock) {
-			try {
-				// initialize proxy cache, usedProxies list and thread2Proxy map
-				List<ISVNConnector> cache = getProxyCache();
-
-				// make the method reenterable: the same thread must use the same proxy. Access from call-backs must be controlled by programmer
-				Thread current = Thread.currentThread();
-				ProxyHolder holder = thread2Proxy.get(current);
-				if (holder != null) {
-					holder.referenceCounter++;
-					return holder.proxy;
-				}
-
-				if (proxyConfigurationState == 1) {
-					try {
-						proxyManagerLock.wait();
-					} catch (InterruptedException ex) {
-					}
-					if (proxyConfigurationState != 2) {
-						throw new ActivityCancelledException(
-								SVNMessages.getErrorString("Error_AuthenticationCancelled")); //$NON-NLS-1$
-					}
-				} else if (proxyConfigurationState == 0) {
-					proxyConfigurationState = 1;
-				}
-
-				if (cache.size() == 0) {
-					retVal = newProxyInstance();
-					isNew = true;
-				} else {
-					retVal = cache.remove(0);
-				}
-
-				usedProxies.add(retVal);
-				thread2Proxy.put(current, new ProxyHolder(retVal));
-			} catch (RuntimeException e) {
-				proxyConfigurationState = 0;
-				proxyManagerLock.notifyAll();
-				throw e;
-			} catch (Throwable e) {
-				proxyConfigurationState = 0;
-				proxyManagerLock.notifyAll();
-				throw new RuntimeException(e);
-			}
-		}
-		if (isNew) { // configure a new proxy later in order to avoid recursive deadlocks when there is a misconfiguration of some sort
-			SVNUtility.configureProxy(retVal, this);
-		}
+		ISVNConnector retVal = getProxyPool().borrow();
 		fireProxyAcquired(retVal);
 		return retVal;
 	}
@@ -735,54 +673,45 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 	@Override
 	public void releaseSVNProxy(ISVNConnector proxy) {
 		fireProxyDisposed(proxy);
-		synchronized (proxyManagerLock) {
-			List<ISVNConnector> proxies = getProxyCache();
-
-			Thread current = Thread.currentThread();
-			ProxyHolder holder = thread2Proxy.get(current);
-
-			if (--holder.referenceCounter > 0) {
-				return;
-			}
-
-			thread2Proxy.remove(current);
-			// Proxy should be always removed from the usedProxies list. So, do it first.
-			if (!usedProxies.remove(proxy) || proxies.size() >= SVNRepositoryLocation.PROXY_CACHE_SIZE) {
-				// The function code is sensitive to exceptions. So, disallow error reporting in that case.
-				try {
-					proxy.dispose();
-				} catch (Throwable ex) {
-				}
-			} else {
-				proxies.add(proxy);
-			}
-
-			if (proxyConfigurationState == 1) {
-				proxyConfigurationState = 2;
-			}
-			proxyManagerLock.notifyAll();
-		}
+		getProxyPool().release(proxy);
 	}
 
 	@Override
 	public void reconfigure() {
-		synchronized (proxyManagerLock) {
-			proxyConfigurationState = 0;
+		SVNConnectorPool pool = getProxyPool();
+		pool.runLocked(() -> {
+			pool.resetConfigurationState();
 			reconfigureImpl();
-		}
+		});
 	}
 
 	@Override
 	public void dispose() {
-		synchronized (proxyManagerLock) {
-			reconfigureProxies(proxy -> {
-				// When exiting Eclipse IDE connector plug-in's can be stopped before Core. So, disallow error reporting in that case.
-				try {
-					proxy.dispose();
-				} catch (Throwable ex) {
-				}
-			});
-			getProxyCache().clear();
+		// When exiting Eclipse IDE connector plug-in's can be stopped before Core. So, errors are not reported by the pool.
+		getProxyPool().clear();
+	}
+
+	/**
+	 * Returns the connectors pool of the location, which could be used in order to get the pool usage statistics
+	 *
+	 * @return the connectors pool
+	 */
+	public SVNConnectorPool getProxyPool() {
+		synchronized (lazyInitLock) {
+			if (proxyPool == null) {
+				proxyPool = new SVNConnectorPool(new SVNConnectorPool.IConnectorFactory() {
+					@Override
+					public ISVNConnector newInstance() {
+						return newProxyInstance();
+					}
+
+					@Override
+					public void configure(ISVNConnector proxy) {
+						SVNUtility.configureProxy(proxy, SVNRepositoryLocation.this);
+					}
+				});
+			}
+			return proxyPool;
 		}
 	}
 
@@ -919,27 +848,7 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 	}
 
 	protected void reconfigureImpl() {
-		reconfigureProxies(proxy -> SVNUtility.configureProxy(proxy, SVNRepositoryLocation.this));
-	}
-
-	protected void reconfigureProxies(IProxyVisitor visitor) {
-		visitProxies(visitor);
-		usedProxies.clear();
-	}
-
-	protected void visitProxies(IProxyVisitor visitor) {
-		for (ISVNConnector proxy : getProxyCache()) {
-			visitor.visit(proxy);
-		}
-	}
-
-	protected List<ISVNConnector> getProxyCache() {
-		if (proxyCache == null) {
-			proxyCache = new ArrayList<>();
-			usedProxies = new HashSet<>();
-			thread2Proxy = new HashMap<>();
-		}
-		return proxyCache;
+		getProxyPool().reconfigure(proxy -> SVNUtility.configureProxy(proxy, SVNRepositoryLocation.this));
 	}
 
 	protected ISVNConnector newProxyInstance() {
@@ -1056,14 +965,9 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 	private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
 		lazyInitLock = 0;
-		proxyManagerLock = 0;
 		repositoryRootLock = 0;
 	}
 
-	protected interface IProxyVisitor {
-		void visit(ISVNConnector proxy);
-	}
-
 	public static class BaseCredentialsPromptWrapper implements ISVNCredentialsPrompt {
 		protected ISVNCredentialsPrompt prompt;
 
@@ -1326,7 +1230,7 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 				if (trustSite != ISVNCredentialsPrompt.Answer.REJECT) {
 					trustSiteDefined = true;
 				} else {
-					proxyConfigurationState = 0;
+					getProxyPool().resetConfigurationState();
 				}
 				return trustSite;
 			}
@@ -1335,29 +1239,19 @@ public class SVNRepositoryLocation extends SVNRepositoryBase
 
 		@Override
 		protected void checkForSave(boolean retVal, int connectionType) {
-			synchronized (proxyManagerLock) {
+			SVNConnectorPool pool = getProxyPool();
+			pool.runLocked(() -> {
 				if (retVal) {
 					super.checkForSave(retVal, connectionType);
 				} else {
-					proxyConfigurationState = 0;
+					pool.resetConfigurationState();
 				}
 				reconfigureImpl();
-			}
+			});
 		}
 
 	}
 
-	protected static class ProxyHolder {
-		public final ISVNConnector proxy;
-
-		public int referenceCounter;
-
-		public ProxyHolder(ISVNConnector proxy) {
-			this.proxy = proxy;
-			referenceCounter = 1;
-		}
-	}
-
 	@Override
 	public boolean isPasswordSavedForRealm(String realm) {
 		IRepositoryLocation locationForRealm = this.getAdditionalRealms().get(realm);
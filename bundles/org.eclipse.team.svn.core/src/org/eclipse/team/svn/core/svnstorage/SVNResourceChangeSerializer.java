@@ -0,0 +1,513 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.core.internal.preferences.Base64;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.SVNMessages;
+import org.eclipse.team.svn.core.connector.SVNConflictDescriptor;
+import org.eclipse.team.svn.core.connector.SVNConflictVersion;
+import org.eclipse.team.svn.core.connector.SVNEntry;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.resource.ILocalFolder;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.resource.IResourceChange;
+import org.eclipse.team.svn.core.utility.FileUtility;
+
+/**
+ * Binary serialization of {@link IResourceChange} used by the remote status caches.
+ *
+ * Numbers are written as variable length integers, statuses as indexes in the table of the known statuses and the resource as its
+ * project name followed by the project relative path, so no location lookups are required while decoding. The textual format written by
+ * the previous versions is still readable. Decoded changes are cached by content, so the repeated requests for the same data do not parse
+ * it again and get the same change instance.
+ *
+ * The parent folders of the decoded resources are kept in a shared dictionary, so the changes of the same folder share the parent path.
+ * The dictionary isn't a part of the binary format: the records are persisted one by one as the synchronization info of the workspace
+ * resources and should stay readable on their own in the next session.
+ */
+public class SVNResourceChangeSerializer {
+	/**
+	 * The first byte of the binary format. The textual format always starts with "true" or "false".
+	 */
+	protected static final int FORMAT_MARKER = 0;
+
+	protected static final int FORMAT_VERSION = 1;
+
+	protected static final int FLAG_FOLDER = 0x01;
+
+	protected static final int FLAG_COMMENT = 0x02;
+
+	protected static final int FLAG_ORIGINATOR = 0x04;
+
+	protected static final int FLAG_TREE_CONFLICT = 0x08;
+
+	protected static final String[] STATUSES = { IStateFilter.ST_NOTEXISTS, IStateFilter.ST_IGNORED, IStateFilter.ST_NEW,
+			IStateFilter.ST_ADDED, IStateFilter.ST_NORMAL, IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING,
+			IStateFilter.ST_DELETED, IStateFilter.ST_MISSING, IStateFilter.ST_OBSTRUCTED, IStateFilter.ST_PREREPLACED,
+			IStateFilter.ST_REPLACED };
+
+	protected static final int CACHE_SIZE = 2048;
+
+	protected static final int PARENTS_SIZE = 4096;
+
+	protected final SVNRemoteStorage storage;
+
+	protected final AtomicReferenceArray<CacheEntry> cache;
+
+	protected final Map<String, IContainer> parents;
+
+	public SVNResourceChangeSerializer(SVNRemoteStorage storage) {
+		this.storage = storage;
+		cache = new AtomicReferenceArray<>(CACHE_SIZE);
+		parents = new ConcurrentHashMap<>();
+	}
+
+	public byte[] toBytes(IResourceChange change) {
+		if (change == null) {
+			return null;
+		}
+		String comment = change.getComment();
+		byte[] originator = change.getOriginator() != null
+				? storage.repositoryResourceAsBytes(change.getOriginator())
+				: null;
+		SVNConflictDescriptor treeConflict = change.getTreeConflictDescriptor();
+		int flags = (change instanceof ILocalFolder ? FLAG_FOLDER : 0) | (comment != null ? FLAG_COMMENT : 0)
+				| (originator != null ? FLAG_ORIGINATOR : 0) | (treeConflict != null ? FLAG_TREE_CONFLICT : 0);
+
+		Writer out = new Writer();
+		out.write(FORMAT_MARKER);
+		out.write(FORMAT_VERSION);
+		out.writeInt(flags);
+		IResource resource = change.getResource();
+		IProject project = resource.getProject();
+		out.writeString(project != null ? project.getName() : ""); //$NON-NLS-1$
+		out.writeString(project != null ? resource.getProjectRelativePath().toPortableString() : ""); //$NON-NLS-1$
+		out.writeLong(change.getRevision());
+		out.write(SVNResourceChangeSerializer.statusIndex(change.getTextStatus()));
+		out.write(SVNResourceChangeSerializer.statusIndex(change.getPropStatus()));
+		out.writeInt(change.getChangeMask());
+		out.writeString(change.getAuthor());
+		out.writeLong(change.getLastCommitDate());
+		SVNRevision pegRevision = change.getPegRevision();
+		out.writeInt(pegRevision.getKind().id);
+		if (pegRevision.getKind() == SVNRevision.Kind.NUMBER) {
+			out.writeLong(((SVNRevision.Number) pegRevision).getNumber());
+		}
+		if (comment != null) {
+			out.writeString(comment);
+		}
+		if (originator != null) {
+			out.writeBytes(originator);
+		}
+		if (treeConflict != null) {
+			out.writeInt(treeConflict.action.id);
+			out.writeInt(treeConflict.reason.id);
+			out.writeInt(treeConflict.operation.id);
+			SVNResourceChangeSerializer.writeConflictVersion(out, treeConflict.srcLeftVersion);
+			SVNResourceChangeSerializer.writeConflictVersion(out, treeConflict.srcRightVersion);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decodes the resource change. The same data gives the same change instance while it stays in the cache, so the returned change
+	 * should not be modified.
+	 *
+	 * @param bytes
+	 *            the encoded change
+	 * @return the shared change instance
+	 */
+	public IResourceChange fromBytes(byte[] bytes) {
+		CacheEntry entry = getEntry(bytes);
+		return entry == null ? null : entry.change;
+	}
+
+	/**
+	 * Decodes the resource change into a new instance which could be modified by the caller
+	 *
+	 * @param bytes
+	 *            the encoded change
+	 * @return the new change instance
+	 */
+	public IResourceChange newFromBytes(byte[] bytes) {
+		CacheEntry entry = getEntry(bytes);
+		return entry == null ? null : entry.record.toResourceChange(storage);
+	}
+
+	public void clearCache() {
+		for (int i = 0; i < CACHE_SIZE; i++) {
+			cache.set(i, null);
+		}
+		parents.clear();
+	}
+
+	protected CacheEntry getEntry(byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		int hash = Arrays.hashCode(bytes);
+		int index = hash & CACHE_SIZE - 1;
+		CacheEntry entry = cache.get(index);
+		if (entry == null || entry.hash != hash || entry.bytes != bytes && !Arrays.equals(entry.bytes, bytes)) {
+			Record record = bytes.length > 0 && bytes[0] == FORMAT_MARKER ? decode(bytes) : decodeText(bytes);
+			cache.set(index, entry = new CacheEntry(bytes, hash, record, record.toResourceChange(storage)));
+		}
+		return entry;
+	}
+
+	protected IContainer getParent(IProject project, String path) {
+		int idx = path.lastIndexOf('/');
+		if (idx < 0) {
+			return project;
+		}
+		if (parents.size() >= PARENTS_SIZE) {
+			parents.clear();
+		}
+		String parentPath = path.substring(0, idx);
+		return parents.computeIfAbsent(project.getName() + '/' + parentPath, key -> project.getFolder(parentPath));
+	}
+
+	protected Record decode(byte[] bytes) {
+		Reader in = new Reader(bytes);
+		in.read(); // marker
+		int version = in.read();
+		if (version != FORMAT_VERSION) {
+			throw new IllegalArgumentException("Unsupported resource change format version: " + version); //$NON-NLS-1$
+		}
+		Record record = new Record();
+		int flags = in.readInt();
+		record.isFolder = (flags & FLAG_FOLDER) != 0;
+		String projectName = in.readString();
+		String path = in.readString();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		if (projectName.length() == 0) {
+			record.resource = root;
+		} else {
+			IProject project = root.getProject(projectName);
+			if (path.length() == 0) {
+				record.resource = project;
+			} else {
+				IContainer parent = getParent(project, path);
+				Path name = new Path(path.substring(path.lastIndexOf('/') + 1));
+				record.resource = record.isFolder ? parent.getFolder(name) : parent.getFile(name);
+			}
+		}
+		record.revision = in.readLong();
+		record.textStatus = SVNResourceChangeSerializer.statusFromIndex(in.read());
+		record.propStatus = SVNResourceChangeSerializer.statusFromIndex(in.read());
+		record.changeMask = in.readInt();
+		record.author = in.readString();
+		record.lastCommitDate = in.readLong();
+		int pegKind = in.readInt();
+		if (pegKind == SVNRevision.Kind.NUMBER.id) {
+			long pegNum = in.readLong();
+			record.pegRevision = pegNum == record.revision || record.revision == SVNRevision.INVALID_REVISION_NUMBER
+					? null
+					: SVNRevision.fromNumber(pegNum);
+		} else {
+			record.pegRevision = SVNRevision.fromKind(SVNRevision.Kind.fromId(pegKind));
+		}
+		if ((flags & FLAG_COMMENT) != 0) {
+			record.comment = in.readString();
+		}
+		if ((flags & FLAG_ORIGINATOR) != 0) {
+			record.originator = in.readBytes();
+		}
+		if ((flags & FLAG_TREE_CONFLICT) != 0) {
+			SVNConflictDescriptor.Action action = SVNConflictDescriptor.Action.fromId(in.readInt());
+			SVNConflictDescriptor.Reason reason = SVNConflictDescriptor.Reason.fromId(in.readInt());
+			SVNConflictDescriptor.Operation operation = SVNConflictDescriptor.Operation.fromId(in.readInt());
+			SVNConflictVersion left = SVNResourceChangeSerializer.readConflictVersion(in);
+			SVNConflictVersion right = SVNResourceChangeSerializer.readConflictVersion(in);
+			record.treeConflict = new SVNConflictDescriptor(FileUtility.getWorkingCopyPath(record.resource), action,
+					reason, operation, left, right);
+		}
+		return record;
+	}
+
+	/**
+	 * Reads the textual format written by the previous versions
+	 */
+	protected Record decodeText(byte[] bytes) {
+		String[] data = new String(bytes).split(";"); //$NON-NLS-1$
+		Record record = new Record();
+		record.isFolder = "true".equals(data[0]); //$NON-NLS-1$
+		String name = new String(Base64.decode(data[1].getBytes()));
+		record.revision = Long.parseLong(data[2]);
+		record.textStatus = storage.deserializeStatus(data[3]);
+		record.author = "null".equals(data[4]) ? null : data[4]; //$NON-NLS-1$
+		record.lastCommitDate = "null".equals(data[5]) ? 0 : Long.parseLong(data[5]); //$NON-NLS-1$
+		int revisionKind = Integer.parseInt(data[6]);
+		if (revisionKind == SVNRevision.Kind.NUMBER.id) {
+			long pegNum = Long.parseLong(data[7]);
+			record.pegRevision = pegNum == record.revision || record.revision == SVNRevision.INVALID_REVISION_NUMBER
+					? null
+					: SVNRevision.fromNumber(pegNum);
+		} else {
+			record.pegRevision = SVNRevision.fromKind(SVNRevision.Kind.fromId(revisionKind));
+		}
+		record.comment = "null".equals(data[9]) ? null : new String(Base64.decode(data[9].getBytes())); //$NON-NLS-1$
+		record.changeMask = "null".equals(data[10]) ? ILocalResource.NO_MODIFICATION : Integer.parseInt(data[10]); //$NON-NLS-1$
+
+		record.propStatus = IStateFilter.ST_NORMAL;
+		if (data.length >= 23) {
+			record.propStatus = storage.deserializeStatus(data[22]);
+		} else //set statuses for backward compatibility code
+		if ((record.changeMask & ILocalResource.PROP_MODIFIED) != 0) {
+			record.propStatus = IStateFilter.ST_MODIFIED;
+			if ((record.changeMask & ILocalResource.TEXT_MODIFIED) == 0) {
+				record.textStatus = IStateFilter.ST_NORMAL;
+			}
+		}
+
+		if (data.length >= 23 && !"null".equals(data[11])) { //$NON-NLS-1$
+			SVNConflictDescriptor.Action action = SVNConflictDescriptor.Action.fromId(Integer.parseInt(data[11]));
+			SVNConflictDescriptor.Reason reason = "null".equals(data[12]) //$NON-NLS-1$
+					? SVNConflictDescriptor.Reason.MODIFIED
+					: SVNConflictDescriptor.Reason.fromId(Integer.parseInt(data[12]));
+			SVNConflictDescriptor.Operation operation = "null".equals(data[13]) //$NON-NLS-1$
+					? SVNConflictDescriptor.Operation.NONE
+					: SVNConflictDescriptor.Operation.fromId(Integer.parseInt(data[13]));
+			record.treeConflict = new SVNConflictDescriptor(name, action, reason, operation,
+					SVNResourceChangeSerializer.getConflictVersionFromString(data, 14),
+					SVNResourceChangeSerializer.getConflictVersionFromString(data, 18));
+		}
+
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		record.resource = record.isFolder
+				? root.getContainerForLocation(new Path(name))
+				: root.getFileForLocation(new Path(name));
+
+		if (!"null".equals(data[8])) { //$NON-NLS-1$
+			record.originator = Base64.decode(data[8].getBytes());
+		}
+		return record;
+	}
+
+	protected static SVNConflictVersion getConflictVersionFromString(String[] data, int offset) {
+		SVNEntry.Kind nodeKind = SVNEntry.Kind
+				.fromId("null".equals(data[offset]) ? 0 : Integer.parseInt(data[offset])); //$NON-NLS-1$
+		String pathInRepos = "null".equals(data[offset + 1]) //$NON-NLS-1$
+				? null
+				: new String(Base64.decode(data[offset + 1].getBytes()));
+		long pegRevision = "null".equals(data[offset + 2]) ? 0 : Long.parseLong(data[offset + 2]); //$NON-NLS-1$
+		String reposUrl = "null".equals(data[offset + 3]) //$NON-NLS-1$
+				? null
+				: new String(Base64.decode(data[offset + 3].getBytes()));
+		return new SVNConflictVersion(reposUrl, pegRevision, pathInRepos, nodeKind);
+	}
+
+	protected static void writeConflictVersion(Writer out, SVNConflictVersion version) {
+		out.write(version != null ? 1 : 0);
+		if (version != null) {
+			out.writeInt(version.nodeKind.id);
+			out.writeString(version.pathInRepos);
+			out.writeLong(version.pegRevision);
+			out.writeString(version.reposURL);
+		}
+	}
+
+	protected static SVNConflictVersion readConflictVersion(Reader in) {
+		if (in.read() == 0) {
+			// the textual format always provided the conflict versions, so do the same
+			return new SVNConflictVersion(null, 0, null, SVNEntry.Kind.NONE);
+		}
+		SVNEntry.Kind nodeKind = SVNEntry.Kind.fromId(in.readInt());
+		String pathInRepos = in.readString();
+		long pegRevision = in.readLong();
+		String reposUrl = in.readString();
+		return new SVNConflictVersion(reposUrl, pegRevision, pathInRepos, nodeKind);
+	}
+
+	protected static int statusIndex(String status) {
+		for (int i = 0; i < STATUSES.length; i++) {
+			if (STATUSES[i] == null ? status == null : STATUSES[i].equals(status)) {
+				return i;
+			}
+		}
+		throw new RuntimeException(SVNMessages.getErrorString("Error_UnknownStatus")); //$NON-NLS-1$
+	}
+
+	protected static String statusFromIndex(int index) {
+		if (index < 0 || index >= STATUSES.length) {
+			throw new RuntimeException(SVNMessages.getErrorString("Error_UnknownStatus")); //$NON-NLS-1$
+		}
+		return STATUSES[index];
+	}
+
+	/**
+	 * Decoded immutable part of a resource change, allows to create new resource changes without parsing the data again
+	 */
+	protected static class Record {
+		public boolean isFolder;
+
+		public IResource resource;
+
+		public long revision;
+
+		public String textStatus;
+
+		public String propStatus;
+
+		public int changeMask;
+
+		public String author;
+
+		public long lastCommitDate;
+
+		public SVNRevision pegRevision;
+
+		public String comment;
+
+		public byte[] originator;
+
+		public SVNConflictDescriptor treeConflict;
+
+		public IResourceChange toResourceChange(SVNRemoteStorage storage) {
+			IResourceChange change = isFolder
+					? (IResourceChange) new SVNFolderChange(resource, revision, textStatus, propStatus, changeMask,
+							author, lastCommitDate, treeConflict, pegRevision, comment)
+					: new SVNFileChange(resource, revision, textStatus, propStatus, changeMask, author,
+							lastCommitDate, treeConflict, pegRevision, comment);
+			if (originator != null) {
+				change.setOriginator(storage.repositoryResourceFromBytes(originator));
+			}
+			return change;
+		}
+	}
+
+	protected static class CacheEntry {
+		public final byte[] bytes;
+
+		public final int hash;
+
+		public final Record record;
+
+		public final IResourceChange change;
+
+		public CacheEntry(byte[] bytes, int hash, Record record, IResourceChange change) {
+			this.bytes = bytes;
+			this.hash = hash;
+			this.record = record;
+			this.change = change;
+		}
+	}
+
+	protected static class Writer extends ByteArrayOutputStream {
+		public Writer() {
+			super(64);
+		}
+
+		public void writeInt(int value) {
+			while ((value & ~0x7F) != 0) {
+				write(value & 0x7F | 0x80);
+				value >>>= 7;
+			}
+			write(value);
+		}
+
+		public void writeLong(long value) {
+			// zig-zag encoding keeps small negative values (like invalid revision numbers) short
+			value = value << 1 ^ value >> 63;
+			while ((value & ~0x7FL) != 0) {
+				write((int) (value & 0x7F | 0x80));
+				value >>>= 7;
+			}
+			write((int) value);
+		}
+
+		public void writeBytes(byte[] data) {
+			writeInt(data.length);
+			write(data, 0, data.length);
+		}
+
+		public void writeString(String value) {
+			if (value == null) {
+				writeInt(0);
+				return;
+			}
+			byte[] data = value.getBytes(StandardCharsets.UTF_8);
+			writeInt(data.length + 1);
+			write(data, 0, data.length);
+		}
+	}
+
+	protected static class Reader {
+		protected final byte[] data;
+
+		protected int position;
+
+		public Reader(byte[] data) {
+			this.data = data;
+		}
+
+		public int read() {
+			return data[position++] & 0xFF;
+		}
+
+		public int readInt() {
+			int value = 0;
+			for (int shift = 0;; shift += 7) {
+				int b = read();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+		}
+
+		public long readLong() {
+			long value = 0;
+			for (int shift = 0;; shift += 7) {
+				int b = read();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value >>> 1 ^ -(value & 1);
+				}
+			}
+		}
+
+		public byte[] readBytes() {
+			int length = readInt();
+			byte[] retVal = Arrays.copyOfRange(data, position, position + length);
+			position += length;
+			return retVal;
+		}
+
+		public String readString() {
+			int length = readInt() - 1;
+			if (length < 0) {
+				return null;
+			}
+			String retVal = new String(data, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return retVal;
+		}
+	}
+
+}
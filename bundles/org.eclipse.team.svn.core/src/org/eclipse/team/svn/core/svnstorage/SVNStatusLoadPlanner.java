@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.team.svn.core.operation.IActionOperation;
+import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+
+/**
+ * Plans the local statuses loading for {@link SVNRemoteStorage}.
+ * 
+ * The cache misses of the threads waiting for the same working copy are registered here, so the thread which loads the statuses could
+ * cover all of them with a single status call on their common parent. The waiting threads then find their resources in the cache. Also
+ * the number of status calls made on behalf of each operation is counted.
+ */
+public class SVNStatusLoadPlanner {
+	/**
+	 * The maximum number of levels between the folders of the coalesced cache misses and their common parent. The common parent is
+	 * loaded recursively, so its subtree should not be much larger than the requested folders.
+	 */
+	protected static final int MAX_ESCALATION_DISTANCE = 1;
+
+	protected final Map<IProject, Set<Request>> pending;
+
+	protected final Map<String, AtomicLong> statusCalls;
+
+	protected final AtomicLong coalescedCount;
+
+	/**
+	 * The cache miss of some thread
+	 */
+	public static class Request {
+		public final IResource resource;
+
+		public final int depth;
+
+		protected final Thread thread;
+
+		public Request(IResource resource, int depth) {
+			this.resource = resource;
+			this.depth = depth;
+			thread = Thread.currentThread();
+		}
+
+		@Override
+		public String toString() {
+			return "Request [" + resource + ", depth: " + depth + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	public SVNStatusLoadPlanner() {
+		pending = new ConcurrentHashMap<>();
+		statusCalls = new ConcurrentHashMap<>();
+		coalescedCount = new AtomicLong();
+	}
+
+	/**
+	 * Registers the cache miss before the thread starts waiting for the working copy
+	 * 
+	 * @param resource
+	 *            the resource which is not cached
+	 * @param depth
+	 *            the depth the resource statuses are going to be loaded with
+	 * @return the registered request
+	 */
+	public Request register(IResource resource, int depth) {
+		Request request = new Request(resource, depth);
+		pending.compute(resource.getProject(), (key, requests) -> {
+			Set<Request> retVal = requests != null ? requests : ConcurrentHashMap.newKeySet();
+			retVal.add(request);
+			return retVal;
+		});
+		return request;
+	}
+
+	public void unregister(Request request) {
+		// the sets of the projects without cache misses are removed, so closed and deleted projects are not retained
+		pending.computeIfPresent(request.resource.getProject(), (key, requests) -> {
+			requests.remove(request);
+			return requests.isEmpty() ? null : requests;
+		});
+	}
+
+	/**
+	 * Plans the load which covers the request together with the requests of the other threads waiting for the same working copy
+	 * 
+	 * @param request
+	 *            the request of the thread which is going to load the statuses
+	 * @param isCached
+	 *            checks if the resource is already cached
+	 * @return the covering request or <code>null</code> if the request should be loaded as is
+	 */
+	public Request plan(Request request, Predicate<IResource> isCached) {
+		Set<Request> requests = pending.get(request.resource.getProject());
+		if (requests == null) {
+			return null;
+		}
+		IResource target = SVNStatusLoadPlanner.getTarget(request.resource);
+		IResource parent = target;
+		int depth = request.depth;
+		boolean sameTarget = true;
+		int covered = 0;
+		int deepest = target.getFullPath().segmentCount();
+		for (Request other : requests) {
+			if (other.thread == request.thread || isCached.test(other.resource)) {
+				continue;
+			}
+			IResource otherTarget = SVNStatusLoadPlanner.getTarget(other.resource);
+			parent = SVNStatusLoadPlanner.getCommonParent(parent, otherTarget);
+			if (parent == null) {
+				return null;
+			}
+			// different folders are covered by the recursive load of their parent
+			sameTarget &= otherTarget.equals(target);
+			depth = Math.max(depth, sameTarget ? other.depth : IResource.DEPTH_INFINITE);
+			deepest = Math.max(deepest, otherTarget.getFullPath().segmentCount());
+			covered++;
+		}
+		// the statuses of the project itself are always loaded non-recursively
+		if (covered == 0 || sameTarget && depth == request.depth
+				|| !sameTarget && (parent.getType() == IResource.PROJECT || deepest
+						- parent.getFullPath().segmentCount() > SVNStatusLoadPlanner.MAX_ESCALATION_DISTANCE)) {
+			return null;
+		}
+		coalescedCount.addAndGet(covered);
+		return new Request(parent, depth);
+	}
+
+	/**
+	 * Counts the status call made on behalf of the current operation
+	 */
+	public void statusCalled() {
+		statusCalls.computeIfAbsent(SVNStatusLoadPlanner.getActionName(), key -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * @return number of the status calls made on behalf of each operation, sorted by the operation names
+	 */
+	public Map<String, Long> getStatusCallCounts() {
+		Map<String, Long> retVal = new TreeMap<>();
+		for (Map.Entry<String, AtomicLong> entry : statusCalls.entrySet()) {
+			retVal.put(entry.getKey(), entry.getValue().get());
+		}
+		return retVal;
+	}
+
+	/**
+	 * @return total number of the status calls
+	 */
+	public long getStatusCallCount() {
+		long retVal = 0;
+		for (AtomicLong count : statusCalls.values()) {
+			retVal += count.get();
+		}
+		return retVal;
+	}
+
+	/**
+	 * @return number of the cache misses covered by the status calls made by the other threads
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	public void resetStatistics() {
+		statusCalls.clear();
+		coalescedCount.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "SVNStatusLoadPlanner [status calls: " + getStatusCallCount() + ", coalesced: " + getCoalescedCount() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", by operation: " + getStatusCallCounts() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the folder the statuses are loaded for in order to get the resource status
+	 */
+	protected static IResource getTarget(IResource resource) {
+		return resource.getType() == IResource.FILE ? resource.getParent() : resource;
+	}
+
+	protected static IResource getCommonParent(IResource first, IResource second) {
+		while (first != null && !first.getFullPath().isPrefixOf(second.getFullPath())) {
+			first = first.getParent();
+		}
+		return first != null && first.getType() != IResource.ROOT ? first : null;
+	}
+
+	/**
+	 * Returns the name of the outermost operation running in the current thread, or the name of the job or thread if there is none
+	 */
+	protected static String getActionName() {
+		IActionOperation operation = ProgressMonitorUtility.getCurrentOperation();
+		if (operation != null) {
+			return operation.getOperationName();
+		}
+		Job job = Job.getJobManager().currentJob();
+		return job != null ? job.getName() : Thread.currentThread().getName();
+	}
+
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.svnstorage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.team.svn.core.operation.LoggedOperation;
+
+/**
+ * Detects changes made to the working copies by external tools.
+ * 
+ * The folders containing working copy databases are watched by the {@link WatchService}, so only the working copies which were really
+ * changed are reported. Events are coalesced per working copy and reported only after the working copy stays quiet for a while, so a
+ * long-running external command causes a single refresh. If the watch service is not available or a folder could not be registered, the
+ * database modification time is polled instead.
+ */
+public class WorkingCopyChangeMonitor {
+	/**
+	 * A working copy is reported once no new events came for it during this period, in milliseconds
+	 */
+	public static final long DEBOUNCE_DELAY = 500;
+
+	/**
+	 * A working copy which is changed continuously is reported at least once per this period, in milliseconds
+	 */
+	public static final long MAX_DELAY = 5000;
+
+	protected static final String WC_DB_NAME = "wc.db"; //$NON-NLS-1$
+
+	protected WatchService watcher;
+
+	protected final Map<WatchKey, Set<IResource>> watched;
+
+	protected final Set<IResource> registered;
+
+	protected final Map<IResource, File> polled;
+
+	protected final Map<WatchKey, PendingChange> pending;
+
+	protected long lastPollTime;
+
+	public WorkingCopyChangeMonitor() {
+		watched = new HashMap<>();
+		registered = new LinkedHashSet<>();
+		polled = new HashMap<>();
+		pending = new HashMap<>();
+		lastPollTime = System.currentTimeMillis();
+		try {
+			watcher = FileSystems.getDefault().newWatchService();
+		} catch (IOException | UnsupportedOperationException ex) {
+			LoggedOperation.reportError(this.getClass().getName(), ex);
+		}
+	}
+
+	public synchronized boolean isRegistered(IResource root) {
+		return registered.contains(root);
+	}
+
+	/**
+	 * Starts monitoring of the working copy database for the specified root
+	 * 
+	 * @param root
+	 *            the project the working copy belongs to
+	 * @param wcDB
+	 *            the working copy database file
+	 */
+	public synchronized void register(IResource root, File wcDB) {
+		if (!registered.add(root)) {
+			return;
+		}
+		if (watcher != null) {
+			try {
+				WatchKey key = wcDB.getParentFile()
+						.toPath()
+						.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+								StandardWatchEventKinds.ENTRY_DELETE);
+				watched.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(root);
+				return;
+			} catch (IOException | UnsupportedOperationException | ClosedWatchServiceException ex) {
+				// fall back to polling
+			}
+		}
+		polled.put(root, wcDB);
+	}
+
+	/**
+	 * Forgets about changes found so far
+	 */
+	public synchronized void reset() {
+		lastPollTime = System.currentTimeMillis();
+		pending.clear();
+		if (watcher != null) {
+			try {
+				for (WatchKey key; (key = watcher.poll()) != null;) {
+					key.pollEvents();
+					key.reset();
+				}
+			} catch (ClosedWatchServiceException ex) {
+				// disposed
+			}
+		}
+	}
+
+	/**
+	 * Returns roots of the working copies which were changed since the last call and are not being changed right now
+	 * 
+	 * @return the changed roots
+	 */
+	public synchronized IResource[] getChangedRoots() {
+		long now = System.currentTimeMillis();
+		List<IResource> changed = new ArrayList<>();
+		if (watcher != null) {
+			try {
+				for (WatchKey key; (key = watcher.poll()) != null;) {
+					boolean isDBChanged = false;
+					for (WatchEvent<?> event : key.pollEvents()) {
+						Object context = event.context();
+						isDBChanged |= event.kind() == StandardWatchEventKinds.OVERFLOW || context instanceof Path
+								&& ((Path) context).getFileName().toString().startsWith(WC_DB_NAME);
+					}
+					if (!key.reset()) {
+						// the folder is not accessible anymore, re-register its roots when the working copy appears again
+						Set<IResource> roots = watched.remove(key);
+						if (roots != null) {
+							registered.removeAll(roots);
+						}
+					}
+					if (isDBChanged) {
+						PendingChange change = pending.get(key);
+						if (change == null) {
+							pending.put(key, new PendingChange(now));
+						} else {
+							change.lastEvent = now;
+						}
+					}
+				}
+			} catch (ClosedWatchServiceException ex) {
+				// disposed
+			}
+			for (Iterator<Map.Entry<WatchKey, PendingChange>> it = pending.entrySet().iterator(); it.hasNext();) {
+				Map.Entry<WatchKey, PendingChange> entry = it.next();
+				PendingChange change = entry.getValue();
+				if (now - change.lastEvent >= DEBOUNCE_DELAY || now - change.firstEvent >= MAX_DELAY) {
+					Set<IResource> roots = watched.get(entry.getKey());
+					if (roots != null) {
+						changed.addAll(roots);
+					}
+					it.remove();
+				}
+			}
+		}
+		if (!polled.isEmpty()) {
+			long lastPollTime = this.lastPollTime;
+			for (Map.Entry<IResource, File> entry : polled.entrySet()) {
+				if (entry.getValue().lastModified() > lastPollTime) {
+					changed.add(entry.getKey());
+				}
+			}
+			this.lastPollTime = now;
+		}
+		return changed.toArray(new IResource[changed.size()]);
+	}
+
+	public synchronized void dispose() {
+		if (watcher != null) {
+			try {
+				watcher.close();
+			} catch (IOException ex) {
+				// uninterested
+			}
+			watcher = null;
+		}
+		watched.clear();
+		registered.clear();
+		polled.clear();
+		pending.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "WorkingCopyChangeMonitor [watched: " + watched.size() + ", polled: " + polled.size() + ", pending: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ pending.size() + "]"; //$NON-NLS-1$
+	}
+
+	protected static class PendingChange {
+		public final long firstEvent;
+
+		public long lastEvent;
+
+		public PendingChange(long time) {
+			firstEvent = lastEvent = time;
+		}
+	}
+
+}
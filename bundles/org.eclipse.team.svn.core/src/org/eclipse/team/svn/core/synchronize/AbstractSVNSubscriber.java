@@ -17,6 +17,7 @@ package org.eclipse.team.svn.core.synchronize;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -120,6 +121,14 @@ public abstract class AbstractSVNSubscriber extends Subscriber implements IResou
 		return statusCache.containsData();
 	}
 
+	/**
+	 * @return approximate memory used by the in-memory status caches of the subscriber in bytes, or <code>-1</code> if the statuses are
+	 *         kept by the workspace synchronizer
+	 */
+	public long getStatusCacheMemoryUsage() {
+		return statusCache instanceof RemoteStatusCache ? ((RemoteStatusCache) statusCache).getMemoryUsage() : -1;
+	}
+
 	@Override
 	public String getName() {
 		return name;
@@ -387,6 +396,7 @@ public abstract class AbstractSVNSubscriber extends Subscriber implements IResou
 					}
 
 					if (!resourcesMap.isEmpty()) {
+						AbstractSVNSubscriber.this.prepareResourceChanges(rStatusOp, resourcesMap.values(), monitor);
 						IResource[] resources = resourcesMap.keySet().toArray(new IResource[0]);
 						FileUtility.reorder(resources, true);
 
@@ -413,6 +423,20 @@ public abstract class AbstractSVNSubscriber extends Subscriber implements IResou
 		return changes.toArray(new IResource[changes.size()]);
 	}
 
+	/**
+	 * Called once the incoming changes are found and before they are stored, allows to fetch the data they need in bulk.
+	 * 
+	 * @param rStatusOp
+	 *            the status operation the changes were found by
+	 * @param changes
+	 *            the incoming changes
+	 * @param monitor
+	 *            the progress monitor
+	 */
+	protected void prepareResourceChanges(IRemoteStatusOperation rStatusOp, Collection<IResourceChange> changes,
+			IProgressMonitor monitor) {
+	}
+
 	protected abstract boolean isIncoming(SVNEntryStatus status);
 
 	protected abstract IResourceChange handleResourceChange(IRemoteStatusOperation rStatusOp, SVNEntryStatus status);
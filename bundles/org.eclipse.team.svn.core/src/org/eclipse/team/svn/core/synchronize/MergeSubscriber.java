@@ -347,6 +347,11 @@ public class MergeSubscriber extends AbstractSVNSubscriber {
 		return true;
 	}
 
+	@Override
+	public long getStatusCacheMemoryUsage() {
+		return super.getStatusCacheMemoryUsage() + ((RemoteStatusCache) baseStatusCache).getMemoryUsage();
+	}
+
 	private MergeSubscriber() {
 		super(false, SVNMessages.MergeSubscriber_Name);
 		baseStatusCache = new RemoteStatusCache();
@@ -18,15 +18,15 @@ package org.eclipse.team.svn.core.synchronize;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.team.core.RepositoryProvider;
 import org.eclipse.team.core.variants.ResourceVariantByteStore;
 import org.eclipse.team.svn.core.SVNTeamPlugin;
@@ -37,21 +37,32 @@ import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
 /**
  * Remote status cache implementation
  * 
+ * The data is kept in a tree which follows the resources hierarchy, so traversing, flushing or listing members of a resource costs time
+ * proportional to the size of its subtree and not to the size of the whole cache.
+ * 
  * @author Alexander Gurov
  */
 public class RemoteStatusCache extends ResourceVariantByteStore implements IRemoteStatusCache {
-	protected Map<IPath, byte[]> resourceStateMap;
+	/**
+	 * Rough estimation of a tree node footprint without its name and data, in bytes
+	 */
+	protected static final int NODE_OVERHEAD = 96;
+
+	protected Node root;
+
+	protected int nodeCount;
+
+	protected int entryCount;
 
-	protected Map<IPath, Set<IResource>> resourceChildrenMap;
+	protected long dataSize;
 
 	public RemoteStatusCache() {
-		resourceStateMap = new HashMap<>();
-		resourceChildrenMap = new HashMap<>();
+		root = new Node(null, null, Path.ROOT);
 	}
 
 	@Override
 	public synchronized boolean containsData() {
-		return resourceStateMap.size() > 0;
+		return entryCount > 0;
 	}
 
 	@Override
@@ -61,39 +72,60 @@ public class RemoteStatusCache extends ResourceVariantByteStore implements IRemo
 
 	@Override
 	public synchronized void clearAll() {
-		resourceChildrenMap.clear();
-		resourceStateMap.clear();
+		root = new Node(null, null, Path.ROOT);
+		nodeCount = 0;
+		entryCount = 0;
+		dataSize = 0;
 	}
 
 	@Override
 	public synchronized byte[] getBytes(IResource resource) {
-		return resourceStateMap.get(resource.getFullPath());
+		Node node = findNode(resource.getFullPath());
+		return node == null ? null : node.data;
 	}
 
 	@Override
 	public synchronized boolean setBytes(IResource resource, byte[] bytes) {
-		byte[] old = resourceStateMap.put(resource.getFullPath(), bytes);
-		IPath parentPath = resource.getParent().getFullPath();
-		Set<IResource> members = resourceChildrenMap.get(parentPath);
-		if (members == null) {
-			resourceChildrenMap.put(parentPath, members = new HashSet<>());
+		Node node = root;
+		IPath path = resource.getFullPath();
+		for (int i = 0, count = path.segmentCount(); i < count; i++) {
+			Node child = node.getChild(path.segment(i));
+			if (child == null) {
+				child = node.addChild(path.segment(i), path.uptoSegment(i + 1));
+				nodeCount++;
+			}
+			node = child;
 		}
-		members.add(resource);
+		byte[] old = node.data;
+		setData(node, bytes);
+		node.resource = resource;
 		return !this.equals(old, bytes);
 	}
 
 	@Override
 	public synchronized boolean flushBytes(IResource resource, int depth) {
-		final HashSet<IPath> removedSet = new HashSet<>();
-		boolean retVal = resourceStateMap.remove(resource.getFullPath()) != null;
-		this.traverse(resource, depth, (ICacheVisitor) (path, data) -> removedSet.add(path));
-		for (IPath current : removedSet) {
-			resourceStateMap.remove(current);
-			resourceChildrenMap.remove(current);
+		Node node = findNode(resource.getFullPath());
+		if (node == null) {
+			return false;
 		}
-		Set<IResource> members = resourceChildrenMap.get(resource.getParent().getFullPath());
-		if (members != null) {
-			members.remove(resource);
+		boolean retVal = node.data != null;
+		if (depth == IResource.DEPTH_INFINITE) {
+			removeSubtree(node);
+		} else {
+			setData(node, null);
+			node.resource = null;
+			if (depth == IResource.DEPTH_ONE && node.children != null) {
+				for (Iterator<Node> it = node.children.values().iterator(); it.hasNext();) {
+					Node child = it.next();
+					setData(child, null);
+					child.resource = null;
+					if (child.children == null || child.children.isEmpty()) {
+						it.remove();
+						nodeCount--;
+					}
+				}
+			}
+			prune(node);
 		}
 		return retVal;
 	}
@@ -105,8 +137,17 @@ public class RemoteStatusCache extends ResourceVariantByteStore implements IRemo
 
 	@Override
 	public synchronized IResource[] members(IResource resource) {
-		Set<?> members = resourceChildrenMap.get(resource.getFullPath());
-		return members == null ? FileUtility.NO_CHILDREN : members.toArray(new IResource[members.size()]);
+		Node node = findNode(resource.getFullPath());
+		if (node == null || node.children == null) {
+			return FileUtility.NO_CHILDREN;
+		}
+		List<IResource> members = new ArrayList<>(node.children.size());
+		for (Node child : node.children.values()) {
+			if (child.resource != null) {
+				members.add(child.resource);
+			}
+		}
+		return members.toArray(new IResource[members.size()]);
 	}
 
 	@Override
@@ -140,26 +181,131 @@ public class RemoteStatusCache extends ResourceVariantByteStore implements IRemo
 		}
 	}
 
+	/**
+	 * @return number of the resources which have data in the cache
+	 */
+	public synchronized int getEntryCount() {
+		return entryCount;
+	}
+
+	/**
+	 * @return approximate memory used by the cache, in bytes
+	 */
+	public synchronized long getMemoryUsage() {
+		return nodeCount * (long) NODE_OVERHEAD + dataSize;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "RemoteStatusCache [entries: " + entryCount + ", nodes: " + nodeCount + ", memory: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getMemoryUsage() + " bytes]"; //$NON-NLS-1$
+	}
+
 	protected void traverse(IResource resource, int depth, ICacheVisitor visitor) {
-		IPath base = resource.getFullPath();
-		for (Map.Entry<IPath, byte[]> entry : resourceStateMap.entrySet()) {
-			IPath current = entry.getKey();
-			if (isChildOf(base, current, depth)) {
-				visitor.visit(current, entry.getValue());
+		Node node = findNode(resource.getFullPath());
+		if (node != null) {
+			traverse(node, depth, visitor);
+		}
+	}
+
+	protected void traverse(Node node, int depth, ICacheVisitor visitor) {
+		if (node.data != null) {
+			visitor.visit(node.path, node.data);
+		}
+		if (depth != IResource.DEPTH_ZERO && node.children != null) {
+			int childDepth = depth == IResource.DEPTH_ONE ? IResource.DEPTH_ZERO : IResource.DEPTH_INFINITE;
+			for (Node child : node.children.values()) {
+				traverse(child, childDepth, visitor);
 			}
 		}
 	}
 
-	protected boolean isChildOf(IPath base, IPath current, int depth) {
-		if (base.isPrefixOf(current)) {
-			int cachedSegmentsCount = current.segmentCount();
-			int matchingSegmentsCount = base.matchingFirstSegments(current);
-			int difference = cachedSegmentsCount - matchingSegmentsCount;
-			if (difference >= 0 && depth == IResource.DEPTH_INFINITE ? true : depth >= difference) {
-				return true;
+	protected Node findNode(IPath path) {
+		Node node = root;
+		for (int i = 0, count = path.segmentCount(); i < count && node != null; i++) {
+			node = node.getChild(path.segment(i));
+		}
+		return node;
+	}
+
+	protected void setData(Node node, byte[] data) {
+		if (node.data != null) {
+			entryCount--;
+			dataSize -= node.data.length;
+		}
+		if (data != null) {
+			entryCount++;
+			dataSize += data.length;
+		}
+		node.data = data;
+	}
+
+	protected void removeSubtree(Node node) {
+		clearSubtree(node);
+		if (node.parent != null) {
+			node.parent.children.remove(node.name);
+			nodeCount--;
+			prune(node.parent);
+		} else {
+			node.children = null;
+		}
+	}
+
+	protected void clearSubtree(Node node) {
+		setData(node, null);
+		node.resource = null;
+		if (node.children != null) {
+			for (Node child : node.children.values()) {
+				clearSubtree(child);
+			}
+			nodeCount -= node.children.size();
+			node.children = null;
+		}
+	}
+
+	/**
+	 * Removes the node and its parents while they do not hold anything
+	 */
+	protected void prune(Node node) {
+		while (node.parent != null && node.data == null && node.resource == null
+				&& (node.children == null || node.children.isEmpty())) {
+			node.parent.children.remove(node.name);
+			nodeCount--;
+			node = node.parent;
+		}
+	}
+
+	protected static class Node {
+		public final Node parent;
+
+		public final String name;
+
+		public final IPath path;
+
+		public Map<String, Node> children;
+
+		public byte[] data;
+
+		public IResource resource;
+
+		public Node(Node parent, String name, IPath path) {
+			this.parent = parent;
+			this.name = name;
+			this.path = path;
+		}
+
+		public Node getChild(String name) {
+			return children == null ? null : children.get(name);
+		}
+
+		public Node addChild(String name, IPath path) {
+			if (children == null) {
+				children = new HashMap<>(4);
 			}
+			Node child = new Node(this, name, path);
+			children.put(name, child);
+			return child;
 		}
-		return false;
 	}
 
 }
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.synchronize;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.operation.IActionOperation;
+import org.eclipse.team.svn.core.operation.remote.GetLogMessagesOperation;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+
+/**
+ * Revision comments cache shared by the synchronize subscribers.
+ * 
+ * Comments are cached per repository resource (usually the project root) and are prefetched for the whole range of the incoming
+ * revisions with a single log request. The cached comments of a resource are dropped when its HEAD revision moves.
+ */
+public class RevisionCommentCache {
+	/**
+	 * Marks revisions known to have no comment, since the concurrent map does not accept nulls
+	 */
+	protected static final String NO_COMMENT = new String();
+
+	private static RevisionCommentCache instance = new RevisionCommentCache();
+
+	protected final Map<String, Entry> entries;
+
+	public static RevisionCommentCache instance() {
+		return RevisionCommentCache.instance;
+	}
+
+	protected RevisionCommentCache() {
+		entries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Fetches comments of all the revisions in the range with a single log request, unless they are cached already.
+	 * 
+	 * @param root
+	 *            the repository resource the log is requested for
+	 * @param from
+	 *            the first revision of the range
+	 * @param head
+	 *            the HEAD revision, the last one of the range
+	 * @param monitor
+	 *            the progress monitor
+	 */
+	public void prefetch(IRepositoryResource root, long from, long head, IProgressMonitor monitor) {
+		if (from == SVNRevision.INVALID_REVISION_NUMBER || head == SVNRevision.INVALID_REVISION_NUMBER) {
+			return;
+		}
+		Entry entry = entries.computeIfAbsent(root.getUrl(), key -> new Entry());
+		synchronized (entry) {
+			if (entry.head != head) {
+				entry.comments.clear();
+				entry.head = head;
+				entry.coveredFrom = head + 1;
+			}
+			if (from >= entry.coveredFrom) {
+				return;
+			}
+			long to = entry.coveredFrom - 1;
+			root.setSelectedRevision(SVNRevision.fromNumber(to));
+			root.setPegRevision(SVNRevision.fromNumber(head));
+			GetLogMessagesOperation op = new GetLogMessagesOperation(root);
+			op.setEndRevision(SVNRevision.fromNumber(from));
+			op.setDiscoverPaths(false);
+			ProgressMonitorUtility.doTaskExternalDefault(op, monitor);
+			if (op.getExecutionState() == IActionOperation.OK) {
+				for (SVNLogEntry logEntry : op.getMessages()) {
+					entry.comments.put(logEntry.revision, logEntry.message != null ? logEntry.message : NO_COMMENT);
+				}
+				entry.coveredFrom = from;
+			}
+		}
+	}
+
+	/**
+	 * Returns comment of the revision, fetching it if it was not prefetched before.
+	 * 
+	 * @param root
+	 *            the repository resource the log is requested for
+	 * @param rev
+	 *            the revision
+	 * @param peg
+	 *            the peg revision
+	 * @return the comment or <code>null</code> if there is none
+	 */
+	public String getComment(IRepositoryResource root, SVNRevision rev, SVNRevision peg) {
+		if (rev.getKind() != SVNRevision.Kind.NUMBER || rev == SVNRevision.INVALID_REVISION
+				|| peg != null && peg == SVNRevision.INVALID_REVISION) {
+			return null;
+		}
+		long revision = ((SVNRevision.Number) rev).getNumber();
+		Entry entry = entries.computeIfAbsent(root.getUrl(), key -> new Entry());
+		String comment = entry.comments.get(revision);
+		if (comment == null) {
+			synchronized (entry) {
+				comment = entry.comments.get(revision);
+				if (comment == null) {
+					if (revision >= entry.coveredFrom && revision <= entry.head) {
+						// the revision does not affect the resource
+						return null;
+					}
+					comment = fetchComments(entry, root, rev, peg);
+				}
+			}
+		}
+		return comment == NO_COMMENT ? null : comment;
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	protected String fetchComments(Entry entry, IRepositoryResource root, SVNRevision rev, SVNRevision peg) {
+		root.setSelectedRevision(rev);
+		root.setPegRevision(peg);
+		GetLogMessagesOperation op = new GetLogMessagesOperation(root);
+		op.setLimit(20);
+		op.setDiscoverPaths(false);
+		ProgressMonitorUtility.doTaskExternalDefault(op, new NullProgressMonitor());
+		if (op.getExecutionState() != IActionOperation.OK) {
+			return null;
+		}
+		for (SVNLogEntry logEntry : op.getMessages()) {
+			entry.comments.put(logEntry.revision, logEntry.message != null ? logEntry.message : NO_COMMENT);
+		}
+		return entry.comments.computeIfAbsent(((SVNRevision.Number) rev).getNumber(), key -> NO_COMMENT);
+	}
+
+	protected static class Entry {
+		public final Map<Long, String> comments = new ConcurrentHashMap<>();
+
+		/**
+		 * HEAD revision the comments were cached for
+		 */
+		public long head = SVNRevision.INVALID_REVISION_NUMBER;
+
+		/**
+		 * All the revisions from this one up to HEAD are cached
+		 */
+		public long coveredFrom = Long.MAX_VALUE;
+	}
+
+}
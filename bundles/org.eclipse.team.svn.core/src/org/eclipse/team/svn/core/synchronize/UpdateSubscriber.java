@@ -15,15 +15,16 @@
 
 package org.eclipse.team.svn.core.synchronize;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.mapping.ResourceMapping;
 import org.eclipse.core.resources.mapping.ResourceTraversal;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.team.core.TeamException;
 import org.eclipse.team.core.diff.IDiff;
 import org.eclipse.team.core.diff.IThreeWayDiff;
@@ -36,23 +37,18 @@ import org.eclipse.team.svn.core.connector.SVNConflictDescriptor;
 import org.eclipse.team.svn.core.connector.SVNEntry;
 import org.eclipse.team.svn.core.connector.SVNEntryStatus;
 import org.eclipse.team.svn.core.connector.SVNEntryStatus.Kind;
-import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.operation.CompositeOperation;
-import org.eclipse.team.svn.core.operation.IActionOperation;
 import org.eclipse.team.svn.core.operation.LoggedOperation;
 import org.eclipse.team.svn.core.operation.local.IRemoteStatusOperation;
 import org.eclipse.team.svn.core.operation.local.RemoteStatusOperation;
-import org.eclipse.team.svn.core.operation.remote.GetLogMessagesOperation;
 import org.eclipse.team.svn.core.resource.IChangeStateProvider;
-import org.eclipse.team.svn.core.resource.ICommentProvider;
 import org.eclipse.team.svn.core.resource.IFileChange;
 import org.eclipse.team.svn.core.resource.ILocalResource;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
 import org.eclipse.team.svn.core.resource.IResourceChange;
 import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.FileUtility;
-import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 
 /**
@@ -63,8 +59,6 @@ import org.eclipse.team.svn.core.utility.SVNUtility;
 public class UpdateSubscriber extends AbstractSVNSubscriber {
 	private static UpdateSubscriber instance = null;
 
-	protected Map<SVNRevision, String> comments;
-
 	public static synchronized UpdateSubscriber instance() {
 		if (UpdateSubscriber.instance == null) {
 			UpdateSubscriber.instance = new UpdateSubscriber();
@@ -72,12 +66,6 @@ public class UpdateSubscriber extends AbstractSVNSubscriber {
 		return UpdateSubscriber.instance;
 	}
 
-	@Override
-	public void refresh(IResource[] resources, int depth, IProgressMonitor monitor) throws TeamException {
-		comments.clear();
-		super.refresh(resources, depth, monitor);
-	}
-
 	@Override
 	protected IRemoteStatusOperation addStatusOperation(CompositeOperation op, IResource[] resources, int depth) {
 		RemoteStatusOperation rStatus = new RemoteStatusOperation(resources);
@@ -194,15 +182,18 @@ public class UpdateSubscriber extends AbstractSVNSubscriber {
 			return null;
 		}
 		IResourceChange checkForReplacement = null;
+		byte[] cachedBytes = null;
 		try {
-			checkForReplacement = SVNRemoteStorage.instance()
-					.resourceChangeFromBytes(statusCache.getBytes(resourceChange.getResource()));
+			cachedBytes = statusCache.getBytes(resourceChange.getResource());
+			checkForReplacement = SVNRemoteStorage.instance().resourceChangeFromBytes(cachedBytes);
 		} catch (TeamException e) {
 			LoggedOperation.reportError(this.getClass().getName(), e);
 		}
 		if (checkForReplacement != null) {
 			if (IStateFilter.SF_ADDED.accept(checkForReplacement)) {
 				if (IStateFilter.SF_DELETED.accept(resourceChange)) {
+					// decoded changes are shared, so the replacement is made on a private copy
+					checkForReplacement = SVNRemoteStorage.instance().newResourceChangeFromBytes(cachedBytes);
 					checkForReplacement.treatAsReplacement();
 				}
 				return checkForReplacement;
@@ -228,37 +219,45 @@ public class UpdateSubscriber extends AbstractSVNSubscriber {
 			resourceChange.setOriginator(originator);
 		}
 
-		resourceChange.setCommentProvider(new ICommentProvider() {
-			@Override
-			public String getComment(IResource resource, SVNRevision rev, SVNRevision peg) {
-				//Null is also valid value if no comment was specified for revision. So, check for key presence.
-				if (!comments.containsKey(rev)) {
-					cacheComments(resource, rev, peg);
-				}
-				return comments.get(rev);
-			}
+		// we optimized comment fetching by speed regarding to fact that only number revision used by this implementation of ICommentProvider
+		// and select messages for project root (helpful in case of multiple-project layouts)...
+		resourceChange.setCommentProvider((resource, rev, peg) -> RevisionCommentCache.instance()
+				.getComment(SVNRemoteStorage.instance().asRepositoryResource(resource).getRoot(), rev, peg));
+		return resourceChange;
+	}
 
-			public void cacheComments(IResource resource, SVNRevision rev, SVNRevision peg) {
-				if (rev == SVNRevision.INVALID_REVISION || peg != null && peg == SVNRevision.INVALID_REVISION) {
-					return;
-				}
-				// we optimized comment fetching by speed regarding to fact that only number revision used by this implementation of ICommentProvider
-				// and select messages for project root (helpful in case of multiple-project layouts)...
-				IRepositoryResource remote = SVNRemoteStorage.instance().asRepositoryResource(resource).getRoot();
-				remote.setSelectedRevision(rev);
-				remote.setPegRevision(peg);
-				GetLogMessagesOperation op = new GetLogMessagesOperation(remote);
-				op.setLimit(20);
-				op.setDiscoverPaths(false);
-				ProgressMonitorUtility.doTaskExternalDefault(op, new NullProgressMonitor());
-				if (op.getExecutionState() == IActionOperation.OK) {
-					for (SVNLogEntry entry : op.getMessages()) {
-						comments.put(SVNRevision.fromNumber(entry.revision), entry.message);
-					}
-				}
+	/**
+	 * Prefetches comments of all the incoming revisions with a single log request per project instead of fetching them on demand
+	 */
+	@Override
+	protected void prepareResourceChanges(IRemoteStatusOperation rStatusOp, Collection<IResourceChange> changes,
+			IProgressMonitor monitor) {
+		Map<IProject, long[]> ranges = new HashMap<>();
+		for (IResourceChange change : changes) {
+			long revision = change.getRevision();
+			IProject project = change.getResource().getProject();
+			if (revision == SVNRevision.INVALID_REVISION_NUMBER || project == null) {
+				continue;
 			}
-		});
-		return resourceChange;
+			SVNRevision peg = change.getPegRevision();
+			long head = peg != null && peg.getKind() == SVNRevision.Kind.NUMBER
+					? Math.max(((SVNRevision.Number) peg).getNumber(), revision)
+					: revision;
+			long[] range = ranges.get(project);
+			if (range == null) {
+				ranges.put(project, new long[] { revision, head });
+			} else {
+				range[0] = Math.min(range[0], revision);
+				range[1] = Math.max(range[1], head);
+			}
+		}
+		for (Map.Entry<IProject, long[]> entry : ranges.entrySet()) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			IRepositoryResource root = SVNRemoteStorage.instance().asRepositoryResource(entry.getKey()).getRoot();
+			RevisionCommentCache.instance().prefetch(root, entry.getValue()[0], entry.getValue()[1], monitor);
+		}
 	}
 
 	@Override
@@ -307,7 +306,6 @@ public class UpdateSubscriber extends AbstractSVNSubscriber {
 
 	private UpdateSubscriber() {
 		super(true, SVNMessages.UpdateSubscriber_Name);
-		comments = new HashMap<>();
 	}
 
 }
@@ -15,7 +15,10 @@
 
 package org.eclipse.team.svn.core.utility;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -24,6 +27,14 @@ import org.eclipse.team.svn.core.SVNTeamPlugin;
 import org.eclipse.team.svn.core.operation.AbstractActionOperation;
 import org.eclipse.team.svn.core.operation.IActionOperation;
 
+/**
+ * The queue which processes its records in a background job, one by one.
+ * 
+ * Records equal to the queued ones are skipped and records which could be merged with a queued one are merged with it. Both checks are
+ * done with hash lookups, so pushing a record takes constant time regardless of the queue size, and the queue is never locked while a
+ * record is processed. The merge results are not used for skipping, since they grow with each merge and hashing them again and again
+ * would make a burst of mergeable records quadratic.
+ */
 public class AsynchronousActiveQueue<Data extends IQueuedElement<Data>> {
 
 	public interface IRecordHandler<Data extends IQueuedElement<Data>> {
@@ -32,60 +43,187 @@ public class AsynchronousActiveQueue<Data extends IQueuedElement<Data>> {
 
 	protected final String name;
 
-	protected final LinkedList<Data> queue;
+	protected final ArrayDeque<Node<Data>> queue;
+
+	/**
+	 * The queued records and the one which is being processed, used for skipping of duplicates
+	 */
+	protected final Map<Data, Integer> records;
+
+	/**
+	 * The most recently queued record for each merge key
+	 */
+	protected final Map<Object, Node<Data>> mergeIndex;
 
 	protected final IRecordHandler<Data> handler;
 
 	protected final boolean system;
 
+	protected boolean active;
+
+	protected int maxSize;
+
+	protected long pushedCount;
+
+	protected long skippedCount;
+
+	protected long mergedCount;
+
+	protected long processedCount;
+
+	protected long totalLatency;
+
+	protected long maxLatency;
+
 	static final boolean DEBUG = SVNTeamPlugin.instance().isDebugging();
 
 	public AsynchronousActiveQueue(String queueName, IRecordHandler<Data> handler, boolean system) {
 		name = queueName;
-		queue = new LinkedList<>();
+		queue = new ArrayDeque<>();
+		records = new HashMap<>();
+		mergeIndex = new HashMap<>();
 		this.handler = handler;
 		this.system = system;
 	}
 
 	public void push(Data data) {
 		synchronized (queue) {
-			// avoid duplicated events, Start search from the end, the possibility
-			// to find similar events added recently is higher
-			if (!queue.isEmpty() && data.canSkip()) {
-				for (int i = queue.size() - 1; i >= 0; i--) {
-					Data old = queue.get(i);
-					if (old.equals(data)) {
-						if (DEBUG) {
-							logDebug("skipped: " + data);
-						}
-						return;
-					}
+			pushedCount++;
+			// avoid duplicated events
+			if (data.canSkip() && records.containsKey(data)) {
+				skippedCount++;
+				if (DEBUG) {
+					logDebug("skipped: " + data);
 				}
+				return;
 			}
-			if (queue.size() > 1) {
-				// try to merge with all except the first one, which could be
-				// being dispatched right now
-				for (int i = queue.size() - 1; i > 0; i--) {
-					Data old = queue.get(i);
-					if (old.canMerge(data)) {
-						queue.set(i, old.merge(data));
-						if (DEBUG) {
-							logDebug("merged " + old + " with " + data);
-						}
-						return;
-					}
+			// try to merge with the most recently added one, the record which is being processed right now is not in the queue already
+			Object key = data.getMergeKey();
+			Node<Data> old = key == null ? null : mergeIndex.get(key);
+			if (old != null && old.data.canMerge(data)) {
+				Data merged = old.data.merge(data);
+				if (!old.merged) {
+					removeRecord(old.data);
+					old.merged = true;
+				}
+				if (DEBUG) {
+					logDebug("merged " + old.data + " with " + data);
 				}
+				old.data = merged;
+				mergedCount++;
+				return;
+			}
+			Node<Data> node = new Node<>(data);
+			queue.add(node);
+			addRecord(data);
+			if (key != null) {
+				mergeIndex.put(key, node);
 			}
-			queue.add(data);
+			maxSize = Math.max(maxSize, queue.size());
 			if (DEBUG) {
 				logDebug("added " + data);
 			}
-			if (queue.size() == 1) {
+			if (!active) {
+				active = true;
 				ProgressMonitorUtility.doTaskScheduledDefault(new QueuedOperation(name), system);
 			}
 		}
 	}
 
+	/**
+	 * @return number of records waiting for processing
+	 */
+	public int getSize() {
+		synchronized (queue) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * @return maximum number of records which were waiting for processing at the same time
+	 */
+	public int getMaxSize() {
+		synchronized (queue) {
+			return maxSize;
+		}
+	}
+
+	public long getPushedCount() {
+		synchronized (queue) {
+			return pushedCount;
+		}
+	}
+
+	public long getSkippedCount() {
+		synchronized (queue) {
+			return skippedCount;
+		}
+	}
+
+	public long getMergedCount() {
+		synchronized (queue) {
+			return mergedCount;
+		}
+	}
+
+	public long getProcessedCount() {
+		synchronized (queue) {
+			return processedCount;
+		}
+	}
+
+	/**
+	 * @return average time in milliseconds between queuing of a record and the end of its processing
+	 */
+	public double getAverageLatency() {
+		synchronized (queue) {
+			return processedCount == 0 ? 0 : (double) totalLatency / processedCount / 1000000;
+		}
+	}
+
+	/**
+	 * @return maximum time in milliseconds between queuing of a record and the end of its processing
+	 */
+	public long getMaxLatency() {
+		synchronized (queue) {
+			return TimeUnit.NANOSECONDS.toMillis(maxLatency);
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (queue) {
+			return "AsynchronousActiveQueue [" + name + ", size: " + queue.size() + ", max size: " + maxSize //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", pushed: " + pushedCount + ", skipped: " + skippedCount + ", merged: " + mergedCount //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", processed: " + processedCount + ", max latency: " + TimeUnit.NANOSECONDS.toMillis(maxLatency) //$NON-NLS-1$ //$NON-NLS-2$
+					+ " ms]"; //$NON-NLS-1$
+		}
+	}
+
+	protected void addRecord(Data data) {
+		records.merge(data, 1, Integer::sum);
+	}
+
+	protected void removeRecord(Data data) {
+		records.computeIfPresent(data, (key, count) -> count > 1 ? count - 1 : null);
+	}
+
+	protected static class Node<Data> {
+		public Data data;
+
+		/**
+		 * <code>true</code> if the data is a merge result, which is not in the duplicate records
+		 */
+		public boolean merged;
+
+		public final long queued;
+
+		public Node(Data data) {
+			this.data = data;
+			queued = System.nanoTime();
+		}
+	}
+
 	private final class QueuedOperation extends AbstractActionOperation {
 		private QueuedOperation(String operationName) {
 			super(operationName, SVNMessages.class);
@@ -99,24 +237,48 @@ public class AsynchronousActiveQueue<Data extends IQueuedElement<Data>> {
 		@Override
 		protected void runImpl(IProgressMonitor monitor) throws Exception {
 			while (true) {
-				Data record;
+				Node<Data> node;
 				synchronized (AsynchronousActiveQueue.this.queue) {
 					if (monitor.isCanceled() || AsynchronousActiveQueue.this.queue.isEmpty()) {
 						AsynchronousActiveQueue.this.queue.clear();
+						AsynchronousActiveQueue.this.records.clear();
+						AsynchronousActiveQueue.this.mergeIndex.clear();
+						AsynchronousActiveQueue.this.active = false;
 						break;
 					}
-					record = AsynchronousActiveQueue.this.queue.get(0);
-				}
-				AsynchronousActiveQueue.this.handler.process(monitor, this, record);
-				if (DEBUG) {
-					logDebug("processed " + record);
+					node = AsynchronousActiveQueue.this.queue.poll();
+					Object key = node.data.getMergeKey();
+					if (key != null && AsynchronousActiveQueue.this.mergeIndex.get(key) == node) {
+						AsynchronousActiveQueue.this.mergeIndex.remove(key);
+					}
 				}
-				synchronized (AsynchronousActiveQueue.this.queue) {
-					AsynchronousActiveQueue.this.queue.remove(0);
-					if (AsynchronousActiveQueue.this.queue.isEmpty()) {
-						break;
+				boolean processed = false;
+				try {
+					AsynchronousActiveQueue.this.handler.process(monitor, this, node.data);
+					processed = true;
+				} finally {
+					synchronized (AsynchronousActiveQueue.this.queue) {
+						if (!node.merged) {
+							AsynchronousActiveQueue.this.removeRecord(node.data);
+						}
+						long latency = System.nanoTime() - node.queued;
+						AsynchronousActiveQueue.this.processedCount++;
+						AsynchronousActiveQueue.this.totalLatency += latency;
+						AsynchronousActiveQueue.this.maxLatency = Math.max(AsynchronousActiveQueue.this.maxLatency,
+								latency);
+						if (!processed) {
+							// do not leave the remaining records without a worker
+							AsynchronousActiveQueue.this.active = !AsynchronousActiveQueue.this.queue.isEmpty();
+							if (AsynchronousActiveQueue.this.active) {
+								ProgressMonitorUtility.doTaskScheduledDefault(new QueuedOperation(name),
+										AsynchronousActiveQueue.this.system);
+							}
+						}
 					}
 				}
+				if (DEBUG) {
+					logDebug("processed " + node.data);
+				}
 			}
 		}
 	}
@@ -55,6 +55,7 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.team.core.RepositoryProvider;
 import org.eclipse.team.core.Team;
+import org.eclipse.team.svn.core.CompiledStateFilter;
 import org.eclipse.team.svn.core.IStateFilter;
 import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.SVNTeamProvider;
@@ -424,6 +425,7 @@ public final class FileUtility {
 	}
 
 	public static boolean checkForResourcesPresence(IResource[] roots, IStateFilter filter, int depth) {
+		filter = CompiledStateFilter.compile(filter);
 		ArrayList<IResource> recursiveCheck = null;
 		int nextDepth = IResource.DEPTH_ZERO;
 		if (depth != IResource.DEPTH_ZERO) {
@@ -441,7 +443,8 @@ public final class FileUtility {
 			ILocalResource local = SVNRemoteStorage.instance().asLocalResource(root);
 			if (filter.accept(local)) {
 				return true;
-			} else if (root instanceof IContainer && depth != IResource.DEPTH_ZERO && filter.allowsRecursion(local)) {
+			} else if (root instanceof IContainer && depth != IResource.DEPTH_ZERO && filter.allowsRecursion(local)
+					&& SVNRemoteStorage.instance().canContainAccepted(root, filter)) {
 				recursiveCheck.add(root);
 			}
 		}
@@ -483,7 +486,7 @@ public final class FileUtility {
 	public static IResource[] getResourcesRecursive(IResource[] roots, IStateFilter filter, int depth,
 			IActionOperation calledFrom, IProgressMonitor monitor) {
 		Set<IResource> resources = new HashSet<>();
-		FileUtility.addChildren(resources, roots, filter, depth, calledFrom, monitor);
+		FileUtility.addChildren(resources, roots, CompiledStateFilter.compile(filter), depth, calledFrom, monitor);
 		return resources.toArray(new IResource[resources.size()]);
 	}
 
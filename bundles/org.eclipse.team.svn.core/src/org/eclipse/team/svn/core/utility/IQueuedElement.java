@@ -37,6 +37,16 @@ public interface IQueuedElement<Data extends IQueuedElement<Data>> {
 	 */
 	boolean canMerge(Data d);
 
+	/**
+	 * Helps {@link AsynchronousActiveQueue} to find the element this element could be merged with. Elements which could be merged
+	 * together must have equal keys.
+	 * 
+	 * @return the merge key or {@code null} if this element could not be merged with any other one
+	 */
+	default Object getMergeKey() {
+		return null;
+	}
+
 	/**
 	 * Merges two elements together
 	 * 
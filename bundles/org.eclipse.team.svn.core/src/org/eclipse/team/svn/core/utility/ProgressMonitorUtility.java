@@ -38,6 +38,21 @@ import org.eclipse.team.svn.core.operation.LoggedOperation;
 public final class ProgressMonitorUtility {
 	public static final int TOTAL_WORK = 100;
 
+	/**
+	 * The outermost operation running in the current thread
+	 */
+	private static final ThreadLocal<IActionOperation> CURRENT_OPERATION = new ThreadLocal<>();
+
+	/**
+	 * Returns the outermost operation running in the current thread, which is the one started by the user action or the background
+	 * task
+	 * 
+	 * @return the operation or <code>null</code> if there is no operation running in the current thread
+	 */
+	public static IActionOperation getCurrentOperation() {
+		return ProgressMonitorUtility.CURRENT_OPERATION.get();
+	}
+
 	public static Job doTaskScheduledDefault(IActionOperation runnable) {
 		return ProgressMonitorUtility.doTaskScheduledDefault(runnable, true);
 	}
@@ -104,9 +119,16 @@ public final class ProgressMonitorUtility {
 		}
 		monitor.beginTask(runnable.getOperationName(), ProgressMonitorUtility.TOTAL_WORK);
 		ProgressMonitorUtility.setTaskInfo(monitor, runnable, SVNMessages.Progress_Running);
+		boolean isOutermost = ProgressMonitorUtility.CURRENT_OPERATION.get() == null;
+		if (isOutermost) {
+			ProgressMonitorUtility.CURRENT_OPERATION.set(runnable);
+		}
 		try {
 			runnable.run(monitor);
 		} finally {
+			if (isOutermost) {
+				ProgressMonitorUtility.CURRENT_OPERATION.remove();
+			}
 			monitor.done();
 			ProgressMonitorUtility.setTaskInfo(monitor, runnable, SVNMessages.Progress_Done);
 		}
@@ -19,6 +19,9 @@ import java.util.Stack;
 import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 
 /**
  * LogEntry call-back implementation which includes merge info
@@ -31,6 +34,21 @@ public class SVNLogEntryCallbackWithMergeInfo implements ISVNLogEntryCallback {
 
 	protected ArrayList<SVNLogEntry> entries = new ArrayList<>();
 
+	protected IRepositoryResource resource;
+
+	public SVNLogEntryCallbackWithMergeInfo() {
+	}
+
+	/**
+	 * Creates the call-back which adds the received merged revisions to the log cache
+	 * 
+	 * @param resource
+	 *            the resource the log is fetched for
+	 */
+	public SVNLogEntryCallbackWithMergeInfo(IRepositoryResource resource) {
+		this.resource = resource;
+	}
+
 	@Override
 	public void next(SVNLogEntry log) {
 		if (log.revision == SVNRevision.INVALID_REVISION_NUMBER) {
@@ -38,6 +56,7 @@ public class SVNLogEntryCallbackWithMergeInfo implements ISVNLogEntryCallback {
 				log = mergeTreeBuilder.pop();
 				if (mergeTreeBuilder.isEmpty()) {
 					addEntry(log);
+					addMergedRevisions(log);
 				}
 			}
 			return;
@@ -67,6 +86,13 @@ public class SVNLogEntryCallbackWithMergeInfo implements ISVNLogEntryCallback {
 		parent.add(child);
 	}
 
+	protected void addMergedRevisions(SVNLogEntry entry) {
+		SVNLogCache cache = resource == null ? null : SVNRemoteStorage.instance().getLogCache();
+		if (cache != null) {
+			cache.putMergedRevisions(resource, new SVNLogEntry[] { entry });
+		}
+	}
+
 	public SVNLogEntry[] getEntries() {
 		return entries.toArray(new SVNLogEntry[entries.size()]);
 	}
@@ -61,6 +61,7 @@ import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.SVNTeamPlugin;
 import org.eclipse.team.svn.core.SVNTeamProvider;
 import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
 import org.eclipse.team.svn.core.connector.ISVNNotificationCallback;
 import org.eclipse.team.svn.core.connector.ISVNProgressMonitor;
 import org.eclipse.team.svn.core.connector.ISVNPropertyCallback.Pair;
@@ -440,7 +441,55 @@ public final class SVNUtility {
 	public static SVNLogEntry[] logEntries(ISVNConnector proxy, SVNEntryReference reference,
 			SVNRevisionRange[] revisionRanges, long options, String[] revProps, long limit, ISVNProgressMonitor monitor)
 					throws SVNConnectorException {
-		SVNLogEntryCallbackWithMergeInfo callback = new SVNLogEntryCallbackWithMergeInfo();
+		return SVNUtility.logEntries(proxy, reference, revisionRanges, options, revProps, limit, null, monitor);
+	}
+
+	/**
+	 * Fetches log entries, reporting every top-level entry (with its merged revisions attached) to the listener as soon as it is
+	 * completely received.
+	 * 
+	 * @param listener
+	 *            the entries listener, could be <code>null</code>
+	 */
+	public static SVNLogEntry[] logEntries(ISVNConnector proxy, SVNEntryReference reference, SVNRevision revisionStart,
+			SVNRevision revisionEnd, long options, String[] revProps, long limit, ISVNLogEntryCallback listener,
+			ISVNProgressMonitor monitor) throws SVNConnectorException {
+		return SVNUtility.logEntries(proxy, reference,
+				new SVNRevisionRange[] { new SVNRevisionRange(revisionStart, revisionEnd) }, options, revProps, limit,
+				listener, monitor);
+	}
+
+	public static SVNLogEntry[] logEntries(ISVNConnector proxy, SVNEntryReference reference,
+			SVNRevisionRange[] revisionRanges, long options, String[] revProps, long limit,
+			ISVNLogEntryCallback listener, ISVNProgressMonitor monitor) throws SVNConnectorException {
+		return SVNUtility.logEntries(proxy, reference, null, revisionRanges, options, revProps, limit, listener,
+				monitor);
+	}
+
+	/**
+	 * Fetches log entries of the resource like {@link #logEntries(ISVNConnector, SVNEntryReference, SVNRevision, SVNRevision, long,
+	 * String[], long, ISVNLogEntryCallback, ISVNProgressMonitor)} does, the received merged revisions are added to the log cache.
+	 */
+	public static SVNLogEntry[] logEntries(ISVNConnector proxy, IRepositoryResource resource, SVNRevision revisionStart,
+			SVNRevision revisionEnd, long options, String[] revProps, long limit, ISVNLogEntryCallback listener,
+			ISVNProgressMonitor monitor) throws SVNConnectorException {
+		return SVNUtility.logEntries(proxy, SVNUtility.getEntryReference(resource), resource,
+				new SVNRevisionRange[] { new SVNRevisionRange(revisionStart, revisionEnd) }, options, revProps, limit,
+				listener, monitor);
+	}
+
+	protected static SVNLogEntry[] logEntries(ISVNConnector proxy, SVNEntryReference reference,
+			IRepositoryResource resource, SVNRevisionRange[] revisionRanges, long options, String[] revProps, long limit,
+			ISVNLogEntryCallback listener, ISVNProgressMonitor monitor) throws SVNConnectorException {
+		SVNLogEntryCallbackWithMergeInfo callback = listener == null
+				? new SVNLogEntryCallbackWithMergeInfo(resource)
+				: new SVNLogEntryCallbackWithMergeInfo(resource) {
+					@Override
+					protected void addEntry(SVNLogEntry entry) {
+						super.addEntry(entry);
+						listener.next(entry);
+					}
+				};
 		proxy.listHistoryLog(reference, revisionRanges, revProps, limit, options, callback, monitor);
 		return callback.getEntries();
 	}
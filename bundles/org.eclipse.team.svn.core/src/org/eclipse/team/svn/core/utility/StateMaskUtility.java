@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.utility;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.team.svn.core.CompiledStateFilter;
+import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+
+/**
+ * Resource states bit masks. Each local resource is described by a bit of its state and the bits of its most important flags, so the
+ * states of the whole subtree could be aggregated into a single value.
+ * 
+ * The aggregated value (roll-up) keeps the bits of all the cached descendants in its lower half, while its upper half keeps the bits of
+ * the descendant containers whose children are not cached yet.
+ */
+public final class StateMaskUtility {
+	public static final int LOCKED = 1 << 16;
+
+	public static final int SWITCHED = 1 << 17;
+
+	public static final int SVN_EXTERNALS = 1 << 18;
+
+	public static final int FORBIDDEN = 1 << 19;
+
+	public static final int TREE_CONFLICT = 1 << 20;
+
+	public static final int PROPERTIES_CHANGED = 1 << 21;
+
+	/**
+	 * The mask which is matched by any resource
+	 */
+	public static final int ANY = 0xFFFFFFFF;
+
+	/**
+	 * The roll-up used when the subtree states are unknown
+	 */
+	public static final long UNKNOWN_ROLL_UP = -1L;
+
+	protected static final String[] STATES = { IStateFilter.ST_INTERNAL_INVALID, IStateFilter.ST_NOTEXISTS,
+			IStateFilter.ST_IGNORED, IStateFilter.ST_NEW, IStateFilter.ST_ADDED, IStateFilter.ST_NORMAL,
+			IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING, IStateFilter.ST_DELETED, IStateFilter.ST_MISSING,
+			IStateFilter.ST_OBSTRUCTED, IStateFilter.ST_PREREPLACED, IStateFilter.ST_REPLACED,
+			IStateFilter.ST_LINKED };
+
+	public static final int STATES_COUNT = StateMaskUtility.STATES.length;
+
+	/**
+	 * Filter masks: the first one should intersect with the mask of any resource accepted by the filter, the second one - with the mask
+	 * of any container the filter allows recursion into
+	 */
+	protected static final Map<IStateFilter, int[]> FILTER_MASKS = new ConcurrentHashMap<>();
+
+	static {
+		int onRepository = StateMaskUtility.getStateBits(IStateFilter.ST_PREREPLACED, IStateFilter.ST_REPLACED,
+				IStateFilter.ST_NORMAL, IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING,
+				IStateFilter.ST_DELETED, IStateFilter.ST_MISSING) | StateMaskUtility.TREE_CONFLICT;
+		int versioned = onRepository | StateMaskUtility.getStateBits(IStateFilter.ST_ADDED);
+		// recursion conditions also allow unversioned externals, which are ignored resources with the externals flag
+		int onRepositoryRecursion = onRepository | StateMaskUtility.SVN_EXTERNALS;
+		int versionedRecursion = versioned | StateMaskUtility.SVN_EXTERNALS;
+		int notIgnoredRecursion = StateMaskUtility.ANY
+				& ~StateMaskUtility.getStateBits(IStateFilter.ST_OBSTRUCTED, IStateFilter.ST_LINKED);
+		int deleted = StateMaskUtility.getStateBits(IStateFilter.ST_PREREPLACED, IStateFilter.ST_REPLACED,
+				IStateFilter.ST_DELETED, IStateFilter.ST_MISSING);
+
+		StateMaskUtility.register(IStateFilter.SF_LOCKED, StateMaskUtility.LOCKED, onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_SWITCHED, StateMaskUtility.SWITCHED, StateMaskUtility.ANY);
+		StateMaskUtility.register(IStateFilter.SF_UNVERSIONED_EXTERNAL, StateMaskUtility.SVN_EXTERNALS,
+				versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_LINKED, StateMaskUtility.getStateBits(IStateFilter.ST_LINKED),
+				StateMaskUtility.ANY);
+		StateMaskUtility.register(IStateFilter.SF_OBSTRUCTED,
+				StateMaskUtility.getStateBits(IStateFilter.ST_OBSTRUCTED), StateMaskUtility.ANY);
+		StateMaskUtility.register(IStateFilter.SF_REPLACED, StateMaskUtility.getStateBits(IStateFilter.ST_REPLACED),
+				versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_PREREPLACED,
+				StateMaskUtility.getStateBits(IStateFilter.ST_PREREPLACED), versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_PREREPLACEDREPLACED,
+				StateMaskUtility.getStateBits(IStateFilter.ST_PREREPLACED, IStateFilter.ST_REPLACED),
+				versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_NEW,
+				StateMaskUtility.getStateBits(IStateFilter.ST_NEW, IStateFilter.ST_PREREPLACED), notIgnoredRecursion);
+		StateMaskUtility.register(IStateFilter.SF_ADDED, StateMaskUtility.getStateBits(IStateFilter.ST_PREREPLACED,
+				IStateFilter.ST_REPLACED, IStateFilter.ST_NEW, IStateFilter.ST_ADDED), versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_MODIFIED,
+				StateMaskUtility.getStateBits(IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING),
+				onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_CONFLICTING,
+				StateMaskUtility.getStateBits(IStateFilter.ST_CONFLICTING), onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_CONTENT_CONFLICTING,
+				StateMaskUtility.getStateBits(IStateFilter.ST_CONFLICTING), onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_PROPERTIES_CONFLICTING,
+				StateMaskUtility.getStateBits(IStateFilter.ST_CONFLICTING), onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_DATA_CONFLICTING,
+				StateMaskUtility.getStateBits(IStateFilter.ST_CONFLICTING), onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_TREE_CONFLICTING, StateMaskUtility.TREE_CONFLICT,
+				onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_DELETED, deleted, onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_MISSING, StateMaskUtility.getStateBits(IStateFilter.ST_MISSING),
+				onRepositoryRecursion);
+		StateMaskUtility.register(IStateFilter.SF_COMMITABLE,
+				StateMaskUtility.getStateBits(IStateFilter.ST_REPLACED, IStateFilter.ST_ADDED,
+						IStateFilter.ST_MODIFIED, IStateFilter.ST_DELETED, IStateFilter.ST_MISSING),
+				versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_REVERTABLE,
+				deleted | StateMaskUtility.getStateBits(IStateFilter.ST_CONFLICTING, IStateFilter.ST_ADDED,
+						IStateFilter.ST_MODIFIED) | StateMaskUtility.TREE_CONFLICT,
+				versionedRecursion);
+		StateMaskUtility.register(IStateFilter.SF_HAS_PROPERTIES_CHANGES, StateMaskUtility.PROPERTIES_CHANGED,
+				onRepositoryRecursion);
+		int changed = deleted | StateMaskUtility.getStateBits(IStateFilter.ST_NOTEXISTS, IStateFilter.ST_NEW,
+				IStateFilter.ST_ADDED, IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING);
+		StateMaskUtility.register(IStateFilter.SF_ANY_CHANGE, changed, notIgnoredRecursion);
+		StateMaskUtility.register(IStateFilter.SF_MODIFIED_NOT_IGNORED,
+				changed & ~StateMaskUtility.getStateBits(IStateFilter.ST_NOTEXISTS)
+						| StateMaskUtility.getStateBits(IStateFilter.ST_OBSTRUCTED),
+				notIgnoredRecursion);
+	}
+
+	/**
+	 * Registers the masks of the filter. The masks could be less strict than the filter itself, but never stricter.
+	 * 
+	 * @param filter
+	 *            the filter
+	 * @param acceptMask
+	 *            the mask which intersects with the mask of any resource accepted by the filter
+	 * @param recursionMask
+	 *            the mask which intersects with the mask of any container the filter allows recursion into
+	 */
+	public static void register(IStateFilter filter, int acceptMask, int recursionMask) {
+		StateMaskUtility.FILTER_MASKS.put(filter, new int[] { acceptMask, recursionMask });
+	}
+
+	public static boolean isRegistered(IStateFilter filter) {
+		return StateMaskUtility.FILTER_MASKS.containsKey(StateMaskUtility.unwrap(filter));
+	}
+
+	public static int getStateBit(String state) {
+		int ordinal = StateMaskUtility.getStateOrdinal(state);
+		return ordinal < 0 ? 0 : 1 << ordinal;
+	}
+
+	/**
+	 * Returns the ordinal of the state
+	 * 
+	 * @param state
+	 *            the state
+	 * @return the ordinal in range [0, {@link #STATES_COUNT}) or -1 if the state is unknown
+	 */
+	public static int getStateOrdinal(String state) {
+		for (int i = 0; i < StateMaskUtility.STATES.length; i++) {
+			if (StateMaskUtility.STATES[i] == state) {
+				return i;
+			}
+		}
+		for (int i = 0; i < StateMaskUtility.STATES.length; i++) {
+			if (state != null && state.equals(StateMaskUtility.STATES[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public static String getState(int ordinal) {
+		return StateMaskUtility.STATES[ordinal];
+	}
+
+	public static int getStateBits(String... states) {
+		int retVal = 0;
+		for (String state : states) {
+			retVal |= StateMaskUtility.getStateBit(state);
+		}
+		return retVal;
+	}
+
+	/**
+	 * Returns the mask of the state and the change mask, without the flags which could be taken from the local resource only
+	 */
+	public static int getMask(String state, int changeMask) {
+		int retVal = StateMaskUtility.getStateBit(state);
+		if ((changeMask & ILocalResource.IS_LOCKED) != 0) {
+			retVal |= StateMaskUtility.LOCKED;
+		}
+		if ((changeMask & ILocalResource.IS_SWITCHED) != 0) {
+			retVal |= StateMaskUtility.SWITCHED;
+		}
+		if ((changeMask & ILocalResource.IS_SVN_EXTERNALS) != 0) {
+			retVal |= StateMaskUtility.SVN_EXTERNALS;
+		}
+		if ((changeMask & ILocalResource.IS_FORBIDDEN) != 0) {
+			retVal |= StateMaskUtility.FORBIDDEN;
+		}
+		return retVal;
+	}
+
+	public static int getMask(ILocalResource local) {
+		int retVal = StateMaskUtility.getMask(local.getStatus(), local.getChangeMask());
+		if (local.hasTreeConflict()) {
+			retVal |= StateMaskUtility.TREE_CONFLICT;
+		}
+		String propStatus = local.getPropStatus();
+		if (propStatus == IStateFilter.ST_MODIFIED || propStatus == IStateFilter.ST_CONFLICTING) {
+			retVal |= StateMaskUtility.PROPERTIES_CHANGED;
+		}
+		return retVal;
+	}
+
+	/**
+	 * Checks if the subtree described by the roll-up could contain resources accepted by the filter
+	 * 
+	 * @param filter
+	 *            the filter
+	 * @param rollUp
+	 *            the aggregated states of the subtree
+	 * @return <code>false</code> if there are definitely no such resources, <code>true</code> otherwise
+	 */
+	public static boolean mayAccept(IStateFilter filter, long rollUp) {
+		int[] masks = StateMaskUtility.FILTER_MASKS.get(StateMaskUtility.unwrap(filter));
+		if (masks == null) {
+			return true;
+		}
+		int loaded = (int) rollUp;
+		int notLoaded = (int) (rollUp >>> 32);
+		return (loaded & masks[0]) != 0 || (notLoaded & masks[1]) != 0;
+	}
+
+	protected static IStateFilter unwrap(IStateFilter filter) {
+		return filter instanceof CompiledStateFilter ? ((CompiledStateFilter) filter).getFilter() : filter;
+	}
+
+	private StateMaskUtility() {
+	}
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.core.utility;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+
+/**
+ * Progress monitor wrapper which allows reporting progress to the same monitor from several threads
+ */
+public class ThreadSafeProgressMonitor extends ProgressMonitorWrapper {
+	public ThreadSafeProgressMonitor(IProgressMonitor monitor) {
+		super(monitor);
+	}
+
+	@Override
+	public synchronized void beginTask(String name, int totalWork) {
+		super.beginTask(name, totalWork);
+	}
+
+	@Override
+	public synchronized void done() {
+		super.done();
+	}
+
+	@Override
+	public synchronized void internalWorked(double work) {
+		super.internalWorked(work);
+	}
+
+	@Override
+	public synchronized void worked(int work) {
+		super.worked(work);
+	}
+
+	@Override
+	public synchronized void setTaskName(String name) {
+		super.setTaskName(name);
+	}
+
+	@Override
+	public synchronized void subTask(String name) {
+		super.subTask(name);
+	}
+
+}
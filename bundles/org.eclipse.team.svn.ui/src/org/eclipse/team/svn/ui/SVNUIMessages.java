@@ -1955,6 +1955,8 @@ public class SVNUIMessages extends BaseMessages {
 
 	public static String PerformancePreferencePage_enableCache;
 
+	public static String PerformancePreferencePage_enableLogCache;
+
 	public static String PerformancePreferencePage_enablePersistentSSHConnection;
 
 	public static String PerformancePreferencePage_enableFileReplacementAutoundo;
@@ -1963,6 +1965,14 @@ public class SVNUIMessages extends BaseMessages {
 
 	public static String PerformancePreferencePage_preciseEnablements;
 
+	public static String PerformancePreferencePage_wcOperationsParallelism;
+
+	public static String PerformancePreferencePage_logCacheSize;
+
+	public static String PerformancePreferencePage_contentCacheSize;
+
+	public static String PerformancePreferencePage_contentCacheStatistics;
+
 	public static String PreferencePage_demoAscendant;
 
 	public static String PreferencePage_demoAuthor;
@@ -169,6 +169,30 @@ public class UIOptionProvider extends AbstractOptionProvider {
 				SVNTeamPreferences.DECORATION_ENABLE_PERSISTENT_SSH_NAME);
 	}
 
+	@Override
+	protected int getWorkingCopyOperationsParallelism() {
+		return SVNTeamPreferences.getDecorationInt(SVNTeamUIPlugin.instance().getPreferenceStore(),
+				SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_NAME);
+	}
+
+	@Override
+	protected boolean isLogCacheEnabled() {
+		return SVNTeamPreferences.getDecorationBoolean(SVNTeamUIPlugin.instance().getPreferenceStore(),
+				SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_NAME);
+	}
+
+	@Override
+	protected int getLogCacheSize() {
+		return SVNTeamPreferences.getDecorationInt(SVNTeamUIPlugin.instance().getPreferenceStore(),
+				SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_NAME);
+	}
+
+	@Override
+	protected int getContentCacheSize() {
+		return SVNTeamPreferences.getDecorationInt(SVNTeamUIPlugin.instance().getPreferenceStore(),
+				SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_NAME);
+	}
+
 	@Override
 	protected boolean isCommitDerivedEnabled() {
 		return SVNTeamPreferences.getBehaviourBoolean(SVNTeamUIPlugin.instance().getPreferenceStore(),
@@ -28,6 +28,7 @@ import org.eclipse.team.svn.core.resource.events.IResourceStatesListener;
 import org.eclipse.team.svn.core.resource.events.ResourceStatesChangedEvent;
 import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.FileUtility;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
 import org.eclipse.team.svn.ui.SVNTeamUIPlugin;
 import org.eclipse.team.svn.ui.preferences.SVNTeamPreferences;
 
@@ -94,6 +95,7 @@ public class FilterManager implements IPropertyChangeListener, IResourceStatesLi
 			if (computeDeep) {
 				if (recursiveFilters2condition.size() > 0) {
 					recursiveChecker.clearFilters();
+					recursiveChecker.excludeAbsent(selectedResources);
 					FileUtility.checkForResourcesPresence(selectedResources, recursiveChecker,
 							IResource.DEPTH_INFINITE);
 					recursiveChecker.checkDisallowed();
@@ -172,6 +174,32 @@ public class FilterManager implements IPropertyChangeListener, IResourceStatesLi
 			return retVal;
 		}
 
+		/**
+		 * Resolves the filters which could not accept any of the resources or their descendants judging by the cached states, so the
+		 * subtrees are not visited for them
+		 */
+		public void excludeAbsent(IResource[] resources) {
+			for (Iterator it = filterMap.entrySet().iterator(); it.hasNext();) {
+				Map.Entry entry = (Map.Entry) it.next();
+				IStateFilter filter = (IStateFilter) entry.getKey();
+				if (entry.getValue() == null && StateMaskUtility.isRegistered(filter)
+						&& !MapChecker.canBePresent(resources, filter)) {
+					filterMap.put(filter, Boolean.FALSE);
+				}
+			}
+		}
+
+		protected static boolean canBePresent(IResource[] resources, IStateFilter filter) {
+			for (IResource resource : resources) {
+				ILocalResource local = SVNRemoteStorage.instance().asLocalResource(resource);
+				if (filter.accept(local) || resource.getType() != IResource.FILE && filter.allowsRecursion(local)
+						&& SVNRemoteStorage.instance().canContainAccepted(resource, filter)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		public void checkDisallowed() {
 			for (Iterator it = filterMap.entrySet().iterator(); it.hasNext();) {
 				Map.Entry entry = (Map.Entry) it.next();
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.internal.text.revisions.RevisionSelectionProvider;
@@ -126,6 +127,14 @@ public class BuiltInAnnotate {
 		annotateOp.setIncludeMerged(SVNTeamPreferences.getMergeBoolean(SVNTeamUIPlugin.instance().getPreferenceStore(),
 				SVNTeamPreferences.MERGE_INCLUDE_MERGED_NAME));
 		annotateOp.setRetryIfMergeInfoNotSupported(true);
+		if (resource != null) {
+			try {
+				annotateOp.setCharset(resource.getCharset());
+			} catch (CoreException ex) {
+				// the default charset is used
+			}
+			annotateOp.setLastChangedRevision(getLastChangedRevision(remote, resource, revisions));
+		}
 		IActionOperation showOp = prepareBuiltInAnnotate(annotateOp, page, remote, resource);
 		CompositeOperation op = new CompositeOperation(showOp.getId(), showOp.getMessagesClass());
 		op.add(annotateOp);
@@ -133,6 +142,21 @@ public class BuiltInAnnotate {
 		return op;
 	}
 
+	/**
+	 * The working copy knows the last changed revision of the file for the revisions up to the base one, so the cached annotation could
+	 * be used without asking the repository
+	 */
+	protected long getLastChangedRevision(IRepositoryResource remote, IFile resource, SVNRevisionRange revisions) {
+		if (revisions.to.getKind() != SVNRevision.Kind.NUMBER || !remote.getUrl()
+				.equals(SVNRemoteStorage.instance().asRepositoryResource(resource).getUrl())) {
+			return SVNRevision.INVALID_REVISION_NUMBER;
+		}
+		ILocalResource local = SVNRemoteStorage.instance().asLocalResourceAccessible(resource);
+		long to = ((SVNRevision.Number) revisions.to).getNumber();
+		return local.getRevision() != SVNRevision.INVALID_REVISION_NUMBER && local.getRevision() <= to
+				&& to <= local.getBaseRevision() ? local.getRevision() : SVNRevision.INVALID_REVISION_NUMBER;
+	}
+
 	protected IActionOperation prepareBuiltInAnnotate(final GetResourceAnnotationOperation annotateOp,
 			final IWorkbenchPage page, final IRepositoryResource remote, final IFile resource) {
 		CompositeOperation op = new CompositeOperation("Operation_BuiltInShowAnnotation", SVNUIMessages.class); //$NON-NLS-1$
@@ -184,20 +208,24 @@ public class BuiltInAnnotate {
 						to = revisionNum;
 					}
 				}
-				IRepositoryResource resource = annotateOp.getRepositoryResource();
-				ISVNConnector proxy = resource.getRepositoryLocation().acquireSVNProxy();
-				try {
-					SVNLogEntry[] msgs = SVNUtility.logEntries(proxy, SVNUtility.getEntryReference(resource),
-							SVNRevision.fromNumber(to), SVNRevision.fromNumber(from), ISVNConnector.Options.NONE,
-							ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, 0, new SVNProgressMonitor(this, monitor, null));
-					for (SVNLogEntry msg : msgs) {
-						BuiltInAnnotateRevision revision = revisions.get(String.valueOf(msg.revision));
-						if (revision != null) {
-							revision.setLogMessage(msg);
-						}
+				// log messages are fetched together with the annotation if it is cached
+				SVNLogEntry[] msgs = annotateOp.getLogEntries();
+				if (msgs == null) {
+					IRepositoryResource resource = annotateOp.getRepositoryResource();
+					ISVNConnector proxy = resource.getRepositoryLocation().acquireSVNProxy();
+					try {
+						msgs = SVNUtility.logEntries(proxy, SVNUtility.getEntryReference(resource),
+								SVNRevision.fromNumber(to), SVNRevision.fromNumber(from), ISVNConnector.Options.NONE,
+								ISVNConnector.DEFAULT_LOG_ENTRY_PROPS, 0, new SVNProgressMonitor(this, monitor, null));
+					} finally {
+						resource.getRepositoryLocation().releaseSVNProxy(proxy);
+					}
+				}
+				for (SVNLogEntry msg : msgs) {
+					BuiltInAnnotateRevision revision = revisions.get(String.valueOf(msg.revision));
+					if (revision != null) {
+						revision.setLogMessage(msg);
 					}
-				} finally {
-					resource.getRepositoryLocation().releaseSVNProxy(proxy);
 				}
 			}
 		};
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.ui.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.structuremergeviewer.IDiffContainer;
+import org.eclipse.compare.structuremergeviewer.IDiffElement;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.team.svn.core.extension.CoreExtensionsManager;
+import org.eclipse.team.svn.core.extension.options.IOptionProvider;
+import org.eclipse.team.svn.core.operation.AbstractActionOperation;
+import org.eclipse.team.svn.core.operation.CompositeOperation;
+import org.eclipse.team.svn.core.utility.ProgressMonitorUtility;
+import org.eclipse.team.svn.ui.SVNUIMessages;
+import org.eclipse.team.svn.ui.compare.ResourceCompareInput.BaseCompareNode;
+
+/**
+ * Fetches contents of the compared files in background, so they are ready by the time the user opens them. Files are fetched
+ * concurrently, using several repository connections, in the order they are shown in the compare viewer, while the selected ones are
+ * moved to the head of the queue.
+ */
+public class CompareContentPrefetcher {
+	protected static final int MAX_PARALLELISM = 4;
+
+	protected final LinkedList<BaseCompareNode> queue;
+
+	protected final Set<BaseCompareNode> running;
+
+	protected final List<Job> workers;
+
+	protected boolean disposed;
+
+	public CompareContentPrefetcher() {
+		queue = new LinkedList<>();
+		running = new HashSet<>();
+		workers = new ArrayList<>();
+	}
+
+	/**
+	 * @return the number of files fetched simultaneously
+	 */
+	public static int getParallelism() {
+		int poolSize = CoreExtensionsManager.instance()
+				.getOptionProvider()
+				.getInt(IOptionProvider.CONNECTOR_POOL_MAX_SIZE, 0);
+		if (poolSize <= 0) {
+			return CompareContentPrefetcher.MAX_PARALLELISM;
+		}
+		// one connection is left for the operations started by the user
+		return Math.max(1, Math.min(CompareContentPrefetcher.MAX_PARALLELISM, poolSize - 1));
+	}
+
+	/**
+	 * Returns the file nodes of the subtree in the order they are shown in the compare viewer: folders first, then files, sorted by
+	 * name
+	 * 
+	 * @param element
+	 *            the subtree root
+	 * @return the file nodes
+	 */
+	public static List<BaseCompareNode> getFileNodes(IDiffElement element) {
+		List<BaseCompareNode> retVal = new ArrayList<>();
+		CompareContentPrefetcher.collectFileNodes(element, retVal);
+		return retVal;
+	}
+
+	/**
+	 * Adds the nodes to the end of the fetch queue
+	 * 
+	 * @param nodes
+	 *            the nodes to fetch
+	 */
+	public synchronized void schedule(List<BaseCompareNode> nodes) {
+		if (disposed) {
+			return;
+		}
+		for (BaseCompareNode node : nodes) {
+			if (!running.contains(node) && !queue.contains(node)) {
+				queue.add(node);
+			}
+		}
+		for (int i = Math.min(CompareContentPrefetcher.getParallelism(), queue.size()) - workers.size(); i > 0; i--) {
+			Job worker = new Job(SVNUIMessages.ResourceCompareInput_Fetch) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					BaseCompareNode node;
+					while ((node = CompareContentPrefetcher.this.next(this)) != null) {
+						try {
+							CompositeOperation op = node.getFetcher();
+							if (op != null && !op.isEmpty()) {
+								ProgressMonitorUtility.doTaskExternal(op, monitor);
+							}
+						} finally {
+							CompareContentPrefetcher.this.complete(node);
+						}
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			worker.setSystem(true);
+			workers.add(worker);
+			worker.schedule();
+		}
+	}
+
+	/**
+	 * Moves the nodes to the head of the fetch queue, keeping their order
+	 * 
+	 * @param nodes
+	 *            the nodes to fetch first
+	 */
+	public synchronized void prioritize(List<BaseCompareNode> nodes) {
+		for (int i = nodes.size() - 1; i >= 0; i--) {
+			BaseCompareNode node = nodes.get(i);
+			if (queue.remove(node)) {
+				queue.addFirst(node);
+			}
+		}
+	}
+
+	/**
+	 * Returns the operation which provides the node contents instead of {@link BaseCompareNode#getFetcher()}. The node is removed from
+	 * the fetch queue, and if it is being fetched at the moment, the returned operation waits for the fetch to complete.
+	 * 
+	 * @param node
+	 *            the node to fetch
+	 * @return the fetch operation or <code>null</code> if the node is a folder one
+	 */
+	public CompositeOperation getFetcher(final BaseCompareNode node) {
+		synchronized (this) {
+			queue.remove(node);
+			if (running.contains(node)) {
+				CompositeOperation op = new CompositeOperation(SVNUIMessages.ResourceCompareInput_Fetch,
+						SVNUIMessages.class);
+				op.add(new AbstractActionOperation("Operation_FetchContent", SVNUIMessages.class) { //$NON-NLS-1$
+					@Override
+					protected void runImpl(IProgressMonitor monitor) throws Exception {
+						CompareContentPrefetcher.this.waitFor(node, monitor);
+						// fetch again if the background one has failed, so the problem is reported to the user
+						CompositeOperation fetchContent = node.getFetcher();
+						if (fetchContent != null && !fetchContent.isEmpty()) {
+							ProgressMonitorUtility.doTaskExternal(fetchContent, monitor);
+							if (fetchContent.getStatus().getSeverity() != IStatus.OK) {
+								this.reportStatus(fetchContent.getStatus());
+							}
+						}
+					}
+				});
+				return op;
+			}
+		}
+		return node.getFetcher();
+	}
+
+	/**
+	 * Stops fetching. The files which are being fetched at the moment are cancelled.
+	 */
+	public synchronized void dispose() {
+		disposed = true;
+		queue.clear();
+		for (Job worker : workers) {
+			worker.cancel();
+		}
+	}
+
+	protected synchronized BaseCompareNode next(Job worker) {
+		BaseCompareNode node = disposed ? null : queue.poll();
+		if (node == null) {
+			workers.remove(worker);
+		} else {
+			running.add(node);
+		}
+		return node;
+	}
+
+	protected synchronized void complete(BaseCompareNode node) {
+		running.remove(node);
+		notifyAll();
+	}
+
+	protected synchronized void waitFor(BaseCompareNode node, IProgressMonitor monitor) throws InterruptedException {
+		while (running.contains(node) && !monitor.isCanceled()) {
+			this.wait(100);
+		}
+	}
+
+	protected static void collectFileNodes(IDiffElement element, List<BaseCompareNode> nodes) {
+		if (element.getType() != ITypedElement.FOLDER_TYPE) {
+			if (element instanceof BaseCompareNode) {
+				nodes.add((BaseCompareNode) element);
+			}
+		} else if (element instanceof IDiffContainer) {
+			IDiffElement[] children = ((IDiffContainer) element).getChildren().clone();
+			Arrays.sort(children, (first, second) -> {
+				boolean firstIsFolder = first.getType() == ITypedElement.FOLDER_TYPE;
+				if (firstIsFolder != (second.getType() == ITypedElement.FOLDER_TYPE)) {
+					return firstIsFolder ? -1 : 1;
+				}
+				return first.getName().compareToIgnoreCase(second.getName());
+			});
+			for (IDiffElement child : children) {
+				CompareContentPrefetcher.collectFileNodes(child, nodes);
+			}
+		}
+	}
+
+}
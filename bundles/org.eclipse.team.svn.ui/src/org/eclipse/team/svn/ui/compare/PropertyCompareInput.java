@@ -154,6 +154,8 @@ public abstract class PropertyCompareInput extends CompareEditorInput {
 				right == null ? left : right, location, right == null);
 		GetPropertiesOperation ancestorPropOperation = null;
 		final CompositeOperation op = new CompositeOperation(leftPropOperation.getOperationName(), SVNMessages.class);
+		// properties of different revisions are independent, so fetch them simultaneously
+		op.setMaxParallelism(3);
 		op.add(leftPropOperation);
 		op.add(rightPropOperation);
 		if (ancestor != null) {
@@ -14,10 +14,15 @@
 
 package org.eclipse.team.svn.ui.compare;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
@@ -107,6 +112,8 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 
 	protected String forceId;
 
+	protected CompareContentPrefetcher prefetcher;
+
 	public static void openCompareEditor(ResourceCompareInput compare, boolean forceReuse) {
 		IWorkbenchPage page = UIMonitorUtility.getActivePage();
 		IEditorReference[] editorRefs = page.getEditorReferences();
@@ -174,9 +181,29 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 		});
 		viewer.getControl().setMenu(menu);
 
+		viewer.addSelectionChangedListener(event -> {
+			if (prefetcher != null && event.getSelection() instanceof IStructuredSelection) {
+				List<BaseCompareNode> nodes = new ArrayList<>();
+				for (Object next : (IStructuredSelection) event.getSelection()) {
+					if (next instanceof IDiffElement) {
+						nodes.addAll(CompareContentPrefetcher.getFileNodes((IDiffElement) next));
+					}
+				}
+				prefetcher.prioritize(nodes);
+			}
+		});
+
 		return viewer;
 	}
 
+	@Override
+	protected void handleDispose() {
+		if (prefetcher != null) {
+			prefetcher.dispose();
+		}
+		super.handleDispose();
+	}
+
 	protected abstract void fillMenu(IMenuManager manager, TreeSelection selection);
 
 	@Override
@@ -212,6 +239,10 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 			CompositeOperation op = root.getFetcher();
 			if (op != null) {
 				ProgressMonitorUtility.doTaskExternal(op, monitor);
+			} else {
+				// the files are fetched in background instead of one by one when they are opened
+				prefetcher = new CompareContentPrefetcher();
+				prefetcher.schedule(CompareContentPrefetcher.getFileNodes(root));
 			}
 		}
 		monitor.done();
@@ -426,7 +457,10 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 
 		protected IRepositoryResource resource;
 
-		protected AbstractGetFileContentOperation op;
+		/**
+		 * The content fetcher, which could be replaced by the background prefetching while the content is read
+		 */
+		protected volatile AbstractGetFileContentOperation op;
 
 		protected ILocalResource localAlias;
 
@@ -508,6 +542,23 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 		@Override
 		public void setContent(byte[] newContent) {
 			if (isEditable()) {
+				AbstractGetFileContentOperation op = this.op;
+				if (op != null) {
+					op.setContent(newContent);
+					fireContentChanged();
+				}
+			}
+		}
+
+		/**
+		 * Replaces the content with the data read from the channel without loading it into memory as a whole
+		 * 
+		 * @param newContent
+		 *            the new content
+		 */
+		public void setContent(ReadableByteChannel newContent) {
+			if (isEditable()) {
+				AbstractGetFileContentOperation op = this.op;
 				if (op != null) {
 					op.setContent(newContent);
 					fireContentChanged();
@@ -544,28 +595,42 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 		}
 
 		public AbstractGetFileContentOperation getFetcher() {
+			AbstractGetFileContentOperation op = this.op;
 			if (op != null && op.getExecutionState() == IActionOperation.OK) {
 				return null;
 			}
 			if (resource instanceof IRepositoryFile) {
 				if (resource.getSelectedRevision() != SVNRevision.INVALID_REVISION) {
 					SVNRevision.Kind revisionKind = resource.getSelectedRevision().getKind();
-					return op = revisionKind == SVNRevision.Kind.WORKING || revisionKind == SVNRevision.Kind.BASE
+					return this.op = revisionKind == SVNRevision.Kind.WORKING || revisionKind == SVNRevision.Kind.BASE
 							? (AbstractGetFileContentOperation) new GetLocalFileContentOperation(
 									localAlias.getResource(), revisionKind)
 							: new GetFileContentOperation(resource);
 				} else if (isEditable()) {
-					return op = new GetLocalFileContentOperation(localAlias.getResource(), SVNRevision.Kind.WORKING);
+					return this.op = new GetLocalFileContentOperation(localAlias.getResource(), SVNRevision.Kind.WORKING);
 				}
 			}
-			return op = null;
+			return this.op = null;
 		}
 
 		@Override
 		public InputStream getContents() {
+			AbstractGetFileContentOperation op = this.op;
 			return op == null || op.getExecutionState() != IActionOperation.OK ? null : op.getContent();
 		}
 
+		/**
+		 * Opens a read-only channel to the fetched content
+		 * 
+		 * @return the channel or <code>null</code> if the content is not fetched
+		 * @throws IOException
+		 *             if the content could not be opened
+		 */
+		public FileChannel openContentChannel() throws IOException {
+			AbstractGetFileContentOperation op = this.op;
+			return op == null || op.getExecutionState() != IActionOperation.OK ? null : op.openContentChannel();
+		}
+
 		protected void fireContentChanged() {
 			dirty = true;
 			IContentChangeListener[] listeners = listenerList.toArray(new IContentChangeListener[0]);
@@ -594,7 +659,7 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 		@Override
 		protected void handleDoubleSelect(final SelectionEvent event) {
 			final BaseCompareNode node = (BaseCompareNode) ((TreeItem) event.item).getData();
-			CompositeOperation fetchContent = node.getFetcher();
+			CompositeOperation fetchContent = prefetcher != null ? prefetcher.getFetcher(node) : node.getFetcher();
 			if (fetchContent != null) {
 				if (!fetchContent.isEmpty()) {
 					fetchContent.add(new AbstractActionOperation("Operation_FetchContent", SVNUIMessages.class) { //$NON-NLS-1$
@@ -721,7 +786,8 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 					op.add(new AbstractActionOperation("Operation_DetectCharset", SVNMessages.class) { //$NON-NLS-1$
 						@Override
 						protected void runImpl(IProgressMonitor monitor) throws Exception {
-							left.setCharset(BaseCompareNode.this.detectCharset(fetchOp.getContent()));
+							left.setCharset(BaseCompareNode.this.detectCharset(
+									fetchOp.getContent(AbstractGetFileContentOperation.CONTENT_DESCRIPTION_LIMIT)));
 						}
 					}, new IActionOperation[] { fetchOp });
 				}
@@ -734,7 +800,8 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 					op.add(new AbstractActionOperation("Operation_DetectCharset", SVNMessages.class) { //$NON-NLS-1$
 						@Override
 						protected void runImpl(IProgressMonitor monitor) throws Exception {
-							ancestor.setCharset(BaseCompareNode.this.detectCharset(fetchOp.getContent()));
+							ancestor.setCharset(BaseCompareNode.this.detectCharset(
+									fetchOp.getContent(AbstractGetFileContentOperation.CONTENT_DESCRIPTION_LIMIT)));
 						}
 					}, new IActionOperation[] { fetchOp });
 				}
@@ -747,7 +814,8 @@ public abstract class ResourceCompareInput extends SaveableCompareEditorInput {
 					op.add(new AbstractActionOperation("Operation_DetectCharset", SVNMessages.class) { //$NON-NLS-1$
 						@Override
 						protected void runImpl(IProgressMonitor monitor) throws Exception {
-							right.setCharset(BaseCompareNode.this.detectCharset(fetchOp.getContent()));
+							right.setCharset(BaseCompareNode.this.detectCharset(
+									fetchOp.getContent(AbstractGetFileContentOperation.CONTENT_DESCRIPTION_LIMIT)));
 						}
 					}, new IActionOperation[] { fetchOp });
 				}
@@ -14,10 +14,9 @@
 
 package org.eclipse.team.svn.ui.compare;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -636,24 +635,12 @@ public class ThreeWayResourceCompareInput extends ResourceCompareInput implement
 		@Override
 		public void copy(boolean leftToRight) {
 			if (!leftToRight) {
-				InputStream stream = null;
-				try {
-					stream = ((ResourceElement) getRight()).getContents();
-					ByteArrayOutputStream data = new ByteArrayOutputStream();
-					byte[] block = new byte[1024];
-					int len = 0;
-					while ((len = stream.read(block)) > 0) {
-						data.write(block, 0, len);
-					}
-					((ResourceElement) getLeft()).setContent(data.toByteArray());
-				} catch (IOException e) {
-				} finally {
-					if (stream != null) {
-						try {
-							stream.close();
-						} catch (IOException ex) {
-						}
+				try (FileChannel channel = ((ResourceElement) getRight()).openContentChannel()) {
+					if (channel != null) {
+						((ResourceElement) getLeft()).setContent(channel);
 					}
+				} catch (IOException ex) {
+					UILoggedOperation.reportError(ThreeWayResourceCompareInput.class.getName(), ex);
 				}
 			} else {
 				super.copy(leftToRight);
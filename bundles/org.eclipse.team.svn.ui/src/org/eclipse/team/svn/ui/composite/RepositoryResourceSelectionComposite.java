@@ -108,6 +108,10 @@ public class RepositoryResourceSelectionComposite extends RepositoryResourceBase
 		revisionComposite.setFilterCurrent(toFilterCurrent);
 	}
 
+	public void setMergeTarget(IRepositoryResource mergeTarget) {
+		revisionComposite.setMergeTarget(mergeTarget);
+	}
+
 	public boolean isReverseRevisions() {
 		return revisionComposite.isReverseRevisions();
 	}
@@ -44,9 +44,12 @@ import org.eclipse.team.svn.core.operation.IActionOperation;
 import org.eclipse.team.svn.core.operation.SVNProgressMonitor;
 import org.eclipse.team.svn.core.operation.remote.GetLogMessagesOperation;
 import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.core.utility.SVNUtility;
 import org.eclipse.team.svn.ui.SVNUIMessages;
 import org.eclipse.team.svn.ui.dialog.DefaultDialog;
+import org.eclipse.team.svn.ui.history.filter.EligibleRevisionLogEntryFilter;
 import org.eclipse.team.svn.ui.history.filter.RevisionLogEntryFilter;
 import org.eclipse.team.svn.ui.panel.common.SVNHistoryPanel;
 import org.eclipse.team.svn.ui.panel.common.SelectRevisionPanel;
@@ -68,6 +71,8 @@ public class RevisionComposite extends Composite {
 
 	protected IRepositoryResource baseResource;
 
+	protected IRepositoryResource mergeTarget;
+
 	protected SVNRevision defaultRevision;
 
 	protected long currentRevision;
@@ -137,6 +142,13 @@ public class RevisionComposite extends Composite {
 		this.baseResource = baseResource;
 	}
 
+	/**
+	 * Sets the resource the selected revisions are merged into, so the revisions which are already merged could be hidden
+	 */
+	public void setMergeTarget(IRepositoryResource mergeTarget) {
+		this.mergeTarget = mergeTarget;
+	}
+
 	public void setFilterCurrent(boolean toFilter) {
 		toFilterCurrent = toFilter;
 	}
@@ -474,6 +486,13 @@ public class RevisionComposite extends Composite {
 						revFilter.setRevisionstoHide(revNum, revNum);
 						panel.addFilter(revFilter);
 					}
+					if (mergeTarget != null && !reverseRevisions) {
+						SVNLogCache cache = SVNRemoteStorage.instance().getLogCache();
+						long[] eligible = cache == null ? null : cache.getEligibleRevisions(selectedResource, mergeTarget);
+						if (eligible != null) {
+							panel.addFilter(new EligibleRevisionLogEntryFilter(eligible));
+						}
+					}
 					DefaultDialog dialog = new DefaultDialog(RevisionComposite.this.getShell(), panel);
 					if (dialog.open() == 0) {
 						if (checkStyled) {
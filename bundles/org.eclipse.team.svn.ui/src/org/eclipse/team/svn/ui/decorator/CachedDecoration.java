@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.ui.decorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.IDecorationContext;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+
+/**
+ * Decoration which records the overlays, text and fonts computed for the resource, so they could be applied again without recomputing
+ * while the resource state stays the same.
+ */
+public class CachedDecoration implements IDecoration {
+	protected final ILocalResource local;
+
+	protected final IDecorationContext context;
+
+	protected final List<Consumer<IDecoration>> operations;
+
+	/**
+	 * @param local
+	 *            the local resource state the decoration is computed for
+	 * @param context
+	 *            the context of the decoration being computed
+	 */
+	public CachedDecoration(ILocalResource local, IDecorationContext context) {
+		this.local = local;
+		this.context = context;
+		operations = new ArrayList<>(4);
+	}
+
+	/**
+	 * Checks if the decoration is computed for the state specified. The local resources are replaced each time the state changes.
+	 */
+	public boolean isComputedFor(ILocalResource local) {
+		return this.local == local;
+	}
+
+	public void apply(IDecoration decoration) {
+		for (Consumer<IDecoration> operation : operations) {
+			operation.accept(decoration);
+		}
+	}
+
+	@Override
+	public void addPrefix(String prefix) {
+		operations.add(decoration -> decoration.addPrefix(prefix));
+	}
+
+	@Override
+	public void addSuffix(String suffix) {
+		operations.add(decoration -> decoration.addSuffix(suffix));
+	}
+
+	@Override
+	public void addOverlay(ImageDescriptor overlay) {
+		operations.add(decoration -> decoration.addOverlay(overlay));
+	}
+
+	@Override
+	public void addOverlay(ImageDescriptor overlay, int quadrant) {
+		operations.add(decoration -> decoration.addOverlay(overlay, quadrant));
+	}
+
+	@Override
+	public void setForegroundColor(Color color) {
+		operations.add(decoration -> decoration.setForegroundColor(color));
+	}
+
+	@Override
+	public void setBackgroundColor(Color color) {
+		operations.add(decoration -> decoration.setBackgroundColor(color));
+	}
+
+	@Override
+	public void setFont(Font font) {
+		operations.add(decoration -> decoration.setFont(font));
+	}
+
+	@Override
+	public IDecorationContext getDecorationContext() {
+		return context;
+	}
+
+}
@@ -14,6 +14,13 @@
 
 package org.eclipse.team.svn.ui.decorator;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.mapping.ResourceMapping;
@@ -38,6 +45,7 @@ import org.eclipse.team.core.RepositoryProvider;
 import org.eclipse.team.core.diff.IDiff;
 import org.eclipse.team.core.diff.IThreeWayDiff;
 import org.eclipse.team.internal.ui.Utils;
+import org.eclipse.team.svn.core.CompiledStateFilter;
 import org.eclipse.team.svn.core.IStateFilter;
 import org.eclipse.team.svn.core.SVNMessages;
 import org.eclipse.team.svn.core.SVNTeamProvider;
@@ -96,6 +104,40 @@ public class SVNLightweightDecorator extends LabelProvider
 
 	protected static ImageDescriptor OVR_SWITCHED;
 
+	// state filters checked for each decorated resource
+	protected static final CompiledStateFilter FILTER_NOTEXISTS = CompiledStateFilter
+			.compile(IStateFilter.SF_NOTEXISTS);
+
+	protected static final CompiledStateFilter FILTER_TREE_CONFLICTING = CompiledStateFilter
+			.compile(IStateFilter.SF_TREE_CONFLICTING);
+
+	protected static final CompiledStateFilter FILTER_ADDED = CompiledStateFilter
+			.compile(IStateFilter.SF_ADDED);
+
+	protected static final CompiledStateFilter FILTER_DELETED = CompiledStateFilter
+			.compile(IStateFilter.SF_DELETED);
+
+	protected static final CompiledStateFilter FILTER_CONFLICTING = CompiledStateFilter
+			.compile(IStateFilter.SF_CONFLICTING);
+
+	protected static final CompiledStateFilter FILTER_MODIFIED = CompiledStateFilter
+			.compile(IStateFilter.SF_MODIFIED);
+
+	protected static final CompiledStateFilter FILTER_OBSTRUCTED = CompiledStateFilter
+			.compile(IStateFilter.SF_OBSTRUCTED);
+
+	protected static final CompiledStateFilter FILTER_VERSIONED = CompiledStateFilter
+			.compile(IStateFilter.SF_VERSIONED);
+
+	protected static final CompiledStateFilter FILTER_COMMITABLE = CompiledStateFilter
+			.compile(IStateFilter.SF_COMMITABLE);
+
+	protected static final CompiledStateFilter FILTER_ONREPOSITORY = CompiledStateFilter
+			.compile(IStateFilter.SF_ONREPOSITORY);
+
+	protected static final CompiledStateFilter FILTER_PREREPLACEDREPLACED = CompiledStateFilter
+			.compile(IStateFilter.SF_PREREPLACEDREPLACED);
+
 	protected IPropertyChangeListener configurationListener;
 
 	protected boolean indicateConflicted;
@@ -151,6 +193,15 @@ public class SVNLightweightDecorator extends LabelProvider
 
 	protected boolean computeDeep;
 
+	/**
+	 * Decorations of the resources, which are dropped when the resources states or the decoration settings change
+	 */
+	protected final Map<IResource, CachedDecoration> decorations;
+
+	protected final AtomicLong decorationsGeneration;
+
+	protected static final int DECORATION_CACHE_SIZE = 5000;
+
 	private static final SynchronizationStateTester DEFAULT_TESTER = new SynchronizationStateTester();
 
 	public SVNLightweightDecorator() {
@@ -176,6 +227,14 @@ public class SVNLightweightDecorator extends LabelProvider
 		SVNRemoteStorage.instance().addResourceStatesListener(ResourceStatesChangedEvent.class, this);
 
 		decorator = new DecoratorVariables(TextVariableSetProvider.instance);
+
+		decorations = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IResource, CachedDecoration> eldest) {
+				return size() > SVNLightweightDecorator.DECORATION_CACHE_SIZE;
+			}
+		});
+		decorationsGeneration = new AtomicLong();
 	}
 
 	@Override
@@ -188,6 +247,8 @@ public class SVNLightweightDecorator extends LabelProvider
 
 		SVNRemoteStorage.instance().removeResourceStatesListener(ResourceStatesChangedEvent.class, this);
 
+		clearDecorations();
+
 		super.dispose();
 	}
 
@@ -296,6 +357,13 @@ public class SVNLightweightDecorator extends LabelProvider
 		}
 
 		ILocalResource local = SVNRemoteStorage.instance().asLocalResource(resource);
+		CachedDecoration cached = decorations.get(resource);
+		if (cached != null && cached.isComputedFor(local)) {
+			cached.apply(decoration);
+			return;
+		}
+
+		long generation = decorationsGeneration.get();
 		IRepositoryResource remote = SVNRemoteStorage.instance().asRepositoryResource(resource);
 		if (IStateFilter.SF_INTERNAL_INVALID.accept(local) || remote == null) {
 			return;
@@ -304,14 +372,22 @@ public class SVNLightweightDecorator extends LabelProvider
 		String localStatus = getStatus(local);
 		int mask = local.getChangeMask();
 
-		if (!IStateFilter.SF_NOTEXISTS.accept(resource, localStatus, mask)) {
-			decorateResourceImpl(remote, local, resource, localStatus, mask, decoration);
+		cached = new CachedDecoration(local, decoration.getDecorationContext());
+		if (!SVNLightweightDecorator.FILTER_NOTEXISTS.accept(local, localStatus, mask)) {
+			decorateResourceImpl(remote, local, resource, localStatus, mask, cached);
+		}
+		synchronized (decorations) {
+			// the states could be changed while the decoration was computed
+			if (generation == decorationsGeneration.get()) {
+				decorations.put(resource, cached);
+			}
 		}
+		cached.apply(decoration);
 	}
 
 	protected void decorateResourceImpl(final IRepositoryResource remote, final ILocalResource local,
 			final IResource resource, final String state, final int mask, IDecoration decoration) {
-		if (IStateFilter.SF_TREE_CONFLICTING.accept(resource, state, mask) && indicateConflicted) {
+		if (SVNLightweightDecorator.FILTER_TREE_CONFLICTING.accept(local, state, mask) && indicateConflicted) {
 			decoration.addOverlay(SVNLightweightDecorator.OVR_CONFLICTED);
 		} else if (local.isLocked() && indicateLocked) {
 			decoration.addOverlay(SVNLightweightDecorator.OVR_LOCKED);
@@ -327,14 +403,14 @@ public class SVNLightweightDecorator extends LabelProvider
 			}
 		} else if (indicateNeedsLock && IStateFilter.SF_NEEDS_LOCK.accept(resource, state, mask)) {
 			decoration.addOverlay(SVNLightweightDecorator.OVR_NEEDS_LOCK);
-		} else if (IStateFilter.SF_ADDED.accept(resource, state, mask)) {
+		} else if (SVNLightweightDecorator.FILTER_ADDED.accept(local, state, mask)) {
 			//new state also recognized as added, then it should be before added
 			if (indicateAdded) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_ADDED);
 			}
-		} else if (indicateDeleted(resource) && IStateFilter.SF_DELETED.accept(resource, state, mask)) {
+		} else if (indicateDeleted(resource) && SVNLightweightDecorator.FILTER_DELETED.accept(local, state, mask)) {
 			decoration.addOverlay(SVNLightweightDecorator.OVR_DELETED);
-		} else if (IStateFilter.SF_CONFLICTING.accept(resource, state, mask)) {
+		} else if (SVNLightweightDecorator.FILTER_CONFLICTING.accept(local, state, mask)) {
 			if (indicateConflicted) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_CONFLICTED);
 			} else if (indicateModified) {
@@ -344,7 +420,7 @@ public class SVNLightweightDecorator extends LabelProvider
 			} else if (indicateRemote) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_VERSIONED);
 			}
-		} else if (IStateFilter.SF_MODIFIED.accept(resource, state, mask)) {
+		} else if (SVNLightweightDecorator.FILTER_MODIFIED.accept(local, state, mask)) {
 			if (indicateModified) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_MODIFIED);
 			} else if (indicateSwitched && (local.getChangeMask() & ILocalResource.IS_SWITCHED) != 0) {
@@ -352,9 +428,9 @@ public class SVNLightweightDecorator extends LabelProvider
 			} else if (indicateRemote) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_VERSIONED);
 			}
-		} else if (IStateFilter.SF_OBSTRUCTED.accept(resource, state, mask)) {
+		} else if (SVNLightweightDecorator.FILTER_OBSTRUCTED.accept(local, state, mask)) {
 			decoration.addOverlay(SVNLightweightDecorator.OVR_OBSTRUCTED);
-		} else if (IStateFilter.SF_VERSIONED.accept(resource, state, mask)) {
+		} else if (SVNLightweightDecorator.FILTER_VERSIONED.accept(local, state, mask)) {
 			if (indicateSwitched && (local.getChangeMask() & ILocalResource.IS_SWITCHED) != 0) {
 				decoration.addOverlay(SVNLightweightDecorator.OVR_SWITCHED);
 			} else if (indicateRemote) {
@@ -370,25 +446,25 @@ public class SVNLightweightDecorator extends LabelProvider
 		decorator.decorateText(
 				decoration, getFormat(resource.getType()), var -> {
 					if (var.equals(TextVariableSetProvider.VAR_ADDED_FLAG)) {
-						return IStateFilter.SF_ADDED.accept(resource, state, mask) ? addedChars : ""; //$NON-NLS-1$
+						return SVNLightweightDecorator.FILTER_ADDED.accept(local, state, mask) ? addedChars : ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_OUTGOING_FLAG)) {
-						return IStateFilter.SF_COMMITABLE.accept(resource, state, mask)
-								|| IStateFilter.SF_CONFLICTING.accept(resource, state, mask)
-								|| IStateFilter.SF_TREE_CONFLICTING.accept(resource, state, mask)
+						return SVNLightweightDecorator.FILTER_COMMITABLE.accept(local, state, mask)
+								|| SVNLightweightDecorator.FILTER_CONFLICTING.accept(local, state, mask)
+								|| SVNLightweightDecorator.FILTER_TREE_CONFLICTING.accept(local, state, mask)
 										? outgoingChars
 										: ""; //$NON-NLS-1$
 					}
 
 					if (var.equals(TextVariableSetProvider.VAR_REVISION)) {
-						return IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)
-								&& !IStateFilter.SF_PREREPLACEDREPLACED.accept(resource, state, mask)
+						return SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)
+								&& !SVNLightweightDecorator.FILTER_PREREPLACEDREPLACED.accept(local, state, mask)
 										? String.valueOf(local.getRevision())
 										: ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_AUTHOR)) {
 						String author = local.getAuthor() == null ? "[no author]" : local.getAuthor(); //$NON-NLS-1$
-						return IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask) ? author : ""; //$NON-NLS-1$
+						return SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask) ? author : ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_DATE)) {
-						if (!IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (!SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							return ""; //$NON-NLS-1$
 						}
 						long date = local.getLastCommitDate();
@@ -397,29 +473,29 @@ public class SVNLightweightDecorator extends LabelProvider
 						}
 						return DateFormatter.formatDate(date);
 					} else if (var.equals(TextVariableSetProvider.VAR_RESOURCE_URL)) {
-						return IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)
+						return SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)
 								? SVNUtility.decodeURL(remote.getUrl())
 								: ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_SHORT_RESOURCE_URL)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							String shortURL = SVNUtility.decodeURL(remote.getUrl())
 									.substring(remote.getRepositoryLocation().getRepositoryRootUrl().length());
 							return shortURL.startsWith("/") ? shortURL.substring(1) : shortURL; //$NON-NLS-1$
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_LOCATION_URL)) {
-						return IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)
+						return SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)
 								? remote.getRepositoryLocation().getUrlAsIs()
 								: ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_LOCATION_LABEL)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							IRepositoryLocation location = remote.getRepositoryLocation();
 							String label = location.getLabel();
 							return label == null || label.length() == 0 ? location.getUrlAsIs() : label;
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_ROOT_PREFIX)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							int kind = ((IRepositoryRoot) remote.getRoot()).getKind();
 							return kind == IRepositoryRoot.KIND_TAGS
 									? tagPrefix
@@ -429,22 +505,22 @@ public class SVNLightweightDecorator extends LabelProvider
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_ASCENDANT)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							return SVNUtility.getAscendant(remote);
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_DESCENDANT)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							return SVNUtility.getDescendant(remote);
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_FULLNAME)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							return SVNUtility.getPathUpToRoot(remote);
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_FULLPATH)) {
-						if (IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask)) {
+						if (SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask)) {
 							String retVal = SVNUtility.getPathUpToRoot(remote);
 							int pos = retVal.lastIndexOf('/');
 							if (pos != -1) {
@@ -454,7 +530,7 @@ public class SVNLightweightDecorator extends LabelProvider
 						}
 						return ""; //$NON-NLS-1$
 					} else if (var.equals(TextVariableSetProvider.VAR_REMOTE_NAME)) {
-						return IStateFilter.SF_ONREPOSITORY.accept(resource, state, mask) ? remote.getName() : ""; //$NON-NLS-1$
+						return SVNLightweightDecorator.FILTER_ONREPOSITORY.accept(local, state, mask) ? remote.getName() : ""; //$NON-NLS-1$
 					}
 					if (var.equals(TextVariableSetProvider.VAR_NAME)) {
 						return local.getName();
@@ -597,6 +673,9 @@ public class SVNLightweightDecorator extends LabelProvider
 
 		formatLine = SVNTeamPreferences.getDecorationString(store, SVNTeamPreferences.DECORATION_FORMAT_PROJECT_NAME);
 		projectFormat = decorator.parseFormatLine(formatLine);
+
+		// the decorations computed while the configuration was being loaded could use the previous one
+		clearDecorations();
 	}
 
 	/* (non-Javadoc)
@@ -604,6 +683,26 @@ public class SVNLightweightDecorator extends LabelProvider
 	 */
 	@Override
 	public void resourcesStateChanged(ResourceStatesChangedEvent event) {
-		fireLabelProviderChanged(new LabelProviderChangedEvent(this, event.getResourcesRecursivelly()));
+		IResource[] resources = event.getResourcesRecursivelly();
+		synchronized (decorations) {
+			decorationsGeneration.incrementAndGet();
+			Set<IResource> parents = new HashSet<>();
+			for (IResource resource : resources) {
+				decorations.remove(resource);
+				// deep outgoing state of the folders depends on their children
+				for (IResource parent = resource.getParent(); computeDeep && parent != null
+						&& parents.add(parent); parent = parent.getParent()) {
+					decorations.remove(parent);
+				}
+			}
+		}
+		fireLabelProviderChanged(new LabelProviderChangedEvent(this, resources));
+	}
+
+	protected void clearDecorations() {
+		synchronized (decorations) {
+			decorationsGeneration.incrementAndGet();
+			decorations.clear();
+		}
 	}
 }
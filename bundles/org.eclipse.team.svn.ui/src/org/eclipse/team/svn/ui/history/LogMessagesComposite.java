@@ -77,6 +77,11 @@ public class LogMessagesComposite extends SashForm {
 
 	public static final int REFRESH_ALL = 3;
 
+	/**
+	 * Refreshes the model after new entries were added, keeping expanded and selected nodes
+	 */
+	public static final int REFRESH_APPENDED = 4;
+
 	protected SashForm innerSashForm;
 
 	protected CheckboxTreeViewer historyTable;
@@ -205,6 +210,8 @@ public class LogMessagesComposite extends SashForm {
 				commentViewManager.usedFor(info.getRepositoryResource());
 			}
 
+			rootCategory.refreshModel();
+		} else if (refreshType == LogMessagesComposite.REFRESH_APPENDED) {
 			rootCategory.refreshModel();
 		}
 
@@ -228,7 +235,11 @@ public class LogMessagesComposite extends SashForm {
 				historyTable.getTree()
 						.setLinesVisible(entries != RootHistoryCategory.NO_REMOTE
 								&& entries != RootHistoryCategory.NO_LOCAL && entries != RootHistoryCategory.NO_REVS);
-				historyTable.setInput(new CategoryLogNode(rootCategory));
+				if (refreshType == LogMessagesComposite.REFRESH_APPENDED && historyTable.getInput() != null) {
+					historyTable.refresh();
+				} else {
+					historyTable.setInput(new CategoryLogNode(rootCategory));
+				}
 			}
 			historyTableListener.selectionChanged(null);
 		}
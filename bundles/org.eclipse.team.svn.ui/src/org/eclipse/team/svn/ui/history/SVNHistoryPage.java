@@ -21,8 +21,9 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFileState;
@@ -45,10 +46,12 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.team.svn.core.BaseMessages;
 import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.connector.SVNRevision;
 import org.eclipse.team.svn.core.operation.AbstractActionOperation;
@@ -76,7 +79,9 @@ import org.eclipse.team.svn.ui.history.filter.AuthorNameLogEntryFilter;
 import org.eclipse.team.svn.ui.history.filter.ChangeNameLogEntryFilter;
 import org.eclipse.team.svn.ui.history.filter.CommentLogEntryFilter;
 import org.eclipse.team.svn.ui.history.filter.CompositeLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.IIndexedLogEntryFilter;
 import org.eclipse.team.svn.ui.history.filter.ILogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.LogEntryIndex;
 import org.eclipse.team.svn.ui.history.model.ILogNode;
 import org.eclipse.team.svn.ui.operation.CorrectRevisionOperation;
 import org.eclipse.team.svn.ui.operation.UILoggedOperation;
@@ -100,6 +105,11 @@ import org.eclipse.ui.PlatformUI;
  */
 public class SVNHistoryPage extends HistoryPage
 		implements ISVNHistoryView, IResourceStatesListener, IPropertyChangeListener, IRevisionPropertyChangeListener {
+	/**
+	 * Minimal interval in milliseconds between view refreshes while the history is received
+	 */
+	protected static final long STREAMING_REFRESH_INTERVAL = 200;
+
 	protected IResource wcResource;
 
 	protected IRepositoryResource repositoryResource;
@@ -184,6 +194,15 @@ public class SVNHistoryPage extends HistoryPage
 
 	protected SVNLogEntry[] logMessages;
 
+	protected HistoryLoader historyLoader;
+
+	protected LogEntryIndex logIndex;
+
+	/**
+	 * The {@link #logIndex} modification count at the moment it was the same as the shown log messages
+	 */
+	protected int logIndexModificationCount;
+
 	protected SVNLocalFileRevision[] localHistory;
 
 	protected HistoryActionManager actionManager;
@@ -271,6 +290,8 @@ public class SVNHistoryPage extends HistoryPage
 							logMessages[i].addAll(current.getChildren());
 						}
 					}
+					// the index refers to the replaced entry, so filter without it until the history is reloaded
+					logIndex = null;
 				}
 			}
 			UIMonitorUtility.getDisplay().syncExec(() -> SVNHistoryPage.this.refresh(ISVNHistoryView.REFRESH_VIEW));
@@ -333,6 +354,7 @@ public class SVNHistoryPage extends HistoryPage
 		repositoryResource = null;
 		wcResource = null;
 		logMessages = null;
+		logIndex = null;
 		localHistory = null;
 		authorFilter.setAuthorNameToAccept(null);
 		commentFilter.setCommentToAccept(null);
@@ -378,7 +400,7 @@ public class SVNHistoryPage extends HistoryPage
 
 	@Override
 	public SVNLogEntry[] getRemoteHistory() {
-		return SVNHistoryPage.filterMessages(logMessages, logEntriesFilter);
+		return SVNHistoryPage.filterMessages(logMessages, logEntriesFilter, logIndex, logIndexModificationCount);
 	}
 
 	@Override
@@ -458,6 +480,8 @@ public class SVNHistoryPage extends HistoryPage
 		if (repositoryResource != null
 				&& (refreshType == ISVNHistoryView.REFRESH_ALL || refreshType == ISVNHistoryView.REFRESH_REMOTE)) {
 			logMessages = null;
+			logIndex = new LogEntryIndex();
+			logIndexModificationCount = 0;
 			pending = true;
 			setButtonsEnablement();
 			history.refresh(LogMessagesComposite.REFRESH_ALL);
@@ -940,6 +964,36 @@ public class SVNHistoryPage extends HistoryPage
 		return filteredMessages.toArray(new SVNLogEntry[filteredMessages.size()]);
 	}
 
+	/**
+	 * Filters messages checking only the candidates selected by the index, if it is possible
+	 * 
+	 * @param index
+	 *            the index of the messages, could be <code>null</code>
+	 * @param modificationCount
+	 *            the index modification count at the moment it was the same as the messages
+	 */
+	public static SVNLogEntry[] filterMessages(SVNLogEntry[] msgs, ILogEntryFilter filter, LogEntryIndex index,
+			int modificationCount) {
+		if (msgs == null || index == null || !(filter instanceof IIndexedLogEntryFilter)
+				|| !index.isIndexed(msgs, modificationCount)) {
+			return SVNHistoryPage.filterMessages(msgs, filter);
+		}
+		BitSet candidates = ((IIndexedLogEntryFilter) filter).getCandidates(index);
+		if (candidates == null) {
+			return SVNHistoryPage.filterMessages(msgs, filter);
+		}
+		ArrayList<SVNLogEntry> filteredMessages = new ArrayList<>();
+		for (int i = candidates.nextSetBit(0); i >= 0 && i < msgs.length; i = candidates.nextSetBit(i + 1)) {
+			if (filter.accept(msgs[i])) {
+				filteredMessages.add(msgs[i]);
+			}
+		}
+		if (filteredMessages.size() == 0) {
+			return null;
+		}
+		return filteredMessages.toArray(new SVNLogEntry[filteredMessages.size()]);
+	}
+
 	public static boolean isValidData(Object object) {
 		return object instanceof IRepositoryResource || object instanceof RepositoryResource
 				|| object instanceof RepositoryLocation
@@ -981,6 +1035,12 @@ public class SVNHistoryPage extends HistoryPage
 	protected void fetchRemoteHistory(final GetLogMessagesOperation msgsOp) {
 		msgsOp.setIncludeMerged(SVNTeamPreferences.getMergeBoolean(SVNTeamUIPlugin.instance().getPreferenceStore(),
 				SVNTeamPreferences.MERGE_INCLUDE_MERGED_NAME));
+		final HistoryLoader loader = historyLoader = new HistoryLoader(msgsOp);
+		msgsOp.setLogEntryListener(loader);
+		// do not allow to ask for the next page until the current one is completely received
+		final boolean wasPagingEnabled = pagingEnabled;
+		pagingEnabled = false;
+		setButtonsEnablement();
 
 		final IStructuredSelection selected = (IStructuredSelection) history.getTreeViewer().getSelection();
 		IActionOperation showOp = new AbstractActionOperation("Operation_HShowHistory", SVNUIMessages.class) { //$NON-NLS-1$
@@ -991,7 +1051,14 @@ public class SVNHistoryPage extends HistoryPage
 				IRepositoryResource resource = repositoryResource;
 				if (msgsOp.getExecutionState() != IActionOperation.OK || resource == null) {
 					pending = false;
-					UIMonitorUtility.getDisplay().syncExec(() -> history.refresh(LogMessagesComposite.REFRESH_ALL));
+					UIMonitorUtility.getDisplay().syncExec(() -> {
+						if (loader.isActual()) {
+							// the failed page could be asked again
+							pagingEnabled = wasPagingEnabled && logMessages != null;
+						}
+						history.refresh(LogMessagesComposite.REFRESH_ALL);
+						SVNHistoryPage.this.setButtonsEnablement();
+					});
 					return;
 				}
 				if (wcResource == null) {
@@ -1003,14 +1070,20 @@ public class SVNHistoryPage extends HistoryPage
 				}
 
 				currentRevision = revision;
-				SVNHistoryPage.this.addPage(msgsOp.getMessages());
 
 				UIMonitorUtility.getDisplay().syncExec(() -> {
-					history.refresh(LogMessagesComposite.REFRESH_ALL);
+					if (!loader.isActual()) {
+						return;
+					}
+					loader.flush();
+					pending = false;
+					pagingEnabled = limit > 0 && msgsOp.getLimit() > 0 && loader.getReceived() >= msgsOp.getLimit();
+					history.refresh(LogMessagesComposite.REFRESH_APPENDED);
 					SVNHistoryPage.this.setButtonsEnablement();
 
 					TreeViewer treeTable = history.getTreeViewer();
-					if (!treeTable.getTree().isDisposed() && treeTable.getTree().getItems().length > 0) {
+					if (!treeTable.getTree().isDisposed() && treeTable.getTree().getItems().length > 0
+							&& treeTable.getSelection().isEmpty()) {
 						if (selected.size() != 0) {
 							treeTable.setSelection(selected, true);
 						} else {
@@ -1046,20 +1119,24 @@ public class SVNHistoryPage extends HistoryPage
 		localHistory = history.size() == 0 ? null : history.toArray(new SVNLocalFileRevision[history.size()]);
 	}
 
-	protected void addPage(SVNLogEntry[] newMessages) {
+	/**
+	 * Appends the received log entries to the shown ones. The next page starts from the last known revision, so its first entry is
+	 * skipped if it is already shown. Other entries are not compared, since the range could be in ascending order as well.
+	 */
+	protected void addEntries(SVNLogEntry[] newMessages) {
+		if (newMessages.length == 0) {
+			return;
+		}
+		pending = false;
 		if (logMessages == null) {
-			if (newMessages.length > 0) {
-				pending = false;
-				logMessages = newMessages;
-				pagingEnabled = limit > 0 && newMessages.length == limit;
-			}
-		} else if (newMessages.length > 1) {
-			LinkedHashSet<SVNLogEntry> entries = new LinkedHashSet<>(Arrays.asList(logMessages));
-			int oldSize = entries.size();
-			entries.addAll(Arrays.asList(newMessages));
-			logMessages = entries.toArray(new SVNLogEntry[entries.size()]);
-			pagingEnabled = limit > 0
-					&& (newMessages.length == limit + 1 || entries.size() - oldSize < newMessages.length - 1);
+			logMessages = newMessages;
+			return;
+		}
+		int from = newMessages[0].revision == logMessages[logMessages.length - 1].revision ? 1 : 0;
+		if (from < newMessages.length) {
+			SVNLogEntry[] entries = Arrays.copyOf(logMessages, logMessages.length + newMessages.length - from);
+			System.arraycopy(newMessages, from, entries, logMessages.length, newMessages.length - from);
+			logMessages = entries;
 		}
 	}
 
@@ -1188,4 +1265,85 @@ public class SVNHistoryPage extends HistoryPage
 		UIMonitorUtility.getDisplay().syncExec(() -> SVNHistoryPage.this.refresh(refreshType));
 	}
 
+	/**
+	 * Passes log entries to the view while they are received. Entries are collected into batches which are added to the view not
+	 * more often than once per {@link SVNHistoryPage#STREAMING_REFRESH_INTERVAL}, the first batch is shown immediately and the next
+	 * ones are shown when the interval is passed, even if no more entries are received by then.
+	 */
+	protected class HistoryLoader implements ISVNLogEntryCallback {
+		protected GetLogMessagesOperation msgsOp;
+
+		protected LogEntryIndex index;
+
+		protected List<SVNLogEntry> batch;
+
+		protected int received;
+
+		protected long lastFlush;
+
+		protected boolean scheduled;
+
+		public HistoryLoader(GetLogMessagesOperation msgsOp) {
+			this.msgsOp = msgsOp;
+			index = logIndex;
+			batch = new ArrayList<>();
+		}
+
+		@Override
+		public synchronized void next(SVNLogEntry entry) {
+			if (index != null) {
+				// build the index in the background, while history is received
+				index.add(entry);
+			}
+			batch.add(entry);
+			received++;
+			if (!scheduled) {
+				scheduled = true;
+				long delay = SVNHistoryPage.STREAMING_REFRESH_INTERVAL - (System.currentTimeMillis() - lastFlush);
+				Runnable refresh = () -> {
+					if (isActual()) {
+						flush();
+						history.refresh(LogMessagesComposite.REFRESH_APPENDED);
+						SVNHistoryPage.this.setButtonsEnablement();
+					}
+				};
+				Display display = UIMonitorUtility.getDisplay();
+				// timers could be started from the UI thread only
+				display.asyncExec(delay <= 0 ? refresh : () -> display.timerExec((int) delay, refresh));
+			}
+		}
+
+		public synchronized int getReceived() {
+			return received;
+		}
+
+		/**
+		 * Checks if the view still shows history of the resource which is being loaded. Should be called from the UI thread.
+		 */
+		public boolean isActual() {
+			return historyLoader == this && repositoryResource != null
+					&& repositoryResource.equals(msgsOp.getResource());
+		}
+
+		/**
+		 * Adds all the entries received so far to the view model. Should be called from the UI thread.
+		 */
+		public void flush() {
+			SVNLogEntry[] entries;
+			int indexed;
+			synchronized (this) {
+				entries = batch.toArray(new SVNLogEntry[batch.size()]);
+				batch.clear();
+				scheduled = false;
+				lastFlush = System.currentTimeMillis();
+				// the batch entries are added to the index at the same time, so it is known what is indexed when they are shown
+				indexed = index == null ? 0 : index.getModificationCount();
+			}
+			SVNHistoryPage.this.addEntries(entries);
+			if (index != null && index == logIndex) {
+				logIndexModificationCount = indexed;
+			}
+		}
+	}
+
 }
@@ -15,10 +15,12 @@
 package org.eclipse.team.svn.ui.history.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -44,6 +46,13 @@ public class RootHistoryCategory extends HistoryCategory {
 
 	public static String[] PENDING;
 
+	/**
+	 * Number of the entries to keep changed paths data for
+	 */
+	public static final int PATH_DATA_CACHE_SIZE = 32;
+
+	protected static final Object[] NO_ENTRIES = {};
+
 	protected Object[] allHistory;
 
 	protected SVNLocalFileRevision[] localHistory;
@@ -56,10 +65,20 @@ public class RootHistoryCategory extends HistoryCategory {
 
 	protected HistoryCategory[] categoriesLocal;
 
+	protected HistoryCategory[] bothByType;
+
+	protected HistoryCategory[] remoteByType;
+
+	protected HistoryCategory[] localByType;
+
+	protected long[] categoryBounds;
+
 	protected Map<Object, SVNChangedPathData[]> pathData;
 
 	protected Set<String> relatedPathsPrefixes;
 
+	protected String lastRelatedPathsPrefix;
+
 	protected Set<String> relatedParents;
 
 	protected ISVNHistoryViewInfo info;
@@ -73,7 +92,12 @@ public class RootHistoryCategory extends HistoryCategory {
 			RootHistoryCategory.PENDING = new String[] { SVNUIMessages.RepositoriesView_Model_Pending };
 		}
 		this.info = info;
-		pathData = new HashMap<>();
+		pathData = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, SVNChangedPathData[]> eldest) {
+				return size() > RootHistoryCategory.PATH_DATA_CACHE_SIZE;
+			}
+		};
 	}
 
 	public SVNLogEntry[] getRemoteHistory() {
@@ -106,13 +130,41 @@ public class RootHistoryCategory extends HistoryCategory {
 	}
 
 	public SVNChangedPathData[] getPathData(ILogNode key) {
-		return pathData.get(key == null ? null : key.getEntity());
+		Object entity = key == null ? null : key.getEntity();
+		if (!(entity instanceof SVNLogEntry)) {
+			return null;
+		}
+		synchronized (pathData) {
+			return pathData.computeIfAbsent(entity, k -> createPathData((SVNLogEntry) k));
+		}
 	}
 
 	public void refreshModel() {
 		synchronized (info) {
-			localHistory = info.getLocalHistory();
-			remoteHistory = info.getRemoteHistory();
+			SVNLocalFileRevision[] localHistory = info.getLocalHistory();
+			SVNLogEntry[] remoteHistory = info.getRemoteHistory();
+			int appended = getAppendedFrom(localHistory, remoteHistory);
+			this.localHistory = localHistory;
+			this.remoteHistory = remoteHistory;
+			if (appended != -1) {
+				if (localHistory == null) {
+					allHistory = remoteHistory;
+				} else {
+					allHistory = Arrays.copyOf(allHistory, localHistory.length + remoteHistory.length);
+					System.arraycopy(remoteHistory, appended, allHistory, localHistory.length + appended,
+							remoteHistory.length - appended);
+				}
+				if (relatedPathsPrefixes != null) {
+					appendRelatedNodes(appended);
+				} else {
+					collectRelatedNodes();
+				}
+				appendCategories(appended);
+				return;
+			}
+			synchronized (pathData) {
+				pathData.clear();
+			}
 			if (localHistory == null) {
 				allHistory = remoteHistory;
 			} else if (remoteHistory == null) {
@@ -123,13 +175,45 @@ public class RootHistoryCategory extends HistoryCategory {
 				System.arraycopy(remoteHistory, 0, allHistory, localHistory.length, remoteHistory.length);
 			}
 			collectRelatedNodes();
-			collectCategoriesAndMapData();
+			collectCategories();
+		}
+	}
+
+	/**
+	 * Checks if the new remote history only appends entries to the current one, like it happens when the next page is fetched
+	 * 
+	 * @return index of the first appended entry or -1 if the model should be rebuilt
+	 */
+	protected int getAppendedFrom(SVNLocalFileRevision[] localHistory, SVNLogEntry[] remoteHistory) {
+		if (categoryBounds == null || this.remoteHistory == null || remoteHistory == null
+				|| localHistory != this.localHistory || remoteHistory.length < this.remoteHistory.length
+				|| !Arrays.equals(categoryBounds, getCategoryBounds())) {
+			return -1;
 		}
+		for (int i = 0; i < this.remoteHistory.length; i++) {
+			if (remoteHistory[i] != this.remoteHistory[i]) {
+				return -1;
+			}
+		}
+		return this.remoteHistory.length;
+	}
+
+	protected void appendRelatedNodes(int from) {
+		String relatedPathsPrefix = lastRelatedPathsPrefix;
+		for (int i = from; i < remoteHistory.length; i++) {
+			SVNLogEntry msg = remoteHistory[i];
+			relatedPathsPrefixes.add(relatedPathsPrefix);
+			if (msg.changedPaths != null && msg.changedPaths.length > 0) {
+				relatedPathsPrefix = getNextPrefix(msg, relatedPathsPrefix);
+			}
+		}
+		lastRelatedPathsPrefix = relatedPathsPrefix;
 	}
 
 	protected void collectRelatedNodes() {
 		relatedPathsPrefixes = null;
 		relatedParents = null;
+		lastRelatedPathsPrefix = null;
 
 		if (remoteHistory != null) {
 			SVNLogPath[] changes = null;
@@ -163,6 +247,7 @@ public class RootHistoryCategory extends HistoryCategory {
 							relatedPathsPrefix = getNextPrefix(msg, relatedPathsPrefix);
 						}
 					}
+					lastRelatedPathsPrefix = relatedPathsPrefix;
 				}
 			}
 		}
@@ -185,31 +270,83 @@ public class RootHistoryCategory extends HistoryCategory {
 		return current;
 	}
 
-	protected void collectCategoriesAndMapData() {
-		pathData.clear();
+	protected void collectCategories() {
+		categoryBounds = getCategoryBounds();
+		Object[][] remote = groupByCategories(remoteHistory, 0);
+		Object[][] local = groupByCategories(localHistory, 0);
+		remoteByType = new HistoryCategory[HistoryCategory.CATEGORY_EARLIER + 1];
+		localByType = new HistoryCategory[HistoryCategory.CATEGORY_EARLIER + 1];
+		bothByType = new HistoryCategory[HistoryCategory.CATEGORY_EARLIER + 1];
+		for (int type = HistoryCategory.CATEGORY_TODAY; type <= HistoryCategory.CATEGORY_EARLIER; type++) {
+			remoteByType[type] = RootHistoryCategory.createCategory(type, remote[type], RootHistoryCategory.NO_ENTRIES);
+			localByType[type] = RootHistoryCategory.createCategory(type, local[type], RootHistoryCategory.NO_ENTRIES);
+			bothByType[type] = RootHistoryCategory.createCategory(type, remote[type], local[type]);
+		}
+		updateCategories();
+	}
 
-		ArrayList<HistoryCategory> categoriesAll = new ArrayList<>();
-		ArrayList<HistoryCategory> categoriesLocal = new ArrayList<>();
-		ArrayList<HistoryCategory> categoriesRemote = new ArrayList<>();
+	/**
+	 * Adds the remote history entries starting from the specified one to the existing categories
+	 */
+	protected void appendCategories(int from) {
+		Object[][] remote = groupByCategories(remoteHistory, from);
+		for (int type = HistoryCategory.CATEGORY_TODAY; type <= HistoryCategory.CATEGORY_EARLIER; type++) {
+			if (remote[type].length > 0) {
+				Object[] existing = RootHistoryCategory.getEntries(remoteByType[type]);
+				Object[] added = Arrays.copyOf(existing, existing.length + remote[type].length);
+				System.arraycopy(remote[type], 0, added, existing.length, remote[type].length);
+				remoteByType[type] = new HistoryCategory(type, added);
+				// remote entries go first in the mixed categories
+				bothByType[type] = RootHistoryCategory.createCategory(type, added,
+						RootHistoryCategory.getEntries(localByType[type]));
+			}
+		}
+		updateCategories();
+	}
 
-		ArrayList<Object> todayEntriesAll = new ArrayList<>();
-		ArrayList<Object> yesterdayEntriesAll = new ArrayList<>();
-		ArrayList<Object> weekEntriesAll = new ArrayList<>();
-		ArrayList<Object> monthEntriesAll = new ArrayList<>();
-		ArrayList<Object> earlierEntriesAll = new ArrayList<>();
+	protected void updateCategories() {
+		categoriesBoth = RootHistoryCategory.compact(bothByType);
+		categoriesLocal = RootHistoryCategory.compact(localByType);
+		categoriesRemote = RootHistoryCategory.compact(remoteByType);
+	}
 
-		ArrayList<SVNLocalFileRevision> todayEntriesLocal = new ArrayList<>();
-		ArrayList<SVNLocalFileRevision> yesterdayEntriesLocal = new ArrayList<>();
-		ArrayList<SVNLocalFileRevision> weekEntriesLocal = new ArrayList<>();
-		ArrayList<SVNLocalFileRevision> monthEntriesLocal = new ArrayList<>();
-		ArrayList<SVNLocalFileRevision> earlierEntriesLocal = new ArrayList<>();
+	protected Object[][] groupByCategories(Object[] entries, int from) {
+		ArrayList<ArrayList<Object>> groups = new ArrayList<>();
+		for (int type = 0; type <= HistoryCategory.CATEGORY_EARLIER; type++) {
+			groups.add(new ArrayList<>());
+		}
+		if (entries != null) {
+			for (int i = from; i < entries.length; i++) {
+				long date = entries[i] instanceof SVNLogEntry
+						? ((SVNLogEntry) entries[i]).date
+						: ((SVNLocalFileRevision) entries[i]).getTimestamp();
+				groups.get(getCategoryType(date)).add(entries[i]);
+			}
+		}
+		Object[][] retVal = new Object[groups.size()][];
+		for (int type = 0; type < retVal.length; type++) {
+			retVal[type] = groups.get(type).toArray();
+		}
+		return retVal;
+	}
 
-		ArrayList<SVNLogEntry> todayEntriesRemote = new ArrayList<>();
-		ArrayList<SVNLogEntry> yesterdayEntriesRemote = new ArrayList<>();
-		ArrayList<SVNLogEntry> weekEntriesRemote = new ArrayList<>();
-		ArrayList<SVNLogEntry> monthEntriesRemote = new ArrayList<>();
-		ArrayList<SVNLogEntry> earlierEntriesRemote = new ArrayList<>();
+	protected int getCategoryType(long date) {
+		if (date >= categoryBounds[0]) {
+			return HistoryCategory.CATEGORY_TODAY;
+		} else if (date >= categoryBounds[1]) {
+			return HistoryCategory.CATEGORY_YESTERDAY;
+		} else if (date >= categoryBounds[2]) {
+			return HistoryCategory.CATEGORY_THIS_WEEK;
+		} else if (date >= categoryBounds[3]) {
+			return HistoryCategory.CATEGORY_THIS_MONTH;
+		}
+		return HistoryCategory.CATEGORY_EARLIER;
+	}
 
+	/**
+	 * Returns the start dates of the today, yesterday, this week and this month categories
+	 */
+	protected long[] getCategoryBounds() {
 		Calendar yesterdayCal = Calendar.getInstance();
 		yesterdayCal.set(Calendar.HOUR_OF_DAY, 0);
 		yesterdayCal.set(Calendar.MINUTE, 0);
@@ -233,150 +370,57 @@ public class RootHistoryCategory extends HistoryCategory {
 		monthCal.set(Calendar.MINUTE, 0);
 		monthCal.set(Calendar.SECOND, 0);
 		long lastMonthDate = monthCal.getTimeInMillis();
+		// the milliseconds are not reset, so round the bounds to seconds in order to compare them between the refreshes
+		return new long[] { yesterdayDate / 1000 * 1000, beforeYesterdayDate / 1000 * 1000, lastWeekDate / 1000 * 1000,
+				lastMonthDate / 1000 * 1000 };
+	}
 
-		//Filling timing ArrayLists
-		if (remoteHistory != null) {
-			for (SVNLogEntry element : remoteHistory) {
-				mapPathData(element);
-				if (element.date >= yesterdayDate) {
-					todayEntriesAll.add(element);
-					todayEntriesRemote.add(element);
-				} else if (element.date < yesterdayDate && element.date >= beforeYesterdayDate) {
-					yesterdayEntriesAll.add(element);
-					yesterdayEntriesRemote.add(element);
-				} else if (element.date < beforeYesterdayDate && element.date >= lastWeekDate) {
-					weekEntriesAll.add(element);
-					weekEntriesRemote.add(element);
-				} else if (element.date < lastWeekDate && element.date >= lastMonthDate) {
-					monthEntriesAll.add(element);
-					monthEntriesRemote.add(element);
-				} else {
-					earlierEntriesAll.add(element);
-					earlierEntriesRemote.add(element);
-				}
-			}
-		}
-		if (localHistory != null) {
-			for (SVNLocalFileRevision element : localHistory) {
-				if (element.getTimestamp() >= yesterdayDate) {
-					todayEntriesAll.add(element);
-					todayEntriesLocal.add(element);
-				} else if (element.getTimestamp() < yesterdayDate && element.getTimestamp() >= beforeYesterdayDate) {
-					yesterdayEntriesAll.add(element);
-					yesterdayEntriesLocal.add(element);
-				} else if (element.getTimestamp() < beforeYesterdayDate && element.getTimestamp() >= lastWeekDate) {
-					weekEntriesAll.add(element);
-					weekEntriesLocal.add(element);
-				} else if (element.getTimestamp() < lastWeekDate && element.getTimestamp() >= lastMonthDate) {
-					monthEntriesAll.add(element);
-					monthEntriesLocal.add(element);
-				} else {
-					earlierEntriesAll.add(element);
-					earlierEntriesLocal.add(element);
-				}
-			}
-		}
-		HistoryCategory cat = null;
-
-		//Fill both local and remote
-		if (todayEntriesAll.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_TODAY, todayEntriesAll.toArray());
-			categoriesAll.add(cat);
-		}
-		if (yesterdayEntriesAll.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_YESTERDAY, yesterdayEntriesAll.toArray());
-			categoriesAll.add(cat);
-		}
-		if (weekEntriesAll.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_WEEK, weekEntriesAll.toArray());
-			categoriesAll.add(cat);
-		}
-		if (monthEntriesAll.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_MONTH, monthEntriesAll.toArray());
-			categoriesAll.add(cat);
-		}
-		if (earlierEntriesAll.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_EARLIER, earlierEntriesAll.toArray());
-			categoriesAll.add(cat);
+	protected static HistoryCategory createCategory(int type, Object[] first, Object[] second) {
+		if (first.length + second.length == 0) {
+			return null;
 		}
+		Object[] entries = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, entries, first.length, second.length);
+		return new HistoryCategory(type, entries);
+	}
 
-		//Fill local
-		if (todayEntriesLocal.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_TODAY, todayEntriesLocal.toArray());
-			categoriesLocal.add(cat);
-		}
-		if (yesterdayEntriesLocal.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_YESTERDAY, yesterdayEntriesLocal.toArray());
-			categoriesLocal.add(cat);
-		}
-		if (weekEntriesLocal.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_WEEK, weekEntriesLocal.toArray());
-			categoriesLocal.add(cat);
-		}
-		if (monthEntriesLocal.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_MONTH, monthEntriesLocal.toArray());
-			categoriesLocal.add(cat);
-		}
-		if (earlierEntriesLocal.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_EARLIER, earlierEntriesLocal.toArray());
-			categoriesLocal.add(cat);
-		}
+	protected static Object[] getEntries(HistoryCategory category) {
+		return category == null ? RootHistoryCategory.NO_ENTRIES : category.getEntries();
+	}
 
-		//Fill remote
-		if (todayEntriesRemote.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_TODAY, todayEntriesRemote.toArray());
-			categoriesRemote.add(cat);
-		}
-		if (yesterdayEntriesRemote.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_YESTERDAY, yesterdayEntriesRemote.toArray());
-			categoriesRemote.add(cat);
-		}
-		if (weekEntriesRemote.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_WEEK, weekEntriesRemote.toArray());
-			categoriesRemote.add(cat);
-		}
-		if (monthEntriesRemote.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_THIS_MONTH, monthEntriesRemote.toArray());
-			categoriesRemote.add(cat);
-		}
-		if (earlierEntriesRemote.size() > 0) {
-			cat = new HistoryCategory(HistoryCategory.CATEGORY_EARLIER, earlierEntriesRemote.toArray());
-			categoriesRemote.add(cat);
+	protected static HistoryCategory[] compact(HistoryCategory[] byType) {
+		ArrayList<HistoryCategory> retVal = new ArrayList<>();
+		for (HistoryCategory category : byType) {
+			if (category != null) {
+				retVal.add(category);
+			}
 		}
-
-		categoriesBoth = categoriesAll.size() > 0
-				? categoriesAll.toArray(new HistoryCategory[categoriesAll.size()])
-				: null;
-		this.categoriesLocal = categoriesLocal.size() > 0
-				? categoriesLocal.toArray(new HistoryCategory[categoriesLocal.size()])
-				: null;
-		this.categoriesRemote = categoriesRemote.size() > 0
-				? categoriesRemote.toArray(new HistoryCategory[categoriesRemote.size()])
-				: null;
+		return retVal.size() > 0 ? retVal.toArray(new HistoryCategory[retVal.size()]) : null;
 	}
 
-	protected void mapPathData(SVNLogEntry key) {
+	/**
+	 * Creates the changed paths data of the entry. The data is computed on demand since only the selected entries require it, and
+	 * the parent paths are shared between the changed paths.
+	 */
+	protected SVNChangedPathData[] createPathData(SVNLogEntry key) {
 		SVNChangedPathData[] pathData = new SVNChangedPathData[key.changedPaths == null ? 0 : key.changedPaths.length];
+		Map<String, String> parents = new HashMap<>();
 		for (int i = 0; i < pathData.length; i++) {
 			String path = key.changedPaths[i].path;
 			path = path.startsWith("/") ? path.substring(1) : path; //$NON-NLS-1$
 			int idx = path.lastIndexOf("/"); //$NON-NLS-1$
+			String parent = idx != -1 ? path.substring(0, idx) : ""; //$NON-NLS-1$
+			String copiedFrom = key.changedPaths[i].copiedFromRevision != SVNRevision.INVALID_REVISION_NUMBER
+					? key.changedPaths[i].copiedFromPath
+					: ""; //$NON-NLS-1$
 			pathData[i] = new SVNChangedPathData(
 					key.changedPaths[i].action, idx != -1 ? path.substring(idx + 1) : path,
-					idx != -1 ? path.substring(0, idx) : "", //$NON-NLS-1$
-					key.changedPaths[i].copiedFromRevision != SVNRevision.INVALID_REVISION_NUMBER
-							? key.changedPaths[i].copiedFromPath
-							: "", //$NON-NLS-1$
+					parents.computeIfAbsent(parent, k -> k),
+					copiedFrom,
 					key.changedPaths[i].copiedFromRevision
 			);
 		}
-		this.pathData.put(key, pathData);
-		SVNLogEntry[] children = key.getChildren();
-		if (children != null) {
-			for (SVNLogEntry child : children) {
-				mapPathData(child);
-			}
-		}
+		return pathData;
 	}
 
 	protected Object[] getLocalHistoryInternal() {
@@ -14,6 +14,8 @@
 
 package org.eclipse.team.svn.ui.history.filter;
 
+import java.util.BitSet;
+
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.utility.StringMatcher;
 
@@ -22,10 +24,12 @@ import org.eclipse.team.svn.core.utility.StringMatcher;
  * 
  * @author Alexei Goncharov
  */
-public class AuthorNameLogEntryFilter implements ILogEntryFilter {
+public class AuthorNameLogEntryFilter implements IIndexedLogEntryFilter {
 
 	protected String authorNameToAccept;
 
+	protected StringMatcher matcher;
+
 	public AuthorNameLogEntryFilter() {
 		this(null);
 	}
@@ -39,16 +43,28 @@ public class AuthorNameLogEntryFilter implements ILogEntryFilter {
 		if (authorNameToAccept == null) {
 			return true;
 		}
-		StringMatcher matcher = new StringMatcher(authorNameToAccept);
 		String authorName = logEntry.author == null ? "" : logEntry.author; //$NON-NLS-1$
-		return matcher.match(authorName);
+		return getMatcher().match(authorName);
+	}
+
+	@Override
+	public BitSet getCandidates(LogEntryIndex index) {
+		return authorNameToAccept == null ? null : index.findAuthors(getMatcher());
 	}
 
 	public void setAuthorNameToAccept(String authorNameToAccept) {
 		this.authorNameToAccept = authorNameToAccept;
+		matcher = null;
 	}
 
 	public String getAuthorNameToAccept() {
 		return authorNameToAccept;
 	}
+
+	protected StringMatcher getMatcher() {
+		if (matcher == null) {
+			matcher = new StringMatcher(authorNameToAccept);
+		}
+		return matcher;
+	}
 }
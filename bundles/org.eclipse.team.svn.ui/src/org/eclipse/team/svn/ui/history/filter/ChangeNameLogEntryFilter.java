@@ -14,6 +14,8 @@
 
 package org.eclipse.team.svn.ui.history.filter;
 
+import java.util.BitSet;
+
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.connector.SVNLogPath;
 import org.eclipse.team.svn.core.utility.StringMatcher;
@@ -23,10 +25,12 @@ import org.eclipse.team.svn.core.utility.StringMatcher;
  * 
  * @author Alexei Goncharov
  */
-public class ChangeNameLogEntryFilter implements ILogEntryFilter {
+public class ChangeNameLogEntryFilter implements IIndexedLogEntryFilter {
 
 	protected String changedPathToAccept;
 
+	protected StringMatcher matcher;
+
 	public ChangeNameLogEntryFilter() {
 		this(null);
 	}
@@ -40,7 +44,7 @@ public class ChangeNameLogEntryFilter implements ILogEntryFilter {
 		if (changedPathToAccept == null) {
 			return true;
 		}
-		StringMatcher matcher = new StringMatcher(changedPathToAccept);
+		StringMatcher matcher = getMatcher();
 		SVNLogPath[] paths = logEntry.changedPaths == null ? new SVNLogPath[0] : logEntry.changedPaths;
 		for (SVNLogPath path : paths) {
 			if (matcher.match(path.path)) {
@@ -50,12 +54,27 @@ public class ChangeNameLogEntryFilter implements ILogEntryFilter {
 		return false;
 	}
 
+	@Override
+	public BitSet getCandidates(LogEntryIndex index) {
+		return changedPathToAccept == null
+				? null
+				: index.findCandidates(LogEntryIndex.FIELD_CHANGED_PATH, changedPathToAccept);
+	}
+
 	public void setGangedPathToAccept(String changedPathToAccept) {
 		this.changedPathToAccept = changedPathToAccept;
+		matcher = null;
 	}
 
 	public String getGangedPathToAccept() {
 		return changedPathToAccept;
 	}
 
+	protected StringMatcher getMatcher() {
+		if (matcher == null) {
+			matcher = new StringMatcher(changedPathToAccept);
+		}
+		return matcher;
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,8 @@
 
 package org.eclipse.team.svn.ui.history.filter;
 
+import java.util.BitSet;
+
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
 import org.eclipse.team.svn.core.utility.StringMatcher;
 
@@ -22,10 +24,12 @@ import org.eclipse.team.svn.core.utility.StringMatcher;
  * 
  * @author Alexei Goncharov
  */
-public class CommentLogEntryFilter implements ILogEntryFilter {
+public class CommentLogEntryFilter implements IIndexedLogEntryFilter {
 
 	protected String commentToAccept;
 
+	protected StringMatcher matcher;
+
 	public CommentLogEntryFilter() {
 		this(null);
 	}
@@ -39,16 +43,28 @@ public class CommentLogEntryFilter implements ILogEntryFilter {
 		if (commentToAccept == null) {
 			return true;
 		}
-		StringMatcher matcher = new StringMatcher(commentToAccept);
 		String comment = logEntry.message == null ? "" : logEntry.message; //$NON-NLS-1$
-		return matcher.match(comment);
+		return getMatcher().match(comment);
+	}
+
+	@Override
+	public BitSet getCandidates(LogEntryIndex index) {
+		return commentToAccept == null ? null : index.findCandidates(LogEntryIndex.FIELD_COMMENT, commentToAccept);
 	}
 
 	public void setCommentToAccept(String commentToAccept) {
 		this.commentToAccept = commentToAccept;
+		matcher = null;
 	}
 
 	public String getCommentToAccept() {
 		return commentToAccept;
 	}
+
+	protected StringMatcher getMatcher() {
+		if (matcher == null) {
+			matcher = new StringMatcher(commentToAccept);
+		}
+		return matcher;
+	}
 }
@@ -15,6 +15,7 @@
 package org.eclipse.team.svn.ui.history.filter;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 
 import org.eclipse.team.svn.core.connector.SVNLogEntry;
@@ -24,7 +25,7 @@ import org.eclipse.team.svn.core.connector.SVNLogEntry;
  * 
  * @author Alexei Goncharov
  */
-public class CompositeLogEntryFilter implements ILogEntryFilter {
+public class CompositeLogEntryFilter implements IIndexedLogEntryFilter {
 
 	protected HashSet<ILogEntryFilter> filtersSet;
 
@@ -46,6 +47,27 @@ public class CompositeLogEntryFilter implements ILogEntryFilter {
 		return true;
 	}
 
+	/**
+	 * Intersects candidates of all the indexed filters from the set
+	 */
+	@Override
+	public BitSet getCandidates(LogEntryIndex index) {
+		BitSet retVal = null;
+		for (ILogEntryFilter current : filtersSet) {
+			if (current instanceof IIndexedLogEntryFilter) {
+				BitSet candidates = ((IIndexedLogEntryFilter) current).getCandidates(index);
+				if (candidates != null) {
+					if (retVal == null) {
+						retVal = candidates;
+					} else {
+						retVal.and(candidates);
+					}
+				}
+			}
+		}
+		return retVal;
+	}
+
 	/**
 	 * Adds a filter to filters set
 	 */
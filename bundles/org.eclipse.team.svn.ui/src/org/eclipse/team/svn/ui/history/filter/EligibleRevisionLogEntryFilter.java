@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.ui.history.filter;
+
+import java.util.Arrays;
+
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+
+/**
+ * Log entry filter to show the revisions which could be merged only
+ */
+public class EligibleRevisionLogEntryFilter implements ILogEntryFilter {
+
+	protected long[] revisions;
+
+	/**
+	 * @param revisions
+	 *            the eligible revisions
+	 */
+	public EligibleRevisionLogEntryFilter(long[] revisions) {
+		this.revisions = revisions.clone();
+		Arrays.sort(this.revisions);
+	}
+
+	@Override
+	public boolean accept(SVNLogEntry logEntry) {
+		return Arrays.binarySearch(revisions, logEntry.revision) >= 0;
+	}
+
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.ui.history.filter;
+
+import java.util.BitSet;
+
+/**
+ * Log entry filter which is able to preselect the entries it could accept using {@link LogEntryIndex}
+ */
+public interface IIndexedLogEntryFilter extends ILogEntryFilter {
+
+	/**
+	 * Returns the entries which could be accepted by the filter, all the other ones are rejected for sure. The candidates still should
+	 * be checked with {@link #accept(org.eclipse.team.svn.core.connector.SVNLogEntry)}.
+	 * 
+	 * @param index
+	 *            the index of the filtered entries
+	 * @return numbers of the candidate entries or <code>null</code> if there is no restriction
+	 */
+	BitSet getCandidates(LogEntryIndex index);
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.ui.history.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNLogPath;
+import org.eclipse.team.svn.core.utility.StringMatcher;
+
+/**
+ * In-memory index of the log entries shown in a history view.
+ * 
+ * Comments and changed paths are indexed by lower-cased character trigrams, so a filter mask is resolved into the entries which
+ * contain all of its literal (non-wildcard) parts. These are the only entries the mask could match, the filter itself checks them
+ * then. Authors are indexed by value, so an author mask is checked once per distinct author.
+ * 
+ * Entries are numbered in the order they are added. The index is thread-safe, so it could be filled in while history is fetched. Each
+ * added entry changes the modification count, so the entries shown at some moment are known to be indexed if the count is remembered
+ * at the same moment.
+ */
+public class LogEntryIndex {
+	public static final int FIELD_COMMENT = 0;
+
+	public static final int FIELD_CHANGED_PATH = 1;
+
+	protected static final int GRAM_LENGTH = 3;
+
+	protected List<SVNLogEntry> entries;
+
+	protected Map<String, BitSet> authors;
+
+	protected List<Map<Long, Postings>> grams;
+
+	protected int modificationCount;
+
+	public LogEntryIndex() {
+		entries = new ArrayList<>();
+		authors = new HashMap<>();
+		grams = List.of(new HashMap<>(), new HashMap<>());
+	}
+
+	/**
+	 * Adds the log entry to the index. The entry is skipped if it is the same revision as the last added one, which happens when the
+	 * next history page is fetched starting from the last known revision.
+	 * 
+	 * @return <code>true</code> if the entry was added
+	 */
+	public synchronized boolean add(SVNLogEntry entry) {
+		if (!entries.isEmpty() && entries.get(entries.size() - 1).revision == entry.revision) {
+			return false;
+		}
+		int id = entries.size();
+		entries.add(entry);
+		modificationCount++;
+
+		authors.computeIfAbsent(entry.author == null ? "" : entry.author, key -> new BitSet()).set(id); //$NON-NLS-1$
+
+		Set<Long> keys = new HashSet<>();
+		if (entry.message != null) {
+			LogEntryIndex.collectGrams(entry.message, keys);
+		}
+		addPostings(LogEntryIndex.FIELD_COMMENT, keys, id);
+
+		keys.clear();
+		if (entry.changedPaths != null) {
+			for (SVNLogPath path : entry.changedPaths) {
+				LogEntryIndex.collectGrams(path.path, keys);
+			}
+		}
+		addPostings(LogEntryIndex.FIELD_CHANGED_PATH, keys, id);
+		return true;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized int getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Checks if the entries are indexed here under the same numbers as their positions in the array
+	 * 
+	 * @param msgs
+	 *            the entries
+	 * @param modificationCount
+	 *            the modification count of the index at the moment the entries were the same as the indexed ones
+	 */
+	public synchronized boolean isIndexed(SVNLogEntry[] msgs, int modificationCount) {
+		// entries are only appended, so the entries indexed at that moment are still indexed under the same numbers
+		return msgs.length == modificationCount && modificationCount <= this.modificationCount;
+	}
+
+	/**
+	 * Returns the entries which authors are matched
+	 */
+	public synchronized BitSet findAuthors(StringMatcher matcher) {
+		BitSet retVal = new BitSet();
+		for (Map.Entry<String, BitSet> entry : authors.entrySet()) {
+			if (matcher.match(entry.getKey())) {
+				retVal.or(entry.getValue());
+			}
+		}
+		return retVal;
+	}
+
+	/**
+	 * Returns the entries which could be matched by the mask in the specified field
+	 * 
+	 * @param field
+	 *            {@link #FIELD_COMMENT} or {@link #FIELD_CHANGED_PATH}
+	 * @param mask
+	 *            the {@link StringMatcher} mask
+	 * @return the candidate entries or <code>null</code> if the mask has no literal parts long enough to use the index
+	 */
+	public synchronized BitSet findCandidates(int field, String mask) {
+		Set<Long> keys = new HashSet<>();
+		for (String part : mask.split("[*?]")) { //$NON-NLS-1$
+			LogEntryIndex.collectGrams(part, keys);
+		}
+		if (keys.isEmpty()) {
+			return null;
+		}
+		Map<Long, Postings> index = grams.get(field);
+		Postings[] lists = new Postings[keys.size()];
+		int i = 0;
+		for (Long key : keys) {
+			Postings list = index.get(key);
+			if (list == null) {
+				return new BitSet();
+			}
+			lists[i++] = list;
+		}
+		// start from the rarest trigram, so the candidates set is small from the very beginning
+		Arrays.sort(lists, (first, second) -> first.size - second.size);
+		BitSet retVal = lists[0].toBitSet();
+		for (i = 1; i < lists.length && !retVal.isEmpty(); i++) {
+			retVal.and(lists[i].toBitSet());
+		}
+		return retVal;
+	}
+
+	protected void addPostings(int field, Set<Long> keys, int id) {
+		Map<Long, Postings> index = grams.get(field);
+		for (Long key : keys) {
+			index.computeIfAbsent(key, k -> new Postings()).add(id);
+		}
+	}
+
+	protected static void collectGrams(String text, Set<Long> keys) {
+		for (int i = 0; i + LogEntryIndex.GRAM_LENGTH <= text.length(); i++) {
+			long key = 0;
+			for (int j = 0; j < LogEntryIndex.GRAM_LENGTH; j++) {
+				key = key << 16 | Character.toLowerCase(text.charAt(i + j));
+			}
+			keys.add(key);
+		}
+	}
+
+	/**
+	 * Ascending list of the entry numbers
+	 */
+	protected static class Postings {
+		protected int[] ids = new int[4];
+
+		protected int size;
+
+		public void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		public BitSet toBitSet() {
+			BitSet retVal = new BitSet();
+			for (int i = 0; i < size; i++) {
+				retVal.set(ids[i]);
+			}
+			return retVal;
+		}
+	}
+
+}
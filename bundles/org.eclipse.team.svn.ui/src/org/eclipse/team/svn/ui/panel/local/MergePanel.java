@@ -262,6 +262,7 @@ public class MergePanel extends AbstractAdvancedDialogPanel {
 		data = new GridData(GridData.FILL_HORIZONTAL);
 		simpleSelectionComposite.setLayoutData(data);
 		simpleSelectionComposite.setCurrentRevision(currentRevision);
+		simpleSelectionComposite.setMergeTarget(baseResource);
 
 		Label separator = new Label(parent, SWT.HORIZONTAL | SWT.SEPARATOR);
 		separator.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
@@ -22,7 +22,14 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.team.svn.core.BaseMessages;
+import org.eclipse.team.svn.core.svnstorage.SVNContentCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
 import org.eclipse.team.svn.ui.SVNUIMessages;
+import org.eclipse.team.svn.ui.verifier.CompositeVerifier;
+import org.eclipse.team.svn.ui.verifier.IntegerFieldVerifier;
+import org.eclipse.team.svn.ui.verifier.NonEmptyFieldVerifier;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.PlatformUI;
 
@@ -41,6 +48,14 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 	protected Button enablePersistentSSHConnectionButton;
 //	protected Button enableFileReplacementAutoundoButton;
 
+	protected Button enableLogCacheButton;
+
+	protected Text wcOperationsParallelismText;
+
+	protected Text logCacheSizeText;
+
+	protected Text contentCacheSizeText;
+
 	protected boolean computeDeep;
 
 	protected boolean preciseEnablements;
@@ -50,6 +65,14 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 	protected boolean enablePersistentSSHConnection;
 //	protected boolean enableFileReplacementAutoundo;
 
+	protected boolean enableLogCache;
+
+	protected int wcOperationsParallelism;
+
+	protected int logCacheSize;
+
+	protected int contentCacheSize;
+
 	public SVNTeamPerformancePage() {
 	}
 
@@ -68,6 +91,13 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 		SVNTeamPreferences.setDecorationBoolean(store, SVNTeamPreferences.DECORATION_ENABLE_PERSISTENT_SSH_NAME,
 				enablePersistentSSHConnection);
 //		SVNTeamPreferences.setDecorationBoolean(store, SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_NAME, this.enableFileReplacementAutoundo);
+		SVNTeamPreferences.setDecorationBoolean(store, SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_NAME,
+				enableLogCache);
+		SVNTeamPreferences.setDecorationInt(store, SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_NAME,
+				wcOperationsParallelism);
+		SVNTeamPreferences.setDecorationInt(store, SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_NAME, logCacheSize);
+		SVNTeamPreferences.setDecorationInt(store, SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_NAME,
+				contentCacheSize);
 	}
 
 	@Override
@@ -77,6 +107,10 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 		enableCache = SVNTeamPreferences.DECORATION_ENABLE_CACHE_DEFAULT;
 		enablePersistentSSHConnection = SVNTeamPreferences.DECORATION_ENABLE_PERSISTENT_SSH_DEFAULT;
 //		this.enableFileReplacementAutoundo = SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_DEFAULT;
+		enableLogCache = SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_DEFAULT;
+		wcOperationsParallelism = SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_DEFAULT;
+		logCacheSize = SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_DEFAULT;
+		contentCacheSize = SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_DEFAULT;
 	}
 
 	@Override
@@ -88,6 +122,13 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 		enablePersistentSSHConnection = SVNTeamPreferences.getDecorationBoolean(store,
 				SVNTeamPreferences.DECORATION_ENABLE_PERSISTENT_SSH_NAME);
 //		this.enableFileReplacementAutoundo = SVNTeamPreferences.getDecorationBoolean(store, SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_NAME);
+		enableLogCache = SVNTeamPreferences.getDecorationBoolean(store,
+				SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_NAME);
+		wcOperationsParallelism = SVNTeamPreferences.getDecorationInt(store,
+				SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_NAME);
+		logCacheSize = SVNTeamPreferences.getDecorationInt(store, SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_NAME);
+		contentCacheSize = SVNTeamPreferences.getDecorationInt(store,
+				SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_NAME);
 	}
 
 	@Override
@@ -97,6 +138,10 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 		enableCacheButton.setSelection(enableCache);
 		enablePersistentSSHConnectionButton.setSelection(enablePersistentSSHConnection);
 //		this.enableFileReplacementAutoundoButton.setSelection(this.enableFileReplacementAutoundo);
+		enableLogCacheButton.setSelection(enableLogCache);
+		wcOperationsParallelismText.setText(String.valueOf(wcOperationsParallelism));
+		logCacheSizeText.setText(String.valueOf(logCacheSize));
+		contentCacheSizeText.setText(String.valueOf(contentCacheSize));
 		if (computeDeep || preciseEnablements) {
 			enableCacheButton.setEnabled(false);
 		} else if (!enableCache) {
@@ -167,6 +212,90 @@ public class SVNTeamPerformancePage extends AbstractSVNTeamPreferencesPage {
 //			}
 //		});
 
+		enableLogCacheButton = new Button(composite, SWT.CHECK);
+		enableLogCacheButton.setLayoutData(new GridData());
+		enableLogCacheButton.setText(SVNUIMessages.PerformancePreferencePage_enableLogCache);
+		enableLogCacheButton.addListener(SWT.Selection, event -> enableLogCache = enableLogCacheButton.getSelection());
+
+		Composite parallelismComposite = new Composite(composite, SWT.NONE);
+		layout = new GridLayout();
+		layout.marginWidth = layout.marginHeight = 0;
+		layout.numColumns = 2;
+		parallelismComposite.setLayout(layout);
+		parallelismComposite.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+		Label label = new Label(parallelismComposite, SWT.NONE);
+		label.setLayoutData(new GridData());
+		String labelText = SVNUIMessages.PerformancePreferencePage_wcOperationsParallelism;
+		label.setText(labelText);
+
+		wcOperationsParallelismText = new Text(parallelismComposite, SWT.SINGLE | SWT.BORDER);
+		data = new GridData();
+		data.widthHint = 40;
+		wcOperationsParallelismText.setLayoutData(data);
+		CompositeVerifier verifier = new CompositeVerifier();
+		verifier.add(new NonEmptyFieldVerifier(labelText));
+		verifier.add(new IntegerFieldVerifier(labelText, true));
+		attachTo(wcOperationsParallelismText, verifier);
+		wcOperationsParallelismText.addModifyListener(e -> {
+			try {
+				wcOperationsParallelism = Integer.parseInt(wcOperationsParallelismText.getText());
+			} catch (Exception ex) {
+			}
+		});
+
+		label = new Label(parallelismComposite, SWT.NONE);
+		label.setLayoutData(new GridData());
+		labelText = SVNUIMessages.PerformancePreferencePage_logCacheSize;
+		label.setText(labelText);
+
+		logCacheSizeText = new Text(parallelismComposite, SWT.SINGLE | SWT.BORDER);
+		data = new GridData();
+		data.widthHint = 40;
+		logCacheSizeText.setLayoutData(data);
+		verifier = new CompositeVerifier();
+		verifier.add(new NonEmptyFieldVerifier(labelText));
+		verifier.add(new IntegerFieldVerifier(labelText, true));
+		attachTo(logCacheSizeText, verifier);
+		logCacheSizeText.addModifyListener(e -> {
+			try {
+				logCacheSize = Integer.parseInt(logCacheSizeText.getText());
+			} catch (Exception ex) {
+			}
+		});
+
+		label = new Label(parallelismComposite, SWT.NONE);
+		label.setLayoutData(new GridData());
+		labelText = SVNUIMessages.PerformancePreferencePage_contentCacheSize;
+		label.setText(labelText);
+
+		contentCacheSizeText = new Text(parallelismComposite, SWT.SINGLE | SWT.BORDER);
+		data = new GridData();
+		data.widthHint = 40;
+		contentCacheSizeText.setLayoutData(data);
+		verifier = new CompositeVerifier();
+		verifier.add(new NonEmptyFieldVerifier(labelText));
+		verifier.add(new IntegerFieldVerifier(labelText, true));
+		attachTo(contentCacheSizeText, verifier);
+		contentCacheSizeText.addModifyListener(e -> {
+			try {
+				contentCacheSize = Integer.parseInt(contentCacheSizeText.getText());
+			} catch (Exception ex) {
+			}
+		});
+
+		SVNContentCache contentCache = SVNRemoteStorage.instance().getContentCache();
+		if (contentCache != null) {
+			label = new Label(parallelismComposite, SWT.NONE);
+			data = new GridData();
+			data.horizontalSpan = 2;
+			label.setLayoutData(data);
+			label.setText(BaseMessages.format(SVNUIMessages.PerformancePreferencePage_contentCacheStatistics,
+					new Object[] { String.valueOf(contentCache.getSize() / 1024),
+							String.valueOf(contentCache.getHitCount()), String.valueOf(contentCache.getMissCount()),
+							String.valueOf(contentCache.getEvictionCount()) }));
+		}
+
 //		Setting context help
 		PlatformUI.getWorkbench()
 				.getHelpSystem()
@@ -402,6 +402,14 @@ public final class SVNTeamPreferences {
 
 	public static final String DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_NAME = "enable.replacement.autoundo"; //$NON-NLS-1$
 
+	public static final String DECORATION_WC_OPERATIONS_PARALLELISM_NAME = "wc.operations.parallelism"; //$NON-NLS-1$
+
+	public static final String DECORATION_ENABLE_LOG_CACHE_NAME = "enable.log.cache"; //$NON-NLS-1$
+
+	public static final String DECORATION_LOG_CACHE_SIZE_NAME = "log.cache.size"; //$NON-NLS-1$
+
+	public static final String DECORATION_CONTENT_CACHE_SIZE_NAME = "content.cache.size"; //$NON-NLS-1$
+
 	public static final boolean DECORATION_COMPUTE_DEEP_DEFAULT = true;
 
 	public static final boolean DECORATION_PRECISE_ENABLEMENTS_DEFAULT = false;
@@ -412,6 +420,14 @@ public final class SVNTeamPreferences {
 
 	public static final boolean DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_DEFAULT = true;
 
+	public static final int DECORATION_WC_OPERATIONS_PARALLELISM_DEFAULT = 1;
+
+	public static final boolean DECORATION_ENABLE_LOG_CACHE_DEFAULT = true;
+
+	public static final int DECORATION_LOG_CACHE_SIZE_DEFAULT = 256;
+
+	public static final int DECORATION_CONTENT_CACHE_SIZE_DEFAULT = 100;
+
 	public static final String DECORATION_USE_FONT_COLORS_DECOR_NAME = "use.fontdecor"; //$NON-NLS-1$
 
 	public static final boolean DECORATION_USE_FONT_COLORS_DECOR_DEFAULT = false;
@@ -723,6 +739,15 @@ public final class SVNTeamPreferences {
 				SVNTeamPreferences
 						.fullDecorationName(SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_NAME),
 				SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_DEFAULT);
+		store.setDefault(
+				SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_NAME),
+				SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_DEFAULT);
+		store.setDefault(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_NAME),
+				SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_DEFAULT);
+		store.setDefault(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_NAME),
+				SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_DEFAULT);
+		store.setDefault(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_NAME),
+				SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_DEFAULT);
 	}
 
 	public static void setDefaultMailReporterValues(IPreferenceStore store) {
@@ -988,6 +1013,15 @@ public final class SVNTeamPreferences {
 				SVNTeamPreferences
 						.fullDecorationName(SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_NAME),
 				SVNTeamPreferences.DECORATION_ENABLE_FILE_REPLACEMENT_AUTOUNDO_DEFAULT);
+		store.setValue(
+				SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_NAME),
+				SVNTeamPreferences.DECORATION_WC_OPERATIONS_PARALLELISM_DEFAULT);
+		store.setValue(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_NAME),
+				SVNTeamPreferences.DECORATION_ENABLE_LOG_CACHE_DEFAULT);
+		store.setValue(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_NAME),
+				SVNTeamPreferences.DECORATION_LOG_CACHE_SIZE_DEFAULT);
+		store.setValue(SVNTeamPreferences.fullDecorationName(SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_NAME),
+				SVNTeamPreferences.DECORATION_CONTENT_CACHE_SIZE_DEFAULT);
 	}
 
 	public static void resetToDefaultCommentTemplatesValues(IPreferenceStore store) {
@@ -1126,6 +1160,10 @@ public final class SVNTeamPreferences {
 		return store.getBoolean(SVNTeamPreferences.fullDecorationName(shortName));
 	}
 
+	public static int getDecorationInt(IPreferenceStore store, String shortName) {
+		return store.getInt(SVNTeamPreferences.fullDecorationName(shortName));
+	}
+
 	public static String getCommentTemplatesString(IPreferenceStore store, String shortName) {
 		return store.getString(SVNTeamPreferences.fullCommentTemplatesName(shortName));
 	}
@@ -1186,6 +1224,10 @@ public final class SVNTeamPreferences {
 		store.setValue(SVNTeamPreferences.fullDecorationName(shortName), value);
 	}
 
+	public static void setDecorationInt(IPreferenceStore store, String shortName, int value) {
+		store.setValue(SVNTeamPreferences.fullDecorationName(shortName), value);
+	}
+
 	public static void setHistoryBoolean(IPreferenceStore store, String shortName, boolean value) {
 		store.setValue(SVNTeamPreferences.fullHistoryName(shortName), value);
 	}
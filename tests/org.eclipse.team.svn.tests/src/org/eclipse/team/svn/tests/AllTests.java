@@ -14,11 +14,23 @@
 
 package org.eclipse.team.svn.tests;
 
+import org.eclipse.team.svn.tests.core.AbstractGetFileContentOperationTest;
 import org.eclipse.team.svn.tests.core.AbstractOperationTest;
+import org.eclipse.team.svn.tests.core.AsynchronousActiveQueueTest;
+import org.eclipse.team.svn.tests.core.GetResourceAnnotationOperationTest;
+import org.eclipse.team.svn.tests.core.RemoteStatusCacheTest;
 import org.eclipse.team.svn.tests.core.RepositoryLocationsManagementTest;
+import org.eclipse.team.svn.tests.core.SVNConnectorPoolTest;
+import org.eclipse.team.svn.tests.core.SVNContentCacheTest;
+import org.eclipse.team.svn.tests.core.SVNLocalResourceCacheTest;
+import org.eclipse.team.svn.tests.core.SVNLogCacheTest;
+import org.eclipse.team.svn.tests.core.SVNResourceChangeSerializerTest;
+import org.eclipse.team.svn.tests.core.SVNStatusLoadPlannerTest;
+import org.eclipse.team.svn.tests.core.SVNTeamPluginTest;
 import org.eclipse.team.svn.tests.core.StateFilterTest;
 import org.eclipse.team.svn.tests.ui.DecoratorVariablesTest;
 import org.eclipse.team.svn.tests.ui.JavaViewMenuEnablementTest;
+import org.eclipse.team.svn.tests.ui.LogEntryIndexTest;
 import org.eclipse.team.svn.tests.ui.RepositoryViewMenuEnablementTest;
 import org.eclipse.team.svn.tests.ui.SVNTeamMoveDeleteHookTest;
 import org.eclipse.team.svn.tests.ui.UIMonitorUtilityTest;
@@ -34,10 +46,13 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author Nicolas Peifer
  */
 @RunWith(Suite.class)
-@SuiteClasses({ AbstractOperationTest.class, DecoratorVariablesTest.class, JavaViewMenuEnablementTest.class,
-		ParameterizedWorkflowTest.class, RepositoryLocationsManagementTest.class,
-		RepositoryViewMenuEnablementTest.class, StateFilterTest.class, SVNTeamMoveDeleteHookTest.class,
-		UIMonitorUtilityTest.class })
+@SuiteClasses({ AbstractGetFileContentOperationTest.class, AbstractOperationTest.class,
+		AsynchronousActiveQueueTest.class, DecoratorVariablesTest.class, GetResourceAnnotationOperationTest.class,
+		JavaViewMenuEnablementTest.class, LogEntryIndexTest.class, ParameterizedWorkflowTest.class,
+		RemoteStatusCacheTest.class, RepositoryLocationsManagementTest.class, RepositoryViewMenuEnablementTest.class,
+		StateFilterTest.class, SVNConnectorPoolTest.class, SVNContentCacheTest.class, SVNLocalResourceCacheTest.class,
+		SVNLogCacheTest.class, SVNResourceChangeSerializerTest.class, SVNStatusLoadPlannerTest.class,
+		SVNTeamMoveDeleteHookTest.class, SVNTeamPluginTest.class, UIMonitorUtilityTest.class })
 public class AllTests {
 	// no implementation needed
 }
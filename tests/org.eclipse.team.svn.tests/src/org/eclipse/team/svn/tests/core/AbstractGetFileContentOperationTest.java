@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.team.svn.core.operation.AbstractGetFileContentOperation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * AbstractGetFileContentOperation content access test
+ */
+public class AbstractGetFileContentOperationTest {
+	private File folder;
+
+	private byte[] data;
+
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("AbstractGetFileContentOperationTest").toFile(); //$NON-NLS-1$
+		data = new byte[3 * 1024 * 1024 + 17];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) (i * 31);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : folder.listFiles()) {
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	@Test
+	public void testContentAccess() throws IOException {
+		ContentOperation op = new ContentOperation("first"); //$NON-NLS-1$
+		op.setContent(data);
+
+		assertEquals(data.length, op.getContentLength());
+		try (InputStream stream = op.getContent()) {
+			assertArrayEquals(data, stream.readAllBytes());
+		}
+		try (InputStream stream = op.getContent(10)) {
+			assertArrayEquals(Arrays.copyOf(data, 10), stream.readAllBytes());
+		}
+		ByteBuffer view = op.mapContent(data.length - 5, 100);
+		assertEquals(5, view.remaining());
+		assertEquals(data[data.length - 1], view.get(4));
+		assertEquals(0, op.mapContent(data.length, 100).remaining());
+	}
+
+	@Test
+	public void testChannelCopy() throws IOException {
+		ContentOperation source = new ContentOperation("source"); //$NON-NLS-1$
+		source.setContent(data);
+		ContentOperation target = new ContentOperation("target"); //$NON-NLS-1$
+		target.setContent(new byte[data.length * 2]);
+
+		// the previous content is replaced as a whole
+		try (FileChannel channel = source.openContentChannel()) {
+			target.setContent(channel);
+		}
+		assertEquals(data.length, target.getContentLength());
+		try (InputStream stream = target.getContent()) {
+			assertArrayEquals(data, stream.readAllBytes());
+		}
+	}
+
+	@Test
+	public void testNoContent() throws IOException {
+		ContentOperation op = new ContentOperation("none"); //$NON-NLS-1$
+
+		assertEquals(0, op.getContentLength());
+		assertNull(op.openContentChannel());
+		assertEquals(0, op.mapContent(0, 100).remaining());
+		try (InputStream stream = op.getContent()) {
+			assertEquals(-1, stream.read());
+		}
+	}
+
+	private class ContentOperation extends AbstractGetFileContentOperation {
+		private final String name;
+
+		public ContentOperation(String name) {
+			super("Test"); //$NON-NLS-1$
+			this.name = name;
+		}
+
+		@Override
+		protected File createTempFile() {
+			return new File(folder, name);
+		}
+
+		@Override
+		protected void runImpl(IProgressMonitor monitor) throws Exception {
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.team.svn.core.operation.IActionOperation;
+import org.eclipse.team.svn.core.utility.AsynchronousActiveQueue;
+import org.eclipse.team.svn.core.utility.IQueuedElement;
+import org.junit.Test;
+
+/**
+ * AsynchronousActiveQueue skipping and merging test
+ */
+public class AsynchronousActiveQueueTest {
+
+	@Test
+	public void testMerge() throws Exception {
+		BlockingHandler handler = new BlockingHandler();
+		AsynchronousActiveQueue<Record> queue = new AsynchronousActiveQueue<>("Test", handler, true); //$NON-NLS-1$
+
+		queue.push(new Record("first", "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		handler.awaitStarted();
+
+		// the record which is being processed is not merged with the new ones
+		queue.push(new Record("first", "b")); //$NON-NLS-1$ //$NON-NLS-2$
+		queue.push(new Record("second", "c")); //$NON-NLS-1$ //$NON-NLS-2$
+		queue.push(new Record("first", "d")); //$NON-NLS-1$ //$NON-NLS-2$
+		queue.push(new Record("second", "c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(2, queue.getSize());
+		assertEquals(1, queue.getMergedCount());
+		assertEquals(1, queue.getSkippedCount());
+
+		handler.release();
+		awaitProcessed(queue, 3);
+
+		assertEquals(List.of(new Record("first", "a"), new Record("first", "b", "d"), new Record("second", "c")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+				handler.processed);
+	}
+
+	@Test
+	public void testMergedRecordsAreNotHashed() throws Exception {
+		BlockingHandler handler = new BlockingHandler();
+		AsynchronousActiveQueue<Record> queue = new AsynchronousActiveQueue<>("Test", handler, true); //$NON-NLS-1$
+
+		queue.push(new Record("first", "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		handler.awaitStarted();
+
+		Record.mergedHashes.set(0);
+		for (int i = 0; i < 100; i++) {
+			queue.push(new Record("second", String.valueOf(i))); //$NON-NLS-1$
+		}
+		// a plain record is still skipped
+		queue.push(new Record(null, "x")); //$NON-NLS-1$
+		queue.push(new Record(null, "x")); //$NON-NLS-1$
+		assertEquals(0, Record.mergedHashes.get());
+		assertEquals(2, queue.getSize());
+		assertEquals(99, queue.getMergedCount());
+		assertEquals(1, queue.getSkippedCount());
+
+		handler.release();
+		awaitProcessed(queue, 3);
+		assertEquals(100, handler.processed.get(1).values.size());
+	}
+
+	@Test
+	public void testNotMergeable() throws Exception {
+		BlockingHandler handler = new BlockingHandler();
+		AsynchronousActiveQueue<Record> queue = new AsynchronousActiveQueue<>("Test", handler, true); //$NON-NLS-1$
+
+		queue.push(new Record(null, "a")); //$NON-NLS-1$
+		handler.awaitStarted();
+
+		queue.push(new Record(null, "b")); //$NON-NLS-1$
+		queue.push(new Record(null, "c")); //$NON-NLS-1$
+		assertEquals(2, queue.getSize());
+		assertEquals(0, queue.getMergedCount());
+
+		handler.release();
+		awaitProcessed(queue, 3);
+
+		assertEquals(List.of(new Record(null, "a"), new Record(null, "b"), new Record(null, "c")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				handler.processed);
+	}
+
+	protected void awaitProcessed(AsynchronousActiveQueue<Record> queue, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (queue.getProcessedCount() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(count, queue.getProcessedCount());
+	}
+
+	protected static class BlockingHandler implements AsynchronousActiveQueue.IRecordHandler<Record> {
+		public final List<Record> processed = Collections.synchronizedList(new ArrayList<>());
+
+		protected final CountDownLatch started = new CountDownLatch(1);
+
+		protected final CountDownLatch released = new CountDownLatch(1);
+
+		@Override
+		public void process(IProgressMonitor monitor, IActionOperation op, Record record) {
+			started.countDown();
+			try {
+				released.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			processed.add(record);
+		}
+
+		public void awaitStarted() throws InterruptedException {
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+		}
+
+		public void release() {
+			released.countDown();
+		}
+	}
+
+	protected static class Record implements IQueuedElement<Record> {
+		/**
+		 * The number of the hash codes computed for the merge results
+		 */
+		public static final AtomicInteger mergedHashes = new AtomicInteger();
+
+		protected final String key;
+
+		protected final List<String> values;
+
+		public Record(String key, String... values) {
+			this.key = key;
+			this.values = List.of(values);
+		}
+
+		@Override
+		public boolean canSkip() {
+			return true;
+		}
+
+		@Override
+		public boolean canMerge(Record d) {
+			return true;
+		}
+
+		@Override
+		public Object getMergeKey() {
+			return key;
+		}
+
+		@Override
+		public Record merge(Record d) {
+			List<String> merged = new ArrayList<>(values);
+			merged.addAll(d.values);
+			return new Record(key, merged.toArray(new String[merged.size()]));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Record && Objects.equals(key, ((Record) obj).key)
+					&& values.equals(((Record) obj).values);
+		}
+
+		@Override
+		public int hashCode() {
+			if (values.size() > 1) {
+				Record.mergedHashes.incrementAndGet();
+			}
+			return Objects.hash(key, values);
+		}
+
+		@Override
+		public String toString() {
+			return key + values;
+		}
+	}
+
+}
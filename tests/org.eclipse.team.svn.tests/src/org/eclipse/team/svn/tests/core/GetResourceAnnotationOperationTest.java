@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.connector.SVNAnnotationData;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.connector.SVNRevisionRange;
+import org.eclipse.team.svn.core.operation.IActionOperation;
+import org.eclipse.team.svn.core.operation.remote.GetResourceAnnotationOperation;
+import org.eclipse.team.svn.core.resource.IRepositoryLocation;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNAnnotationCache;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * GetResourceAnnotationOperation difference replay test
+ */
+public class GetResourceAnnotationOperationTest {
+	protected static final SVNLogEntry ENTRY = new SVNLogEntry(5, 5000, "author5", "message 5", null, false); //$NON-NLS-1$ //$NON-NLS-2$
+
+	protected static final String URL = "http://host/repos/trunk/file.txt"; //$NON-NLS-1$
+
+	protected List<String> lines;
+
+	protected List<SVNAnnotationData> data;
+
+	@Before
+	public void setUp() {
+		lines = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		data = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			data.add(annotation(i + 1));
+		}
+	}
+
+	@Test
+	public void testInsert() {
+		assertTrue(apply("@@ -2,0 +3,2 @@\n+x\n+y\n")); //$NON-NLS-1$
+		assertLines("a", "b", "x", "y", "c", "d", "e"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+		assertRevisions(1, 2, 5, 5, 3, 4, 5);
+	}
+
+	@Test
+	public void testDelete() {
+		assertTrue(apply("@@ -1,3 +1,2 @@\n a\n-b\n c\n")); //$NON-NLS-1$
+		assertLines("a", "c", "d", "e"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertRevisions(1, 3, 4, 5);
+	}
+
+	@Test
+	public void testModifySeveralHunks() {
+		assertTrue(apply("Index: file\n===\n--- file\n+++ file\n@@ -1 +1 @@\n-a\n+A\n@@ -4,2 +4,2 @@\n d\n-e\n+E\n")); //$NON-NLS-1$
+		assertLines("A", "b", "c", "d", "E"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertRevisions(5, 2, 3, 4, 5);
+		assertEquals("author5", data.get(0).author); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLineEnds() {
+		assertTrue(apply("@@ -4,2 +4,2 @@\r\n d\r\n-e\r\n\\ No newline at end of file\r\n+f\r\n")); //$NON-NLS-1$
+		assertLines("a", "b", "c", "d", "f"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertRevisions(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void testEmptyDifference() {
+		assertTrue(apply("")); //$NON-NLS-1$
+		assertLines("a", "b", "c", "d", "e"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+	@Test
+	public void testMismatch() {
+		// context and removed lines are compared with the annotated ones
+		assertFalse(apply("@@ -1,2 +1,2 @@\n x\n-b\n+B\n")); //$NON-NLS-1$
+		assertFalse(apply("@@ -1,2 +1,2 @@\n a\n-x\n+B\n")); //$NON-NLS-1$
+		// ranges out of the annotated lines
+		assertFalse(apply("@@ -5,2 +5,1 @@\n e\n-f\n")); //$NON-NLS-1$
+		// line counts differ from the hunk header
+		assertFalse(apply("@@ -1,2 +1,2 @@\n a\n")); //$NON-NLS-1$
+		assertFalse(apply("@@ -1 +1,2 @@\n-a\n+A\n")); //$NON-NLS-1$
+		// the hunks are out of order
+		assertFalse(apply("@@ -4 +4 @@\n-d\n+D\n@@ -1 +1 @@\n-a\n+A\n")); //$NON-NLS-1$
+		assertFalse(apply("@@ bad @@\n")); //$NON-NLS-1$
+		assertFalse(apply("Cannot display: file marked as a binary type.\n")); //$NON-NLS-1$
+		// the lines are left intact
+		assertLines("a", "b", "c", "d", "e"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertRevisions(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void testContent() throws IOException {
+		GetResourceAnnotationOperation op = new GetResourceAnnotationOperation(resource(),
+				new SVNRevisionRange(SVNRevision.fromNumber(1), SVNRevision.HEAD)) {
+			{
+				lines = new String[] { "a", "\u00fc", "" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		};
+		op.setCharset("UTF-8"); //$NON-NLS-1$
+		// the content is encoded in the file charset and the lines are separated, not terminated
+		byte[] expected = "a\n\u00fc\n".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		assertArrayEquals(expected, op.getContent());
+		try (InputStream stream = op.getContentStream()) {
+			assertArrayEquals(expected, stream.readAllBytes());
+		}
+	}
+
+	@Test
+	public void testNoContent() throws IOException {
+		GetResourceAnnotationOperation op = new GetResourceAnnotationOperation(resource(),
+				new SVNRevisionRange(SVNRevision.fromNumber(1), SVNRevision.HEAD));
+		assertNull(op.getContent());
+		try (InputStream stream = op.getContentStream()) {
+			assertEquals(-1, stream.read());
+		}
+	}
+
+	@Test
+	public void testCachedWithKnownLastChangedRevision() {
+		// the operation fails if the repository is accessed
+		GetResourceAnnotationOperation op = new GetResourceAnnotationOperation(repositoryResource(),
+				new SVNRevisionRange(SVNRevision.fromNumber(1), SVNRevision.HEAD));
+		op.setLastChangedRevision(7);
+		assertCached(op);
+	}
+
+	@Test
+	public void testCachedForChangedRevision() {
+		assertCached(new GetResourceAnnotationOperation(repositoryResource(),
+				new SVNRevisionRange(SVNRevision.fromNumber(1), SVNRevision.fromNumber(7))));
+	}
+
+	protected void assertCached(GetResourceAnnotationOperation op) {
+		SVNAnnotationCache cache = SVNRemoteStorage.instance().getAnnotationCache();
+		String baseKey = SVNAnnotationCache.getBaseKey(GetResourceAnnotationOperationTest.URL,
+				SVNRevision.INVALID_REVISION_NUMBER, 1,
+				ISVNConnector.Options.IGNORE_MIME_TYPE & ISVNConnector.CommandMasks.ANNOTATE);
+		cache.put(baseKey, new SVNAnnotationCache.Annotation(GetResourceAnnotationOperationTest.URL, 7,
+				new String[] { "a" }, new SVNAnnotationData[] { annotation(7) }, new SVNLogEntry[0])); //$NON-NLS-1$
+		try {
+			op.run(new NullProgressMonitor());
+			assertEquals(IActionOperation.OK, op.getExecutionState());
+			assertEquals(7, op.getAnnotatedLines()[0].revision);
+		} finally {
+			cache.clear();
+		}
+	}
+
+	protected IRepositoryResource resource() {
+		return (IRepositoryResource) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class[] { IRepositoryResource.class }, (proxy, method, args) -> null);
+	}
+
+	protected IRepositoryResource repositoryResource() {
+		ISVNConnector connector = (ISVNConnector) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class[] { ISVNConnector.class }, (proxy, method, args) -> {
+					throw new UnsupportedOperationException(method.getName());
+				});
+		IRepositoryLocation location = (IRepositoryLocation) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class[] { IRepositoryLocation.class },
+				(proxy, method, args) -> "acquireSVNProxy".equals(method.getName()) ? connector : null); //$NON-NLS-1$
+		return (IRepositoryResource) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class[] { IRepositoryResource.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getUrl": //$NON-NLS-1$
+							return GetResourceAnnotationOperationTest.URL;
+						case "getName": //$NON-NLS-1$
+							return "file.txt"; //$NON-NLS-1$
+						case "getPegRevision": //$NON-NLS-1$
+							return SVNRevision.HEAD;
+						case "getRepositoryLocation": //$NON-NLS-1$
+							return location;
+						default:
+							return null;
+					}
+				});
+	}
+
+	protected boolean apply(String diff) {
+		IRepositoryResource resource = resource();
+		return new GetResourceAnnotationOperation(resource,
+				new SVNRevisionRange(SVNRevision.fromNumber(1), SVNRevision.HEAD)) {
+			public boolean apply() {
+				return applyDifference(diff, GetResourceAnnotationOperationTest.ENTRY,
+						GetResourceAnnotationOperationTest.this.lines, GetResourceAnnotationOperationTest.this.data);
+			}
+		}.apply();
+	}
+
+	protected void assertLines(String... expected) {
+		assertEquals(Arrays.asList(expected), lines);
+	}
+
+	protected void assertRevisions(long... expected) {
+		assertEquals(expected.length, data.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], data.get(i).revision);
+		}
+	}
+
+	protected static SVNAnnotationData annotation(long revision) {
+		return new SVNAnnotationData(0, false, revision, revision * 1000, "author" + revision, //$NON-NLS-1$
+				SVNRevision.INVALID_REVISION_NUMBER, 0, null, null);
+	}
+}
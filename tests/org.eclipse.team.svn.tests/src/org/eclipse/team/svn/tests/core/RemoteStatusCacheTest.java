@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.team.svn.core.synchronize.RemoteStatusCache;
+import org.junit.Test;
+
+/**
+ * RemoteStatusCache invalidation test
+ */
+public class RemoteStatusCacheTest {
+
+	private final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("RemoteStatusCacheTest"); //$NON-NLS-1$
+
+	private final IFolder folder = project.getFolder("folder"); //$NON-NLS-1$
+
+	private final IFile file = folder.getFile("file.txt"); //$NON-NLS-1$
+
+	private final IFolder subFolder = folder.getFolder("sub"); //$NON-NLS-1$
+
+	private final IFile subFile = subFolder.getFile("file.txt"); //$NON-NLS-1$
+
+	private final IFile sibling = project.getFile("sibling.txt"); //$NON-NLS-1$
+
+	private final IResource[] all = { project, folder, file, subFolder, subFile, sibling };
+
+	@Test
+	public void testSetAndGet() {
+		RemoteStatusCache cache = fill();
+
+		for (IResource resource : all) {
+			assertArrayEquals(dataOf(resource), cache.getBytes(resource));
+		}
+		assertEquals(all.length, cache.getEntryCount());
+		assertFalse(cache.setBytes(file, dataOf(file)));
+		assertTrue(cache.setBytes(file, new byte[] { 1 }));
+		assertEquals(all.length, cache.getEntryCount());
+		assertEquals(resources(folder, sibling), resources(cache.members(project)));
+		assertEquals(resources(file, subFolder), resources(cache.members(folder)));
+	}
+
+	@Test
+	public void testFlushDepthZero() {
+		RemoteStatusCache cache = fill();
+
+		assertTrue(cache.flushBytes(folder, IResource.DEPTH_ZERO));
+
+		assertNull(cache.getBytes(folder));
+		assertArrayEquals(dataOf(file), cache.getBytes(file));
+		assertArrayEquals(dataOf(subFile), cache.getBytes(subFile));
+		assertEquals(all.length - 1, cache.getEntryCount());
+		// the flushed folder is not a member any more, but its children are still reachable
+		assertEquals(resources(sibling), resources(cache.members(project)));
+		assertEquals(resources(file, subFolder), resources(cache.members(folder)));
+	}
+
+	@Test
+	public void testFlushDepthOne() {
+		RemoteStatusCache cache = fill();
+
+		assertTrue(cache.flushBytes(folder, IResource.DEPTH_ONE));
+
+		assertNull(cache.getBytes(folder));
+		assertNull(cache.getBytes(file));
+		assertNull(cache.getBytes(subFolder));
+		assertArrayEquals(dataOf(subFile), cache.getBytes(subFile));
+		assertArrayEquals(dataOf(project), cache.getBytes(project));
+		assertArrayEquals(dataOf(sibling), cache.getBytes(sibling));
+		assertEquals(3, cache.getEntryCount());
+	}
+
+	@Test
+	public void testFlushDepthInfinite() {
+		RemoteStatusCache cache = fill();
+		long memoryUsage = cache.getMemoryUsage();
+
+		assertTrue(cache.flushBytes(folder, IResource.DEPTH_INFINITE));
+
+		assertNull(cache.getBytes(folder));
+		assertNull(cache.getBytes(file));
+		assertNull(cache.getBytes(subFolder));
+		assertNull(cache.getBytes(subFile));
+		assertArrayEquals(dataOf(project), cache.getBytes(project));
+		assertArrayEquals(dataOf(sibling), cache.getBytes(sibling));
+		assertEquals(2, cache.getEntryCount());
+		assertTrue(cache.getMemoryUsage() < memoryUsage);
+		assertEquals(resources(sibling), resources(cache.members(project)));
+		assertEquals(0, cache.members(folder).length);
+
+		assertTrue(cache.flushBytes(project, IResource.DEPTH_INFINITE));
+		assertEquals(0, cache.getEntryCount());
+		assertEquals(0, cache.getMemoryUsage());
+		assertFalse(cache.containsData());
+	}
+
+	@Test
+	public void testDelete() {
+		RemoteStatusCache cache = fill();
+
+		assertTrue(cache.deleteBytes(subFile));
+		assertFalse(cache.deleteBytes(subFile));
+		assertFalse(cache.flushBytes(project.getFile("unknown.txt"), IResource.DEPTH_INFINITE)); //$NON-NLS-1$
+
+		assertNull(cache.getBytes(subFile));
+		assertEquals(all.length - 1, cache.getEntryCount());
+		assertEquals(0, cache.members(subFolder).length);
+	}
+
+	@Test
+	public void testTraverse() {
+		RemoteStatusCache cache = fill();
+		cache.flushBytes(subFolder, IResource.DEPTH_ZERO);
+
+		Set<IPath> visited = new HashSet<>();
+		cache.traverse(new IResource[] { folder }, IResource.DEPTH_INFINITE, (path, data) -> visited.add(path));
+		assertEquals(paths(folder, file, subFile), visited);
+
+		visited.clear();
+		cache.traverse(new IResource[] { project }, IResource.DEPTH_ONE, (path, data) -> visited.add(path));
+		assertEquals(paths(project, folder, sibling), visited);
+
+		visited.clear();
+		cache.traverse(new IResource[] { subFolder }, IResource.DEPTH_ZERO, (path, data) -> visited.add(path));
+		assertTrue(visited.isEmpty());
+	}
+
+	protected RemoteStatusCache fill() {
+		RemoteStatusCache cache = new RemoteStatusCache();
+		// children first, so the nodes of their parents are created before the parents get data
+		for (int i = all.length - 1; i >= 0; i--) {
+			assertTrue(cache.setBytes(all[i], dataOf(all[i])));
+		}
+		return cache;
+	}
+
+	protected byte[] dataOf(IResource resource) {
+		return resource.getFullPath().toString().getBytes();
+	}
+
+	protected Set<IResource> resources(IResource... resources) {
+		return new HashSet<>(Arrays.asList(resources));
+	}
+
+	protected Set<IPath> paths(IResource... resources) {
+		Set<IPath> retVal = new HashSet<>();
+		for (IResource resource : resources) {
+			retVal.add(resource.getFullPath());
+		}
+		return retVal;
+	}
+
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.svnstorage.SVNConnectorPool;
+import org.junit.Test;
+
+/**
+ * SVNConnectorPool sizing and warm up test
+ */
+public class SVNConnectorPoolTest {
+
+	@Test
+	public void testUnboundedByDefault() throws Exception {
+		Factory factory = new Factory();
+		SVNConnectorPool pool = new SVNConnectorPool(factory);
+		// the first usage configures the location
+		pool.release(pool.borrow());
+
+		int count = 20;
+		Set<ISVNConnector> proxies = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		CountDownLatch borrowed = new CountDownLatch(count);
+		CountDownLatch done = new CountDownLatch(1);
+		for (int i = 0; i < count; i++) {
+			new Thread(() -> {
+				ISVNConnector proxy = pool.borrow();
+				proxies.add(proxy);
+				borrowed.countDown();
+				try {
+					done.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				} finally {
+					pool.release(proxy);
+				}
+			}).start();
+		}
+		assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+		assertEquals(count, proxies.size());
+		assertEquals(count, pool.getActiveCount());
+		assertEquals(0, pool.getOverflowCount());
+		done.countDown();
+	}
+
+	@Test
+	public void testWarmUpBeforeConfiguration() {
+		Factory factory = new Factory();
+		SVNConnectorPool pool = new SVNConnectorPool(factory);
+
+		pool.warmUp();
+		assertEquals(1, pool.getIdleCount());
+		assertEquals(1, factory.created.get());
+		// no credentials are read until the connector is used
+		assertEquals(0, factory.configured.get());
+
+		ISVNConnector proxy = pool.borrow();
+		assertEquals(1, factory.created.get());
+		assertEquals(1, factory.configured.get());
+		pool.release(proxy);
+
+		// configured connectors are not configured again
+		assertSame(proxy, pool.borrow());
+		assertEquals(1, factory.configured.get());
+	}
+
+	private static class Factory implements SVNConnectorPool.IConnectorFactory {
+		private final AtomicInteger created = new AtomicInteger();
+
+		private final AtomicInteger configured = new AtomicInteger();
+
+		@Override
+		public ISVNConnector newInstance() {
+			created.incrementAndGet();
+			return (ISVNConnector) Proxy.newProxyInstance(ISVNConnector.class.getClassLoader(),
+					new Class<?>[] { ISVNConnector.class }, (proxy, method, args) -> {
+						if ("hashCode".equals(method.getName())) { //$NON-NLS-1$
+							return System.identityHashCode(proxy);
+						}
+						if ("equals".equals(method.getName())) { //$NON-NLS-1$
+							return proxy == args[0];
+						}
+						return null;
+					});
+		}
+
+		@Override
+		public void configure(ISVNConnector proxy) {
+			configured.incrementAndGet();
+		}
+	}
+
+}
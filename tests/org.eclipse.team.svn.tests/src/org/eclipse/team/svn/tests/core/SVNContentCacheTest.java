@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.team.svn.core.svnstorage.SVNContentCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SVNContentCache test
+ */
+public class SVNContentCacheTest {
+
+	private static final String INDEX_FILE_NAME = "contents.index"; //$NON-NLS-1$
+
+	private File folder;
+
+	private File work;
+
+	private SVNContentCache cache;
+
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("SVNContentCacheTest").toFile(); //$NON-NLS-1$
+		work = Files.createTempDirectory("SVNContentCacheTestWork").toFile(); //$NON-NLS-1$
+		cache = create(1024);
+	}
+
+	@After
+	public void tearDown() {
+		cache.clear();
+		folder.delete();
+		File[] files = work.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		work.delete();
+	}
+
+	@Test
+	public void testGet() throws IOException {
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.put("b", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		File target = new File(work, "target"); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		assertEquals("content a", read(target)); //$NON-NLS-1$
+		assertFalse(cache.get("c", target)); //$NON-NLS-1$
+		// the same content is stored once
+		assertEquals(9, cache.getSize());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testMissingContent() throws IOException {
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (File file : folder.listFiles()) {
+			if (!INDEX_FILE_NAME.equals(file.getName())) {
+				file.delete();
+			}
+		}
+
+		assertFalse(cache.get("a", new File(work, "target"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(0, cache.getSize());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		cache = create(20);
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.put("b", file("source", "content b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		File target = new File(work, "target"); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		cache.put("c", file("source", "content c")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// the least recently used entry is evicted
+		assertFalse(cache.get("b", target)); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		assertTrue(cache.get("c", target)); //$NON-NLS-1$
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(18, cache.getSize());
+	}
+
+	@Test
+	public void testReloadAfterDispose() throws IOException {
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.dispose();
+
+		cache = create(1024);
+		File target = new File(work, "target"); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		assertEquals("content a", read(target)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testReloadWithoutDispose() throws IOException {
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.put("b", file("source", "content b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.put("a", file("source", "content c")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// the index changes are saved as they are made
+		cache = create(1024);
+		File target = new File(work, "target"); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		assertEquals("content c", read(target)); //$NON-NLS-1$
+		assertTrue(cache.get("b", target)); //$NON-NLS-1$
+		assertEquals("content b", read(target)); //$NON-NLS-1$
+		// the replaced content is removed
+		assertEquals(18, cache.getSize());
+		assertEquals(3, folder.listFiles().length);
+	}
+
+	@Test
+	public void testReloadTruncatedIndex() throws IOException {
+		cache.put("a", file("source", "content a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.put("b", file("source", "content b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		try (RandomAccessFile index = new RandomAccessFile(new File(folder, INDEX_FILE_NAME), "rw")) { //$NON-NLS-1$
+			index.setLength(index.length() - 3);
+		}
+
+		// the record being appended on termination is lost only
+		cache = create(1024);
+		File target = new File(work, "target"); //$NON-NLS-1$
+		assertTrue(cache.get("a", target)); //$NON-NLS-1$
+		assertFalse(cache.get("b", target)); //$NON-NLS-1$
+		assertEquals(9, cache.getSize());
+		assertEquals(2, folder.listFiles().length);
+	}
+
+	private SVNContentCache create(final long maxSize) {
+		return new SVNContentCache(folder) {
+			@Override
+			public long getMaxSize() {
+				return maxSize;
+			}
+		};
+	}
+
+	private File file(String name, String content) throws IOException {
+		File file = new File(work, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalFile;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalFolder;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalResourceCache;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalResourceCache.HeapUsage;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SVNLocalResourceCache test
+ */
+public class SVNLocalResourceCacheTest {
+
+	private static final int NORMAL = StateMaskUtility.getStateBit(IStateFilter.ST_NORMAL);
+
+	private static final int MODIFIED = StateMaskUtility.getStateBit(IStateFilter.ST_MODIFIED);
+
+	private static final int ADDED = StateMaskUtility.getStateBit(IStateFilter.ST_ADDED);
+
+	private IProject project;
+
+	private IFolder folder;
+
+	private IFolder subfolder;
+
+	private IFolder sibling;
+
+	private IFile file;
+
+	private RollUpCache cache;
+
+	@Before
+	public void setUp() {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("SVNLocalResourceCacheTest"); //$NON-NLS-1$
+		folder = project.getFolder("folder"); //$NON-NLS-1$
+		subfolder = folder.getFolder("subfolder"); //$NON-NLS-1$
+		sibling = project.getFolder("sibling"); //$NON-NLS-1$
+		file = subfolder.getFile("file.txt"); //$NON-NLS-1$
+		cache = new RollUpCache();
+		cache.put(folder(folder, IStateFilter.ST_NORMAL));
+		cache.put(folder(sibling, IStateFilter.ST_NORMAL));
+		cache.put(folder(subfolder, IStateFilter.ST_NORMAL));
+		cache.put(file(file, IStateFilter.ST_NORMAL));
+		cache.markLoaded(sibling);
+	}
+
+	@Test
+	public void testRollUp() {
+		assertEquals(NORMAL, cache.getRollUp(project));
+		assertEquals(NORMAL, cache.getRollUp(subfolder));
+		assertEquals(StateMaskUtility.UNKNOWN_ROLL_UP, cache.getRollUp(file));
+	}
+
+	@Test
+	public void testNotLoadedContainer() {
+		cache.remove(subfolder);
+
+		// the not loaded containers are kept in the high part of the roll-up
+		assertEquals(NORMAL | (long) NORMAL << 32, cache.getRollUp(project));
+		assertEquals(StateMaskUtility.UNKNOWN_ROLL_UP, cache.getRollUp(subfolder));
+	}
+
+	@Test
+	public void testChildChangeInvalidatesParents() {
+		assertEquals(NORMAL, cache.getRollUp(project));
+		// the loaded container without children
+		assertEquals(0, cache.getRollUp(sibling));
+
+		cache.put(file(file, IStateFilter.ST_MODIFIED));
+
+		assertFalse(cache.hasRollUp(subfolder));
+		assertFalse(cache.hasRollUp(folder));
+		assertFalse(cache.hasRollUp(project));
+		// the roll-ups of the other subtrees are kept
+		assertTrue(cache.hasRollUp(sibling));
+		assertEquals(NORMAL | MODIFIED, cache.getRollUp(project));
+		assertEquals(NORMAL | MODIFIED, cache.getRollUp(folder));
+		assertEquals(MODIFIED, cache.getRollUp(subfolder));
+	}
+
+	@Test
+	public void testNewChildInvalidatesParents() {
+		assertEquals(NORMAL, cache.getRollUp(project));
+
+		cache.put(file(sibling.getFile("added.txt"), IStateFilter.ST_ADDED)); //$NON-NLS-1$
+
+		assertEquals(NORMAL | ADDED, cache.getRollUp(project));
+		assertEquals(ADDED, cache.getRollUp(sibling));
+		assertEquals(NORMAL, cache.getRollUp(folder));
+	}
+
+	@Test
+	public void testRemovalInvalidatesParents() {
+		cache.put(file(file, IStateFilter.ST_MODIFIED));
+		assertEquals(NORMAL | MODIFIED, cache.getRollUp(project));
+
+		cache.remove(subfolder);
+
+		assertEquals(NORMAL | (long) NORMAL << 32, cache.getRollUp(project));
+		assertEquals(NORMAL | (long) NORMAL << 32, cache.getRollUp(folder));
+	}
+
+	@Test
+	public void testClear() {
+		assertEquals(NORMAL, cache.getRollUp(project));
+
+		cache.clear();
+
+		assertFalse(cache.hasRollUp(project));
+		assertEquals(StateMaskUtility.UNKNOWN_ROLL_UP, cache.getRollUp(project));
+	}
+
+	@Test
+	public void testSharedHandle() {
+		// the handle made from the status path has its own copies of the path segments
+		IFile status = (IFile) statusHandle(file.getFullPath().removeLastSegments(1).append("other.txt"), //$NON-NLS-1$
+				IResource.FILE);
+		IResource shared = cache.getSharedHandle(status);
+		assertEquals(status, shared);
+		assertEquals(IResource.FILE, shared.getType());
+		assertNotSame(status.getFullPath().segment(2), shared.getFullPath().segment(2));
+		assertSame(subfolder.getFullPath().lastSegment(), shared.getFullPath().segment(2));
+
+		IFolder statusFolder = (IFolder) statusHandle(subfolder.getFullPath().append("nested"), IResource.FOLDER); //$NON-NLS-1$
+		shared = cache.getSharedHandle(statusFolder);
+		assertEquals(statusFolder, shared);
+		assertEquals(IResource.FOLDER, shared.getType());
+	}
+
+	@Test
+	public void testSharedHandleFallback() {
+		// the handle sharing the segments already
+		IFile other = subfolder.getFile("other.txt"); //$NON-NLS-1$
+		assertSame(other, cache.getSharedHandle(other));
+		// the parent is not cached
+		IResource status = statusHandle(sibling.getFullPath().append("nested/other.txt"), IResource.FILE); //$NON-NLS-1$
+		assertSame(status, cache.getSharedHandle(status));
+		// the project and its children have no cached parent
+		assertSame(project, cache.getSharedHandle(project));
+		status = statusHandle(folder.getFullPath(), IResource.FOLDER);
+		assertSame(status, cache.getSharedHandle(status));
+	}
+
+	@Test
+	public void testHeapUsage() {
+		Map<IProject, HeapUsage> usage = cache.getHeapUsage();
+		assertEquals(1, usage.size());
+		HeapUsage projectUsage = usage.get(project);
+		// the project, folder, subfolder and sibling are loaded, with the folder, sibling, subfolder and file cached
+		assertEquals(4, projectUsage.containers);
+		assertEquals(4, projectUsage.resources);
+		// containers: 256 + 256 + 264 + 256, the project children: 296 + 296, the subfolder: 240, the file: 232
+		assertEquals(2096, projectUsage.bytes);
+
+		cache.clear();
+		assertTrue(cache.getHeapUsage().isEmpty());
+	}
+
+	@Test
+	public void testHeapUsageOfSharedHandles() {
+		long shared = cache.getHeapUsage().get(project).bytes;
+
+		cache.put(file(statusHandle(file.getFullPath(), IResource.FILE), IStateFilter.ST_NORMAL));
+
+		// the file segments aren't shared with the subfolder ones anymore
+		long copied = cache.getHeapUsage().get(project).bytes;
+		assertTrue(copied > shared);
+
+		cache.put(file(cache.getSharedHandle(statusHandle(file.getFullPath(), IResource.FILE)), IStateFilter.ST_NORMAL));
+
+		assertEquals(shared, cache.getHeapUsage().get(project).bytes);
+	}
+
+	private static class RollUpCache extends SVNLocalResourceCache {
+		public boolean hasRollUp(IResource container) {
+			return rollUps.containsKey(container);
+		}
+	}
+
+	private static ILocalResource folder(IResource resource, String state) {
+		return new SVNLocalFolder(resource, 1, 1, state, IStateFilter.ST_NORMAL, 0, null, 0, null);
+	}
+
+	private static ILocalResource file(IResource resource, String state) {
+		return new SVNLocalFile(resource, 1, 1, state, IStateFilter.ST_NORMAL, 0, null, 0, null);
+	}
+
+	/**
+	 * Makes the handle from the path string, like the ones made from the status paths
+	 */
+	private static IResource statusHandle(IPath path, int type) {
+		Path copy = new Path(new String(path.toString()));
+		return type == IResource.FILE
+				? ResourcesPlugin.getWorkspace().getRoot().getFile(copy)
+				: ResourcesPlugin.getWorkspace().getRoot().getFolder(copy);
+	}
+}
@@ -0,0 +1,495 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.team.svn.core.connector.ISVNConnector;
+import org.eclipse.team.svn.core.connector.ISVNLogEntryCallback;
+import org.eclipse.team.svn.core.connector.SVNConnectorException;
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNLogPath;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.resource.IRepositoryLocation;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLogCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SVNLogCache test
+ */
+public class SVNLogCacheTest {
+
+	private static final String ROOT = "http://localhost/repos"; //$NON-NLS-1$
+
+	private static final long PATHS = ISVNConnector.Options.DISCOVER_PATHS;
+
+	private static final long MERGED = ISVNConnector.Options.INCLUDE_MERGED_REVISIONS;
+
+	private File folder;
+
+	private SVNLogCache cache;
+
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("SVNLogCacheTest").toFile(); //$NON-NLS-1$
+		cache = new SVNLogCache(folder);
+	}
+
+	@After
+	public void tearDown() {
+		cache.clear();
+		folder.delete();
+	}
+
+	@Test
+	public void testRepeatedQuery() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		assertArrayEquals(range(10, 1), revisions(query(trunk, 10, 0, PATHS, 0, repository)));
+		assertArrayEquals(range(10, 1), revisions(query(trunk, 10, 0, PATHS, 0, repository)));
+		assertArrayEquals(range(8, 3), revisions(query(trunk, 8, 3, PATHS, 0, repository)));
+
+		assertEquals(Arrays.asList("10:0:paths"), repository.calls); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testGapFilling() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		assertArrayEquals(range(10, 6), revisions(query(trunk, 10, 6, PATHS, 0, repository)));
+		// older revisions are asked starting from the lowest known one
+		assertArrayEquals(range(10, 1), revisions(query(trunk, 10, 0, PATHS, 0, repository)));
+		repository.head = 15;
+		// newer revisions are asked up to the highest known one
+		assertArrayEquals(range(15, 1), revisions(query(trunk, 15, 0, PATHS, 0, repository)));
+		assertArrayEquals(range(15, 1), revisions(query(trunk, 15, 0, PATHS, 0, repository)));
+
+		assertEquals(Arrays.asList("10:6:paths", "6:0:paths", "15:10:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testLimit() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		assertArrayEquals(range(10, 8), revisions(query(trunk, 10, 0, PATHS, 3, repository)));
+		assertArrayEquals(range(10, 9), revisions(query(trunk, 10, 0, PATHS, 2, repository)));
+		assertArrayEquals(range(10, 6), revisions(query(trunk, 10, 0, PATHS, 5, repository)));
+		assertArrayEquals(range(10, 1), revisions(query(trunk, 10, 0, PATHS, 0, repository)));
+
+		assertEquals(Arrays.asList("10:0:3:paths", "8:0:3:paths", "6:0:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testHead() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		assertArrayEquals(range(10, 1), revisions(query(trunk, -1, 0, 0, 0, repository)));
+		repository.head = 12;
+		assertArrayEquals(range(12, 1), revisions(query(trunk, -1, 0, 0, 0, repository)));
+
+		// changed paths are always asked for the new revisions, since the replacements are found with them
+		assertEquals(Arrays.asList("10:0", "12:10:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testReplacement() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		query(trunk, 10, 0, PATHS, 0, repository);
+		repository.head = 15;
+		repository.replaced = 12;
+
+		// the older history of the replaced resource is the one of the replacement source
+		long[] expected = { 15, 14, 13, 12, 11, 9, 7, 5, 3, 1 };
+		assertArrayEquals(expected, revisions(query(trunk, 15, 0, PATHS, 0, repository)));
+		assertArrayEquals(expected, revisions(query(trunk, 15, 0, PATHS, 0, repository)));
+
+		assertEquals(Arrays.asList("10:0:paths", "15:10:paths", "12:0:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testChangedPaths() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		SVNLogEntry[] entries = query(trunk, 10, 0, 0, 0, repository);
+		assertArrayEquals(range(10, 1), revisions(entries));
+		assertNull(entries[0].changedPaths);
+
+		// the entries which were stored without changed paths are asked again if the paths are required
+		entries = query(trunk, 10, 0, PATHS, 0, repository);
+		assertArrayEquals(range(10, 1), revisions(entries));
+		for (SVNLogEntry entry : entries) {
+			assertNotNull(entry.changedPaths);
+		}
+		entries = query(trunk, 10, 0, 0, 0, repository);
+		assertNotNull(entries[0].changedPaths);
+
+		assertEquals(Arrays.asList("10:0", "10:1:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testPersistence() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+
+		query(trunk, 10, 0, 0, 5, repository);
+		query(trunk, 10, 0, PATHS, 0, repository);
+		cache.dispose();
+		cache = new SVNLogCache(folder);
+
+		SVNLogEntry[] entries = query(trunk, 10, 0, PATHS, 0, repository);
+		assertArrayEquals(range(10, 1), revisions(entries));
+		assertEquals("/trunk/file.txt", entries[9].changedPaths[0].path); //$NON-NLS-1$
+		assertEquals("message 1", entries[9].message); //$NON-NLS-1$
+
+		assertEquals(Arrays.asList("10:0:5", "10:6:paths", "6:0:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testFetchOutsideOfLock() throws Exception {
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		Repository blocked = new Repository(10) {
+			@Override
+			public SVNLogEntry[] fetch(SVNRevision start, SVNRevision end, long options, long limit,
+					ISVNLogEntryCallback listener) throws SVNConnectorException {
+				fetching.countDown();
+				try {
+					proceed.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.fetch(start, end, options, limit, listener);
+			}
+		};
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		Thread thread = new Thread(() -> {
+			try {
+				query(resource("/trunk"), 10, 0, PATHS, 0, blocked); //$NON-NLS-1$
+			} catch (Throwable ex) {
+				errors.add(ex);
+			}
+		});
+		thread.start();
+		try {
+			assertTrue(fetching.await(10, TimeUnit.SECONDS));
+			// the same repository store answers the other queries while the server is asked
+			Repository repository = new Repository(10);
+			assertArrayEquals(range(10, 1),
+					revisions(query(resource("/branches/b1"), 10, 0, PATHS, 0, repository))); //$NON-NLS-1$
+			assertTrue(thread.isAlive());
+		} finally {
+			proceed.countDown();
+			thread.join(10000);
+		}
+		assertEquals(Collections.emptyList(), errors);
+		assertArrayEquals(range(10, 1), revisions(query(resource("/trunk"), 10, 0, PATHS, 0, blocked))); //$NON-NLS-1$
+		assertEquals(Arrays.asList("10:0:paths"), blocked.calls); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testMergedRevisions() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		repository.merged = new long[] { 8, 7 };
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+		long[] expected = { 10, 9, 6, 5, 4, 3, 2, 1 };
+
+		SVNLogEntry[] entries = query(trunk, 10, 0, PATHS | MERGED, 0, repository);
+		assertArrayEquals(expected, revisions(entries));
+		assertArrayEquals(repository.merged, revisions(entries[0].getChildren()));
+		entries = query(trunk, 10, 0, PATHS | MERGED, 0, repository);
+		assertArrayEquals(expected, revisions(entries));
+		assertArrayEquals(repository.merged, revisions(entries[0].getChildren()));
+		assertEquals("/branches/b1/file.txt", entries[0].getChildren()[0].changedPaths[0].path); //$NON-NLS-1$
+
+		// merge-aware and plain histories are kept apart
+		entries = query(trunk, 10, 0, PATHS, 0, repository);
+		assertArrayEquals(expected, revisions(entries));
+		assertFalse(entries[0].hasChildren());
+		entries = query(trunk, 10, 0, PATHS, 0, repository);
+		assertFalse(entries[0].hasChildren());
+
+		assertEquals(Arrays.asList("10:0:paths:merged", "10:0:paths"), repository.calls); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testEntriesAreCopies() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		repository.merged = new long[] { 8, 7 };
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+		SVNLogEntry extra = new SVNLogEntry(5, 5000, "author", "message 5", null, false); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// the entries are changed by the callers, like the history view does with the merged revisions
+		query(trunk, 10, 0, PATHS | MERGED, 0, repository)[0].addAll(new SVNLogEntry[] { extra });
+		query(trunk, 10, 0, PATHS | MERGED, 0, repository)[0].addAll(new SVNLogEntry[] { extra });
+
+		SVNLogEntry[] entries = query(trunk, 10, 0, PATHS | MERGED, 0, repository);
+		assertArrayEquals(repository.merged, revisions(entries[0].getChildren()));
+		assertNotSame(entries[0], query(trunk, 10, 0, PATHS | MERGED, 0, repository)[0]);
+		entries = query(trunk, 10, 0, PATHS, 0, repository);
+		assertFalse(entries[0].hasChildren());
+		assertNotSame(entries[0], query(trunk, 10, 0, PATHS, 0, repository)[0]);
+	}
+
+	@Test
+	public void testEviction() throws SVNConnectorException {
+		Repository repository = new Repository(10);
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+		IRepositoryResource branch = resource("/branches/b1"); //$NON-NLS-1$
+		long[] maxSize = { Long.MAX_VALUE };
+		cache = new SVNLogCache(folder) {
+			@Override
+			public long getMaxSize() {
+				return maxSize[0];
+			}
+		};
+
+		query(trunk, 10, 6, PATHS, 0, repository);
+		query(branch, 5, 1, PATHS, 0, repository);
+		File data = new File(folder, "uuid.data"); //$NON-NLS-1$
+		long size = data.length();
+		// the branch history is the most recently used one, and the records of three quarters of the limit are kept
+		maxSize[0] = size - 1;
+		cache.dispose();
+		assertTrue(data.length() < size);
+		cache = new SVNLogCache(folder);
+		repository.calls.clear();
+
+		assertArrayEquals(range(5, 1), revisions(query(branch, 5, 1, PATHS, 0, repository)));
+		assertEquals(Collections.emptyList(), repository.calls);
+		// the trunk history is truncated to its newest revisions
+		assertArrayEquals(range(10, 6), revisions(query(trunk, 10, 6, PATHS, 0, repository)));
+		assertEquals(Arrays.asList("9:6:paths"), repository.calls); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testMergeQueries() throws SVNConnectorException {
+		IRepositoryResource trunk = resource("/trunk"); //$NON-NLS-1$
+		IRepositoryResource branch = resource("/branches/b1"); //$NON-NLS-1$
+		SVNLogEntry merge = new SVNLogEntry(7, 7000, "author", "message 7", null, true); //$NON-NLS-1$ //$NON-NLS-2$
+		merge.add(entry(6, "/trunk/file.txt", null, SVNRevision.INVALID_REVISION_NUMBER)); //$NON-NLS-1$
+
+		cache.getLogEntries(trunk, SVNRevision.HEAD, SVNRevision.fromNumber(0), PATHS, 0,
+				SVNLogCacheTest.history(trunkEntry(10), trunkEntry(9), trunkEntry(6), trunkEntry(4), trunkEntry(3),
+						trunkEntry(2), trunkEntry(1)),
+				null);
+		cache.getLogEntries(branch, SVNRevision.HEAD, SVNRevision.fromNumber(0), PATHS | MERGED, 0,
+				SVNLogCacheTest.history(entry(8, "/branches/b1/file.txt", null, SVNRevision.INVALID_REVISION_NUMBER), //$NON-NLS-1$
+						merge, entry(5, "/branches/b1", "/trunk", 4)), //$NON-NLS-1$ //$NON-NLS-2$
+				null);
+
+		assertEquals("[/branches/b1@5 <- /trunk@4]", Arrays.toString(cache.getCopyHistory(branch))); //$NON-NLS-1$
+		assertArrayEquals(new long[] { 6 }, cache.getMergedRevisions(branch, "/trunk")); //$NON-NLS-1$
+		assertArrayEquals(new long[0], cache.getMergedRevisions(branch, "/branches/b2")); //$NON-NLS-1$
+		assertArrayEquals(new long[] { 10, 9 }, cache.getEligibleRevisions(trunk, branch));
+		assertNull(cache.getEligibleRevisions(branch, trunk));
+
+		cache.dispose();
+		cache = new SVNLogCache(folder);
+		assertArrayEquals(new long[] { 10, 9 }, cache.getEligibleRevisions(trunk, branch));
+	}
+
+	@Test
+	public void testPutMergedRevisions() {
+		IRepositoryResource branch = resource("/branches/b1"); //$NON-NLS-1$
+		SVNLogEntry merge = new SVNLogEntry(7, 7000, "author", "message 7", null, true); //$NON-NLS-1$ //$NON-NLS-2$
+		merge.add(entry(6, "/trunk/file.txt", null, SVNRevision.INVALID_REVISION_NUMBER)); //$NON-NLS-1$
+		merge.add(entry(3, "/trunk/file.txt", null, SVNRevision.INVALID_REVISION_NUMBER)); //$NON-NLS-1$
+
+		// the merged revisions fetched outside of the cache are known as well
+		cache.putMergedRevisions(branch, new SVNLogEntry[] { merge });
+		assertArrayEquals(new long[] { 6, 3 }, cache.getMergedRevisions(branch, null));
+		assertArrayEquals(new long[0], cache.getMergedRevisions(resource("/trunk"), null)); //$NON-NLS-1$
+	}
+
+	private SVNLogEntry[] query(IRepositoryResource resource, long start, long end, long options, long limit,
+			Repository repository) throws SVNConnectorException {
+		return cache.getLogEntries(resource, start < 0 ? SVNRevision.HEAD : SVNRevision.fromNumber(start),
+				SVNRevision.fromNumber(end), options, limit, repository, null);
+	}
+
+	private static IRepositoryResource resource(String path) {
+		IRepositoryLocation location = (IRepositoryLocation) Proxy.newProxyInstance(
+				SVNLogCacheTest.class.getClassLoader(), new Class<?>[] { IRepositoryLocation.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getRepositoryUUID": //$NON-NLS-1$
+							return "uuid"; //$NON-NLS-1$
+						case "getRepositoryRootUrl": //$NON-NLS-1$
+							return ROOT;
+						default:
+							throw new UnsupportedOperationException(method.getName());
+					}
+				});
+		return (IRepositoryResource) Proxy.newProxyInstance(SVNLogCacheTest.class.getClassLoader(),
+				new Class<?>[] { IRepositoryResource.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getRepositoryLocation": //$NON-NLS-1$
+							return location;
+						case "getUrl": //$NON-NLS-1$
+							return ROOT + path;
+						case "getPegRevision": //$NON-NLS-1$
+							return SVNRevision.HEAD;
+						default:
+							throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+	private static SVNLogEntry trunkEntry(long revision) {
+		return SVNLogCacheTest.entry(revision, "/trunk/file.txt", null, SVNRevision.INVALID_REVISION_NUMBER); //$NON-NLS-1$
+	}
+
+	private static SVNLogEntry entry(long revision, String path, String copiedFromPath, long copiedFromRevision) {
+		return new SVNLogEntry(revision, revision * 1000, "author", "message " + revision, //$NON-NLS-1$ //$NON-NLS-2$
+				new SVNLogPath[] { new SVNLogPath(path,
+						copiedFromPath == null ? SVNLogPath.ChangeType.MODIFIED : SVNLogPath.ChangeType.ADDED,
+						copiedFromPath, copiedFromRevision, Boolean.TRUE, Boolean.FALSE) },
+				false);
+	}
+
+	/**
+	 * Returns the fetcher of the resource history, the entries are in descending order
+	 */
+	private static SVNLogCache.ILogFetcher history(SVNLogEntry... entries) {
+		return (start, end, options, limit, listener) -> {
+			long from = start.getKind() == SVNRevision.Kind.HEAD
+					? entries[0].revision
+					: ((SVNRevision.Number) start).getNumber();
+			long to = ((SVNRevision.Number) end).getNumber();
+			List<SVNLogEntry> retVal = new ArrayList<>();
+			for (SVNLogEntry entry : entries) {
+				if (entry.revision <= from && entry.revision >= to && (limit == 0 || retVal.size() < limit)) {
+					retVal.add(entry);
+				}
+			}
+			return retVal.toArray(new SVNLogEntry[retVal.size()]);
+		};
+	}
+
+	private static long[] range(long from, long to) {
+		long[] retVal = new long[(int) (from - to + 1)];
+		for (int i = 0; i < retVal.length; i++) {
+			retVal[i] = from - i;
+		}
+		return retVal;
+	}
+
+	private static long[] revisions(SVNLogEntry[] entries) {
+		long[] retVal = new long[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			retVal[i] = entries[i].revision;
+		}
+		return retVal;
+	}
+
+	/**
+	 * Repository where each revision changes the queried resource
+	 */
+	private static class Repository implements SVNLogCache.ILogFetcher {
+		public long head;
+
+		public long replaced = SVNRevision.INVALID_REVISION_NUMBER;
+
+		/**
+		 * Branch revisions merged into the head revision
+		 */
+		public long[] merged = {};
+
+		public final List<String> calls = new ArrayList<>();
+
+		public Repository(long head) {
+			this.head = head;
+		}
+
+		@Override
+		public SVNLogEntry[] fetch(SVNRevision start, SVNRevision end, long options, long limit,
+				ISVNLogEntryCallback listener) throws SVNConnectorException {
+			long from = start.getKind() == SVNRevision.Kind.HEAD ? head : ((SVNRevision.Number) start).getNumber();
+			long to = ((SVNRevision.Number) end).getNumber();
+			boolean withPaths = (options & ISVNConnector.Options.DISCOVER_PATHS) != 0;
+			boolean withMerged = (options & ISVNConnector.Options.INCLUDE_MERGED_REVISIONS) != 0;
+			synchronized (calls) {
+				calls.add(from + ":" + to + (limit > 0 ? ":" + limit : "") + (withPaths ? ":paths" : "") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+						+ (withMerged ? ":merged" : "")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			List<SVNLogEntry> retVal = new ArrayList<>();
+			for (long revision = Math.min(from, head); revision >= Math.max(to, 1)
+					&& (limit == 0 || retVal.size() < limit); revision--) {
+				if (revision < replaced && revision % 2 == 0 || isMerged(revision)) {
+					// the replacement source is not changed in the even revisions, the merged revisions change the branch
+					continue;
+				}
+				SVNLogPath[] paths = revision == replaced
+						? new SVNLogPath[] { new SVNLogPath("/trunk", SVNLogPath.ChangeType.REPLACED, "/branches/b1", //$NON-NLS-1$ //$NON-NLS-2$
+								revision - 1, Boolean.TRUE, Boolean.FALSE) }
+						: new SVNLogPath[] { new SVNLogPath("/trunk/file.txt", SVNLogPath.ChangeType.MODIFIED, null, //$NON-NLS-1$
+								SVNRevision.INVALID_REVISION_NUMBER, Boolean.TRUE, Boolean.FALSE) };
+				boolean hasChildren = withMerged && revision == head && merged.length > 0;
+				SVNLogEntry entry = new SVNLogEntry(revision, revision * 1000, "author", "message " + revision, //$NON-NLS-1$ //$NON-NLS-2$
+						withPaths ? paths : null, hasChildren);
+				if (hasChildren) {
+					for (long child : merged) {
+						entry.add(new SVNLogEntry(child, child * 1000, "author", "message " + child, withPaths //$NON-NLS-1$ //$NON-NLS-2$
+								? new SVNLogPath[] { new SVNLogPath("/branches/b1/file.txt", //$NON-NLS-1$
+										SVNLogPath.ChangeType.MODIFIED, null, SVNRevision.INVALID_REVISION_NUMBER,
+										Boolean.TRUE, Boolean.FALSE) }
+								: null, false));
+					}
+				}
+				retVal.add(entry);
+				if (listener != null) {
+					listener.next(entry);
+				}
+			}
+			return retVal.toArray(new SVNLogEntry[retVal.size()]);
+		}
+
+		private boolean isMerged(long revision) {
+			for (long child : merged) {
+				if (child == revision) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+}
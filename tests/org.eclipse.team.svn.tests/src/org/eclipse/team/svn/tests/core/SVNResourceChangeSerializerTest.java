@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.connector.SVNConflictDescriptor;
+import org.eclipse.team.svn.core.connector.SVNConflictVersion;
+import org.eclipse.team.svn.core.connector.SVNEntry;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.core.resource.ILocalFolder;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.resource.IRepositoryResource;
+import org.eclipse.team.svn.core.resource.IResourceChange;
+import org.eclipse.team.svn.core.svnstorage.SVNFileChange;
+import org.eclipse.team.svn.core.svnstorage.SVNFolderChange;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
+import org.eclipse.team.svn.core.svnstorage.SVNResourceChangeSerializer;
+import org.junit.Test;
+
+/**
+ * SVNResourceChangeSerializer round trip test
+ */
+public class SVNResourceChangeSerializerTest {
+
+	private final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("SerializerTest"); //$NON-NLS-1$
+
+	private final SVNResourceChangeSerializer serializer = new SVNResourceChangeSerializer(
+			SVNRemoteStorage.instance());
+
+	@Test
+	public void testFileChange() {
+		IResourceChange change = fileChange(project.getFile("src/a b/\u00fcml\u00e4ut.txt"), 1234567, //$NON-NLS-1$
+				IStateFilter.ST_MODIFIED, IStateFilter.ST_NORMAL, ILocalResource.TEXT_MODIFIED, "author", //$NON-NLS-1$
+				1700000000000L, null, SVNRevision.fromNumber(1234500), "line 1\nline 2; \u00e9"); //$NON-NLS-1$
+
+		IResourceChange decoded = roundTrip(change);
+
+		assertTrue(!(decoded instanceof ILocalFolder));
+		assertChangesEqual(change, decoded);
+		assertNull(decoded.getTreeConflictDescriptor());
+	}
+
+	@Test
+	public void testFolderChangeWithTreeConflict() {
+		SVNConflictDescriptor treeConflict = new SVNConflictDescriptor(null, SVNConflictDescriptor.Action.DELETE,
+				SVNConflictDescriptor.Reason.MODIFIED, SVNConflictDescriptor.Operation.UPDATE,
+				new SVNConflictVersion("http://host/repos", 10, "trunk/folder", SVNEntry.Kind.DIR), //$NON-NLS-1$ //$NON-NLS-2$
+				new SVNConflictVersion("http://host/repos", 12, "trunk/folder", SVNEntry.Kind.NONE)); //$NON-NLS-1$ //$NON-NLS-2$
+		IResourceChange change = folderChange(project.getFolder("src/folder"), //$NON-NLS-1$
+				SVNRevision.INVALID_REVISION_NUMBER, IStateFilter.ST_DELETED, IStateFilter.ST_NORMAL,
+				ILocalResource.IS_SWITCHED | ILocalResource.TREE_CONFLICT_UNKNOWN_NODE_KIND, null, 0, treeConflict,
+				SVNRevision.HEAD, null);
+
+		IResourceChange decoded = roundTrip(change);
+
+		assertTrue(decoded instanceof ILocalFolder);
+		assertChangesEqual(change, decoded);
+		SVNConflictDescriptor decodedConflict = decoded.getTreeConflictDescriptor();
+		assertEquals(treeConflict.action, decodedConflict.action);
+		assertEquals(treeConflict.reason, decodedConflict.reason);
+		assertEquals(treeConflict.operation, decodedConflict.operation);
+		assertConflictVersionsEqual(treeConflict.srcLeftVersion, decodedConflict.srcLeftVersion);
+		assertConflictVersionsEqual(treeConflict.srcRightVersion, decodedConflict.srcRightVersion);
+	}
+
+	@Test
+	public void testProjectChange() {
+		IResourceChange change = folderChange(project, 5, IStateFilter.ST_NORMAL, IStateFilter.ST_MODIFIED,
+				ILocalResource.PROP_MODIFIED, "author", 1, null, null, null); //$NON-NLS-1$
+
+		assertChangesEqual(change, roundTrip(change));
+	}
+
+	@Test
+	public void testDecodedChangesAreShared() {
+		IResourceChange change = fileChange(project.getFile("file.txt"), 7, IStateFilter.ST_NORMAL, //$NON-NLS-1$
+				IStateFilter.ST_NORMAL, ILocalResource.NO_MODIFICATION, "author", 1, null, null, null); //$NON-NLS-1$
+		byte[] bytes = serializer.toBytes(change);
+
+		IResourceChange first = serializer.fromBytes(bytes);
+		IResourceChange second = serializer.fromBytes(bytes.clone());
+		IResourceChange modifiable = serializer.newFromBytes(bytes);
+
+		assertSame(first, second);
+		assertNotSame(first, modifiable);
+		assertChangesEqual(first, modifiable);
+		modifiable.treatAsReplacement();
+		assertEquals(IStateFilter.ST_NORMAL, serializer.fromBytes(bytes).getTextStatus());
+	}
+
+	@Test
+	public void testParentsAreShared() {
+		byte[] file = serializer.toBytes(fileChange(project.getFile("src/pkg/A.java"), 1, IStateFilter.ST_NORMAL, //$NON-NLS-1$
+				IStateFilter.ST_NORMAL, ILocalResource.NO_MODIFICATION, null, 0, null, null, null));
+		byte[] folder = serializer.toBytes(folderChange(project.getFolder("src/pkg/b"), 2, IStateFilter.ST_NORMAL, //$NON-NLS-1$
+				IStateFilter.ST_NORMAL, ILocalResource.NO_MODIFICATION, null, 0, null, null, null));
+
+		serializer.clearCache();
+		IResourceChange first = serializer.fromBytes(file);
+		IResourceChange second = serializer.fromBytes(folder);
+
+		assertEquals(project.getFile("src/pkg/A.java"), first.getResource()); //$NON-NLS-1$
+		assertEquals(project.getFolder("src/pkg/b"), second.getResource()); //$NON-NLS-1$
+		// both resources are created from the same parent folder handle
+		assertSame(first.getResource().getFullPath().segment(1), second.getResource().getFullPath().segment(1));
+	}
+
+	/*
+	 * The test project is not shared, so there are no originators to compute for the changes
+	 */
+	protected IResourceChange fileChange(IResource resource, long revision, String textStatus, String propStatus,
+			int changeMask, String author, long lastCommitDate, SVNConflictDescriptor treeConflictDescriptor,
+			SVNRevision pegRevision, String comment) {
+		return new SVNFileChange(resource, revision, textStatus, propStatus, changeMask, author, lastCommitDate,
+				treeConflictDescriptor, pegRevision, comment) {
+			@Override
+			public IRepositoryResource getOriginator() {
+				return null;
+			}
+		};
+	}
+
+	protected IResourceChange folderChange(IResource resource, long revision, String textStatus, String propStatus,
+			int changeMask, String author, long lastCommitDate, SVNConflictDescriptor treeConflictDescriptor,
+			SVNRevision pegRevision, String comment) {
+		return new SVNFolderChange(resource, revision, textStatus, propStatus, changeMask, author, lastCommitDate,
+				treeConflictDescriptor, pegRevision, comment) {
+			@Override
+			public IRepositoryResource getOriginator() {
+				return null;
+			}
+		};
+	}
+
+	protected IResourceChange roundTrip(IResourceChange change) {
+		serializer.clearCache();
+		return serializer.fromBytes(serializer.toBytes(change));
+	}
+
+	protected void assertChangesEqual(IResourceChange expected, IResourceChange actual) {
+		assertEquals(expected.getResource(), actual.getResource());
+		assertEquals(expected.getRevision(), actual.getRevision());
+		assertEquals(expected.getTextStatus(), actual.getTextStatus());
+		assertEquals(expected.getPropStatus(), actual.getPropStatus());
+		assertEquals(expected.getChangeMask(), actual.getChangeMask());
+		assertEquals(expected.getAuthor(), actual.getAuthor());
+		assertEquals(expected.getLastCommitDate(), actual.getLastCommitDate());
+		assertEquals(expected.getPegRevision(), actual.getPegRevision());
+		assertEquals(expected.getComment(), actual.getComment());
+	}
+
+	protected void assertConflictVersionsEqual(SVNConflictVersion expected, SVNConflictVersion actual) {
+		assertEquals(expected.reposURL, actual.reposURL);
+		assertEquals(expected.pegRevision, actual.pegRevision);
+		assertEquals(expected.pathInRepos, actual.pathInRepos);
+		assertEquals(expected.nodeKind, actual.nodeKind);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.team.svn.core.svnstorage.SVNStatusLoadPlanner;
+import org.eclipse.team.svn.core.svnstorage.SVNStatusLoadPlanner.Request;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SVNStatusLoadPlanner test
+ */
+public class SVNStatusLoadPlannerTest {
+
+	private IProject project;
+
+	private IFolder folder;
+
+	private IFolder first;
+
+	private IFolder second;
+
+	private PendingPlanner planner;
+
+	@Before
+	public void setUp() {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("SVNStatusLoadPlannerTest"); //$NON-NLS-1$
+		folder = project.getFolder("folder"); //$NON-NLS-1$
+		first = folder.getFolder("first"); //$NON-NLS-1$
+		second = folder.getFolder("second"); //$NON-NLS-1$
+		planner = new PendingPlanner();
+	}
+
+	@Test
+	public void testNothingToCover() {
+		Request request = planner.register(first, IResource.DEPTH_ONE);
+
+		assertNull(planner.plan(request, resource -> false));
+		// the requests of the same thread and the cached ones are not covered
+		planner.register(second, IResource.DEPTH_ONE);
+		registerInOtherThread(first.getFolder("cached"), IResource.DEPTH_ONE); //$NON-NLS-1$
+		assertNull(planner.plan(request, resource -> !resource.equals(second)));
+	}
+
+	@Test
+	public void testSameTarget() {
+		Request request = planner.register(first, IResource.DEPTH_ONE);
+		registerInOtherThread(first.getFile("file.txt"), IResource.DEPTH_ZERO); //$NON-NLS-1$
+
+		// the same folder with the same depth is loaded as is
+		assertNull(planner.plan(request, resource -> false));
+
+		registerInOtherThread(first, IResource.DEPTH_INFINITE);
+		Request covering = planner.plan(request, resource -> false);
+		assertEquals(first, covering.resource);
+		assertEquals(IResource.DEPTH_INFINITE, covering.depth);
+		assertEquals(2, planner.getCoalescedCount());
+	}
+
+	@Test
+	public void testSiblings() {
+		Request request = planner.register(first, IResource.DEPTH_ONE);
+		registerInOtherThread(second.getFile("file.txt"), IResource.DEPTH_ZERO); //$NON-NLS-1$
+
+		Request covering = planner.plan(request, resource -> false);
+		assertEquals(folder, covering.resource);
+		assertEquals(IResource.DEPTH_INFINITE, covering.depth);
+	}
+
+	@Test
+	public void testEscalationIsCapped() {
+		Request request = planner.register(first, IResource.DEPTH_ONE);
+		// the common parent is two levels above the requested folder
+		registerInOtherThread(second.getFolder("nested"), IResource.DEPTH_ONE); //$NON-NLS-1$
+
+		assertNull(planner.plan(request, resource -> false));
+	}
+
+	@Test
+	public void testProjectIsNotEscalated() {
+		Request request = planner.register(folder, IResource.DEPTH_ONE);
+		registerInOtherThread(project.getFolder("sibling"), IResource.DEPTH_ONE); //$NON-NLS-1$
+
+		assertNull(planner.plan(request, resource -> false));
+	}
+
+	@Test
+	public void testUnregister() {
+		Request request = planner.register(first, IResource.DEPTH_ONE);
+		Request other = registerInOtherThread(first, IResource.DEPTH_INFINITE);
+		planner.unregister(other);
+
+		assertNull(planner.plan(request, resource -> false));
+		assertTrue(planner.hasPending(project));
+
+		planner.unregister(request);
+
+		// the empty sets are not retained
+		assertFalse(planner.hasPending(project));
+		planner.unregister(request);
+		assertFalse(planner.hasPending(project));
+	}
+
+	private Request registerInOtherThread(IResource resource, int depth) {
+		AtomicReference<Request> retVal = new AtomicReference<>();
+		Thread thread = new Thread(() -> retVal.set(planner.register(resource, depth)));
+		thread.start();
+		try {
+			thread.join();
+		} catch (InterruptedException ex) {
+			throw new RuntimeException(ex);
+		}
+		return retVal.get();
+	}
+
+	private static class PendingPlanner extends SVNStatusLoadPlanner {
+		public boolean hasPending(IProject project) {
+			return pending.containsKey(project);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.team.svn.core.SVNTeamPlugin;
+import org.eclipse.team.svn.core.svnstorage.SVNRemoteStorage;
+import org.eclipse.team.svn.core.utility.FileUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SVNTeamPlugin state location cleanup test
+ */
+public class SVNTeamPluginTest {
+
+	private File folder;
+
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("SVNTeamPluginTest").toFile(); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		FileUtility.deleteRecursive(folder);
+	}
+
+	@Test
+	public void testPersistentCachesAreKept() throws IOException {
+		File logCache = createFolder(SVNRemoteStorage.LOG_CACHE_FOLDER_NAME);
+		File contentCache = createFolder(SVNRemoteStorage.CONTENT_CACHE_FOLDER_NAME);
+		File temporary = createFolder(".tmp1234"); //$NON-NLS-1$
+
+		SVNTeamPlugin.removeTemporaryFiles(folder);
+
+		assertTrue(logCache.isDirectory());
+		assertTrue(new File(logCache, "index").isFile()); //$NON-NLS-1$
+		assertTrue(contentCache.isDirectory());
+		assertTrue(new File(contentCache, "index").isFile()); //$NON-NLS-1$
+		assertFalse(temporary.exists());
+	}
+
+	private File createFolder(String name) throws IOException {
+		File retVal = new File(folder, name);
+		retVal.mkdirs();
+		Files.write(new File(retVal, "index").toPath(), new byte[] { 1, 2, 3 }); //$NON-NLS-1$
+		return retVal;
+	}
+}
@@ -16,10 +16,23 @@ package org.eclipse.team.svn.tests.core;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.team.svn.core.CompiledStateFilter;
 import org.eclipse.team.svn.core.IStateFilter;
+import org.eclipse.team.svn.core.connector.SVNConflictDescriptor;
+import org.eclipse.team.svn.core.connector.SVNEntry;
+import org.eclipse.team.svn.core.resource.ILocalResource;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalFile;
+import org.eclipse.team.svn.core.svnstorage.SVNLocalFolder;
+import org.eclipse.team.svn.core.utility.StateMaskUtility;
 import org.junit.Test;
 
 /**
@@ -207,4 +220,112 @@ public class StateFilterTest {
 		}
 	}
 
+	@Test
+	public void testCompiledFilters() throws IllegalAccessException {
+		int count = 0;
+		for (Field field : IStateFilter.class.getFields()) {
+			if (IStateFilter.class.isAssignableFrom(field.getType())) {
+				IStateFilter filter = (IStateFilter) field.get(null);
+				if (CompilableFilters.contains(filter) || StateMaskUtility.isRegistered(filter)) {
+					assertCompiled(field.getName(), filter);
+					count++;
+				}
+			}
+		}
+		assertTrue(count > 0);
+	}
+
+	@Test
+	public void testCompiledCompositeFilters() {
+		assertCompiled("OR", new IStateFilter.OrStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_ADDED, IStateFilter.SF_MODIFIED, IStateFilter.SF_DELETED }));
+		assertCompiled("AND", new IStateFilter.AndStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_VERSIONED, IStateFilter.SF_NOTMODIFIED }));
+		assertCompiled("OR with tree conflicts", new IStateFilter.OrStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_TREE_CONFLICTING, IStateFilter.SF_NEW }));
+		assertCompiled("AND with tree conflicts", new IStateFilter.AndStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_ONREPOSITORY, IStateFilter.SF_DATA_CONFLICTING }));
+		assertCompiled("OR with not compiled", new IStateFilter.OrStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_READY_TO_LOCK, IStateFilter.SF_COMMITABLE }));
+		assertCompiled("AND with not compiled", new IStateFilter.AndStateFilter( //$NON-NLS-1$
+				new IStateFilter[] { IStateFilter.SF_VERSIONED, IStateFilter.SF_TREE_CONFLICTING_REPOSITORY_EXIST }));
+		assertCompiled("nested", new IStateFilter.OrStateFilter(new IStateFilter[] { //$NON-NLS-1$
+				new IStateFilter.AndStateFilter(new IStateFilter[] { IStateFilter.SF_VERSIONED, IStateFilter.SF_LOCKED }),
+				IStateFilter.SF_UNVERSIONED }));
+		assertCompiled("empty OR", new IStateFilter.OrStateFilter(new IStateFilter[0])); //$NON-NLS-1$
+		assertCompiled("empty AND", new IStateFilter.AndStateFilter(new IStateFilter[0])); //$NON-NLS-1$
+	}
+
+	/**
+	 * Compares the compiled filter with the original one for all the states and change masks, with and without tree conflicts
+	 */
+	private void assertCompiled(String name, IStateFilter filter) {
+		CompiledStateFilter compiled = CompiledStateFilter.compile(filter);
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("StateFilterTest"); //$NON-NLS-1$
+		IResource[] resources = { project.getFile("file.txt"), project.getFolder("folder") }; //$NON-NLS-1$ //$NON-NLS-2$
+		List<String> states = new ArrayList<>();
+		for (int i = 0; i < StateMaskUtility.STATES_COUNT; i++) {
+			states.add(StateMaskUtility.getState(i));
+		}
+		// the equal, but not identical states are left to the original filter
+		states.add(new String(IStateFilter.ST_NORMAL));
+		List<SVNConflictDescriptor> treeConflicts = new ArrayList<>();
+		for (SVNConflictDescriptor.Operation operation : SVNConflictDescriptor.Operation.values()) {
+			for (SVNConflictDescriptor.Action action : SVNConflictDescriptor.Action.values()) {
+				for (SVNConflictDescriptor.Reason reason : SVNConflictDescriptor.Reason.values()) {
+					treeConflicts.add(new SVNConflictDescriptor("file.txt", SVNConflictDescriptor.Kind.TREE, //$NON-NLS-1$
+							SVNEntry.Kind.FILE, null, false, null, action, reason, operation, null, null, null, null,
+							null, null));
+				}
+			}
+		}
+		String[] propStates = { IStateFilter.ST_NORMAL, IStateFilter.ST_MODIFIED, IStateFilter.ST_CONFLICTING };
+		for (IResource resource : resources) {
+			for (String state : states) {
+				for (String propState : propStates) {
+					// the change masks include a bit out of the compiled ones
+					for (int mask = 0; mask < 0x400; mask++) {
+						assertCompiled(name, filter, compiled, local(resource, state, propState, mask, null));
+					}
+					for (SVNConflictDescriptor treeConflict : treeConflicts) {
+						for (int mask = 0; mask < 0x400; mask = mask * 2 + 1) {
+							assertCompiled(name, filter, compiled,
+									local(resource, state, propState, mask, treeConflict));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static void assertCompiled(String name, IStateFilter filter, CompiledStateFilter compiled,
+			ILocalResource local) {
+		if (filter.accept(local) != compiled.accept(local)
+				|| filter.allowsRecursion(local) != compiled.allowsRecursion(local)) {
+			fail(name + " differs for " + local.getResource().getName() + " in state " + local.getTextStatus() //$NON-NLS-1$ //$NON-NLS-2$
+					+ "/" + local.getPropStatus() + ", mask " + local.getChangeMask() + ", tree conflict " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ local.hasTreeConflict());
+		}
+	}
+
+	/**
+	 * Exposes the filters which are compiled into the lookup tables
+	 */
+	private static class CompilableFilters extends CompiledStateFilter {
+		private CompilableFilters() {
+			super(IStateFilter.SF_ALL);
+		}
+
+		public static boolean contains(IStateFilter filter) {
+			return CompiledStateFilter.COMPILABLE.containsKey(filter);
+		}
+	}
+
+	private static ILocalResource local(IResource resource, String state, String propState, int mask,
+			SVNConflictDescriptor treeConflict) {
+		return resource.getType() == IResource.FILE
+				? new SVNLocalFile(resource, 1, 1, state, propState, mask, null, 0, treeConflict)
+				: new SVNLocalFolder(resource, 1, 1, state, propState, mask, null, 0, treeConflict);
+	}
+
 }
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.team.svn.tests.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.eclipse.team.svn.core.connector.SVNLogEntry;
+import org.eclipse.team.svn.core.connector.SVNLogPath;
+import org.eclipse.team.svn.core.connector.SVNRevision;
+import org.eclipse.team.svn.ui.history.filter.AuthorNameLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.ChangeNameLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.CommentLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.CompositeLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.IIndexedLogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.ILogEntryFilter;
+import org.eclipse.team.svn.ui.history.filter.LogEntryIndex;
+import org.junit.Test;
+
+/**
+ * LogEntryIndex test
+ */
+public class LogEntryIndexTest {
+
+	private static final String[] MESSAGES = { "Fix NPE in the history view", "fixed: wrong revision shown", //$NON-NLS-1$ //$NON-NLS-2$
+			"Merge trunk into branch", null, "", "Refactor history page\nfix paging", "a?c", "NPE" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	private static final String[] AUTHORS = { "alice", "bob", "alice", null, "carol", "Bob", "alice", "dave" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+	private static final String[] PATHS = { "/trunk/src/History.java", "/trunk/src/Page.java", //$NON-NLS-1$ //$NON-NLS-2$
+			"/branches/b1/src/History.java", null, "/trunk/README", "/trunk/src/history/Page.java", "/tags/1.0", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"/trunk/src/Npe.java" }; //$NON-NLS-1$
+
+	private static final String[] MASKS = { "*NPE*", "*npe*", "Fix*", "*fix*", "*history*", "*History.java", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"*trunk*Page*", "a?c", "*into branch", "*", "*missing*", "al*", "bob", "*o*" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+
+	@Test
+	public void testCommentCandidates() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+		for (String mask : MASKS) {
+			assertSameResult(new CommentLogEntryFilter(mask), index, entries);
+		}
+	}
+
+	@Test
+	public void testChangedPathCandidates() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+		for (String mask : MASKS) {
+			assertSameResult(new ChangeNameLogEntryFilter(mask), index, entries);
+		}
+	}
+
+	@Test
+	public void testAuthorCandidates() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+		for (String mask : MASKS) {
+			assertSameResult(new AuthorNameLogEntryFilter(mask), index, entries);
+		}
+	}
+
+	@Test
+	public void testCompositeCandidates() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+		for (String comment : MASKS) {
+			for (String author : MASKS) {
+				CompositeLogEntryFilter filter = new CompositeLogEntryFilter(new ILogEntryFilter[] {
+						new CommentLogEntryFilter(comment), new AuthorNameLogEntryFilter(author),
+						new ChangeNameLogEntryFilter("*trunk*") }); //$NON-NLS-1$
+				assertSameResult(filter, index, entries);
+			}
+		}
+	}
+
+	@Test
+	public void testShortMask() {
+		LogEntryIndex index = index(entries());
+
+		// there are no trigrams in the mask, so all the entries should be checked
+		assertNull(index.findCandidates(LogEntryIndex.FIELD_COMMENT, "*fi*")); //$NON-NLS-1$
+		assertNull(index.findCandidates(LogEntryIndex.FIELD_CHANGED_PATH, "*")); //$NON-NLS-1$
+		assertNotNull(index.findCandidates(LogEntryIndex.FIELD_COMMENT, "*fix*")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testNextPageBoundary() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+
+		// the next page starts from the last known revision
+		assertFalse(index.add(entry(1, "NPE", "alice", "/trunk"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(entries.length, index.size());
+		assertTrue(index.add(entry(0, "Initial import", "alice", "/trunk"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(entries.length + 1, index.size());
+	}
+
+	@Test
+	public void testIsIndexed() {
+		SVNLogEntry[] entries = entries();
+		LogEntryIndex index = index(entries);
+		int shown = index.getModificationCount();
+
+		assertEquals(entries.length, shown);
+		assertTrue(index.isIndexed(entries, shown));
+		// the entries which are received but not shown yet do not change the shown ones numbers
+		index.add(entry(0, "Initial import", "alice", "/trunk")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(index.isIndexed(entries, shown));
+		// the shown entries should be the ones which were indexed at the remembered moment
+		assertFalse(index.isIndexed(entries, index.getModificationCount()));
+		assertFalse(index.isIndexed(new SVNLogEntry[entries.length - 1], shown));
+		assertFalse(new LogEntryIndex().isIndexed(entries, shown));
+	}
+
+	private static void assertSameResult(IIndexedLogEntryFilter filter, LogEntryIndex index, SVNLogEntry[] entries) {
+		BitSet expected = new BitSet();
+		for (int i = 0; i < entries.length; i++) {
+			if (filter.accept(entries[i])) {
+				expected.set(i);
+			}
+		}
+		BitSet candidates = filter.getCandidates(index);
+		BitSet actual = new BitSet();
+		for (int i = 0; i < entries.length; i++) {
+			if ((candidates == null || candidates.get(i)) && filter.accept(entries[i])) {
+				actual.set(i);
+			}
+		}
+		assertEquals(expected, actual);
+	}
+
+	private static LogEntryIndex index(SVNLogEntry[] entries) {
+		LogEntryIndex index = new LogEntryIndex();
+		for (SVNLogEntry entry : entries) {
+			assertTrue(index.add(entry));
+		}
+		return index;
+	}
+
+	private static SVNLogEntry[] entries() {
+		SVNLogEntry[] retVal = new SVNLogEntry[MESSAGES.length];
+		for (int i = 0; i < retVal.length; i++) {
+			retVal[i] = entry(retVal.length - i, MESSAGES[i], AUTHORS[i], PATHS[i]);
+		}
+		return retVal;
+	}
+
+	private static SVNLogEntry entry(long revision, String message, String author, String path) {
+		return new SVNLogEntry(revision, revision * 1000, author, message,
+				path == null
+						? null
+						: new SVNLogPath[] { new SVNLogPath(path, SVNLogPath.ChangeType.MODIFIED, null,
+								SVNRevision.INVALID_REVISION_NUMBER, Boolean.TRUE, Boolean.FALSE) },
+				false);
+	}
+
+}